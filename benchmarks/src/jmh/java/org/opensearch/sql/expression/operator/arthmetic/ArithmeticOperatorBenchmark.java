@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.arthmetic;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ArithmeticOperatorBenchmark {
+
+  @Param(value = {"int", "long", "double"})
+  private String testDataType;
+
+  private final Map<String, ExprType> types =
+      ImmutableMap.of("int", INTEGER, "long", LONG, "double", DOUBLE);
+
+  private final Map<String, Map<String, Object>> rows =
+      ImmutableMap.of(
+          "int", ImmutableMap.<String, Object>of("a", integerValue(100), "b", integerValue(7)),
+          "long", ImmutableMap.<String, Object>of("a", longValue(100L), "b", longValue(7L)),
+          "double", ImmutableMap.<String, Object>of("a", doubleValue(100D), "b", doubleValue(7D)));
+
+  private Environment<Expression, ExprValue> row;
+
+  private FunctionExpression add;
+
+  private FunctionExpression multiply;
+
+  private FunctionExpression divide;
+
+  private FunctionExpression predicate;
+
+  /** Resolve the functions once, so only the evaluation per row is measured. */
+  @Setup
+  public void setUp() {
+    row = tupleValue(rows.get(testDataType)).bindingTuples();
+    add = build(DSL::add);
+    multiply = build(DSL::multiply);
+    divide = build(DSL::divide);
+    predicate = DSL.less(build(DSL::subtract), DSL.ref("a", types.get(testDataType)));
+  }
+
+  @Benchmark
+  public ExprValue testAddOperator() {
+    return add.valueOf(row);
+  }
+
+  @Benchmark
+  public ExprValue testMultiplyOperator() {
+    return multiply.valueOf(row);
+  }
+
+  @Benchmark
+  public ExprValue testDivideOperator() {
+    return divide.valueOf(row);
+  }
+
+  @Benchmark
+  public ExprValue testArithmeticInPredicate() {
+    return predicate.valueOf(row);
+  }
+
+  private FunctionExpression build(Function<Expression[], FunctionExpression> dsl) {
+    ExprType type = types.get(testDataType);
+    return dsl.apply(new Expression[] {DSL.ref("a", type), DSL.ref("b", type)});
+  }
+}
@@ -5,10 +5,13 @@
 
 package org.opensearch.sql.expression.operator.predicate;
 
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.fromObjectValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.expression.DSL.literal;
 
 import com.google.common.collect.ImmutableMap;
@@ -38,14 +41,17 @@ import org.opensearch.sql.expression.FunctionExpression;
 @Fork(value = 1)
 public class ComparisonOperatorBenchmark {
 
-  @Param(value = {"int", "string", "date"})
+  @Param(value = {"int", "long", "double", "string", "date", "timestamp"})
   private String testDataType;
 
   private final Map<String, ExprValue> params =
       ImmutableMap.<String, ExprValue>builder()
           .put("int", integerValue(1))
+          .put("long", longValue(1L))
+          .put("double", doubleValue(1D))
           .put("string", stringValue("hello"))
           .put("date", fromObjectValue("2022-01-12", DATE))
+          .put("timestamp", fromObjectValue("2022-01-12 12:00:00", TIMESTAMP))
           .build();
 
   @Benchmark
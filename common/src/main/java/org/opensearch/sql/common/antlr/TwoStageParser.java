@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.antlr;
+
+import java.util.function.Function;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Two-stage parsing recommended by ANTLR. The query is parsed in SLL prediction mode first, which
+ * is much faster and succeeds for almost all valid queries. Only if it fails, the query is parsed
+ * again in full LL mode with the syntax error listener, so a syntax error is still reported the
+ * same way with useful information.
+ */
+public final class TwoStageParser {
+
+  /**
+   * Parse the token stream of the parser given by the start rule.
+   *
+   * @param parser ANTLR parser with no error listener added
+   * @param startRule start rule, for example root
+   * @param <P> parser type
+   * @return parse tree root
+   */
+  public static <P extends Parser> ParseTree parse(P parser, Function<P, ParseTree> startRule) {
+    parser.removeErrorListeners();
+    parser.setErrorHandler(new BailErrorStrategy());
+    parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    try {
+      return startRule.apply(parser);
+    } catch (ParseCancellationException e) {
+      parser.reset();
+      parser.addErrorListener(new SyntaxAnalysisErrorListener());
+      parser.setErrorHandler(new DefaultErrorStrategy());
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      return startRule.apply(parser);
+    }
+  }
+
+  private TwoStageParser() {}
+}
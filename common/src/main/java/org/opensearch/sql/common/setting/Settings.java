@@ -23,6 +23,7 @@ public abstract class Settings {
     SQL_SLOWLOG("plugins.sql.slowlog"),
     SQL_CURSOR_KEEP_ALIVE("plugins.sql.cursor.keep_alive"),
     SQL_DELETE_ENABLED("plugins.sql.delete.enabled"),
+    SQL_PAGINATION_API_SEARCH_AFTER("plugins.sql.pagination.api"),
 
     /** PPL Settings. */
     PPL_ENABLED("plugins.ppl.enabled"),
@@ -33,17 +34,27 @@ public abstract class Settings {
     ENCYRPTION_MASTER_KEY("plugins.query.datasources.encryption.masterkey"),
     DATASOURCES_URI_HOSTS_DENY_LIST("plugins.query.datasources.uri.hosts.denylist"),
     DATASOURCES_LIMIT("plugins.query.datasources.limit"),
+    PARSER_WARMUP_ENABLED("plugins.query.parser.warmup.enabled"),
+    EXPLAIN_OPTIMIZER_RULES_ENABLED("plugins.query.explain.optimizer_rules.enabled"),
+    TOP_N_AGGREGATION_PUSHDOWN_ENABLED("plugins.query.aggregation.top_n_pushdown.enabled"),
 
     METRICS_ROLLING_WINDOW("plugins.query.metrics.rolling_window"),
     METRICS_ROLLING_INTERVAL("plugins.query.metrics.rolling_interval"),
     SPARK_EXECUTION_ENGINE_CONFIG("plugins.query.executionengine.spark.config"),
     CLUSTER_NAME("cluster.name"),
     SPARK_EXECUTION_SESSION_LIMIT("plugins.query.executionengine.spark.session.limit"),
+    SPARK_EXECUTION_SESSION_WARM_POOL_SIZE(
+        "plugins.query.executionengine.spark.session.warm_pool.size"),
     SPARK_EXECUTION_REFRESH_JOB_LIMIT("plugins.query.executionengine.spark.refresh_job.limit"),
     SESSION_INDEX_TTL("plugins.query.executionengine.spark.session.index.ttl"),
     RESULT_INDEX_TTL("plugins.query.executionengine.spark.result.index.ttl"),
+    SPARK_EXECUTION_RESULT_REUSE_TTL("plugins.query.executionengine.spark.result_reuse.ttl"),
     AUTO_INDEX_MANAGEMENT_ENABLED(
         "plugins.query.executionengine.spark.auto_index_management.enabled"),
+    AUTO_INDEX_MANAGEMENT_REQUESTS_PER_SECOND(
+        "plugins.query.executionengine.spark.auto_index_management.requests_per_second"),
+    AUTO_INDEX_MANAGEMENT_SLICES(
+        "plugins.query.executionengine.spark.auto_index_management.slices"),
     SESSION_INACTIVITY_TIMEOUT_MILLIS(
         "plugins.query.executionengine.spark.session_inactivity_timeout_millis");
 
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.utils;
+
+/**
+ * Utility class for timing the phases of the query being executed. Latency is published to the
+ * recorder registered by the plugin, which does nothing by default.
+ */
+public class QueryPhaseTimer {
+
+  /** Phases of query executed by the new engine. */
+  public enum Phase {
+    PARSE,
+    PLAN,
+    EXECUTE,
+    FORMAT
+  }
+
+  /** Recorder of latency of query phase. */
+  @FunctionalInterface
+  public interface Recorder {
+    void record(Phase phase, long nanos);
+  }
+
+  private static volatile Recorder recorder = (phase, nanos) -> {};
+
+  /**
+   * Set the recorder to publish latency to.
+   *
+   * @param recorder recorder of latency
+   */
+  public static void setRecorder(Recorder recorder) {
+    QueryPhaseTimer.recorder = recorder;
+  }
+
+  /** Start timing a phase. */
+  public static long start() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Record latency of a phase from the time returned by {@link #start()} until now.
+   *
+   * @param phase query phase
+   * @param startNanos time when the phase started
+   */
+  public static void record(Phase phase, long startNanos) {
+    recorder.record(phase, System.nanoTime() - startNanos);
+  }
+
+  private QueryPhaseTimer() {
+    throw new AssertionError(
+        getClass().getCanonicalName() + " is a utility class and must not be initialized");
+  }
+}
@@ -81,6 +81,7 @@ import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.FunctionName;
 import org.opensearch.sql.expression.function.TableFunctionImplementation;
 import org.opensearch.sql.expression.parse.ParseExpression;
+import org.opensearch.sql.expression.parse.ParseResultMemo;
 import org.opensearch.sql.planner.logical.LogicalAD;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalCloseCursor;
@@ -136,6 +137,18 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
     return unresolved.accept(this, context);
   }
 
+  /**
+   * Optimize expressions in the analyzed {@link LogicalPlan} by constant folding and common
+   * subexpression elimination.
+   *
+   * @param plan analyzed logical plan
+   * @param context analysis context used to analyze the plan
+   * @return logical plan optimized
+   */
+  public LogicalPlan optimize(LogicalPlan plan, AnalysisContext context) {
+    return new ExpressionOptimizer(repository).optimize(plan, context);
+  }
+
   @Override
   public LogicalPlan visitRelation(Relation node, AnalysisContext context) {
     QualifiedName qualifiedName = node.getTableQualifiedName();
@@ -452,12 +465,14 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
     Expression patternExpression = DSL.literal(pattern);
 
     TypeEnvironment curEnv = context.peek();
+    // Derived fields share the parse result, so the source is parsed once per row
+    ParseResultMemo memo = new ParseResultMemo();
     ParseUtils.getNamedGroupCandidates(parseMethod, pattern, arguments)
         .forEach(
             group -> {
               ParseExpression expr =
                   ParseUtils.createParseExpression(
-                      parseMethod, sourceField, patternExpression, DSL.literal(group));
+                      parseMethod, sourceField, patternExpression, DSL.literal(group), memo);
               curEnv.define(new Symbol(Namespace.FIELD_NAME, group), expr.type());
               context.getNamedParseExpressions().add(new NamedExpression(group, expr));
             });
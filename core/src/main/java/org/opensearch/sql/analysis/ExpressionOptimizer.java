@@ -0,0 +1,391 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.analysis;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.CommonSubexpression;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.conditional.cases.CaseClause;
+import org.opensearch.sql.expression.conditional.cases.WhenClause;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.OpenSearchFunctions;
+import org.opensearch.sql.expression.window.ranking.RankingWindowFunction;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalSort;
+
+/**
+ * The optimizer applied to the expressions of analyzed {@link LogicalPlan}.
+ *
+ * <ol>
+ *   <li>Constant folding: deterministic function with literal arguments only is evaluated once and
+ *       replaced by the literal of its value, e.g. abs(-5) + 1 => 6. Functions depending on query
+ *       start time such as now() are folded too, because they return the same value throughout
+ *       the query by {@link org.opensearch.sql.expression.function.FunctionProperties}.
+ *   <li>Common subexpression elimination: identical function expression referenced more than once
+ *       in the same Filter, Project or Eval operator is replaced by one {@link
+ *       org.opensearch.sql.expression.CommonSubexpression}, which is evaluated once per row.
+ * </ol>
+ *
+ * <p>Expressions of other operators are left as is.
+ */
+public class ExpressionOptimizer extends LogicalPlanNodeVisitor<LogicalPlan, AnalysisContext> {
+
+  private final BuiltinFunctionRepository repository;
+
+  public ExpressionOptimizer(BuiltinFunctionRepository repository) {
+    this.repository = repository;
+  }
+
+  public LogicalPlan optimize(LogicalPlan plan, AnalysisContext context) {
+    return plan.accept(this, context);
+  }
+
+  @Override
+  public LogicalPlan visitNode(LogicalPlan plan, AnalysisContext context) {
+    return plan.replaceChildPlans(
+        plan.getChild().stream()
+            .map(child -> child.accept(this, context))
+            .collect(Collectors.toList()));
+  }
+
+  @Override
+  public LogicalPlan visitFilter(LogicalFilter plan, AnalysisContext context) {
+    List<Expression> condition =
+        new ExpressionRewriter(context).rewrite(List.of(plan.getCondition()));
+    return new LogicalFilter(childOf(plan, context), condition.get(0));
+  }
+
+  @Override
+  public LogicalPlan visitProject(LogicalProject plan, AnalysisContext context) {
+    List<NamedExpression> projectList =
+        new ExpressionRewriter(context)
+            .rewrite(plan.getProjectList()).stream()
+                .map(NamedExpression.class::cast)
+                .collect(Collectors.toList());
+    return new LogicalProject(childOf(plan, context), projectList, plan.getNamedParseExpressions());
+  }
+
+  @Override
+  public LogicalPlan visitEval(LogicalEval plan, AnalysisContext context) {
+    List<Pair<ReferenceExpression, Expression>> expressions = plan.getExpressions();
+    List<Expression> values =
+        new ExpressionRewriter(context)
+            .rewrite(expressions.stream().map(Pair::getValue).collect(Collectors.toList()));
+    return new LogicalEval(
+        childOf(plan, context),
+        IntStream.range(0, expressions.size())
+            .mapToObj(i -> ImmutablePair.of(expressions.get(i).getKey(), values.get(i)))
+            .collect(Collectors.toList()));
+  }
+
+  @Override
+  public LogicalPlan visitSort(LogicalSort plan, AnalysisContext context) {
+    // Sort expressions are evaluated on two rows each time, thus only folded but not shared
+    ExpressionFolder folder = new ExpressionFolder();
+    return new LogicalSort(
+        childOf(plan, context),
+        plan.getSortList().stream()
+            .map(pair -> ImmutablePair.of(pair.getKey(), pair.getValue().accept(folder, context)))
+            .collect(Collectors.toList()));
+  }
+
+  private LogicalPlan childOf(LogicalPlan plan, AnalysisContext context) {
+    return plan.getChild().get(0).accept(this, context);
+  }
+
+  /**
+   * Recompile the function with new arguments. The original function is kept if it cannot be
+   * recompiled by core function repository, for example function provided by storage engine.
+   */
+  private FunctionExpression rebuild(
+      FunctionExpression node, List<Expression> arguments, AnalysisContext context) {
+    // Compare by reference as common subexpression is equal to the function it shares
+    if (IntStream.range(0, arguments.size())
+        .allMatch(i -> arguments.get(i) == node.getArguments().get(i))) {
+      return node;
+    }
+    try {
+      return (FunctionExpression)
+          repository.compile(context.getFunctionProperties(), node.getFunctionName(), arguments);
+    } catch (RuntimeException e) {
+      return node;
+    }
+  }
+
+  /** Special function expressions that are not compiled by function repository as is. */
+  private static boolean isSpecialFunction(FunctionExpression node) {
+    return node instanceof OpenSearchFunctions.OpenSearchFunction
+        || node instanceof RankingWindowFunction
+        || node instanceof CaseClause
+        || node instanceof WhenClause
+        || node.getFunctionName().equals(BuiltinFunctionName.NESTED.getName());
+  }
+
+  private static boolean isDeterministic(FunctionExpression node) {
+    return BuiltinFunctionRepository.isDeterministic(node.getFunctionName());
+  }
+
+  /** Fold deterministic function with literal arguments only into literal. */
+  private class ExpressionFolder extends ExpressionNodeVisitor<Expression, AnalysisContext> {
+
+    @Override
+    public Expression visitNode(Expression node, AnalysisContext context) {
+      return node;
+    }
+
+    @Override
+    public Expression visitNamed(NamedExpression node, AnalysisContext context) {
+      Expression delegated = node.getDelegated().accept(this, context);
+      if (delegated == node.getDelegated()) {
+        return node;
+      }
+      return new NamedExpression(node.getName(), delegated, node.getAlias());
+    }
+
+    @Override
+    public Expression visitFunction(FunctionExpression node, AnalysisContext context) {
+      if (isSpecialFunction(node)) {
+        return node;
+      }
+
+      List<Expression> arguments =
+          node.getArguments().stream()
+              .map(arg -> arg.accept(this, context))
+              .collect(Collectors.toList());
+      FunctionExpression function = rebuild(node, arguments, context);
+      Expression simplified = simplifyLogic(function, arguments);
+      if (simplified != null) {
+        return simplified;
+      }
+      if (!isDeterministic(function)
+          || !arguments.stream().allMatch(arg -> arg instanceof LiteralExpression)) {
+        return function;
+      }
+
+      // Skip folding if function fails on the literal or returns value of other type, such that
+      // the error and type are the same as before
+      try {
+        ExprValue value = function.valueOf();
+        if (value.isNull() || value.isMissing() || !value.type().equals(function.type())) {
+          return function;
+        }
+        return DSL.literal(value);
+      } catch (RuntimeException e) {
+        return function;
+      }
+    }
+
+    /**
+     * Simplify AND/OR with a boolean literal argument by the logic in {@link
+     * org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator}, such that no
+     * literal is left in a bool query pushed down.
+     */
+    private Expression simplifyLogic(FunctionExpression function, List<Expression> arguments) {
+      boolean isAnd = function.getFunctionName().equals(BuiltinFunctionName.AND.getName());
+      boolean isOr = function.getFunctionName().equals(BuiltinFunctionName.OR.getName());
+      if (!(isAnd || isOr) || arguments.size() != 2) {
+        return null;
+      }
+      for (int i = 0; i < 2; i++) {
+        if (isBooleanLiteral(arguments.get(i))) {
+          boolean value = arguments.get(i).valueOf().booleanValue();
+          // true AND x => x, false AND x => false, true OR x => true, false OR x => x
+          return (value == isAnd) ? arguments.get(1 - i) : arguments.get(i);
+        }
+      }
+      return null;
+    }
+
+    private boolean isBooleanLiteral(Expression expression) {
+      // Type of null and missing literal is UNDEFINED
+      return expression instanceof LiteralExpression && expression.type() == BOOLEAN;
+    }
+
+    @Override
+    public Expression visitCase(CaseClause node, AnalysisContext context) {
+      List<WhenClause> whenClauses =
+          node.getWhenClauses().stream()
+              .map(when -> (WhenClause) when.accept(this, context))
+              .collect(Collectors.toList());
+      Expression defaultResult =
+          node.getDefaultResult() == null ? null : node.getDefaultResult().accept(this, context);
+      return new CaseClause(whenClauses, defaultResult);
+    }
+
+    @Override
+    public Expression visitWhen(WhenClause node, AnalysisContext context) {
+      return new WhenClause(
+          node.getCondition().accept(this, context), node.getResult().accept(this, context));
+    }
+
+    @Override
+    public Expression visitAggregator(Aggregator<?> node, AnalysisContext context) {
+      return node;
+    }
+
+    @Override
+    public Expression visitNamedAggregator(NamedAggregator node, AnalysisContext context) {
+      return node;
+    }
+  }
+
+  /**
+   * Fold constants in all expressions of an operator, and then share the function expressions
+   * which occur more than once among them.
+   */
+  private class ExpressionRewriter extends ExpressionNodeVisitor<Expression, AnalysisContext> {
+
+    private final AnalysisContext context;
+
+    /** Number of occurrences of each function expression in the operator. */
+    private final Map<Expression, Integer> occurrences = new HashMap<>();
+
+    /** Function expressions shared in the operator. */
+    private final Map<Expression, CommonSubexpression> shared = new HashMap<>();
+
+    ExpressionRewriter(AnalysisContext context) {
+      this.context = context;
+    }
+
+    List<Expression> rewrite(List<? extends Expression> expressions) {
+      ExpressionFolder folder = new ExpressionFolder();
+      List<Expression> folded =
+          expressions.stream()
+              .map(expr -> expr.accept(folder, context))
+              .collect(Collectors.toList());
+      OccurrenceCounter counter = new OccurrenceCounter();
+      folded.forEach(expr -> expr.accept(counter, null));
+      return folded.stream().map(expr -> expr.accept(this, context)).collect(Collectors.toList());
+    }
+
+    @Override
+    public Expression visitNode(Expression node, AnalysisContext context) {
+      return node;
+    }
+
+    @Override
+    public Expression visitNamed(NamedExpression node, AnalysisContext context) {
+      Expression delegated = node.getDelegated().accept(this, context);
+      if (delegated == node.getDelegated()) {
+        return node;
+      }
+      return new NamedExpression(node.getName(), delegated, node.getAlias());
+    }
+
+    @Override
+    public Expression visitFunction(FunctionExpression node, AnalysisContext context) {
+      if (isSpecialFunction(node)) {
+        return node;
+      }
+      if (!isDeterministic(node) || occurrences.getOrDefault(node, 0) < 2) {
+        return rebuildWithArguments(node);
+      }
+      CommonSubexpression expression = shared.get(node);
+      if (expression == null) {
+        expression = new CommonSubexpression(rebuildWithArguments(node));
+        shared.put(node, expression);
+      }
+      return expression;
+    }
+
+    @Override
+    public Expression visitCase(CaseClause node, AnalysisContext context) {
+      List<WhenClause> whenClauses =
+          node.getWhenClauses().stream()
+              .map(when -> (WhenClause) when.accept(this, context))
+              .collect(Collectors.toList());
+      Expression defaultResult =
+          node.getDefaultResult() == null ? null : node.getDefaultResult().accept(this, context);
+      return new CaseClause(whenClauses, defaultResult);
+    }
+
+    @Override
+    public Expression visitWhen(WhenClause node, AnalysisContext context) {
+      return new WhenClause(
+          node.getCondition().accept(this, context), node.getResult().accept(this, context));
+    }
+
+    @Override
+    public Expression visitAggregator(Aggregator<?> node, AnalysisContext context) {
+      return node;
+    }
+
+    @Override
+    public Expression visitNamedAggregator(NamedAggregator node, AnalysisContext context) {
+      return node;
+    }
+
+    private FunctionExpression rebuildWithArguments(FunctionExpression node) {
+      return rebuild(
+          node,
+          node.getArguments().stream()
+              .map(arg -> arg.accept(this, context))
+              .collect(Collectors.toList()),
+          context);
+    }
+
+    /**
+     * Count the occurrences of each function expression. The arguments of a function which occurs
+     * again are not counted again, because they will be evaluated only once along with the
+     * function shared.
+     */
+    private class OccurrenceCounter extends ExpressionNodeVisitor<Void, Void> {
+
+      @Override
+      public Void visitFunction(FunctionExpression node, Void context) {
+        if (isSpecialFunction(node)) {
+          return null;
+        }
+        if (occurrences.merge(node, 1, Integer::sum) == 1) {
+          visitChildren(node, context);
+        }
+        return null;
+      }
+
+      @Override
+      public Void visitCase(CaseClause node, Void context) {
+        return visitChildren(node, context);
+      }
+
+      @Override
+      public Void visitWhen(WhenClause node, Void context) {
+        return visitChildren(node, context);
+      }
+
+      @Override
+      public Void visitAggregator(Aggregator<?> node, Void context) {
+        return null;
+      }
+
+      @Override
+      public Void visitNamedAggregator(NamedAggregator node, Void context) {
+        return null;
+      }
+    }
+  }
+}
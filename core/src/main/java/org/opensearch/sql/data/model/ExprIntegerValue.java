@@ -11,10 +11,32 @@ import org.opensearch.sql.data.type.ExprType;
 /** Expression Integer Value. */
 public class ExprIntegerValue extends AbstractExprNumberValue {
 
+  /** Small values cached as {@link Integer#valueOf} does, which are common for counters and flags. */
+  private static final ExprIntegerValue[] CACHE = new ExprIntegerValue[256];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new ExprIntegerValue(Integer.valueOf(i - 128));
+    }
+  }
+
   public ExprIntegerValue(Number value) {
     super(value);
   }
 
+  /**
+   * Get the value of the given primitive, which is shared for the values between -128 and 127.
+   *
+   * @param value primitive value
+   * @return expression value
+   */
+  public static ExprIntegerValue of(int value) {
+    if (value >= -128 && value <= 127) {
+      return CACHE[value + 128];
+    }
+    return new ExprIntegerValue(value);
+  }
+
   @Override
   public Object value() {
     return integerValue();
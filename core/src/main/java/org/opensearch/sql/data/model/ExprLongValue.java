@@ -11,10 +11,32 @@ import org.opensearch.sql.data.type.ExprType;
 /** Expression Long Value. */
 public class ExprLongValue extends AbstractExprNumberValue {
 
+  /** Small values cached as {@link Long#valueOf} does, which are common for counters and flags. */
+  private static final ExprLongValue[] CACHE = new ExprLongValue[256];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new ExprLongValue(Long.valueOf(i - 128));
+    }
+  }
+
   public ExprLongValue(Number value) {
     super(value);
   }
 
+  /**
+   * Get the value of the given primitive, which is shared for the values between -128 and 127.
+   *
+   * @param value primitive value
+   * @return expression value
+   */
+  public static ExprLongValue of(long value) {
+    if (value >= -128 && value <= 127) {
+      return CACHE[(int) value + 128];
+    }
+    return new ExprLongValue(value);
+  }
+
   @Override
   public Object value() {
     return longValue();
@@ -25,6 +25,7 @@ import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.PipelineOperator;
 import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
@@ -197,6 +198,16 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
         explanNode -> explanNode.setDescription(ImmutableMap.of("nested", node.getFields())));
   }
 
+  /**
+   * Explain the operators fused in pipeline as they were not fused, because the top operator still
+   * refers to the others and the original input.
+   */
+  @Override
+  public ExplainResponseNode visitPipeline(PipelineOperator node, Object context) {
+    List<PhysicalPlan> operators = node.getOperators();
+    return operators.get(operators.size() - 1).accept(this, context);
+  }
+
   protected ExplainResponseNode explain(
       PhysicalPlan node, Object context, Consumer<ExplainResponseNode> doExplain) {
     ExplainResponseNode explainNode = new ExplainResponseNode(getOperatorName(node));
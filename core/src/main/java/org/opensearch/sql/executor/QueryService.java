@@ -8,18 +8,22 @@
 
 package org.opensearch.sql.executor;
 
-import lombok.RequiredArgsConstructor;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.opensearch.sql.analysis.AnalysisContext;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
+import org.opensearch.sql.common.utils.QueryPhaseTimer.Phase;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.OptimizationStats;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 
 /** The low level interface of core engine. */
-@RequiredArgsConstructor
 public class QueryService {
 
   private final Analyzer analyzer;
@@ -28,6 +32,23 @@ public class QueryService {
 
   private final Planner planner;
 
+  /** Settings to check if explain shows optimizer rules fired, which is null if not given. */
+  private final Settings settings;
+
+  /** Create query service without settings, where explain never shows optimizer rules fired. */
+  public QueryService(Analyzer analyzer, ExecutionEngine executionEngine, Planner planner) {
+    this(analyzer, executionEngine, planner, null);
+  }
+
+  /** Create query service with settings which may be null. */
+  public QueryService(
+      Analyzer analyzer, ExecutionEngine executionEngine, Planner planner, Settings settings) {
+    this.analyzer = analyzer;
+    this.executionEngine = executionEngine;
+    this.planner = planner;
+    this.settings = settings;
+  }
+
   /**
    * Execute the {@link UnresolvedPlan}, using {@link ResponseListener} to get response.<br>
    * Todo. deprecated this interface after finalize {@link PlanContext}.
@@ -38,7 +59,10 @@ public class QueryService {
   public void execute(
       UnresolvedPlan plan, ResponseListener<ExecutionEngine.QueryResponse> listener) {
     try {
-      executePlan(analyze(plan), PlanContext.emptyPlanContext(), listener);
+      long planStart = QueryPhaseTimer.start();
+      PhysicalPlan physicalPlan = plan(analyze(plan));
+      QueryPhaseTimer.record(Phase.PLAN, planStart);
+      execute(physicalPlan, ExecutionContext.emptyExecutionContext(), listener);
     } catch (Exception e) {
       listener.onFailure(e);
     }
@@ -58,13 +82,16 @@ public class QueryService {
       PlanContext planContext,
       ResponseListener<ExecutionEngine.QueryResponse> listener) {
     try {
-      planContext
-          .getSplit()
-          .ifPresentOrElse(
-              split -> executionEngine.execute(plan(plan), new ExecutionContext(split), listener),
-              () ->
-                  executionEngine.execute(
-                      plan(plan), ExecutionContext.emptyExecutionContext(), listener));
+      long planStart = QueryPhaseTimer.start();
+      PhysicalPlan physicalPlan = plan(plan);
+      QueryPhaseTimer.record(Phase.PLAN, planStart);
+      execute(
+          physicalPlan,
+          planContext
+              .getSplit()
+              .map(ExecutionContext::new)
+              .orElseGet(ExecutionContext::emptyExecutionContext),
+          listener);
     } catch (Exception e) {
       listener.onFailure(e);
     }
@@ -80,15 +107,79 @@ public class QueryService {
   public void explain(
       UnresolvedPlan plan, ResponseListener<ExecutionEngine.ExplainResponse> listener) {
     try {
-      executionEngine.explain(plan(analyze(plan)), listener);
+      if (isExplainOptimizerRulesEnabled()) {
+        OptimizationStats stats = new OptimizationStats();
+        executionEngine.explain(
+            planner.plan(analyze(plan), stats), withOptimizerRules(listener, stats));
+      } else {
+        executionEngine.explain(plan(analyze(plan)), listener);
+      }
     } catch (Exception e) {
       listener.onFailure(e);
     }
   }
 
+  private boolean isExplainOptimizerRulesEnabled() {
+    return settings != null
+        && Boolean.TRUE.equals(
+            settings.getSettingValue(Settings.Key.EXPLAIN_OPTIMIZER_RULES_ENABLED));
+  }
+
+  /** Add the optimizer rules fired to the description of the root node in explain response. */
+  private ResponseListener<ExecutionEngine.ExplainResponse> withOptimizerRules(
+      ResponseListener<ExecutionEngine.ExplainResponse> listener, OptimizationStats stats) {
+    return new ResponseListener<>() {
+      @Override
+      public void onResponse(ExecutionEngine.ExplainResponse response) {
+        ExecutionEngine.ExplainResponseNode root = response.getRoot();
+        Map<String, Object> description = new LinkedHashMap<>();
+        if (root.getDescription() != null) {
+          description.putAll(root.getDescription());
+        }
+        description.put("optimizer_rules", stats.getFiredRules());
+        listener.onResponse(
+            new ExecutionEngine.ExplainResponse(
+                new ExecutionEngine.ExplainResponseNode(
+                    root.getName(), description, root.getChildren())));
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        listener.onFailure(e);
+      }
+    };
+  }
+
+  /**
+   * Execute the {@link PhysicalPlan} and record latency until the response is ready. Time spent by
+   * listener, such as formatting the response, is not included.
+   */
+  private void execute(
+      PhysicalPlan plan,
+      ExecutionContext context,
+      ResponseListener<ExecutionEngine.QueryResponse> listener) {
+    long executeStart = QueryPhaseTimer.start();
+    executionEngine.execute(
+        plan,
+        context,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExecutionEngine.QueryResponse response) {
+            QueryPhaseTimer.record(Phase.EXECUTE, executeStart);
+            listener.onResponse(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            listener.onFailure(e);
+          }
+        });
+  }
+
   /** Analyze {@link UnresolvedPlan}. */
   public LogicalPlan analyze(UnresolvedPlan plan) {
-    return analyzer.analyze(plan, new AnalysisContext());
+    AnalysisContext context = new AnalysisContext();
+    return analyzer.optimize(analyzer.analyze(plan, context), context);
   }
 
   /** Translate {@link LogicalPlan} to {@link PhysicalPlan}. */
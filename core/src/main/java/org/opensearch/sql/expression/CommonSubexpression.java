@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression;
+
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.env.MemoizedEnvironment;
+
+/**
+ * Function expression shared by several expressions of the same operator. The value is memoized
+ * in the {@link MemoizedEnvironment} created by the operator for each row, so the function is
+ * evaluated once per row no matter how many times it is referenced. No state is kept on the
+ * expression itself, and it is evaluated each time in any other environment. It looks exactly like
+ * the function shared, with the same function name and arguments, so visitors on expression tree
+ * (for example push-down) are not affected.
+ */
+public class CommonSubexpression extends FunctionExpression {
+
+  @Getter private final FunctionExpression delegated;
+
+  public CommonSubexpression(FunctionExpression delegated) {
+    super(delegated.getFunctionName(), delegated.getArguments());
+    this.delegated = delegated;
+  }
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    if (valueEnv instanceof MemoizedEnvironment) {
+      return ((MemoizedEnvironment) valueEnv).memoize(this, delegated::valueOf);
+    }
+    return delegated.valueOf(valueEnv);
+  }
+
+  @Override
+  public ExprType type() {
+    return delegated.type();
+  }
+
+  @Override
+  public String toString() {
+    return delegated.toString();
+  }
+}
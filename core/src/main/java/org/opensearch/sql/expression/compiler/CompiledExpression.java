@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler.InterpretedNode;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler.Node;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler.PredicateNode;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Expression compiled by {@link ExpressionCompiler}. It is evaluated by the compiled nodes, and
+ * visitor accepted is delegated to the original expression.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@RequiredArgsConstructor
+public class CompiledExpression implements Expression {
+
+  /** Original expression compiled. */
+  @Getter @EqualsAndHashCode.Include private final Expression expression;
+
+  @Getter(AccessLevel.PACKAGE)
+  private final Node root;
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    return root.evaluate(valueEnv);
+  }
+
+  /**
+   * Evaluate the expression as predicate.
+   *
+   * @param valueEnv value environment
+   * @return true only if the value is TRUE, false if FALSE, NULL or MISSING
+   */
+  public boolean test(Environment<Expression, ExprValue> valueEnv) {
+    if (root instanceof PredicateNode) {
+      return ((PredicateNode) root).test(valueEnv) == ExpressionCompiler.TRUE;
+    }
+    ExprValue value = root.evaluate(valueEnv);
+    return !(value.isNull() || value.isMissing()) && value.booleanValue();
+  }
+
+  /** Whether the whole expression is left to the interpreter. */
+  public boolean isInterpreted() {
+    return root instanceof InterpretedNode;
+  }
+
+  @Override
+  public ExprType type() {
+    return expression.type();
+  }
+
+  @Override
+  public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+    return expression.accept(visitor, context);
+  }
+
+  @Override
+  public String toString() {
+    return expression.toString();
+  }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.CommonSubexpression;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.operator.arthmetic.ArithmeticFunctionExpression;
+import org.opensearch.sql.expression.operator.predicate.ComparisonFunctionExpression;
+
+/**
+ * Compiler that turns a resolved {@link Expression} into a tree of specialized evaluation nodes.
+ *
+ * <p>The interpreter evaluates each function through several layers of lambdas built by {@link
+ * org.opensearch.sql.expression.function.FunctionDSL} (NULL and MISSING handling, implementation
+ * and cast of arguments), and every intermediate boolean is an {@link ExprValue}. The compiled
+ * nodes instead check NULL and MISSING inline, compare and compute numbers on primitives, and
+ * evaluate boolean logic into a tri-state code without {@link ExprValue}, short-circuiting AND and
+ * OR.
+ *
+ * <p>Only the common boolean, comparison and arithmetic functions are compiled. Any other
+ * expression is a leaf evaluated by the interpreter, so the compiled expression always returns
+ * the same value as the original one.
+ */
+public class ExpressionCompiler {
+
+  /** Tri-state result of predicate. */
+  static final int TRUE = 0;
+
+  static final int FALSE = 1;
+  static final int NULL = 2;
+  static final int MISSING = 3;
+
+  private static final ExprValue[] VALUES = {
+    ExprValueUtils.LITERAL_TRUE,
+    ExprValueUtils.LITERAL_FALSE,
+    ExprValueUtils.LITERAL_NULL,
+    ExprValueUtils.LITERAL_MISSING
+  };
+
+  /**
+   * Logic tables indexed by the tri-state of left and right operand, which are the same as the
+   * ones in {@link org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator}.
+   */
+  private static final int[][] AND_TABLE = {
+    {TRUE, FALSE, NULL, MISSING},
+    {FALSE, FALSE, FALSE, FALSE},
+    {NULL, FALSE, NULL, MISSING},
+    {MISSING, FALSE, MISSING, MISSING}
+  };
+
+  private static final int[][] OR_TABLE = {
+    {TRUE, TRUE, TRUE, TRUE},
+    {TRUE, FALSE, NULL, MISSING},
+    {TRUE, NULL, NULL, NULL},
+    {TRUE, MISSING, NULL, MISSING}
+  };
+
+  private static final int[][] XOR_TABLE = {
+    {FALSE, TRUE, TRUE, TRUE},
+    {TRUE, FALSE, NULL, MISSING},
+    {TRUE, NULL, NULL, NULL},
+    {TRUE, MISSING, NULL, MISSING}
+  };
+
+  private static final Map<FunctionName, int[][]> LOGIC_FUNCTIONS =
+      ImmutableMap.of(
+          BuiltinFunctionName.AND.getName(), AND_TABLE,
+          BuiltinFunctionName.OR.getName(), OR_TABLE,
+          BuiltinFunctionName.XOR.getName(), XOR_TABLE);
+
+  private static final Map<FunctionName, ComparisonFunctionExpression.Operator>
+      COMPARISON_FUNCTIONS =
+          ImmutableMap.<FunctionName, ComparisonFunctionExpression.Operator>builder()
+              .put(BuiltinFunctionName.EQUAL.getName(), ComparisonFunctionExpression.Operator.EQUAL)
+              .put(
+                  BuiltinFunctionName.NOTEQUAL.getName(),
+                  ComparisonFunctionExpression.Operator.NOT_EQUAL)
+              .put(BuiltinFunctionName.LESS.getName(), ComparisonFunctionExpression.Operator.LESS)
+              .put(BuiltinFunctionName.LTE.getName(), ComparisonFunctionExpression.Operator.LTE)
+              .put(
+                  BuiltinFunctionName.GREATER.getName(),
+                  ComparisonFunctionExpression.Operator.GREATER)
+              .put(BuiltinFunctionName.GTE.getName(), ComparisonFunctionExpression.Operator.GTE)
+              .build();
+
+  private static final Map<FunctionName, ArithmeticFunctionExpression.Operator>
+      ARITHMETIC_FUNCTIONS =
+          ImmutableMap.<FunctionName, ArithmeticFunctionExpression.Operator>builder()
+              .put(BuiltinFunctionName.ADD.getName(), ArithmeticFunctionExpression.Operator.ADD)
+              .put(
+                  BuiltinFunctionName.ADDFUNCTION.getName(),
+                  ArithmeticFunctionExpression.Operator.ADD)
+              .put(
+                  BuiltinFunctionName.SUBTRACT.getName(),
+                  ArithmeticFunctionExpression.Operator.SUBTRACT)
+              .put(
+                  BuiltinFunctionName.SUBTRACTFUNCTION.getName(),
+                  ArithmeticFunctionExpression.Operator.SUBTRACT)
+              .put(
+                  BuiltinFunctionName.MULTIPLY.getName(),
+                  ArithmeticFunctionExpression.Operator.MULTIPLY)
+              .put(
+                  BuiltinFunctionName.MULTIPLYFUNCTION.getName(),
+                  ArithmeticFunctionExpression.Operator.MULTIPLY)
+              .put(
+                  BuiltinFunctionName.DIVIDE.getName(),
+                  ArithmeticFunctionExpression.Operator.DIVIDE)
+              .put(
+                  BuiltinFunctionName.DIVIDEFUNCTION.getName(),
+                  ArithmeticFunctionExpression.Operator.DIVIDE)
+              .put(BuiltinFunctionName.MOD.getName(), ArithmeticFunctionExpression.Operator.MODULUS)
+              .put(
+                  BuiltinFunctionName.MODULUS.getName(),
+                  ArithmeticFunctionExpression.Operator.MODULUS)
+              .put(
+                  BuiltinFunctionName.MODULUSFUNCTION.getName(),
+                  ArithmeticFunctionExpression.Operator.MODULUS)
+              .build();
+
+  /** Types of left operand whose value is compared as primitive. */
+  private static final Set<ExprType> PRIMITIVE_COMPARISON_TYPES =
+      ImmutableSet.of(INTEGER, LONG, FLOAT, DOUBLE);
+
+  private static final Set<ExprType> NUMBER_TYPES =
+      ImmutableSet.of(BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE);
+
+  /**
+   * Compile the expression.
+   *
+   * @param expression resolved expression
+   * @return compiled expression
+   */
+  public static CompiledExpression compile(Expression expression) {
+    if (expression instanceof CompiledExpression) {
+      return (CompiledExpression) expression;
+    }
+    return new CompiledExpression(expression, compileNode(expression));
+  }
+
+  static Node compileNode(Expression expression) {
+    if (expression instanceof LiteralExpression) {
+      return new LiteralNode(expression.valueOf());
+    }
+    // Common subexpression is kept as is to evaluate it once per row
+    if (!(expression instanceof FunctionExpression) || expression instanceof CommonSubexpression) {
+      return new InterpretedNode(expression);
+    }
+
+    FunctionExpression function = (FunctionExpression) expression;
+    FunctionName name = function.getFunctionName();
+    List<Expression> args = function.getArguments();
+    if (LOGIC_FUNCTIONS.containsKey(name) && args.size() == 2) {
+      return new LogicNode(
+          compilePredicate(args.get(0)), compilePredicate(args.get(1)), LOGIC_FUNCTIONS.get(name));
+    }
+    if (name.equals(BuiltinFunctionName.NOT.getName()) && args.size() == 1) {
+      return new NotNode(compilePredicate(args.get(0)));
+    }
+    if ((name.equals(BuiltinFunctionName.IS_NULL.getName())
+            || name.equals(BuiltinFunctionName.ISNULL.getName()))
+        && args.size() == 1) {
+      return new IsNullNode(compileNode(args.get(0)), false);
+    }
+    if (name.equals(BuiltinFunctionName.IS_NOT_NULL.getName()) && args.size() == 1) {
+      return new IsNullNode(compileNode(args.get(0)), true);
+    }
+    if (COMPARISON_FUNCTIONS.containsKey(name) && args.size() == 2) {
+      return compileComparison(COMPARISON_FUNCTIONS.get(name), args.get(0), args.get(1));
+    }
+    if (ARITHMETIC_FUNCTIONS.containsKey(name) && args.size() == 2) {
+      return compileArithmetic(ARITHMETIC_FUNCTIONS.get(name), function);
+    }
+    return new InterpretedNode(expression);
+  }
+
+  private static PredicateNode compilePredicate(Expression expression) {
+    Node node = compileNode(expression);
+    return (node instanceof PredicateNode) ? (PredicateNode) node : new ValuePredicateNode(node);
+  }
+
+  /**
+   * Numbers of different types are compared without cast by the value of left operand, e.g.
+   * INTEGER compares the integer value of both. The primitive comparison does the same.
+   */
+  private static Node compileComparison(
+      ComparisonFunctionExpression.Operator operator, Expression left, Expression right) {
+    ExprType type = null;
+    if (NUMBER_TYPES.contains(right.type()) && PRIMITIVE_COMPARISON_TYPES.contains(left.type())) {
+      type = left.type();
+    }
+    return new CompareNode(compileNode(left), compileNode(right), operator, type);
+  }
+
+  /**
+   * Arguments of number type are not cast by function resolution, instead the value of any number
+   * type is converted to the primitive of function type.
+   */
+  private static Node compileArithmetic(
+      ArithmeticFunctionExpression.Operator operator, FunctionExpression function) {
+    ExprType type = function.type();
+    Expression left = function.getArguments().get(0);
+    Expression right = function.getArguments().get(1);
+    if (!(type.equals(INTEGER) || type.equals(LONG) || type.equals(DOUBLE))
+        || !NUMBER_TYPES.contains(left.type())
+        || !NUMBER_TYPES.contains(right.type())) {
+      return new InterpretedNode(function);
+    }
+    return new ArithmeticNode(compileNode(left), compileNode(right), operator, type);
+  }
+
+  /** Node of compiled expression tree. */
+  abstract static class Node implements Serializable {
+    abstract ExprValue evaluate(Environment<Expression, ExprValue> env);
+  }
+
+  /** Node of boolean expression which is evaluated into tri-state without creating value. */
+  abstract static class PredicateNode extends Node {
+    abstract int test(Environment<Expression, ExprValue> env);
+
+    @Override
+    ExprValue evaluate(Environment<Expression, ExprValue> env) {
+      return VALUES[test(env)];
+    }
+  }
+
+  /** Leaf evaluated by the interpreter. */
+  @RequiredArgsConstructor
+  static class InterpretedNode extends Node {
+    final Expression expression;
+
+    @Override
+    ExprValue evaluate(Environment<Expression, ExprValue> env) {
+      return expression.valueOf(env);
+    }
+  }
+
+  @RequiredArgsConstructor
+  static class LiteralNode extends Node {
+    final ExprValue value;
+
+    @Override
+    ExprValue evaluate(Environment<Expression, ExprValue> env) {
+      return value;
+    }
+  }
+
+  /** Boolean value of other node as predicate. */
+  @RequiredArgsConstructor
+  static class ValuePredicateNode extends PredicateNode {
+    final Node node;
+
+    @Override
+    int test(Environment<Expression, ExprValue> env) {
+      ExprValue value = node.evaluate(env);
+      if (value.isMissing()) {
+        return MISSING;
+      } else if (value.isNull()) {
+        return NULL;
+      }
+      return value.booleanValue() ? TRUE : FALSE;
+    }
+  }
+
+  /** AND, OR and XOR. The right operand is skipped if the result is decided by the left one. */
+  @RequiredArgsConstructor
+  static class LogicNode extends PredicateNode {
+    final PredicateNode left;
+    final PredicateNode right;
+    final int[][] table;
+
+    @Override
+    int test(Environment<Expression, ExprValue> env) {
+      int[] row = table[left.test(env)];
+      if (row[TRUE] == row[FALSE] && row[TRUE] == row[NULL] && row[TRUE] == row[MISSING]) {
+        return row[TRUE];
+      }
+      return row[right.test(env)];
+    }
+  }
+
+  @RequiredArgsConstructor
+  static class NotNode extends PredicateNode {
+    final PredicateNode node;
+
+    @Override
+    int test(Environment<Expression, ExprValue> env) {
+      int result = node.test(env);
+      if (result == TRUE) {
+        return FALSE;
+      } else if (result == FALSE) {
+        return TRUE;
+      }
+      return result;
+    }
+  }
+
+  @RequiredArgsConstructor
+  static class IsNullNode extends PredicateNode {
+    final Node node;
+    final boolean negated;
+
+    @Override
+    int test(Environment<Expression, ExprValue> env) {
+      return (node.evaluate(env).isNull() != negated) ? TRUE : FALSE;
+    }
+  }
+
+  /**
+   * Comparison by {@link ComparisonFunctionExpression#compare} as primitive of the type, or by
+   * {@link ExprValue#equals} and {@link ExprValue#compareTo} if type is null.
+   */
+  @RequiredArgsConstructor
+  static class CompareNode extends PredicateNode {
+    final Node left;
+    final Node right;
+    final ComparisonFunctionExpression.Operator operator;
+    final ExprType type;
+
+    @Override
+    int test(Environment<Expression, ExprValue> env) {
+      ExprValue v1 = left.evaluate(env);
+      ExprValue v2 = right.evaluate(env);
+      if (v1.isMissing() || v2.isMissing()) {
+        return MISSING;
+      } else if (v1.isNull() || v2.isNull()) {
+        return NULL;
+      }
+
+      if (type != null) {
+        return test(ComparisonFunctionExpression.compare(type, v1, v2));
+      } else if (operator == ComparisonFunctionExpression.Operator.EQUAL) {
+        return v1.equals(v2) ? TRUE : FALSE;
+      } else if (operator == ComparisonFunctionExpression.Operator.NOT_EQUAL) {
+        return v1.equals(v2) ? FALSE : TRUE;
+      }
+      return test(v1.compareTo(v2));
+    }
+
+    private int test(int compared) {
+      return operator.test(compared) ? TRUE : FALSE;
+    }
+  }
+
+  /**
+   * Arithmetic of INTEGER, LONG and DOUBLE by the same {@link
+   * ArithmeticFunctionExpression.Operator} as the interpreter, including overflow check and NULL on
+   * division by zero.
+   */
+  @RequiredArgsConstructor
+  static class ArithmeticNode extends Node {
+    final Node left;
+    final Node right;
+    final ArithmeticFunctionExpression.Operator operator;
+    final ExprType type;
+
+    @Override
+    ExprValue evaluate(Environment<Expression, ExprValue> env) {
+      ExprValue v1 = left.evaluate(env);
+      ExprValue v2 = right.evaluate(env);
+      if (v1.isMissing() || v2.isMissing()) {
+        return ExprValueUtils.missingValue();
+      } else if (v1.isNull() || v2.isNull()) {
+        return ExprValueUtils.nullValue();
+      }
+      return operator.apply(type, v1, v2);
+    }
+  }
+
+  private ExpressionCompiler() {}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.env;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * Environment of a single evaluation which memoizes the value of {@link
+ * org.opensearch.sql.expression.CommonSubexpression}. It is created by the operator for each row
+ * (and each Eval assignment as the environment is extended), so the values memoized never outlive
+ * the row evaluated nor are shared by threads. Common subexpression evaluated in any other
+ * environment is simply evaluated each time.
+ */
+@RequiredArgsConstructor
+public class MemoizedEnvironment implements Environment<Expression, ExprValue> {
+
+  private final Environment<Expression, ExprValue> delegated;
+
+  /** Values memoized by the identity of expression, created on first use. */
+  private Map<Expression, ExprValue> memo;
+
+  @Override
+  public ExprValue resolve(Expression var) {
+    return delegated.resolve(var);
+  }
+
+  /**
+   * Get the value of expression evaluated in this environment, which is evaluated on first call
+   * only.
+   *
+   * @param expression expression memoized
+   * @param evaluator evaluator of the expression in this environment
+   * @return expression value
+   */
+  public ExprValue memoize(
+      Expression expression, Function<Environment<Expression, ExprValue>, ExprValue> evaluator) {
+    if (memo == null) {
+      memo = new IdentityHashMap<>();
+    }
+    // Not computeIfAbsent as the evaluator may memoize the nested subexpressions
+    ExprValue value = memo.get(expression);
+    if (value == null) {
+      value = evaluator.apply(this);
+      memo.put(expression, value);
+    }
+    return value;
+  }
+}
@@ -9,6 +9,9 @@ import static org.opensearch.sql.ast.expression.Cast.getCastFunctionName;
 import static org.opensearch.sql.ast.expression.Cast.isCastFunction;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -16,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
@@ -43,8 +47,22 @@ import org.opensearch.sql.storage.StorageEngine;
  */
 public class BuiltinFunctionRepository {
 
+  /** Maximum number of resolved signatures cached. */
+  private static final long RESOLVED_CACHE_SIZE = 10_000;
+
+  /** Functions returning different value on each call even if the arguments are the same. */
+  private static final Set<FunctionName> NON_DETERMINISTIC_FUNCTIONS =
+      ImmutableSet.of(BuiltinFunctionName.RAND.getName(), BuiltinFunctionName.SYSDATE.getName());
+
   private final Map<FunctionName, FunctionResolver> functionResolverMap;
 
+  /**
+   * Function builder resolved in builtin function resolvers for the signature to resolve, which is
+   * the same for all queries because builtin function resolvers are never changed once registered.
+   */
+  private final Cache<FunctionSignature, FunctionBuilder> resolvedFunctionBuilders =
+      CacheBuilder.newBuilder().maximumSize(RESOLVED_CACHE_SIZE).build();
+
   /** The singleton instance. */
   private static BuiltinFunctionRepository instance;
 
@@ -85,6 +103,17 @@ public class BuiltinFunctionRepository {
     return instance;
   }
 
+  /**
+   * Whether the function returns the same value for the same arguments. Expression of function not
+   * deterministic can be neither folded, shared nor moved across rows.
+   *
+   * @param functionName function name
+   * @return true if deterministic
+   */
+  public static boolean isDeterministic(FunctionName functionName) {
+    return !NON_DETERMINISTIC_FUNCTIONS.contains(functionName);
+  }
+
   /**
    * Register {@link DefaultFunctionResolver} to the Builtin Function Repository.
    *
@@ -92,6 +121,7 @@ public class BuiltinFunctionRepository {
    */
   public void register(FunctionResolver resolver) {
     functionResolverMap.put(resolver.getFunctionName(), resolver);
+    resolvedFunctionBuilders.invalidateAll();
   }
 
   /** Compile FunctionExpression using core function resolver. */
@@ -130,13 +160,15 @@ public class BuiltinFunctionRepository {
       Collection<FunctionResolver> dataSourceFunctionResolver,
       FunctionSignature functionSignature) {
     Map<FunctionName, FunctionResolver> dataSourceFunctionMap =
-        dataSourceFunctionResolver.stream()
-            .collect(Collectors.toMap(FunctionResolver::getFunctionName, t -> t));
+        dataSourceFunctionResolver.isEmpty()
+            ? Collections.emptyMap()
+            : dataSourceFunctionResolver.stream()
+                .collect(Collectors.toMap(FunctionResolver::getFunctionName, t -> t));
 
     // first, resolve in datasource provide function resolver.
     // second, resolve in builtin function resolver.
     return resolve(functionSignature, dataSourceFunctionMap)
-        .or(() -> resolve(functionSignature, functionResolverMap))
+        .or(() -> resolveBuiltin(functionSignature))
         .orElseThrow(
             () ->
                 new ExpressionEvaluationException(
@@ -144,6 +176,22 @@ public class BuiltinFunctionRepository {
                         "unsupported function name: %s", functionSignature.getFunctionName())));
   }
 
+  /**
+   * Resolve in builtin function resolvers with the result memoized. Function resolvers provided by
+   * data source are not cached, because they are created with the data source client per query.
+   */
+  private Optional<FunctionBuilder> resolveBuiltin(FunctionSignature functionSignature) {
+    FunctionBuilder cached = resolvedFunctionBuilders.getIfPresent(functionSignature);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    // Resolve outside the cache loader so the exception thrown is not wrapped
+    Optional<FunctionBuilder> resolved = resolve(functionSignature, functionResolverMap);
+    resolved.ifPresent(builder -> resolvedFunctionBuilders.put(functionSignature, builder));
+    return resolved;
+  }
+
   private Optional<FunctionBuilder> resolve(
       FunctionSignature functionSignature,
       Map<FunctionName, FunctionResolver> functionResolverMap) {
@@ -17,16 +17,14 @@ import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHand
 
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprByteValue;
-import org.opensearch.sql.data.model.ExprDoubleValue;
 import org.opensearch.sql.data.model.ExprFloatValue;
-import org.opensearch.sql.data.model.ExprIntegerValue;
-import org.opensearch.sql.data.model.ExprLongValue;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprShortValue;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver;
 import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.operator.arthmetic.ArithmeticFunctionExpression.Operator;
 
 /**
  * The definition of arithmetic function<br>
@@ -77,30 +75,14 @@ public class ArithmeticFunction {
             SHORT,
             SHORT,
             SHORT),
-        impl(
-            nullMissingHandling(
-                (v1, v2) ->
-                    new ExprIntegerValue(Math.addExact(v1.integerValue(), v2.integerValue()))),
-            INTEGER,
-            INTEGER,
-            INTEGER),
-        impl(
-            nullMissingHandling(
-                (v1, v2) -> new ExprLongValue(Math.addExact(v1.longValue(), v2.longValue()))),
-            LONG,
-            LONG,
-            LONG),
+        ArithmeticFunctionExpression.impl(Operator.ADD, INTEGER),
+        ArithmeticFunctionExpression.impl(Operator.ADD, LONG),
         impl(
             nullMissingHandling((v1, v2) -> new ExprFloatValue(v1.floatValue() + v2.floatValue())),
             FLOAT,
             FLOAT,
             FLOAT),
-        impl(
-            nullMissingHandling(
-                (v1, v2) -> new ExprDoubleValue(v1.doubleValue() + v2.doubleValue())),
-            DOUBLE,
-            DOUBLE,
-            DOUBLE));
+        ArithmeticFunctionExpression.impl(Operator.ADD, DOUBLE));
   }
 
   private static DefaultFunctionResolver add() {
@@ -139,24 +121,8 @@ public class ArithmeticFunction {
             SHORT,
             SHORT,
             SHORT),
-        impl(
-            nullMissingHandling(
-                (v1, v2) ->
-                    v2.integerValue() == 0
-                        ? ExprNullValue.of()
-                        : new ExprIntegerValue(v1.integerValue() / v2.integerValue())),
-            INTEGER,
-            INTEGER,
-            INTEGER),
-        impl(
-            nullMissingHandling(
-                (v1, v2) ->
-                    v2.longValue() == 0
-                        ? ExprNullValue.of()
-                        : new ExprLongValue(v1.longValue() / v2.longValue())),
-            LONG,
-            LONG,
-            LONG),
+        ArithmeticFunctionExpression.impl(Operator.DIVIDE, INTEGER),
+        ArithmeticFunctionExpression.impl(Operator.DIVIDE, LONG),
         impl(
             nullMissingHandling(
                 (v1, v2) ->
@@ -166,15 +132,7 @@ public class ArithmeticFunction {
             FLOAT,
             FLOAT,
             FLOAT),
-        impl(
-            nullMissingHandling(
-                (v1, v2) ->
-                    v2.doubleValue() == 0
-                        ? ExprNullValue.of()
-                        : new ExprDoubleValue(v1.doubleValue() / v2.doubleValue())),
-            DOUBLE,
-            DOUBLE,
-            DOUBLE));
+        ArithmeticFunctionExpression.impl(Operator.DIVIDE, DOUBLE));
   }
 
   private static DefaultFunctionResolver divide() {
@@ -213,24 +171,8 @@ public class ArithmeticFunction {
             SHORT,
             SHORT,
             SHORT),
-        impl(
-            nullMissingHandling(
-                (v1, v2) ->
-                    v2.integerValue() == 0
-                        ? ExprNullValue.of()
-                        : new ExprIntegerValue(v1.integerValue() % v2.integerValue())),
-            INTEGER,
-            INTEGER,
-            INTEGER),
-        impl(
-            nullMissingHandling(
-                (v1, v2) ->
-                    v2.longValue() == 0
-                        ? ExprNullValue.of()
-                        : new ExprLongValue(v1.longValue() % v2.longValue())),
-            LONG,
-            LONG,
-            LONG),
+        ArithmeticFunctionExpression.impl(Operator.MODULUS, INTEGER),
+        ArithmeticFunctionExpression.impl(Operator.MODULUS, LONG),
         impl(
             nullMissingHandling(
                 (v1, v2) ->
@@ -240,15 +182,7 @@ public class ArithmeticFunction {
             FLOAT,
             FLOAT,
             FLOAT),
-        impl(
-            nullMissingHandling(
-                (v1, v2) ->
-                    v2.doubleValue() == 0
-                        ? ExprNullValue.of()
-                        : new ExprDoubleValue(v1.doubleValue() % v2.doubleValue())),
-            DOUBLE,
-            DOUBLE,
-            DOUBLE));
+        ArithmeticFunctionExpression.impl(Operator.MODULUS, DOUBLE));
   }
 
   private static DefaultFunctionResolver mod() {
@@ -283,30 +217,14 @@ public class ArithmeticFunction {
             SHORT,
             SHORT,
             SHORT),
-        impl(
-            nullMissingHandling(
-                (v1, v2) ->
-                    new ExprIntegerValue(Math.multiplyExact(v1.integerValue(), v2.integerValue()))),
-            INTEGER,
-            INTEGER,
-            INTEGER),
-        impl(
-            nullMissingHandling(
-                (v1, v2) -> new ExprLongValue(Math.multiplyExact(v1.longValue(), v2.longValue()))),
-            LONG,
-            LONG,
-            LONG),
+        ArithmeticFunctionExpression.impl(Operator.MULTIPLY, INTEGER),
+        ArithmeticFunctionExpression.impl(Operator.MULTIPLY, LONG),
         impl(
             nullMissingHandling((v1, v2) -> new ExprFloatValue(v1.floatValue() * v2.floatValue())),
             FLOAT,
             FLOAT,
             FLOAT),
-        impl(
-            nullMissingHandling(
-                (v1, v2) -> new ExprDoubleValue(v1.doubleValue() * v2.doubleValue())),
-            DOUBLE,
-            DOUBLE,
-            DOUBLE));
+        ArithmeticFunctionExpression.impl(Operator.MULTIPLY, DOUBLE));
   }
 
   private static DefaultFunctionResolver multiply() {
@@ -337,30 +255,14 @@ public class ArithmeticFunction {
             SHORT,
             SHORT,
             SHORT),
-        impl(
-            nullMissingHandling(
-                (v1, v2) ->
-                    new ExprIntegerValue(Math.subtractExact(v1.integerValue(), v2.integerValue()))),
-            INTEGER,
-            INTEGER,
-            INTEGER),
-        impl(
-            nullMissingHandling(
-                (v1, v2) -> new ExprLongValue(Math.subtractExact(v1.longValue(), v2.longValue()))),
-            LONG,
-            LONG,
-            LONG),
+        ArithmeticFunctionExpression.impl(Operator.SUBTRACT, INTEGER),
+        ArithmeticFunctionExpression.impl(Operator.SUBTRACT, LONG),
         impl(
             nullMissingHandling((v1, v2) -> new ExprFloatValue(v1.floatValue() - v2.floatValue())),
             FLOAT,
             FLOAT,
             FLOAT),
-        impl(
-            nullMissingHandling(
-                (v1, v2) -> new ExprDoubleValue(v1.doubleValue() - v2.doubleValue())),
-            DOUBLE,
-            DOUBLE,
-            DOUBLE));
+        ArithmeticFunctionExpression.impl(Operator.SUBTRACT, DOUBLE));
   }
 
   private static DefaultFunctionResolver subtract() {
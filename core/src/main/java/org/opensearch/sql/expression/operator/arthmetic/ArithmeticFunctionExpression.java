@@ -0,0 +1,226 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.arthmetic;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionBuilder;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionSignature;
+import org.opensearch.sql.expression.function.SerializableFunction;
+
+/**
+ * Arithmetic of INTEGER, LONG and DOUBLE evaluated on primitive values, instead of going through
+ * the NULL and MISSING handling wrapper of a generic binary function. The semantics is the same,
+ * including the overflow check of INTEGER and LONG, and NULL returned if divided by zero.
+ */
+public class ArithmeticFunctionExpression extends FunctionExpression {
+
+  /**
+   * Arithmetic operator, which also evaluates the arithmetic of compiled expression in {@link
+   * org.opensearch.sql.expression.compiler.ExpressionCompiler}.
+   */
+  @RequiredArgsConstructor
+  public enum Operator {
+    ADD(false) {
+      @Override
+      int apply(int v1, int v2) {
+        return Math.addExact(v1, v2);
+      }
+
+      @Override
+      long apply(long v1, long v2) {
+        return Math.addExact(v1, v2);
+      }
+
+      @Override
+      double apply(double v1, double v2) {
+        return v1 + v2;
+      }
+    },
+    SUBTRACT(false) {
+      @Override
+      int apply(int v1, int v2) {
+        return Math.subtractExact(v1, v2);
+      }
+
+      @Override
+      long apply(long v1, long v2) {
+        return Math.subtractExact(v1, v2);
+      }
+
+      @Override
+      double apply(double v1, double v2) {
+        return v1 - v2;
+      }
+    },
+    MULTIPLY(false) {
+      @Override
+      int apply(int v1, int v2) {
+        return Math.multiplyExact(v1, v2);
+      }
+
+      @Override
+      long apply(long v1, long v2) {
+        return Math.multiplyExact(v1, v2);
+      }
+
+      @Override
+      double apply(double v1, double v2) {
+        return v1 * v2;
+      }
+    },
+    DIVIDE(true) {
+      @Override
+      int apply(int v1, int v2) {
+        return v1 / v2;
+      }
+
+      @Override
+      long apply(long v1, long v2) {
+        return v1 / v2;
+      }
+
+      @Override
+      double apply(double v1, double v2) {
+        return v1 / v2;
+      }
+    },
+    MODULUS(true) {
+      @Override
+      int apply(int v1, int v2) {
+        return v1 % v2;
+      }
+
+      @Override
+      long apply(long v1, long v2) {
+        return v1 % v2;
+      }
+
+      @Override
+      double apply(double v1, double v2) {
+        return v1 % v2;
+      }
+    };
+
+    /** Whether NULL is returned if the right operand is zero. */
+    private final boolean nullIfDividedByZero;
+
+    abstract int apply(int v1, int v2);
+
+    abstract long apply(long v1, long v2);
+
+    abstract double apply(double v1, double v2);
+
+    /**
+     * Apply the operator to non-null values as primitive of the given type.
+     *
+     * @param type INTEGER, LONG or DOUBLE type
+     * @param v1 left value of any number type
+     * @param v2 right value of any number type
+     * @return result of the type, or NULL if divided by zero
+     */
+    public ExprValue apply(ExprType type, ExprValue v1, ExprValue v2) {
+      if (type.equals(INTEGER)) {
+        int divisor = v2.integerValue();
+        if (nullIfDividedByZero && divisor == 0) {
+          return ExprValueUtils.nullValue();
+        }
+        return ExprIntegerValue.of(apply(v1.integerValue(), divisor));
+      } else if (type.equals(LONG)) {
+        long divisor = v2.longValue();
+        if (nullIfDividedByZero && divisor == 0) {
+          return ExprValueUtils.nullValue();
+        }
+        return ExprLongValue.of(apply(v1.longValue(), divisor));
+      } else if (type.equals(DOUBLE)) {
+        double divisor = v2.doubleValue();
+        if (nullIfDividedByZero && divisor == 0) {
+          return ExprValueUtils.nullValue();
+        }
+        return new ExprDoubleValue(apply(v1.doubleValue(), divisor));
+      }
+      throw new IllegalArgumentException(
+          String.format("Arithmetic on primitive is not supported for type [%s]", type));
+    }
+  }
+
+  private final Operator operator;
+
+  private final Expression left;
+
+  private final Expression right;
+
+  private final ExprType type;
+
+  ArithmeticFunctionExpression(
+      FunctionName functionName, List<Expression> arguments, Operator operator, ExprType type) {
+    super(functionName, arguments);
+    this.operator = operator;
+    this.left = arguments.get(0);
+    this.right = arguments.get(1);
+    this.type = type;
+  }
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    ExprValue v1 = left.valueOf(valueEnv);
+    ExprValue v2 = right.valueOf(valueEnv);
+    if (v1.isMissing() || v2.isMissing()) {
+      return ExprValueUtils.missingValue();
+    } else if (v1.isNull() || v2.isNull()) {
+      return ExprValueUtils.nullValue();
+    }
+    return operator.apply(type, v1, v2);
+  }
+
+  @Override
+  public ExprType type() {
+    return type;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s(%s)",
+        getFunctionName(),
+        getArguments().stream().map(Object::toString).collect(Collectors.joining(", ")));
+  }
+
+  /**
+   * Arithmetic function implementation of the given INTEGER, LONG or DOUBLE type.
+   *
+   * @param operator arithmetic operator
+   * @param type argument and return type
+   * @return function implementation
+   */
+  public static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>> impl(
+      Operator operator, ExprType type) {
+    return functionName -> {
+      FunctionSignature signature = new FunctionSignature(functionName, Arrays.asList(type, type));
+      FunctionBuilder builder =
+          (functionProperties, arguments) ->
+              new ArithmeticFunctionExpression(functionName, arguments, operator, type);
+      return Pair.of(signature, builder);
+    };
+  }
+}
@@ -26,6 +26,7 @@ import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver;
+import org.opensearch.sql.expression.operator.predicate.ComparisonFunctionExpression.Operator;
 import org.opensearch.sql.utils.OperatorUtils;
 
 /**
@@ -306,11 +307,14 @@ public class BinaryPredicateOperator {
         ExprCoreType.coreTypes().stream()
             .map(
                 type ->
-                    impl(
-                        nullMissingHandling((v1, v2) -> ExprBooleanValue.of(v1.equals(v2))),
-                        BOOLEAN,
+                    ComparisonFunctionExpression.impl(
+                        Operator.EQUAL,
                         type,
-                        type))
+                        impl(
+                            nullMissingHandling((v1, v2) -> ExprBooleanValue.of(v1.equals(v2))),
+                            BOOLEAN,
+                            type,
+                            type)))
             .collect(Collectors.toList()));
   }
 
@@ -320,11 +324,14 @@ public class BinaryPredicateOperator {
         ExprCoreType.coreTypes().stream()
             .map(
                 type ->
-                    impl(
-                        nullMissingHandling((v1, v2) -> ExprBooleanValue.of(!v1.equals(v2))),
-                        BOOLEAN,
+                    ComparisonFunctionExpression.impl(
+                        Operator.NOT_EQUAL,
                         type,
-                        type))
+                        impl(
+                            nullMissingHandling((v1, v2) -> ExprBooleanValue.of(!v1.equals(v2))),
+                            BOOLEAN,
+                            type,
+                            type)))
             .collect(Collectors.toList()));
   }
 
@@ -334,11 +341,15 @@ public class BinaryPredicateOperator {
         ExprCoreType.coreTypes().stream()
             .map(
                 type ->
-                    impl(
-                        nullMissingHandling((v1, v2) -> ExprBooleanValue.of(v1.compareTo(v2) < 0)),
-                        BOOLEAN,
+                    ComparisonFunctionExpression.impl(
+                        Operator.LESS,
                         type,
-                        type))
+                        impl(
+                            nullMissingHandling(
+                                (v1, v2) -> ExprBooleanValue.of(v1.compareTo(v2) < 0)),
+                            BOOLEAN,
+                            type,
+                            type)))
             .collect(Collectors.toList()));
   }
 
@@ -348,11 +359,15 @@ public class BinaryPredicateOperator {
         ExprCoreType.coreTypes().stream()
             .map(
                 type ->
-                    impl(
-                        nullMissingHandling((v1, v2) -> ExprBooleanValue.of(v1.compareTo(v2) <= 0)),
-                        BOOLEAN,
+                    ComparisonFunctionExpression.impl(
+                        Operator.LTE,
                         type,
-                        type))
+                        impl(
+                            nullMissingHandling(
+                                (v1, v2) -> ExprBooleanValue.of(v1.compareTo(v2) <= 0)),
+                            BOOLEAN,
+                            type,
+                            type)))
             .collect(Collectors.toList()));
   }
 
@@ -362,11 +377,15 @@ public class BinaryPredicateOperator {
         ExprCoreType.coreTypes().stream()
             .map(
                 type ->
-                    impl(
-                        nullMissingHandling((v1, v2) -> ExprBooleanValue.of(v1.compareTo(v2) > 0)),
-                        BOOLEAN,
+                    ComparisonFunctionExpression.impl(
+                        Operator.GREATER,
                         type,
-                        type))
+                        impl(
+                            nullMissingHandling(
+                                (v1, v2) -> ExprBooleanValue.of(v1.compareTo(v2) > 0)),
+                            BOOLEAN,
+                            type,
+                            type)))
             .collect(Collectors.toList()));
   }
 
@@ -376,11 +395,15 @@ public class BinaryPredicateOperator {
         ExprCoreType.coreTypes().stream()
             .map(
                 type ->
-                    impl(
-                        nullMissingHandling((v1, v2) -> ExprBooleanValue.of(v1.compareTo(v2) >= 0)),
-                        BOOLEAN,
+                    ComparisonFunctionExpression.impl(
+                        Operator.GTE,
                         type,
-                        type))
+                        impl(
+                            nullMissingHandling(
+                                (v1, v2) -> ExprBooleanValue.of(v1.compareTo(v2) >= 0)),
+                            BOOLEAN,
+                            type,
+                            type)))
             .collect(Collectors.toList()));
   }
 
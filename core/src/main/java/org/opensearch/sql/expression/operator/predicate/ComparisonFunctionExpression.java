@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionBuilder;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionSignature;
+import org.opensearch.sql.expression.function.SerializableFunction;
+
+/**
+ * Comparison of two arguments of the same INTEGER, LONG, DOUBLE, TIMESTAMP or STRING type. The
+ * values are compared as primitive or the underlying Java value directly, instead of going through
+ * the NULL and MISSING handling wrapper and type check of {@link ExprValue#compareTo}.
+ */
+public class ComparisonFunctionExpression extends FunctionExpression {
+
+  /**
+   * Comparison operator which tests the result of compare, which also evaluates the comparison of
+   * compiled expression in {@link org.opensearch.sql.expression.compiler.ExpressionCompiler}.
+   */
+  public enum Operator {
+    EQUAL {
+      @Override
+      public boolean test(int compared) {
+        return compared == 0;
+      }
+    },
+    NOT_EQUAL {
+      @Override
+      public boolean test(int compared) {
+        return compared != 0;
+      }
+    },
+    LESS {
+      @Override
+      public boolean test(int compared) {
+        return compared < 0;
+      }
+    },
+    LTE {
+      @Override
+      public boolean test(int compared) {
+        return compared <= 0;
+      }
+    },
+    GREATER {
+      @Override
+      public boolean test(int compared) {
+        return compared > 0;
+      }
+    },
+    GTE {
+      @Override
+      public boolean test(int compared) {
+        return compared >= 0;
+      }
+    };
+
+    public abstract boolean test(int compared);
+  }
+
+  private final Operator operator;
+
+  private final Expression left;
+
+  private final Expression right;
+
+  private final ExprType type;
+
+  ComparisonFunctionExpression(
+      FunctionName functionName, List<Expression> arguments, Operator operator, ExprType type) {
+    super(functionName, arguments);
+    this.operator = operator;
+    this.left = arguments.get(0);
+    this.right = arguments.get(1);
+    this.type = type;
+  }
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    ExprValue v1 = left.valueOf(valueEnv);
+    ExprValue v2 = right.valueOf(valueEnv);
+    if (v1.isMissing() || v2.isMissing()) {
+      return ExprValueUtils.missingValue();
+    } else if (v1.isNull() || v2.isNull()) {
+      return ExprValueUtils.nullValue();
+    }
+    return ExprBooleanValue.of(operator.test(compare(type, v1, v2)));
+  }
+
+  /**
+   * Compare the non-null values as primitive or the underlying Java value of the given type, which
+   * is consistent with {@link ExprValue#equals} if equal.
+   *
+   * @param type INTEGER, LONG, FLOAT, DOUBLE, TIMESTAMP or STRING type
+   * @param v1 left value
+   * @param v2 right value
+   * @return result of compare
+   */
+  public static int compare(ExprType type, ExprValue v1, ExprValue v2) {
+    if (type.equals(INTEGER)) {
+      return Integer.compare(v1.integerValue(), v2.integerValue());
+    } else if (type.equals(LONG)) {
+      return Long.compare(v1.longValue(), v2.longValue());
+    } else if (type.equals(FLOAT)) {
+      return Float.compare(v1.floatValue(), v2.floatValue());
+    } else if (type.equals(DOUBLE)) {
+      return Double.compare(v1.doubleValue(), v2.doubleValue());
+    } else if (type.equals(TIMESTAMP)) {
+      return v1.timestampValue().compareTo(v2.timestampValue());
+    } else if (type.equals(STRING)) {
+      return v1.stringValue().compareTo(v2.stringValue());
+    }
+    throw new IllegalArgumentException(
+        String.format("Comparison on primitive is not supported for type [%s]", type));
+  }
+
+  @Override
+  public ExprType type() {
+    return BOOLEAN;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s(%s)",
+        getFunctionName(),
+        getArguments().stream().map(Object::toString).collect(Collectors.joining(", ")));
+  }
+
+  /**
+   * Comparison function implementation of the given type. The specialized expression is only built
+   * if both arguments are exactly of the type, because values of other number types are compared
+   * as the type of the left value by the generic implementation.
+   *
+   * @param operator comparison operator
+   * @param type argument type
+   * @param generic generic implementation used if no specialized one for the arguments
+   * @return function implementation
+   */
+  public static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>> impl(
+      Operator operator,
+      ExprType type,
+      SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>> generic) {
+    return functionName -> {
+      Pair<FunctionSignature, FunctionBuilder> resolved = generic.apply(functionName);
+      if (!(type.equals(INTEGER)
+          || type.equals(LONG)
+          || type.equals(DOUBLE)
+          || type.equals(TIMESTAMP)
+          || type.equals(STRING))) {
+        return resolved;
+      }
+
+      FunctionBuilder builder =
+          (functionProperties, arguments) -> {
+            if (!(arguments.get(0).type().equals(type) && arguments.get(1).type().equals(type))) {
+              return resolved.getValue().apply(functionProperties, arguments);
+            }
+            return new ComparisonFunctionExpression(functionName, arguments, operator, type);
+          };
+      return Pair.of(resolved.getKey(), builder);
+    };
+  }
+}
@@ -33,6 +33,9 @@ public class GrokExpression extends ParseExpression {
 
   @EqualsAndHashCode.Exclude private final Grok grok;
 
+  /** Memo of the last capture shared by the derived fields. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final ParseResultMemo memo;
+
   /**
    * GrokExpression.
    *
@@ -41,15 +44,28 @@ public class GrokExpression extends ParseExpression {
    * @param identifier derived field
    */
   public GrokExpression(Expression sourceField, Expression pattern, Expression identifier) {
+    this(sourceField, pattern, identifier, new ParseResultMemo());
+  }
+
+  /**
+   * GrokExpression sharing parse result with other derived fields of the same pattern.
+   *
+   * @param sourceField source text field
+   * @param pattern pattern used for parsing
+   * @param identifier derived field
+   * @param memo memo of parse result shared by the derived fields
+   */
+  public GrokExpression(
+      Expression sourceField, Expression pattern, Expression identifier, ParseResultMemo memo) {
     super("grok", sourceField, pattern, identifier);
     this.grok = grokCompiler.compile(pattern.valueOf().stringValue());
+    this.memo = memo;
   }
 
   @Override
   ExprValue parseValue(ExprValue value) throws ExpressionEvaluationException {
     String rawString = value.stringValue();
-    Match grokMatch = grok.match(rawString);
-    Map<String, Object> capture = grokMatch.capture();
+    Map<String, Object> capture = memo.get(rawString, this::capture);
     Object match = capture.get(identifierStr);
     if (match != null) {
       return new ExprStringValue(match.toString());
@@ -58,6 +74,12 @@ public class GrokExpression extends ParseExpression {
     return new ExprStringValue("");
   }
 
+  /** Capture all groups before shared, as {@link Match} builds the capture lazily. */
+  private Map<String, Object> capture(String rawString) {
+    Match grokMatch = grok.match(rawString);
+    return grokMatch.capture();
+  }
+
   /**
    * Get list of derived fields based on parse pattern.
    *
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.parse;
+
+import java.io.Serializable;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Memo of the last parse result keyed by the source string, which is shared by the {@link
+ * ParseExpression}s derived from the same parse command. The source is matched against the pattern
+ * once per row and the result is reused by all the derived fields evaluated on the same row.
+ *
+ * <p>The last result is published as an immutable entry, so the memo can be shared by expressions
+ * evaluated concurrently, e.g. in scripts, at the cost of parsing again on conflicting sources.
+ */
+public class ParseResultMemo implements Serializable {
+
+  /** Last source and its parse result, not serialized as it's only valid for the current row. */
+  private transient volatile Entry last;
+
+  /**
+   * Get the parse result of the source, which is parsed only if different from the last one.
+   *
+   * @param source source string
+   * @param parser parser of the source, which must be the same for all calls on this memo
+   * @param <T> type of parse result
+   * @return parse result which may be null
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String source, Function<String, T> parser) {
+    Entry entry = last;
+    if (entry == null || !entry.source.equals(source)) {
+      entry = new Entry(source, parser.apply(source));
+      last = entry;
+    }
+    return (T) entry.result;
+  }
+
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final String source;
+    private final Object result;
+  }
+}
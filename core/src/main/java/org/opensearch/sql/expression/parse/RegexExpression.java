@@ -27,6 +27,9 @@ public class RegexExpression extends ParseExpression {
   private static final Pattern GROUP_PATTERN = Pattern.compile("\\(\\?<([a-zA-Z][a-zA-Z0-9]*)>");
   @Getter @EqualsAndHashCode.Exclude private final Pattern regexPattern;
 
+  /** Memo of the last matcher shared by the derived fields, which is null if not matched. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final ParseResultMemo memo;
+
   /**
    * RegexExpression.
    *
@@ -35,21 +38,41 @@ public class RegexExpression extends ParseExpression {
    * @param identifier derived field
    */
   public RegexExpression(Expression sourceField, Expression pattern, Expression identifier) {
+    this(sourceField, pattern, identifier, new ParseResultMemo());
+  }
+
+  /**
+   * RegexExpression sharing parse result with other derived fields of the same pattern.
+   *
+   * @param sourceField source text field
+   * @param pattern pattern used for parsing
+   * @param identifier derived field
+   * @param memo memo of parse result shared by the derived fields
+   */
+  public RegexExpression(
+      Expression sourceField, Expression pattern, Expression identifier, ParseResultMemo memo) {
     super("regex", sourceField, pattern, identifier);
     this.regexPattern = Pattern.compile(pattern.valueOf().stringValue());
+    this.memo = memo;
   }
 
   @Override
   ExprValue parseValue(ExprValue value) throws ExpressionEvaluationException {
     String rawString = value.stringValue();
-    Matcher matcher = regexPattern.matcher(rawString);
-    if (matcher.matches()) {
+    Matcher matcher = memo.get(rawString, this::match);
+    if (matcher != null) {
+      // Only the group of this derived field is extracted from the matcher shared
       return new ExprStringValue(matcher.group(identifierStr));
     }
     log.debug("failed to extract pattern {} from input ***", regexPattern.pattern());
     return new ExprStringValue("");
   }
 
+  private Matcher match(String rawString) {
+    Matcher matcher = regexPattern.matcher(rawString);
+    return matcher.matches() ? matcher : null;
+  }
+
   /**
    * Get list of derived fields based on parse pattern.
    *
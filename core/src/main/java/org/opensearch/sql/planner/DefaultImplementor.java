@@ -5,6 +5,9 @@
 
 package org.opensearch.sql.planner;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalCloseCursor;
@@ -33,6 +36,7 @@ import org.opensearch.sql.planner.physical.FilterOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PipelineOperator;
 import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
@@ -76,8 +80,10 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
 
   @Override
   public PhysicalPlan visitProject(LogicalProject node, C context) {
-    return new ProjectOperator(
-        visitChild(node, context), node.getProjectList(), node.getNamedParseExpressions());
+    return fuse(
+        visitChild(node, context),
+        child ->
+            new ProjectOperator(child, node.getProjectList(), node.getNamedParseExpressions()));
   }
 
   @Override
@@ -93,7 +99,7 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
 
   @Override
   public PhysicalPlan visitEval(LogicalEval node, C context) {
-    return new EvalOperator(visitChild(node, context), node.getExpressions());
+    return fuse(visitChild(node, context), child -> new EvalOperator(child, node.getExpressions()));
   }
 
   @Override
@@ -108,7 +114,7 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
 
   @Override
   public PhysicalPlan visitRename(LogicalRename node, C context) {
-    return new RenameOperator(visitChild(node, context), node.getRenameMap());
+    return fuse(visitChild(node, context), child -> new RenameOperator(child, node.getRenameMap()));
   }
 
   @Override
@@ -119,7 +125,7 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
 
   @Override
   public PhysicalPlan visitFilter(LogicalFilter node, C context) {
-    return new FilterOperator(visitChild(node, context), node.getCondition());
+    return fuse(visitChild(node, context), child -> new FilterOperator(child, node.getCondition()));
   }
 
   @Override
@@ -165,6 +171,37 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
     return visitChild(plan, context);
   }
 
+  /**
+   * Fuse the operator processing one row at a time with its child of the same kind into a {@link
+   * PipelineOperator}, or append it to the child pipeline. The operator is always created on top of
+   * the original operator chain, so the chain fused is the same as the one not fused.
+   *
+   * @param child physical child plan
+   * @param operatorBuilder builder of Eval, Filter, Project or Rename operator on top of a child
+   * @return pipeline operator if fused, otherwise the operator built on the child
+   */
+  protected PhysicalPlan fuse(
+      PhysicalPlan child, Function<PhysicalPlan, PhysicalPlan> operatorBuilder) {
+    if (child instanceof PipelineOperator) {
+      PipelineOperator pipeline = (PipelineOperator) child;
+      List<PhysicalPlan> operators = new ArrayList<>(pipeline.getOperators());
+      operators.add(operatorBuilder.apply(operators.get(operators.size() - 1)));
+      return new PipelineOperator(pipeline.getInput(), operators);
+    }
+    if (isFusible(child)) {
+      return new PipelineOperator(
+          child.getChild().get(0), List.of(child, operatorBuilder.apply(child)));
+    }
+    return operatorBuilder.apply(child);
+  }
+
+  private boolean isFusible(PhysicalPlan plan) {
+    return plan instanceof EvalOperator
+        || plan instanceof FilterOperator
+        || plan instanceof ProjectOperator
+        || plan instanceof RenameOperator;
+  }
+
   protected PhysicalPlan visitChild(LogicalPlan node, C context) {
     // Logical operators visited here must have a single child
     return node.getChild().get(0).accept(this, context);
@@ -11,6 +11,7 @@ import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
 import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
+import org.opensearch.sql.planner.optimizer.OptimizationStats;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.Table;
 
@@ -29,11 +30,22 @@ public class Planner {
    * @return optimal physical plan
    */
   public PhysicalPlan plan(LogicalPlan plan) {
+    return plan(plan, new OptimizationStats());
+  }
+
+  /**
+   * Generate optimal physical plan for logical plan and record the logical optimizer rules fired.
+   *
+   * @param plan logical plan
+   * @param stats logical plan optimization statistics to record into
+   * @return optimal physical plan
+   */
+  public PhysicalPlan plan(LogicalPlan plan, OptimizationStats stats) {
     Table table = findTable(plan);
     if (table == null) {
       return plan.accept(new DefaultImplementor<>(), null);
     }
-    return table.implement(table.optimize(optimize(plan)));
+    return table.implement(table.optimize(logicalOptimizer.optimize(plan, stats)));
   }
 
   private Table findTable(LogicalPlan plan) {
@@ -56,8 +68,4 @@ public class Planner {
         },
         null);
   }
-
-  private LogicalPlan optimize(LogicalPlan plan) {
-    return logicalOptimizer.optimize(plan);
-  }
 }
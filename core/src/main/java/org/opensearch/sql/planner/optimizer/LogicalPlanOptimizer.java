@@ -11,9 +11,13 @@ import com.facebook.presto.matching.Match;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.rule.MergeFilterAndFilter;
+import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderOperator;
 import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderSort;
+import org.opensearch.sql.planner.optimizer.rule.PushLimitUnderProjection;
 import org.opensearch.sql.planner.optimizer.rule.read.CreateTableScanBuilder;
 import org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown;
 import org.opensearch.sql.planner.optimizer.rule.write.CreateTableWriteBuilder;
@@ -25,16 +29,33 @@ import org.opensearch.sql.planner.optimizer.rule.write.CreateTableWriteBuilder;
  * <ol>
  *   <li>Optimize the current node with all the rules.
  *   <li>Optimize the all the child nodes with all the rules.
- *   <li>In case the child node could change, Optimize the current node again.
+ *   <li>In case any child node changed, Optimize the current node again.
+ *   <li>In case the current node changed again, Optimize its new child nodes.
  * </ol>
+ *
+ * <p>Each node is optimized until a fixed point, where no rule changes it any more, or until the
+ * maximum number of rule firings is reached, in which case the current node is kept as is.
  */
 public class LogicalPlanOptimizer {
 
+  private static final Logger LOG = LogManager.getLogger(LogicalPlanOptimizer.class);
+
+  /** Default maximum number of rule firings on a plan node before stopping. */
+  public static final int DEFAULT_MAX_ITERATIONS = 100;
+
   private final List<Rule<?>> rules;
 
+  private final int maxIterations;
+
   /** Create {@link LogicalPlanOptimizer} with customized rules. */
   public LogicalPlanOptimizer(List<Rule<?>> rules) {
+    this(rules, DEFAULT_MAX_ITERATIONS);
+  }
+
+  /** Create {@link LogicalPlanOptimizer} with customized rules and maximum iterations. */
+  public LogicalPlanOptimizer(List<Rule<?>> rules, int maxIterations) {
     this.rules = rules;
+    this.maxIterations = maxIterations;
   }
 
   /** Create {@link LogicalPlanOptimizer} with pre-defined rules. */
@@ -46,6 +67,11 @@ public class LogicalPlanOptimizer {
              */
             new MergeFilterAndFilter(),
             new PushFilterUnderSort(),
+            PushFilterUnderOperator.PUSH_FILTER_UNDER_EVAL,
+            PushFilterUnderOperator.PUSH_FILTER_UNDER_RENAME,
+            PushFilterUnderOperator.PUSH_FILTER_UNDER_PROJECT,
+            PushFilterUnderOperator.PUSH_FILTER_UNDER_DEDUPE,
+            new PushLimitUnderProjection(),
             /*
              * Phase 2: Transformations that rely on data source push down capability
              */
@@ -53,6 +79,7 @@ public class LogicalPlanOptimizer {
             TableScanPushDown.PUSH_DOWN_FILTER,
             TableScanPushDown.PUSH_DOWN_AGGREGATION,
             TableScanPushDown.PUSH_DOWN_SORT,
+            TableScanPushDown.PUSH_DOWN_TOP_N,
             TableScanPushDown.PUSH_DOWN_LIMIT,
             new PushDownPageSize(),
             TableScanPushDown.PUSH_DOWN_HIGHLIGHT,
@@ -63,28 +90,82 @@ public class LogicalPlanOptimizer {
 
   /** Optimize {@link LogicalPlan}. */
   public LogicalPlan optimize(LogicalPlan plan) {
-    LogicalPlan optimized = internalOptimize(plan);
-    optimized.replaceChildPlans(
-        optimized.getChild().stream().map(this::optimize).collect(Collectors.toList()));
-    return internalOptimize(optimized);
+    return optimize(plan, new OptimizationStats());
+  }
+
+  /**
+   * Optimize {@link LogicalPlan} and record the rules matched and fired.
+   *
+   * @param plan logical plan
+   * @param stats optimization statistics to record into
+   * @return optimized logical plan
+   */
+  public LogicalPlan optimize(LogicalPlan plan, OptimizationStats stats) {
+    LogicalPlan optimized = optimizeNode(plan, stats);
+    if (stats.isIterationLimitReached()) {
+      LOG.warn(
+          "Logical plan optimization stopped at maximum {} iterations on a node, rules fired: {}",
+          maxIterations,
+          stats.getFiredRules());
+    } else {
+      LOG.debug("Logical plan optimized, rules fired: {}", stats.getFiredRules());
+    }
+    return optimized;
   }
 
-  private LogicalPlan internalOptimize(LogicalPlan plan) {
+  private LogicalPlan optimizeNode(LogicalPlan plan, OptimizationStats stats) {
+    LogicalPlan node = internalOptimize(plan, stats);
+    for (int i = 0; i < maxIterations; i++) {
+      int firedBefore = stats.getTotalFired();
+      node.replaceChildPlans(
+          node.getChild().stream()
+              .map(child -> optimizeNode(child, stats))
+              .collect(Collectors.toList()));
+
+      // The node is already at a fixed point, so exploring it again is only needed if any rule
+      // changed its subtree.
+      if (stats.getTotalFired() == firedBefore) {
+        return node;
+      }
+
+      // If the node is changed again, for example pushed under its child, the new children need
+      // to be optimized as well.
+      firedBefore = stats.getTotalFired();
+      node = internalOptimize(node, stats);
+      if (stats.getTotalFired() == firedBefore) {
+        return node;
+      }
+    }
+    stats.recordIterationLimitReached();
+    return node;
+  }
+
+  /**
+   * Apply the rules to the node in turn until none of them changes the node. A rule which doesn't
+   * change a node won't change it on another try, so the fixed point is reached once all the rules
+   * are tried in a row without firing.
+   */
+  private LogicalPlan internalOptimize(LogicalPlan plan, OptimizationStats stats) {
     LogicalPlan node = plan;
-    boolean done = false;
-    while (!done) {
-      done = true;
-      for (Rule rule : rules) {
-        Match match = DEFAULT_MATCHER.match(rule.pattern(), node);
-        if (match.isPresent()) {
-          node = rule.apply(match.value(), match.captures());
-
-          // For new TableScanPushDown impl, pattern match doesn't necessarily cause
-          // push down to happen. So reiterate all rules against the node only if the node
-          // is actually replaced by any rule.
-          // TODO: may need to introduce fixed point or maximum iteration limit in future
-          if (node != match.value()) {
-            done = false;
+    int iterations = 0;
+    int notFiredInRow = 0;
+    for (int i = 0; notFiredInRow < rules.size(); i = (i + 1) % rules.size()) {
+      Rule rule = rules.get(i);
+      notFiredInRow++;
+      Match match = DEFAULT_MATCHER.match(rule.pattern(), node);
+      if (match.isPresent()) {
+        stats.recordMatch(rule);
+        node = rule.apply(match.value(), match.captures());
+
+        // For new TableScanPushDown impl, pattern match doesn't necessarily cause
+        // push down to happen. So reiterate all rules against the node only if the node
+        // is actually replaced by any rule.
+        if (node != match.value()) {
+          stats.recordFire(rule);
+          notFiredInRow = 0;
+          if (++iterations >= maxIterations) {
+            stats.recordIterationLimitReached();
+            break;
           }
         }
       }
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.ToString;
+
+/** Statistics of the rules matched and fired by {@link LogicalPlanOptimizer} on a logical plan. */
+@ToString
+public class OptimizationStats {
+
+  /** Number of times each rule matched a plan node, by rule name in order of first match. */
+  private final Map<String, Integer> matchedRules = new LinkedHashMap<>();
+
+  /** Number of times each rule replaced a plan node, by rule name in order of first firing. */
+  private final Map<String, Integer> firedRules = new LinkedHashMap<>();
+
+  /** Total number of rule firings. */
+  @Getter private int totalFired;
+
+  /** Whether the optimization of any plan node stopped at the maximum number of iterations. */
+  @Getter private boolean iterationLimitReached;
+
+  void recordMatch(Rule<?> rule) {
+    matchedRules.merge(rule.name(), 1, Integer::sum);
+  }
+
+  void recordFire(Rule<?> rule) {
+    firedRules.merge(rule.name(), 1, Integer::sum);
+    totalFired++;
+  }
+
+  void recordIterationLimitReached() {
+    iterationLimitReached = true;
+  }
+
+  public Map<String, Integer> getMatchedRules() {
+    return Collections.unmodifiableMap(matchedRules);
+  }
+
+  public Map<String, Integer> getFiredRules() {
+    return Collections.unmodifiableMap(firedRules);
+  }
+}
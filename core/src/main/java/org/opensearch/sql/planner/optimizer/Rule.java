@@ -27,4 +27,9 @@ public interface Rule<T> {
    * @return the transfromed LogicalPlan.
    */
   LogicalPlan apply(T plan, Captures captures);
+
+  /** Get the name of the Rule used in optimization statistics. */
+  default String name() {
+    return getClass().getSimpleName();
+  }
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.NamedArgumentExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.OpenSearchFunctions;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalRename;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Push Filter under an operator which keeps the fields it doesn't compute unchanged. Only the
+ * conjuncts of filter condition referencing no other fields than those are pushed down, and the
+ * rest are kept above the operator.<br>
+ * Filter(c1 AND c2) - Operator - Child --> Filter(c2) - Operator - Filter(c1) - Child
+ *
+ * <p>The definitions of fields computed by the operator are not substituted into the condition,
+ * because the function expressions cannot be rebuilt with the function properties of the query
+ * here.
+ *
+ * @param <T> logical plan node type
+ */
+public class PushFilterUnderOperator<T extends LogicalPlan> implements Rule<LogicalFilter> {
+
+  /** Push filter under Eval if not depending on the fields assigned by Eval. */
+  public static final Rule<?> PUSH_FILTER_UNDER_EVAL =
+      new PushFilterUnderOperator<>(
+          "PushFilterUnderEval",
+          LogicalEval.class,
+          eval -> {
+            Set<String> assigned =
+                eval.getExpressions().stream()
+                    .map(pair -> pair.getKey().getAttr())
+                    .collect(Collectors.toSet());
+            return ref -> !assigned.contains(ref.getAttr());
+          });
+
+  /** Push filter under Rename if not depending on the fields renamed. */
+  public static final Rule<?> PUSH_FILTER_UNDER_RENAME =
+      new PushFilterUnderOperator<>(
+          "PushFilterUnderRename",
+          LogicalRename.class,
+          rename -> {
+            Set<String> renamed = new HashSet<>();
+            rename
+                .getRenameMap()
+                .forEach(
+                    (from, to) -> {
+                      renamed.add(from.getAttr());
+                      renamed.add(to.getAttr());
+                    });
+            return ref -> !renamed.contains(ref.getAttr());
+          });
+
+  /**
+   * Push filter under Project if only depending on the fields projected as is, for example by
+   * fields command in PPL.
+   */
+  public static final Rule<?> PUSH_FILTER_UNDER_PROJECT =
+      new PushFilterUnderOperator<>(
+          "PushFilterUnderProject",
+          LogicalProject.class,
+          project -> {
+            Set<String> parsed =
+                project.getNamedParseExpressions().stream()
+                    .map(NamedExpression::getNameOrAlias)
+                    .collect(Collectors.toSet());
+            Set<String> projected =
+                project.getProjectList().stream()
+                    .filter(
+                        expr ->
+                            expr.getDelegated() instanceof ReferenceExpression
+                                && ((ReferenceExpression) expr.getDelegated())
+                                    .getAttr()
+                                    .equals(expr.getNameOrAlias()))
+                    .map(NamedExpression::getNameOrAlias)
+                    .filter(name -> !parsed.contains(name))
+                    .collect(Collectors.toSet());
+            return ref -> projected.contains(ref.getAttr());
+          });
+
+  /**
+   * Push filter under non-consecutive Dedupe if only depending on the dedupe fields. In this case,
+   * the rows of the same dedupe fields are either all kept or all removed by the filter, so the
+   * same rows are kept by Dedupe.
+   */
+  public static final Rule<?> PUSH_FILTER_UNDER_DEDUPE =
+      new PushFilterUnderOperator<>(
+          "PushFilterUnderDedupe",
+          LogicalDedupe.class,
+          dedupe -> {
+            if (!Boolean.FALSE.equals(dedupe.getConsecutive())) {
+              return ref -> false;
+            }
+            Set<Expression> dedupeFields = ImmutableSet.copyOf(dedupe.getDedupeList());
+            return dedupeFields::contains;
+          });
+
+  private final String name;
+
+  private final Capture<T> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalFilter> pattern;
+
+  /** Returns the predicate of fields kept unchanged by the operator given. */
+  private final Function<T, Predicate<ReferenceExpression>> unchangedFields;
+
+  private PushFilterUnderOperator(
+      String name, Class<T> operatorType, Function<T, Predicate<ReferenceExpression>> unchanged) {
+    this.name = name;
+    this.capture = Capture.newCapture();
+    this.pattern =
+        typeOf(LogicalFilter.class)
+            .with(source().matching(typeOf(operatorType).capturedAs(capture)));
+    this.unchangedFields = unchanged;
+  }
+
+  @Override
+  public String name() {
+    return name;
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalFilter filter, Captures captures) {
+    T operator = captures.get(capture);
+    Predicate<ReferenceExpression> unchanged = unchangedFields.apply(operator);
+    List<Expression> pushed = new ArrayList<>();
+    List<Expression> remaining = new ArrayList<>();
+    for (Expression conjunct : conjuncts(filter.getCondition())) {
+      if (conjunct.accept(new PushableVisitor(), unchanged)) {
+        pushed.add(conjunct);
+      } else {
+        remaining.add(conjunct);
+      }
+    }
+    if (pushed.isEmpty()) {
+      return filter;
+    }
+
+    operator.replaceChildPlans(
+        Collections.singletonList(new LogicalFilter(operator.getChild().get(0), and(pushed))));
+    if (remaining.isEmpty()) {
+      return operator;
+    }
+    return new LogicalFilter(operator, and(remaining));
+  }
+
+  private static List<Expression> conjuncts(Expression condition) {
+    if (condition instanceof FunctionExpression
+        && ((FunctionExpression) condition)
+            .getFunctionName()
+            .equals(BuiltinFunctionName.AND.getName())) {
+      return ((FunctionExpression) condition)
+          .getArguments().stream()
+              .flatMap(arg -> conjuncts(arg).stream())
+              .collect(Collectors.toList());
+    }
+    return Collections.singletonList(condition);
+  }
+
+  private static Expression and(List<Expression> conjuncts) {
+    return conjuncts.stream().reduce(DSL::and).orElseThrow();
+  }
+
+  /**
+   * Check if an expression only references the fields unchanged by the operator. Any expression
+   * other than literal, reference and deterministic function is not pushed down to be safe. The
+   * relevance functions are excluded too, because they reference fields by name in literal.
+   */
+  private static class PushableVisitor
+      extends ExpressionNodeVisitor<Boolean, Predicate<ReferenceExpression>> {
+
+    @Override
+    public Boolean visitNode(Expression node, Predicate<ReferenceExpression> unchanged) {
+      return false;
+    }
+
+    @Override
+    public Boolean visitLiteral(LiteralExpression node, Predicate<ReferenceExpression> unchanged) {
+      return true;
+    }
+
+    @Override
+    public Boolean visitReference(
+        ReferenceExpression node, Predicate<ReferenceExpression> unchanged) {
+      return unchanged.test(node);
+    }
+
+    @Override
+    public Boolean visitNamedArgument(
+        NamedArgumentExpression node, Predicate<ReferenceExpression> unchanged) {
+      return node.getValue().accept(this, unchanged);
+    }
+
+    @Override
+    public Boolean visitAggregator(Aggregator<?> node, Predicate<ReferenceExpression> unchanged) {
+      return false;
+    }
+
+    @Override
+    public Boolean visitNamedAggregator(
+        NamedAggregator node, Predicate<ReferenceExpression> unchanged) {
+      return false;
+    }
+
+    @Override
+    public Boolean visitFunction(
+        FunctionExpression node, Predicate<ReferenceExpression> unchanged) {
+      return !(node instanceof OpenSearchFunctions.OpenSearchFunction)
+          && BuiltinFunctionRepository.isDeterministic(node.getFunctionName())
+          && node.getArguments().stream().allMatch(arg -> arg.accept(this, unchanged));
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.Collections;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalRename;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Push Limit under the operator which maps each row to exactly one row, i.e. Project, Eval or
+ * Rename. The same rows are returned, and the operator is applied to limited rows only.<br>
+ * Limit - Project - Child --> Project - Limit - Child
+ */
+public class PushLimitUnderProjection implements Rule<LogicalLimit> {
+
+  private final Capture<LogicalPlan> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalLimit> pattern;
+
+  /** Constructor of PushLimitUnderProjection. */
+  public PushLimitUnderProjection() {
+    this.capture = Capture.newCapture();
+    this.pattern =
+        typeOf(LogicalLimit.class)
+            .with(
+                source()
+                    .matching(
+                        typeOf(LogicalPlan.class)
+                            .matching(
+                                plan ->
+                                    plan instanceof LogicalProject
+                                        || plan instanceof LogicalEval
+                                        || plan instanceof LogicalRename)
+                            .capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalLimit limit, Captures captures) {
+    LogicalPlan projection = captures.get(capture);
+    return projection.replaceChildPlans(
+        Collections.singletonList(limit.replaceChildPlans(projection.getChild())));
+  }
+}
@@ -22,6 +22,7 @@ import com.facebook.presto.matching.pattern.CapturePattern;
 import com.facebook.presto.matching.pattern.WithPattern;
 import java.util.function.BiFunction;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalSort;
 import org.opensearch.sql.planner.optimizer.Rule;
 import org.opensearch.sql.storage.read.TableScanBuilder;
 
@@ -38,31 +39,48 @@ public class TableScanPushDown<T extends LogicalPlan> implements Rule<T> {
   /** Push down optimize rule for filtering condition. */
   public static final Rule<?> PUSH_DOWN_FILTER =
       match(filter(scanBuilder()))
+          .named("PushDownFilter")
           .apply((filter, scanBuilder) -> scanBuilder.pushDownFilter(filter));
 
   /** Push down optimize rule for aggregate operator. */
   public static final Rule<?> PUSH_DOWN_AGGREGATION =
       match(aggregate(scanBuilder()))
+          .named("PushDownAggregation")
           .apply((agg, scanBuilder) -> scanBuilder.pushDownAggregation(agg));
 
   /** Push down optimize rule for sort operator. */
   public static final Rule<?> PUSH_DOWN_SORT =
-      match(sort(scanBuilder())).apply((sort, scanBuilder) -> scanBuilder.pushDownSort(sort));
+      match(sort(scanBuilder()))
+          .named("PushDownSort")
+          .apply((sort, scanBuilder) -> scanBuilder.pushDownSort(sort));
 
   /** Push down optimize rule for limit operator. */
   public static final Rule<?> PUSH_DOWN_LIMIT =
-      match(limit(scanBuilder())).apply((limit, scanBuilder) -> scanBuilder.pushDownLimit(limit));
+      match(limit(scanBuilder()))
+          .named("PushDownLimit")
+          .apply((limit, scanBuilder) -> scanBuilder.pushDownLimit(limit));
+
+  /** Push down optimize rule for limit operator over sort operator which isn't pushed down. */
+  public static final Rule<?> PUSH_DOWN_TOP_N =
+      match(limit(sort(scanBuilder())))
+          .named("PushDownTopN")
+          .apply(
+              (limit, scanBuilder) ->
+                  scanBuilder.pushDownTopN((LogicalSort) limit.getChild().get(0), limit));
 
   public static final Rule<?> PUSH_DOWN_PROJECT =
       match(project(scanBuilder()))
+          .named("PushDownProject")
           .apply((project, scanBuilder) -> scanBuilder.pushDownProject(project));
 
   public static final Rule<?> PUSH_DOWN_HIGHLIGHT =
       match(highlight(scanBuilder()))
+          .named("PushDownHighlight")
           .apply((highlight, scanBuilder) -> scanBuilder.pushDownHighlight(highlight));
 
   public static final Rule<?> PUSH_DOWN_NESTED =
       match(nested(scanBuilder()))
+          .named("PushDownNested")
           .apply((nested, scanBuilder) -> scanBuilder.pushDownNested(nested));
 
   /** Pattern that matches a plan node. */
@@ -74,14 +92,29 @@ public class TableScanPushDown<T extends LogicalPlan> implements Rule<T> {
   /** Push down function applied to the plan node and captured table scan builder. */
   private final BiFunction<T, TableScanBuilder, Boolean> pushDownFunction;
 
-  @SuppressWarnings("unchecked")
+  /** Rule name, which is the same for all instances of this class otherwise. */
+  private final String name;
+
   private TableScanPushDown(
-      WithPattern<T> pattern, BiFunction<T, TableScanBuilder, Boolean> pushDownFunction) {
+      WithPattern<T> pattern,
+      BiFunction<T, TableScanBuilder, Boolean> pushDownFunction,
+      String name) {
+    this.name = name;
     this.pattern = pattern;
-    this.capture = ((CapturePattern<TableScanBuilder>) pattern.getPattern()).capture();
+    this.capture = findCapture(pattern);
     this.pushDownFunction = pushDownFunction;
   }
 
+  /** Find the capture of table scan builder which may be under more than one plan node. */
+  @SuppressWarnings("unchecked")
+  private static Capture<TableScanBuilder> findCapture(WithPattern<?> pattern) {
+    Pattern<?> inner = pattern.getPattern();
+    while (inner instanceof WithPattern) {
+      inner = ((WithPattern<?>) inner).getPattern();
+    }
+    return ((CapturePattern<TableScanBuilder>) inner).capture();
+  }
+
   @Override
   public Pattern<T> pattern() {
     return pattern;
@@ -96,19 +129,31 @@ public class TableScanPushDown<T extends LogicalPlan> implements Rule<T> {
     return plan;
   }
 
+  @Override
+  public String name() {
+    return name;
+  }
+
   /** Custom builder class other than generated by Lombok to provide more readable code. */
   static class TableScanPushDownBuilder<T extends LogicalPlan> {
 
     private WithPattern<T> pattern;
 
+    private String name;
+
     public static <T extends LogicalPlan> TableScanPushDownBuilder<T> match(Pattern<T> pattern) {
       TableScanPushDownBuilder<T> builder = new TableScanPushDownBuilder<>();
       builder.pattern = (WithPattern<T>) pattern;
       return builder;
     }
 
+    public TableScanPushDownBuilder<T> named(String name) {
+      this.name = name;
+      return this;
+    }
+
     public TableScanPushDown<T> apply(BiFunction<T, TableScanBuilder, Boolean> pushDownFunction) {
-      return new TableScanPushDown<>(pattern, pushDownFunction);
+      return new TableScanPushDown<>(pattern, pushDownFunction, name);
     }
   }
 }
@@ -15,6 +15,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -25,7 +26,10 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.CompiledExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.env.MemoizedEnvironment;
 
 /**
  * The eval operator evaluate the {@link EvalOperator#expressionList} and put the result into to
@@ -43,6 +47,9 @@ public class EvalOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
   @Getter private final List<Pair<ReferenceExpression, Expression>> expressionList;
 
+  /** Expressions compiled on first evaluation, in the same order as expression list. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private List<CompiledExpression> compiledExpressions;
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitEval(this, context);
@@ -88,10 +95,17 @@ public class EvalOperator extends PhysicalPlan {
    * @return The mapping of reference and {@link ExprValue} for each expression.
    */
   private Map<String, ExprValue> eval(Environment<Expression, ExprValue> env) {
+    if (compiledExpressions == null) {
+      compiledExpressions =
+          expressionList.stream()
+              .map(pair -> ExpressionCompiler.compile(pair.getValue()))
+              .collect(Collectors.toList());
+    }
     Map<String, ExprValue> evalResultMap = new LinkedHashMap<>();
-    for (Pair<ReferenceExpression, Expression> pair : expressionList) {
-      ReferenceExpression var = pair.getKey();
-      ExprValue value = pair.getValue().valueOf(env);
+    for (int i = 0; i < expressionList.size(); i++) {
+      ReferenceExpression var = expressionList.get(i).getKey();
+      // Memoized for each expression only, as the environment is extended by the previous ones
+      ExprValue value = compiledExpressions.get(i).valueOf(new MemoizedEnvironment(env));
       env = extendEnv(env, var, value);
       evalResultMap.put(var.toString(), value);
     }
@@ -13,6 +13,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.compiler.CompiledExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
+import org.opensearch.sql.expression.env.MemoizedEnvironment;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -29,6 +32,9 @@ public class FilterOperator extends PhysicalPlan {
   @Getter private final Expression conditions;
   @ToString.Exclude private ExprValue next = null;
 
+  /** Conditions compiled on first evaluation. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private CompiledExpression compiledConditions;
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitFilter(this, context);
@@ -41,10 +47,12 @@ public class FilterOperator extends PhysicalPlan {
 
   @Override
   public boolean hasNext() {
+    if (compiledConditions == null) {
+      compiledConditions = ExpressionCompiler.compile(conditions);
+    }
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
-      ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
-      if (!(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue())) {
+      if (compiledConditions.test(new MemoizedEnvironment(inputValue.bindingTuples()))) {
         next = inputValue;
         return true;
       }
@@ -95,4 +95,8 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
   public R visitCursorClose(CursorCloseOperator node, C context) {
     return visitNode(node, context);
   }
+
+  public R visitPipeline(PipelineOperator node, C context) {
+    return visitNode(node, context);
+  }
 }
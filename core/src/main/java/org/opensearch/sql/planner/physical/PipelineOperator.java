@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.expression.compiler.CompiledExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
+import org.opensearch.sql.expression.env.MemoizedEnvironment;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Pipeline operator which fuses a chain of operators processing one row at a time, i.e. {@link
+ * EvalOperator}, {@link FilterOperator}, {@link ProjectOperator} and {@link RenameOperator}. The
+ * operators are applied in order as stages to a row buffer reused across rows, so only one output
+ * tuple is created for each row not filtered out, instead of one by each operator.
+ *
+ * <p>The operators fused are not executed, and still refer to the original input which is kept for
+ * explain only.
+ */
+@EqualsAndHashCode(callSuper = false)
+@ToString
+public class PipelineOperator extends PhysicalPlan {
+  @Getter private final PhysicalPlan input;
+
+  /** Operators fused from bottom to top. */
+  @Getter private final List<PhysicalPlan> operators;
+
+  /** Stages of the operators fused, created on first evaluation. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private List<Stage> stages;
+
+  /** Row buffer of current tuple, which is swapped with spare buffer by Project and Rename. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private LinkedHashMap<String, ExprValue> row = new LinkedHashMap<>();
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private LinkedHashMap<String, ExprValue> spare = new LinkedHashMap<>();
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private ExprTupleValue rowValue = new ExprTupleValue(row);
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private ExprTupleValue spareValue = new ExprTupleValue(spare);
+
+  /** Current value if it is not a tuple, which is passed through by Eval and Rename. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private ExprValue nonTupleValue;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private ExprValue next;
+
+  /** Constructor of PipelineOperator. */
+  public PipelineOperator(PhysicalPlan input, List<PhysicalPlan> operators) {
+    this.input = input;
+    this.operators = operators;
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitPipeline(this, context);
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Collections.singletonList(input);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (stages == null) {
+      stages = operators.stream().map(this::toStage).collect(Collectors.toList());
+    }
+    while (next == null && input.hasNext()) {
+      next = process(input.next());
+    }
+    return next != null;
+  }
+
+  @Override
+  public ExprValue next() {
+    ExprValue result = next;
+    next = null;
+    return result;
+  }
+
+  @Override
+  public ExecutionEngine.Schema schema() {
+    return operators.get(operators.size() - 1).schema();
+  }
+
+  /** Apply all stages to the input value, and return null if filtered out. */
+  private ExprValue process(ExprValue inputValue) {
+    row.clear();
+    if (STRUCT == inputValue.type()) {
+      row.putAll(inputValue.tupleValue());
+      nonTupleValue = null;
+    } else {
+      nonTupleValue = inputValue;
+    }
+
+    for (Stage stage : stages) {
+      if (!stage.apply()) {
+        return null;
+      }
+    }
+    return nonTupleValue == null ? ExprTupleValue.fromExprValueMap(row) : nonTupleValue;
+  }
+
+  /**
+   * Environment of current row, which is created for each evaluation as the row buffer is reused.
+   */
+  private BindingTuple env() {
+    return nonTupleValue == null ? rowValue.bindingTuples() : nonTupleValue.bindingTuples();
+  }
+
+  private ExprValue currentValue() {
+    return nonTupleValue == null ? rowValue : nonTupleValue;
+  }
+
+  /** Swap the row buffer with spare buffer after the new row is written to spare buffer. */
+  private void swap() {
+    LinkedHashMap<String, ExprValue> map = row;
+    row = spare;
+    spare = map;
+    ExprTupleValue value = rowValue;
+    rowValue = spareValue;
+    spareValue = value;
+    spare.clear();
+    nonTupleValue = null;
+  }
+
+  /** Put a field to spare buffer, which fails on duplicate name as the operator fused does. */
+  private void putUnique(String name, ExprValue value) {
+    ExprValue old = spare.putIfAbsent(name, value);
+    if (old != null) {
+      throw new IllegalArgumentException(
+          String.format("Multiple entries with same key: %s=%s and %s=%s", name, value, name, old));
+    }
+  }
+
+  private Stage toStage(PhysicalPlan operator) {
+    if (operator instanceof EvalOperator) {
+      return evalStage((EvalOperator) operator);
+    } else if (operator instanceof FilterOperator) {
+      CompiledExpression condition =
+          ExpressionCompiler.compile(((FilterOperator) operator).getConditions());
+      return () -> condition.test(new MemoizedEnvironment(env()));
+    } else if (operator instanceof ProjectOperator) {
+      ProjectOperator project = (ProjectOperator) operator;
+      return () -> {
+        project.project(currentValue(), this::putUnique);
+        swap();
+        return true;
+      };
+    } else if (operator instanceof RenameOperator) {
+      return renameStage((RenameOperator) operator);
+    }
+    throw new IllegalStateException(
+        String.format("Operator %s cannot be fused", operator.getClass().getSimpleName()));
+  }
+
+  private Stage evalStage(EvalOperator eval) {
+    List<String> names = new ArrayList<>();
+    List<CompiledExpression> expressions = new ArrayList<>();
+    eval.getExpressionList()
+        .forEach(
+            pair -> {
+              names.add(pair.getKey().toString());
+              expressions.add(ExpressionCompiler.compile(pair.getValue()));
+            });
+    return () -> {
+      if (nonTupleValue == null) {
+        // Later expressions see the values evaluated before, as extended environment in Eval,
+        // thus a new environment is created for each of them
+        for (int i = 0; i < names.size(); i++) {
+          row.put(names.get(i), expressions.get(i).valueOf(new MemoizedEnvironment(env())));
+        }
+      }
+      return true;
+    };
+  }
+
+  private Stage renameStage(RenameOperator rename) {
+    Map<String, String> nameMapping =
+        rename.getMapping().entrySet().stream()
+            .collect(
+                Collectors.toMap(
+                    entry -> entry.getKey().getAttr(), entry -> entry.getValue().getAttr()));
+    return () -> {
+      if (nonTupleValue == null) {
+        row.forEach((name, value) -> putUnique(nameMapping.getOrDefault(name, name), value));
+        swap();
+      }
+      return true;
+    };
+  }
+
+  /** Stage of an operator fused, which is applied to current row and returns false to drop it. */
+  @FunctionalInterface
+  private interface Stage {
+    boolean apply();
+  }
+}
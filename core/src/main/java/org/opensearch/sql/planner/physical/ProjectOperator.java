@@ -13,6 +13,7 @@ import java.io.ObjectOutput;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -23,8 +24,10 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.env.MemoizedEnvironment;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /** Project the fields specified in {@link ProjectOperator#projectList} from input. */
 @ToString
@@ -52,41 +55,51 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
+    project(input.next(), mapBuilder::put);
+    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+  }
+
+  /**
+   * Evaluate the project list on the input value.
+   *
+   * @param inputValue input value
+   * @param output consumer of each field name and value projected in order
+   */
+  void project(ExprValue inputValue, BiConsumer<String, ExprValue> output) {
+    BindingTuple valueEnv = inputValue.bindingTuples();
+    // Same memo for all expressions, such that common subexpression is evaluated once
+    MemoizedEnvironment memoizedEnv = new MemoizedEnvironment(valueEnv);
 
     // ParseExpression will always override NamedExpression when identifier conflicts
     // TODO needs a better implementation, see https://github.com/opensearch-project/sql/issues/458
     for (NamedExpression expr : projectList) {
-      ExprValue exprValue = expr.valueOf(inputValue.bindingTuples());
+      ExprValue exprValue = expr.valueOf(memoizedEnv);
       Optional<NamedExpression> optionalParseExpression =
           namedParseExpressions.stream()
               .filter(parseExpr -> parseExpr.getNameOrAlias().equals(expr.getNameOrAlias()))
               .findFirst();
       if (optionalParseExpression.isEmpty()) {
-        mapBuilder.put(expr.getNameOrAlias(), exprValue);
+        output.accept(expr.getNameOrAlias(), exprValue);
         continue;
       }
 
       NamedExpression parseExpression = optionalParseExpression.get();
       ExprValue sourceFieldValue =
-          inputValue
-              .bindingTuples()
-              .resolve(((ParseExpression) parseExpression.getDelegated()).getSourceField());
+          valueEnv.resolve(((ParseExpression) parseExpression.getDelegated()).getSourceField());
       if (sourceFieldValue.isMissing()) {
         // source field will be missing after stats command, read from inputValue if it exists
         // otherwise do nothing since it should not appear as a field
         ExprValue tupleValue =
             ExprValueUtils.getTupleValue(inputValue).get(parseExpression.getNameOrAlias());
         if (tupleValue != null) {
-          mapBuilder.put(parseExpression.getNameOrAlias(), tupleValue);
+          output.accept(parseExpression.getNameOrAlias(), tupleValue);
         }
       } else {
-        ExprValue parsedValue = parseExpression.valueOf(inputValue.bindingTuples());
-        mapBuilder.put(parseExpression.getNameOrAlias(), parsedValue);
+        ExprValue parsedValue = parseExpression.valueOf(valueEnv);
+        output.accept(parseExpression.getNameOrAlias(), parsedValue);
       }
     }
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
   }
 
   @Override
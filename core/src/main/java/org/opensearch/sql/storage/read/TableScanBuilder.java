@@ -82,6 +82,19 @@ public abstract class TableScanBuilder extends LogicalPlan {
     return false;
   }
 
+  /**
+   * Can a given limit operator over sort operator, i.e. top-N query, be pushed down to table scan
+   * builder. This is tried only if the sort operator cannot be pushed down alone. Assume no such
+   * support by default unless subclass override this.
+   *
+   * @param sort logical sort operator
+   * @param limit logical limit operator
+   * @return true if both pushed down, otherwise false
+   */
+  public boolean pushDownTopN(LogicalSort sort, LogicalLimit limit) {
+    return false;
+  }
+
   /**
    * Can a given project operator be pushed down to table scan builder. Assume no such support by
    * default unless subclass override this.
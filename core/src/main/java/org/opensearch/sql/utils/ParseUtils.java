@@ -14,6 +14,7 @@ import org.opensearch.sql.ast.expression.ParseMethod;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.parse.GrokExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
+import org.opensearch.sql.expression.parse.ParseResultMemo;
 import org.opensearch.sql.expression.parse.PatternsExpression;
 import org.opensearch.sql.expression.parse.RegexExpression;
 
@@ -25,7 +26,9 @@ public class ParseUtils {
       ImmutableMap.of(
           ParseMethod.REGEX, RegexExpression::new,
           ParseMethod.GROK, GrokExpression::new,
-          ParseMethod.PATTERNS, PatternsExpression::new);
+          ParseMethod.PATTERNS,
+              (sourceField, pattern, identifier, memo) ->
+                  new PatternsExpression(sourceField, pattern, identifier));
 
   /**
    * Construct corresponding ParseExpression by {@link ParseMethod}.
@@ -38,7 +41,28 @@ public class ParseUtils {
    */
   public static ParseExpression createParseExpression(
       ParseMethod parseMethod, Expression sourceField, Expression pattern, Expression identifier) {
-    return FACTORY_MAP.get(parseMethod).initialize(sourceField, pattern, identifier);
+    return createParseExpression(
+        parseMethod, sourceField, pattern, identifier, new ParseResultMemo());
+  }
+
+  /**
+   * Construct corresponding ParseExpression by {@link ParseMethod}, which shares the parse result
+   * with the other derived fields of the same parse command.
+   *
+   * @param parseMethod method used to parse
+   * @param sourceField source text field
+   * @param pattern pattern used for parsing
+   * @param identifier derived field
+   * @param memo memo of parse result shared by the derived fields
+   * @return {@link ParseExpression}
+   */
+  public static ParseExpression createParseExpression(
+      ParseMethod parseMethod,
+      Expression sourceField,
+      Expression pattern,
+      Expression identifier,
+      ParseResultMemo memo) {
+    return FACTORY_MAP.get(parseMethod).initialize(sourceField, pattern, identifier, memo);
   }
 
   /**
@@ -64,6 +88,6 @@ public class ParseUtils {
 
   private interface ParseExpressionFactory {
     ParseExpression initialize(
-        Expression sourceField, Expression expression, Expression identifier);
+        Expression sourceField, Expression expression, Expression identifier, ParseResultMemo memo);
   }
 }
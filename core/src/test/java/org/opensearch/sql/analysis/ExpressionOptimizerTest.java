@@ -0,0 +1,257 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.util.List;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.CommonSubexpression;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanDSL;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.storage.Table;
+
+@ExtendWith(MockitoExtension.class)
+class ExpressionOptimizerTest {
+
+  private final AnalysisContext context = new AnalysisContext();
+
+  private final ExpressionOptimizer optimizer =
+      new ExpressionOptimizer(BuiltinFunctionRepository.getInstance());
+
+  @Mock private Table table;
+
+  @Test
+  void literal_only_function_should_be_folded() {
+    LogicalPlan plan =
+        LogicalPlanDSL.filter(
+            relation(),
+            DSL.greater(
+                DSL.ref("age", INTEGER), DSL.add(DSL.abs(DSL.literal(-5)), DSL.literal(1))));
+
+    assertEquals(
+        LogicalPlanDSL.filter(relation(), DSL.greater(DSL.ref("age", INTEGER), DSL.literal(6))),
+        optimizer.optimize(plan, context));
+  }
+
+  @Test
+  void function_of_query_start_time_should_be_folded() {
+    FunctionExpression now = DSL.now(context.getFunctionProperties());
+    ExprValue expected = now.valueOf();
+
+    LogicalProject plan =
+        (LogicalProject)
+            optimizer.optimize(
+                LogicalPlanDSL.project(relation(), DSL.named("now()", now)), context);
+
+    assertEquals(DSL.named("now()", DSL.literal(expected)), plan.getProjectList().get(0));
+  }
+
+  @Test
+  void non_deterministic_function_should_not_be_folded() {
+    Expression rand = DSL.rand(DSL.literal(1));
+    LogicalPlan plan = LogicalPlanDSL.project(relation(), DSL.named("rand(1)", rand));
+
+    assertEquals(plan, optimizer.optimize(plan, context));
+  }
+
+  @Test
+  void function_returning_null_should_not_be_folded() {
+    Expression divide = DSL.divide(DSL.literal(1), DSL.literal(0));
+    LogicalPlan plan =
+        LogicalPlanDSL.filter(relation(), DSL.equal(DSL.ref("age", INTEGER), divide));
+
+    LogicalFilter optimized = (LogicalFilter) optimizer.optimize(plan, context);
+    assertTrue(
+        ((FunctionExpression) optimized.getCondition()).getArguments().get(1)
+            instanceof FunctionExpression);
+  }
+
+  @Test
+  void logic_with_boolean_literal_should_be_simplified() {
+    Expression predicate = DSL.equal(DSL.ref("age", INTEGER), DSL.literal(30));
+    Expression alwaysTrue = DSL.equal(DSL.literal(1), DSL.literal(1));
+
+    assertEquals(
+        LogicalPlanDSL.filter(relation(), predicate),
+        optimizer.optimize(
+            LogicalPlanDSL.filter(relation(), DSL.and(alwaysTrue, predicate)), context));
+    assertEquals(
+        LogicalPlanDSL.filter(relation(), DSL.literal(true)),
+        optimizer.optimize(
+            LogicalPlanDSL.filter(relation(), DSL.or(predicate, alwaysTrue)), context));
+  }
+
+  @Test
+  void literal_in_case_clause_should_be_folded() {
+    Expression caseClause =
+        DSL.cases(
+            DSL.literal("b"),
+            DSL.when(
+                DSL.equal(DSL.ref("age", INTEGER), DSL.abs(DSL.literal(-30))), DSL.literal("a")));
+
+    LogicalProject plan =
+        (LogicalProject)
+            optimizer.optimize(
+                LogicalPlanDSL.project(relation(), DSL.named("case", caseClause)), context);
+
+    assertEquals(
+        DSL.named(
+            "case",
+            DSL.cases(
+                DSL.literal("b"),
+                DSL.when(DSL.equal(DSL.ref("age", INTEGER), DSL.literal(30)), DSL.literal("a")))),
+        plan.getProjectList().get(0));
+  }
+
+  @Test
+  void common_subexpression_in_project_should_be_shared() {
+    LogicalPlan plan =
+        LogicalPlanDSL.project(
+            relation(),
+            DSL.named("a", DSL.add(DSL.abs(DSL.ref("age", INTEGER)), DSL.literal(1))),
+            DSL.named("b", DSL.multiply(DSL.abs(DSL.ref("age", INTEGER)), DSL.literal(2))),
+            DSL.named("c", DSL.ref("name", STRING)));
+
+    LogicalProject optimized = (LogicalProject) optimizer.optimize(plan, context);
+
+    // Optimized plan is still equal to the original one
+    assertEquals(plan, optimized);
+    Expression first = argumentOf(optimized.getProjectList().get(0).getDelegated());
+    Expression second = argumentOf(optimized.getProjectList().get(1).getDelegated());
+    assertTrue(first instanceof CommonSubexpression);
+    assertSame(first, second);
+  }
+
+  @Test
+  void common_subexpression_in_filter_should_be_shared() {
+    Expression predicate = DSL.equal(DSL.abs(DSL.ref("age", INTEGER)), DSL.literal(30));
+    LogicalPlan plan =
+        LogicalPlanDSL.filter(
+            relation(),
+            DSL.or(
+                DSL.and(predicate, DSL.ref("male", BOOLEAN)),
+                DSL.and(predicate, DSL.ref("married", BOOLEAN))));
+
+    LogicalFilter optimized = (LogicalFilter) optimizer.optimize(plan, context);
+
+    assertEquals(plan, optimized);
+    FunctionExpression condition = (FunctionExpression) optimized.getCondition();
+    Expression first = argumentOf(condition.getArguments().get(0));
+    Expression second = argumentOf(condition.getArguments().get(1));
+    assertTrue(first instanceof CommonSubexpression);
+    assertSame(first, second);
+    // The function in the expression shared is not counted and shared again
+    assertFalse(
+        ((CommonSubexpression) first).getDelegated().getArguments().get(0)
+            instanceof CommonSubexpression);
+  }
+
+  @Test
+  void expression_in_eval_should_be_optimized() {
+    LogicalPlan plan =
+        LogicalPlanDSL.eval(
+            relation(),
+            ImmutablePair.of(
+                DSL.ref("a", INTEGER), DSL.add(DSL.ref("age", INTEGER), DSL.abs(DSL.literal(-1)))),
+            ImmutablePair.of(
+                DSL.ref("b", INTEGER), DSL.add(DSL.ref("age", INTEGER), DSL.literal(1))));
+
+    LogicalEval optimized = (LogicalEval) optimizer.optimize(plan, context);
+
+    assertEquals(
+        LogicalPlanDSL.eval(
+            relation(),
+            ImmutablePair.of(
+                DSL.ref("a", INTEGER), DSL.add(DSL.ref("age", INTEGER), DSL.literal(1))),
+            ImmutablePair.of(
+                DSL.ref("b", INTEGER), DSL.add(DSL.ref("age", INTEGER), DSL.literal(1)))),
+        optimized);
+    assertSame(
+        optimized.getExpressions().get(0).getValue(), optimized.getExpressions().get(1).getValue());
+  }
+
+  @Test
+  void expression_in_sort_should_be_folded_but_not_shared() {
+    Expression abs = DSL.abs(DSL.ref("age", INTEGER));
+    LogicalPlan plan =
+        LogicalPlanDSL.sort(
+            relation(),
+            ImmutablePair.of(DEFAULT_ASC, DSL.add(abs, DSL.abs(DSL.literal(-1)))),
+            ImmutablePair.of(DEFAULT_ASC, abs));
+
+    LogicalSort optimized = (LogicalSort) optimizer.optimize(plan, context);
+
+    assertEquals(
+        List.of(
+            ImmutablePair.of(DEFAULT_ASC, DSL.add(abs, DSL.literal(1))),
+            ImmutablePair.of(DEFAULT_ASC, abs)),
+        optimized.getSortList());
+    assertSame(abs, optimized.getSortList().get(1).getValue());
+    assertSame(abs, argumentOf(optimized.getSortList().get(0).getValue()));
+  }
+
+  @Test
+  void expression_of_child_plan_should_be_optimized() {
+    LogicalPlan plan =
+        LogicalPlanDSL.limit(
+            LogicalPlanDSL.filter(
+                relation(), DSL.equal(DSL.ref("age", INTEGER), DSL.abs(DSL.literal(-30)))),
+            10,
+            0);
+
+    assertEquals(
+        LogicalPlanDSL.limit(
+            LogicalPlanDSL.filter(relation(), DSL.equal(DSL.ref("age", INTEGER), DSL.literal(30))),
+            10,
+            0),
+        optimizer.optimize(plan, context));
+  }
+
+  @Test
+  void literal_should_not_be_shared() {
+    LogicalProject optimized =
+        (LogicalProject)
+            optimizer.optimize(
+                LogicalPlanDSL.project(
+                    relation(),
+                    DSL.named("a", DSL.abs(DSL.literal(-1))),
+                    DSL.named("b", DSL.abs(DSL.literal(-1)))),
+                context);
+
+    assertTrue(optimized.getProjectList().get(0).getDelegated() instanceof LiteralExpression);
+    assertTrue(optimized.getProjectList().get(1).getDelegated() instanceof LiteralExpression);
+  }
+
+  private LogicalPlan relation() {
+    return LogicalPlanDSL.relation("test", table);
+  }
+
+  private Expression argumentOf(Expression function) {
+    return ((FunctionExpression) function).getArguments().get(0);
+  }
+}
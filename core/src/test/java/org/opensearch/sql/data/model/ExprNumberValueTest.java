@@ -6,6 +6,8 @@
 package org.opensearch.sql.data.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Assertions;
@@ -26,4 +28,15 @@ public class ExprNumberValueTest {
   public void key_value() {
     assertTrue(new ExprIntegerValue(1).keyValue("path").isMissing());
   }
+
+  @Test
+  public void small_integer_and_long_should_be_cached() {
+    assertSame(ExprIntegerValue.of(-128), ExprIntegerValue.of(-128));
+    assertSame(ExprIntegerValue.of(127), ExprValueUtils.integerValue(127));
+    assertNotSame(ExprIntegerValue.of(128), ExprIntegerValue.of(128));
+    assertEquals(new ExprIntegerValue(128), ExprIntegerValue.of(128));
+    assertSame(ExprLongValue.of(0L), ExprValueUtils.longValue(0L));
+    assertNotSame(ExprLongValue.of(-129L), ExprLongValue.of(-129L));
+    assertEquals(new ExprLongValue(Long.MAX_VALUE), ExprLongValue.of(Long.MAX_VALUE));
+  }
 }
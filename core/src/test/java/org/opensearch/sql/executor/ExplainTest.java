@@ -51,6 +51,7 @@ import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PipelineOperator;
 import org.opensearch.sql.storage.TableScanOperator;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -85,6 +86,18 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_pipeline_as_operators_fused() {
+    Expression filterExpr = DSL.greater(ref("age", INTEGER), literal(30));
+    NamedExpression[] projectList = {named("age", ref("age", INTEGER))};
+    PhysicalPlan filter = filter(tableScan, filterExpr);
+    PhysicalPlan project = project(filter, projectList);
+
+    PhysicalPlan plan = new PipelineOperator(tableScan, List.of(filter, project));
+
+    assertEquals(explain.apply(project), explain.apply(plan));
+  }
+
   @Test
   void can_explain_aggregations() {
     List<Expression> aggExprs = List.of(ref("balance", DOUBLE));
@@ -8,6 +8,7 @@
 
 package org.opensearch.sql.executor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -15,8 +16,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,10 +28,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.OptimizationStats;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.split.Split;
 
@@ -55,6 +60,8 @@ class QueryServiceTest {
 
   @Mock private Split split;
 
+  @Mock private Settings settings;
+
   @Test
   public void executeWithoutContext() {
     queryService().executeSuccess().handledByOnResponse();
@@ -70,6 +77,29 @@ class QueryServiceTest {
     queryService().explainSuccess().handledByExplainOnResponse();
   }
 
+  @Test
+  public void testExplainShouldShowOptimizerRulesIfEnabled() {
+    queryService().explainSuccess();
+    when(settings.getSettingValue(Settings.Key.EXPLAIN_OPTIMIZER_RULES_ENABLED)).thenReturn(true);
+    when(planner.plan(any(), any(OptimizationStats.class))).thenReturn(plan);
+    queryService = new QueryService(analyzer, executionEngine, planner, settings);
+
+    queryService.explain(
+        ast,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExecutionEngine.ExplainResponse response) {
+            assertEquals("test", response.getRoot().getName());
+            assertEquals(Map.of(), response.getRoot().getDescription().get("optimizer_rules"));
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail();
+          }
+        });
+  }
+
   @Test
   public void testExecuteWithExceptionShouldBeCaughtByHandler() {
     queryService().executeFail().handledByOnFailure();
@@ -95,6 +125,7 @@ class QueryServiceTest {
 
     public Helper() {
       lenient().when(analyzer.analyze(any(), any())).thenReturn(logicalPlan);
+      lenient().when(analyzer.optimize(any(), any())).thenReturn(logicalPlan);
       lenient().when(planner.plan(any())).thenReturn(plan);
 
       queryService = new QueryService(analyzer, executionEngine, planner);
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.env.MemoizedEnvironment;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CommonSubexpressionTest extends ExpressionTestBase {
+
+  @Test
+  void looks_like_the_function_shared() {
+    FunctionExpression function = DSL.abs(DSL.ref("integer_value", INTEGER));
+    CommonSubexpression shared = new CommonSubexpression(function);
+
+    assertEquals(function, shared);
+    assertEquals(function.getFunctionName(), shared.getFunctionName());
+    assertEquals(function.getArguments(), shared.getArguments());
+    assertEquals(function.type(), shared.type());
+    assertEquals(function.toString(), shared.toString());
+  }
+
+  @Test
+  void evaluate_once_in_same_memoized_environment() {
+    FunctionExpression function = spy(DSL.abs(DSL.ref("integer_value", INTEGER)));
+    CommonSubexpression shared = new CommonSubexpression(function);
+
+    ExprValue row = tupleValue(ImmutableMap.of("integer_value", -1));
+    MemoizedEnvironment env = new MemoizedEnvironment(row.bindingTuples());
+    assertEquals(integerValue(1), shared.valueOf(env));
+    assertEquals(integerValue(1), shared.valueOf(env));
+    verify(function, times(1)).valueOf(any());
+
+    // Memoized environment is created for each row
+    ExprValue nextRow = tupleValue(ImmutableMap.of("integer_value", -2));
+    assertEquals(integerValue(2), shared.valueOf(new MemoizedEnvironment(nextRow.bindingTuples())));
+    verify(function, times(2)).valueOf(any());
+  }
+
+  @Test
+  void evaluate_nested_common_subexpression_once() {
+    FunctionExpression inner = spy(DSL.abs(DSL.ref("integer_value", INTEGER)));
+    CommonSubexpression sharedInner = new CommonSubexpression(inner);
+    CommonSubexpression sharedOuter = new CommonSubexpression(DSL.add(sharedInner, DSL.literal(1)));
+
+    MemoizedEnvironment env =
+        new MemoizedEnvironment(tupleValue(ImmutableMap.of("integer_value", -1)).bindingTuples());
+    assertEquals(integerValue(2), sharedOuter.valueOf(env));
+    assertEquals(integerValue(1), sharedInner.valueOf(env));
+    verify(inner, times(1)).valueOf(any());
+  }
+
+  @Test
+  void evaluate_each_time_in_other_environment() {
+    FunctionExpression function = spy(DSL.abs(DSL.ref("integer_value", INTEGER)));
+    CommonSubexpression shared = new CommonSubexpression(function);
+
+    BindingTuple env = tupleValue(ImmutableMap.of("integer_value", -1)).bindingTuples();
+    assertEquals(integerValue(1), shared.valueOf(env));
+    assertEquals(integerValue(1), shared.valueOf(env));
+    verify(function, times(2)).valueOf(any());
+  }
+}
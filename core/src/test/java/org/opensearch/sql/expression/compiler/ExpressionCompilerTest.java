@@ -0,0 +1,267 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.missingValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.nullValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.expression.CommonSubexpression;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.env.Environment;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionCompilerTest {
+
+  private final Map<String, ExprValue> row =
+      ImmutableMap.<String, ExprValue>builder()
+          .put("int", ExprValueUtils.integerValue(3))
+          .put("int_max", ExprValueUtils.integerValue(Integer.MAX_VALUE))
+          .put("short", ExprValueUtils.shortValue((short) 3))
+          .put("long", ExprValueUtils.longValue(-7L))
+          .put("float", ExprValueUtils.floatValue(2.5F))
+          .put("double", ExprValueUtils.doubleValue(2.5D))
+          .put("nan", ExprValueUtils.doubleValue(Double.NaN))
+          .put("string", ExprValueUtils.stringValue("b"))
+          .put("true", LITERAL_TRUE)
+          .put("false", LITERAL_FALSE)
+          .put("null", nullValue())
+          .put("missing", missingValue())
+          .build();
+
+  private final Environment<Expression, ExprValue> env =
+      expr -> row.get(((ReferenceExpression) expr).getAttr());
+
+  @Test
+  void logic_should_be_same_as_interpreter() {
+    List<Expression> operands =
+        List.of(
+            DSL.ref("true", BOOLEAN),
+            DSL.ref("false", BOOLEAN),
+            DSL.ref("null", BOOLEAN),
+            DSL.ref("missing", BOOLEAN));
+
+    for (Expression left : operands) {
+      assertSameAsInterpreter(DSL.not(left));
+      for (Expression right : operands) {
+        assertSameAsInterpreter(DSL.and(left, right));
+        assertSameAsInterpreter(DSL.or(left, right));
+        assertSameAsInterpreter(DSL.xor(left, right));
+        assertSameAsInterpreter(DSL.not(DSL.and(left, DSL.or(right, left))));
+      }
+    }
+  }
+
+  @Test
+  void comparison_should_be_same_as_interpreter() {
+    List<Expression> operands =
+        List.of(
+            DSL.ref("int", INTEGER),
+            DSL.ref("short", SHORT),
+            DSL.ref("long", LONG),
+            DSL.ref("float", FLOAT),
+            DSL.ref("double", DOUBLE),
+            DSL.ref("nan", DOUBLE),
+            DSL.ref("null", INTEGER),
+            DSL.ref("missing", INTEGER),
+            DSL.literal(3),
+            DSL.literal(2.5D));
+
+    for (Expression left : operands) {
+      for (Expression right : operands) {
+        assertSameAsInterpreter(DSL.equal(left, right));
+        assertSameAsInterpreter(DSL.notequal(left, right));
+        assertSameAsInterpreter(DSL.less(left, right));
+        assertSameAsInterpreter(DSL.lte(left, right));
+        assertSameAsInterpreter(DSL.greater(left, right));
+        assertSameAsInterpreter(DSL.gte(left, right));
+      }
+    }
+    assertSameAsInterpreter(DSL.less(DSL.ref("string", STRING), DSL.literal("c")));
+    assertSameAsInterpreter(DSL.equal(DSL.ref("string", STRING), DSL.literal("b")));
+  }
+
+  @Test
+  void arithmetic_should_be_same_as_interpreter() {
+    List<Expression> operands =
+        List.of(
+            DSL.ref("int", INTEGER),
+            DSL.ref("short", SHORT),
+            DSL.ref("long", LONG),
+            DSL.ref("float", FLOAT),
+            DSL.ref("double", DOUBLE),
+            DSL.ref("null", INTEGER),
+            DSL.ref("missing", INTEGER),
+            DSL.literal(0),
+            DSL.literal(2),
+            DSL.literal(0.0D));
+    List<BiFunction<Expression, Expression, FunctionExpression>> functions =
+        List.of(DSL::add, DSL::subtract, DSL::multiply, DSL::divide, DSL::modulus);
+
+    for (Expression left : operands) {
+      for (Expression right : operands) {
+        for (BiFunction<Expression, Expression, FunctionExpression> function : functions) {
+          assertSameAsInterpreter(function.apply(left, right));
+          assertSameAsInterpreter(DSL.greater(function.apply(left, right), DSL.literal(1)));
+        }
+      }
+    }
+  }
+
+  @Test
+  void arithmetic_overflow_should_fail_as_interpreter() {
+    Expression expr = DSL.add(DSL.ref("int_max", INTEGER), DSL.literal(1));
+
+    assertThrows(ArithmeticException.class, () -> expr.valueOf(env));
+    assertThrows(ArithmeticException.class, () -> ExpressionCompiler.compile(expr).valueOf(env));
+  }
+
+  @Test
+  void is_null_should_be_same_as_interpreter() {
+    for (String field : List.of("int", "null", "missing")) {
+      assertSameAsInterpreter(DSL.isnull(DSL.ref(field, INTEGER)));
+      assertSameAsInterpreter(DSL.is_null(DSL.ref(field, INTEGER)));
+      assertSameAsInterpreter(DSL.isnotnull(DSL.ref(field, INTEGER)));
+    }
+  }
+
+  @Test
+  void number_should_be_compared_as_primitive_of_left_type() {
+    CompiledExpression compiled =
+        ExpressionCompiler.compile(DSL.less(DSL.ref("int", INTEGER), DSL.literal(5L)));
+
+    ExpressionCompiler.CompareNode node = (ExpressionCompiler.CompareNode) compiled.getRoot();
+    assertEquals(INTEGER, node.type);
+    assertNull(
+        ((ExpressionCompiler.CompareNode)
+                ExpressionCompiler.compile(DSL.less(DSL.ref("string", STRING), DSL.literal("a")))
+                    .getRoot())
+            .type);
+  }
+
+  @Test
+  void supported_function_should_be_compiled() {
+    assertTrue(
+        ExpressionCompiler.compile(
+                    DSL.and(
+                        DSL.greater(DSL.ref("int", INTEGER), DSL.literal(1)),
+                        DSL.isnotnull(DSL.ref("string", STRING))))
+                .getRoot()
+            instanceof ExpressionCompiler.LogicNode);
+    assertTrue(
+        ExpressionCompiler.compile(DSL.multiply(DSL.ref("long", LONG), DSL.literal(2L))).getRoot()
+            instanceof ExpressionCompiler.ArithmeticNode);
+    // Arithmetic of FLOAT is left to interpreter
+    assertTrue(
+        ExpressionCompiler.compile(DSL.add(DSL.ref("float", FLOAT), DSL.literal(1F)))
+            .isInterpreted());
+  }
+
+  @Test
+  void unsupported_function_should_be_interpreted() {
+    Expression expr = DSL.abs(DSL.ref("int", INTEGER));
+    CompiledExpression compiled = ExpressionCompiler.compile(expr);
+
+    assertTrue(compiled.isInterpreted());
+    assertEquals(expr.valueOf(env), compiled.valueOf(env));
+    assertSameAsInterpreter(DSL.greater(expr, DSL.literal(2)));
+  }
+
+  @Test
+  void generic_comparison_should_fail_as_interpreter() {
+    Expression expr = DSL.less(DSL.ref("string", STRING), DSL.ref("int", STRING));
+
+    assertThrows(ExpressionEvaluationException.class, () -> expr.valueOf(env));
+    assertThrows(
+        ExpressionEvaluationException.class, () -> ExpressionCompiler.compile(expr).valueOf(env));
+  }
+
+  @Test
+  void right_operand_should_be_skipped_if_result_is_decided() {
+    Expression right = mock(Expression.class);
+    ExpressionCompiler.PredicateNode and =
+        new ExpressionCompiler.LogicNode(
+            predicateOf(DSL.ref("false", BOOLEAN)),
+            new ExpressionCompiler.ValuePredicateNode(
+                new ExpressionCompiler.InterpretedNode(right)),
+            andTable());
+
+    assertEquals(ExpressionCompiler.FALSE, and.test(env));
+    verifyNoInteractions(right);
+  }
+
+  @Test
+  void common_subexpression_should_be_interpreted() {
+    Expression shared = new CommonSubexpression(DSL.equal(DSL.ref("int", INTEGER), DSL.literal(3)));
+
+    assertTrue(ExpressionCompiler.compile(shared).isInterpreted());
+  }
+
+  @Test
+  void test_predicate() {
+    assertTrue(ExpressionCompiler.compile(DSL.ref("true", BOOLEAN)).test(env));
+    assertFalse(ExpressionCompiler.compile(DSL.ref("null", BOOLEAN)).test(env));
+    assertFalse(
+        ExpressionCompiler.compile(DSL.and(DSL.ref("true", BOOLEAN), DSL.ref("missing", BOOLEAN)))
+            .test(env));
+    assertTrue(
+        ExpressionCompiler.compile(DSL.or(DSL.ref("false", BOOLEAN), DSL.ref("true", BOOLEAN)))
+            .test(env));
+  }
+
+  @Test
+  void compiled_expression_should_look_like_original_one() {
+    Expression expr = DSL.equal(DSL.ref("int", INTEGER), DSL.literal(3));
+    CompiledExpression compiled = ExpressionCompiler.compile(expr);
+
+    assertEquals(expr, compiled.getExpression());
+    assertEquals(expr.type(), compiled.type());
+    assertEquals(expr.toString(), compiled.toString());
+    assertEquals(compiled, ExpressionCompiler.compile(compiled));
+  }
+
+  private void assertSameAsInterpreter(Expression expr) {
+    assertEquals(expr.valueOf(env), ExpressionCompiler.compile(expr).valueOf(env), expr.toString());
+  }
+
+  private ExpressionCompiler.PredicateNode predicateOf(Expression expr) {
+    return new ExpressionCompiler.ValuePredicateNode(ExpressionCompiler.compileNode(expr));
+  }
+
+  private int[][] andTable() {
+    return ((ExpressionCompiler.LogicNode)
+            ExpressionCompiler.compile(DSL.and(DSL.literal(true), DSL.literal(true))).getRoot())
+        .table;
+  }
+}
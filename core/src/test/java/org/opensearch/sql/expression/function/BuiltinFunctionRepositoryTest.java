@@ -6,7 +6,10 @@
 package org.opensearch.sql.expression.function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
@@ -181,6 +184,45 @@ class BuiltinFunctionRepositoryTest {
     assertEquals(error.getMessage(), "Type conversion to type STRUCT is not supported");
   }
 
+  @Test
+  void resolve_should_be_cached_for_same_signature() {
+    FunctionSignature signature = registerFunctionResolver(mockFunctionName, STRING, STRING);
+    FunctionResolver funcResolver = mockMap.get(mockFunctionName);
+
+    FunctionBuilder builder = repo.resolve(Collections.emptyList(), signature);
+    assertSame(
+        builder,
+        repo.resolve(
+            Collections.emptyList(),
+            new FunctionSignature(mockFunctionName, ImmutableList.of(STRING))));
+    verify(funcResolver, times(1)).resolve(signature);
+  }
+
+  @Test
+  void register_should_invalidate_cached_resolution() {
+    FunctionSignature signature = registerFunctionResolver(mockFunctionName, STRING, STRING);
+    FunctionResolver funcResolver = mockMap.get(mockFunctionName);
+    repo.resolve(Collections.emptyList(), signature);
+
+    repo.register(funcResolver);
+    repo.resolve(Collections.emptyList(), signature);
+    verify(funcResolver, times(2)).resolve(signature);
+  }
+
+  @Test
+  void resolve_datasource_defined_function_should_not_be_cached() {
+    DefaultFunctionResolver dataSourceFunctionResolver = mock(DefaultFunctionResolver.class);
+    when(dataSourceFunctionResolver.getFunctionName()).thenReturn(mockFunctionName);
+    when(dataSourceFunctionResolver.resolve(any()))
+        .thenReturn(Pair.of(functionSignature, functionExpressionBuilder));
+    when(functionSignature.getFunctionName()).thenReturn(mockFunctionName);
+    BuiltinFunctionRepository repo = new BuiltinFunctionRepository(Map.of());
+
+    repo.resolve(Collections.singletonList(dataSourceFunctionResolver), functionSignature);
+    repo.resolve(Collections.singletonList(dataSourceFunctionResolver), functionSignature);
+    verify(dataSourceFunctionResolver, times(2)).resolve(functionSignature);
+  }
+
   @Test
   @DisplayName("resolve unregistered function should throw exception")
   void resolve_unregistered() {
@@ -198,6 +240,14 @@ class BuiltinFunctionRepositoryTest {
     assertEquals("unsupported function name: unknown", exception.getMessage());
   }
 
+  @Test
+  void rand_and_sysdate_should_not_be_deterministic() {
+    assertFalse(BuiltinFunctionRepository.isDeterministic(BuiltinFunctionName.RAND.getName()));
+    assertFalse(BuiltinFunctionRepository.isDeterministic(BuiltinFunctionName.SYSDATE.getName()));
+    assertTrue(BuiltinFunctionRepository.isDeterministic(BuiltinFunctionName.NOW.getName()));
+    assertTrue(BuiltinFunctionRepository.isDeterministic(BuiltinFunctionName.ADD.getName()));
+  }
+
   private FunctionSignature registerFunctionResolver(
       FunctionName funcName, ExprType sourceType, ExprType targetType) {
     FunctionSignature unresolvedSignature =
@@ -6,6 +6,8 @@
 package org.opensearch.sql.expression.operator.arthmetic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.expression.DSL.literal;
@@ -16,6 +18,7 @@ import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -437,4 +440,19 @@ class ArithmeticFunctionTest extends ExpressionTestBase {
         throw new IllegalStateException("illegal function name " + builtinFunctionName);
     }
   }
+
+  @Test
+  public void arithmetic_of_integer_long_and_double_should_be_specialized() {
+    assertTrue(DSL.add(literal(1), literal(2)) instanceof ArithmeticFunctionExpression);
+    assertTrue(DSL.divide(literal(1L), literal(2)) instanceof ArithmeticFunctionExpression);
+    assertTrue(DSL.multiply(literal(1D), literal(2F)) instanceof ArithmeticFunctionExpression);
+    assertFalse(DSL.add(literal(1F), literal(2F)) instanceof ArithmeticFunctionExpression);
+  }
+
+  @Test
+  public void arithmetic_of_small_integer_should_be_cached() {
+    assertSame(ExprIntegerValue.of(3), DSL.add(literal(1), literal(2)).valueOf());
+    assertSame(ExprLongValue.of(-1L), DSL.subtract(literal(1L), literal(2L)).valueOf());
+    assertEquals(new ExprIntegerValue(1000), DSL.multiply(literal(10), literal(100)).valueOf());
+  }
 }
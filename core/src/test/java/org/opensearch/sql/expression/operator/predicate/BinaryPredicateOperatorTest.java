@@ -615,4 +615,54 @@ class BinaryPredicateOperatorTest extends ExpressionTestBase {
     FunctionExpression equal = DSL.equal(DSL.literal(1), DSL.literal(1L));
     assertTrue(equal.valueOf(valueEnv()).booleanValue());
   }
+
+  @Test
+  public void comparison_of_same_type_should_be_specialized() {
+    assertTrue(DSL.less(DSL.literal(1), DSL.literal(2)) instanceof ComparisonFunctionExpression);
+    assertTrue(
+        DSL.equal(DSL.literal("a"), DSL.literal("a")) instanceof ComparisonFunctionExpression);
+    assertFalse(DSL.less(DSL.literal(1), DSL.literal(2L)) instanceof ComparisonFunctionExpression);
+    assertFalse(
+        DSL.equal(DSL.literal(true), DSL.literal(true)) instanceof ComparisonFunctionExpression);
+  }
+
+  @Test
+  public void specialized_comparison_should_be_same_as_generic_one() {
+    List<List<ExprValue>> values =
+        ImmutableList.of(
+            ImmutableList.of(
+                ExprValueUtils.integerValue(Integer.MIN_VALUE),
+                ExprValueUtils.integerValue(0),
+                ExprValueUtils.integerValue(Integer.MAX_VALUE)),
+            ImmutableList.of(
+                ExprValueUtils.longValue(Long.MIN_VALUE),
+                ExprValueUtils.longValue(0L),
+                ExprValueUtils.longValue(Long.MAX_VALUE)),
+            ImmutableList.of(
+                ExprValueUtils.doubleValue(-0.0),
+                ExprValueUtils.doubleValue(0.0),
+                ExprValueUtils.doubleValue(Double.NaN)),
+            ImmutableList.of(
+                fromObjectValue("2020-01-01 00:00:00", TIMESTAMP),
+                fromObjectValue("2020-01-01 00:00:01", TIMESTAMP)),
+            ImmutableList.of(
+                ExprValueUtils.stringValue(""),
+                ExprValueUtils.stringValue("a"),
+                ExprValueUtils.stringValue("b")));
+    for (List<ExprValue> sameType : values) {
+      for (List<ExprValue> pair : Lists.cartesianProduct(sameType, sameType)) {
+        ExprValue v1 = pair.get(0);
+        ExprValue v2 = pair.get(1);
+        Expression e1 = DSL.literal(v1);
+        Expression e2 = DSL.literal(v2);
+        assertEquals(ExprValueUtils.booleanValue(v1.equals(v2)), DSL.equal(e1, e2).valueOf());
+        assertEquals(ExprValueUtils.booleanValue(!v1.equals(v2)), DSL.notequal(e1, e2).valueOf());
+        assertEquals(ExprValueUtils.booleanValue(v1.compareTo(v2) < 0), DSL.less(e1, e2).valueOf());
+        assertEquals(ExprValueUtils.booleanValue(v1.compareTo(v2) <= 0), DSL.lte(e1, e2).valueOf());
+        assertEquals(
+            ExprValueUtils.booleanValue(v1.compareTo(v2) > 0), DSL.greater(e1, e2).valueOf());
+        assertEquals(ExprValueUtils.booleanValue(v1.compareTo(v2) >= 0), DSL.gte(e1, e2).valueOf());
+      }
+    }
+  }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.parse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ParseResultMemoTest {
+
+  private final AtomicInteger parseCount = new AtomicInteger();
+
+  private final Function<String, String> parser =
+      source -> {
+        parseCount.incrementAndGet();
+        return source.isEmpty() ? null : source.toUpperCase();
+      };
+
+  @Test
+  public void parse_same_source_only_once() {
+    ParseResultMemo memo = new ParseResultMemo();
+
+    assertEquals("ABC", memo.get("abc", parser));
+    assertEquals("ABC", memo.get(new String("abc"), parser));
+    assertEquals(1, parseCount.get());
+  }
+
+  @Test
+  public void parse_again_if_source_changed() {
+    ParseResultMemo memo = new ParseResultMemo();
+
+    assertEquals("ABC", memo.get("abc", parser));
+    assertEquals("DEF", memo.get("def", parser));
+    assertEquals("ABC", memo.get("abc", parser));
+    assertEquals(3, parseCount.get());
+  }
+
+  @Test
+  public void memoize_null_result() {
+    ParseResultMemo memo = new ParseResultMemo();
+
+    assertNull(memo.get("", parser));
+    assertNull(memo.get("", parser));
+    assertEquals(1, parseCount.get());
+  }
+}
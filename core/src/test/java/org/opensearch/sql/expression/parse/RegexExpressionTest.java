@@ -78,6 +78,28 @@ class RegexExpressionTest extends ExpressionTestBase {
                     .valueOf(env)));
   }
 
+  @Test
+  public void resolve_groups_sharing_parse_result_across_rows() {
+    when(DSL.ref("log_value", STRING).valueOf(env))
+        .thenReturn(
+            stringValue("GET 200"),
+            stringValue("GET 200"),
+            stringValue("POST"),
+            stringValue("PUT 404"));
+
+    ParseResultMemo memo = new ParseResultMemo();
+    Expression pattern = DSL.literal("(?<verb>[A-Z]+) (?<status>\\d+)");
+    RegexExpression verb =
+        new RegexExpression(DSL.ref("log_value", STRING), pattern, DSL.literal("verb"), memo);
+    RegexExpression status =
+        new RegexExpression(DSL.ref("log_value", STRING), pattern, DSL.literal("status"), memo);
+
+    assertEquals(stringValue("GET"), verb.valueOf(env));
+    assertEquals(stringValue("200"), status.valueOf(env));
+    assertEquals(stringValue(""), verb.valueOf(env));
+    assertEquals(stringValue("404"), status.valueOf(env));
+  }
+
   @Test
   public void resolve_not_parsable_inputs_as_empty_string() {
     assertEquals(
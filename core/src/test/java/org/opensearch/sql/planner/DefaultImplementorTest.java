@@ -67,6 +67,7 @@ import org.opensearch.sql.planner.logical.LogicalValues;
 import org.opensearch.sql.planner.physical.CursorCloseOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.planner.physical.PipelineOperator;
 import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.storage.StorageEngine;
@@ -278,4 +279,23 @@ class DefaultImplementorTest {
         new ProjectOperator(new ValuesOperator(List.of(List.of())), List.of(), List.of());
     assertEquals(physicalPlanTree, logicalPlanTree.accept(implementor, null));
   }
+
+  @Test
+  public void visit_consecutive_operators_should_fuse_them_into_pipeline() {
+    Expression filterExpr = DSL.equal(ref("name", STRING), literal("John"));
+    Pair<ReferenceExpression, Expression> newEvalField =
+        ImmutablePair.of(ref("name1", STRING), ref("name", STRING));
+    NamedExpression include = named("name1", ref("name1", STRING));
+    LogicalPlan plan =
+        project(eval(filter(values(emptyList()), filterExpr), newEvalField), include);
+
+    PhysicalPlan actual = plan.accept(implementor, null);
+
+    PhysicalPlan input = PhysicalPlanDSL.values(emptyList());
+    PhysicalPlan filter = PhysicalPlanDSL.filter(input, filterExpr);
+    PhysicalPlan eval = PhysicalPlanDSL.eval(filter, newEvalField);
+    assertEquals(
+        new PipelineOperator(input, List.of(filter, eval, PhysicalPlanDSL.project(eval, include))),
+        actual);
+  }
 }
@@ -59,7 +59,7 @@ public class PlannerTest extends PhysicalPlanTestBase {
 
   @Test
   public void planner_test() {
-    doAnswer(returnsFirstArg()).when(optimizer).optimize(any());
+    doAnswer(returnsFirstArg()).when(optimizer).optimize(any(), any());
     assertPhysicalPlan(
         PhysicalPlanDSL.rename(
             PhysicalPlanDSL.agg(
@@ -6,9 +6,12 @@
 package org.opensearch.sql.planner.optimizer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
@@ -17,6 +20,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.highlight;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
@@ -24,10 +29,13 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.nested;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.paginate;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rename;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.values;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.write;
 
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
 import com.google.common.collect.ImmutableList;
 import java.util.Collections;
 import java.util.List;
@@ -43,13 +51,17 @@ import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.ast.tree.Sort;
+import org.opensearch.sql.data.model.ExprFloatValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+import org.opensearch.sql.planner.logical.LogicalProject;
 import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.Table;
@@ -124,6 +136,115 @@ class LogicalPlanOptimizerTest {
                 DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))))));
   }
 
+  /** Filter - Eval --> Filter - Eval - Filter. */
+  @Test
+  void push_filter_under_eval_if_not_depending_on_evaluated_fields() {
+    Pair<ReferenceExpression, Expression> evalExpr =
+        Pair.of(
+            DSL.ref("x", INTEGER), DSL.add(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))));
+    Expression intVCondition = DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)));
+    Expression xCondition = DSL.greater(DSL.ref("x", INTEGER), DSL.literal(integerValue(2)));
+
+    assertEquals(
+        filter(eval(filter(tableScanBuilder, intVCondition), evalExpr), xCondition),
+        optimize(
+            filter(eval(relation("schema", table), evalExpr), DSL.and(intVCondition, xCondition))));
+    assertEquals(
+        filter(eval(tableScanBuilder, evalExpr), xCondition),
+        optimize(filter(eval(relation("schema", table), evalExpr), xCondition)));
+  }
+
+  /** Filter - Rename --> Filter - Rename - Filter. */
+  @Test
+  void push_filter_under_rename_if_not_depending_on_renamed_fields() {
+    Map<ReferenceExpression, ReferenceExpression> renameMap =
+        Map.of(DSL.ref("intV", INTEGER), DSL.ref("i", INTEGER));
+    Expression longVCondition = DSL.equal(DSL.ref("longV", LONG), DSL.literal(longValue(1L)));
+    Expression iCondition = DSL.greater(DSL.ref("i", INTEGER), DSL.literal(integerValue(2)));
+
+    assertEquals(
+        filter(rename(filter(tableScanBuilder, longVCondition), renameMap), iCondition),
+        optimize(
+            filter(
+                rename(relation("schema", table), renameMap),
+                DSL.and(longVCondition, iCondition))));
+  }
+
+  /** Filter - Project --> Filter - Project - Filter. */
+  @Test
+  void push_filter_under_project_if_only_depending_on_fields_projected_as_is() {
+    NamedExpression[] projectList = {
+      DSL.named("intV", DSL.ref("intV", INTEGER)), DSL.named("l", DSL.ref("longV", LONG))
+    };
+    Expression intVCondition = DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)));
+    Expression lCondition = DSL.equal(DSL.ref("l", LONG), DSL.literal(longValue(1L)));
+
+    assertEquals(
+        filter(project(filter(tableScanBuilder, intVCondition), projectList), lCondition),
+        optimize(
+            filter(
+                project(relation("schema", table), projectList),
+                DSL.and(intVCondition, lCondition))));
+  }
+
+  /** Filter - Dedupe --> Dedupe - Filter. */
+  @Test
+  void push_filter_under_non_consecutive_dedupe_if_only_depending_on_dedupe_fields() {
+    Expression condition = DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)));
+
+    assertEquals(
+        dedupe(filter(tableScanBuilder, condition), DSL.ref("intV", INTEGER)),
+        optimize(filter(dedupe(relation("schema", table), DSL.ref("intV", INTEGER)), condition)));
+    assertEquals(
+        filter(dedupe(tableScanBuilder, 1, false, true, DSL.ref("intV", INTEGER)), condition),
+        optimize(
+            filter(
+                dedupe(relation("schema", table), 1, false, true, DSL.ref("intV", INTEGER)),
+                condition)));
+  }
+
+  @Test
+  void non_deterministic_filter_should_not_be_pushed_under_dedupe() {
+    Expression condition =
+        DSL.less(DSL.rand(DSL.ref("intV", INTEGER)), DSL.literal(new ExprFloatValue(0.5F)));
+
+    assertEquals(
+        filter(dedupe(tableScanBuilder, DSL.ref("intV", INTEGER)), condition),
+        optimize(filter(dedupe(relation("schema", table), DSL.ref("intV", INTEGER)), condition)));
+  }
+
+  /** Limit - Project - Eval --> Project - Eval - Limit. */
+  @Test
+  void push_limit_under_project_and_eval() {
+    Pair<ReferenceExpression, Expression> evalExpr =
+        Pair.of(
+            DSL.ref("x", INTEGER), DSL.add(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))));
+    NamedExpression projectItem = DSL.named("x", DSL.ref("x", INTEGER));
+
+    assertEquals(
+        project(eval(limit(tableScanBuilder, 10, 5), evalExpr), projectItem),
+        optimize(limit(project(eval(relation("schema", table), evalExpr), projectItem), 10, 5)));
+  }
+
+  @Test
+  void filter_and_limit_after_eval_should_be_pushed_down_to_table_scan() {
+    when(tableScanBuilder.pushDownFilter(any())).thenReturn(true);
+    when(tableScanBuilder.pushDownLimit(any())).thenReturn(true);
+    Pair<ReferenceExpression, Expression> evalExpr =
+        Pair.of(
+            DSL.ref("x", INTEGER), DSL.add(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))));
+
+    assertEquals(
+        eval(tableScanBuilder, evalExpr),
+        optimize(
+            limit(
+                filter(
+                    eval(relation("schema", table), evalExpr),
+                    DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))),
+                10,
+                0)));
+  }
+
   @Test
   void default_table_scan_builder_should_not_push_down_anything() {
     LogicalPlan[] plans = {
@@ -199,6 +320,37 @@ class LogicalPlanOptimizerTest {
     assertEquals(tableScanBuilder, optimize(limit(relation("schema", table), 1, 1)));
   }
 
+  @Test
+  void table_scan_builder_support_top_n_push_down_can_apply_its_rule() {
+    when(tableScanBuilder.pushDownTopN(any(), any())).thenReturn(true);
+
+    assertEquals(
+        tableScanBuilder,
+        optimize(
+            limit(
+                sort(
+                    relation("schema", table),
+                    Pair.of(Sort.SortOption.DEFAULT_DESC, DSL.ref("intV", INTEGER))),
+                10,
+                0)));
+  }
+
+  @Test
+  void top_n_should_not_be_pushed_down_if_sort_pushed_down_alone() {
+    when(tableScanBuilder.pushDownSort(any())).thenReturn(true);
+
+    assertEquals(
+        limit(tableScanBuilder, 10, 0),
+        optimize(
+            limit(
+                sort(
+                    relation("schema", table),
+                    Pair.of(Sort.SortOption.DEFAULT_DESC, DSL.ref("intV", INTEGER))),
+                10,
+                0)));
+    verify(tableScanBuilder, never()).pushDownTopN(any(), any());
+  }
+
   @Test
   void table_scan_builder_support_highlight_push_down_can_apply_its_rule() {
     when(tableScanBuilder.pushDownHighlight(any())).thenReturn(true);
@@ -331,6 +483,81 @@ class LogicalPlanOptimizerTest {
     assertEquals(project(tableScanBuilder), optimized);
   }
 
+  @Test
+  void optimization_stats_should_record_rules_fired() {
+    when(tableScanBuilder.pushDownFilter(any())).thenReturn(true);
+
+    OptimizationStats stats = new OptimizationStats();
+    LogicalPlanOptimizer.create()
+        .optimize(
+            project(
+                filter(
+                    relation("schema", table),
+                    DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))),
+                DSL.named("i", DSL.ref("intV", INTEGER))),
+            stats);
+
+    assertEquals(Map.of("CreateTableScanBuilder", 1, "PushDownFilter", 1), stats.getFiredRules());
+    assertEquals(
+        Map.of("CreateTableScanBuilder", 1, "PushDownFilter", 1, "PushDownProject", 1),
+        stats.getMatchedRules());
+    assertEquals(2, stats.getTotalFired());
+    assertFalse(stats.isIterationLimitReached());
+  }
+
+  @Test
+  void optimization_should_stop_at_maximum_iterations() {
+    LogicalPlan plan =
+        filter(
+            values(Collections.emptyList()),
+            DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))));
+    Rule<LogicalFilter> neverStableRule =
+        new Rule<>() {
+          @Override
+          public Pattern<LogicalFilter> pattern() {
+            return Pattern.typeOf(LogicalFilter.class);
+          }
+
+          @Override
+          public LogicalPlan apply(LogicalFilter filter, Captures captures) {
+            return new LogicalFilter(filter.getChild().get(0), filter.getCondition());
+          }
+        };
+
+    OptimizationStats stats = new OptimizationStats();
+    LogicalPlan optimized =
+        new LogicalPlanOptimizer(List.of(neverStableRule), 10).optimize(plan, stats);
+
+    assertEquals(plan, optimized);
+    assertTrue(stats.isIterationLimitReached());
+    assertEquals(10, stats.getTotalFired());
+  }
+
+  @Test
+  void node_at_fixed_point_should_not_be_optimized_again_if_subtree_unchanged() {
+    Rule<LogicalProject> noopRule =
+        new Rule<>() {
+          @Override
+          public Pattern<LogicalProject> pattern() {
+            return Pattern.typeOf(LogicalProject.class);
+          }
+
+          @Override
+          public LogicalPlan apply(LogicalProject project, Captures captures) {
+            return project;
+          }
+        };
+
+    OptimizationStats stats = new OptimizationStats();
+    new LogicalPlanOptimizer(List.of(noopRule))
+        .optimize(
+            project(values(Collections.emptyList()), DSL.named("i", DSL.ref("intV", INTEGER))),
+            stats);
+
+    assertEquals(Map.of(noopRule.name(), 1), stats.getMatchedRules());
+    assertEquals(Map.of(), stats.getFiredRules());
+  }
+
   private LogicalPlan optimize(LogicalPlan plan) {
     final LogicalPlanOptimizer optimizer = LogicalPlanOptimizer.create();
     return optimizer.optimize(plan);
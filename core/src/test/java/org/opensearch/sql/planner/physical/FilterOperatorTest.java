@@ -25,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.CommonSubexpression;
 import org.opensearch.sql.expression.DSL;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +58,17 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
                     "www.amazon.com"))));
   }
 
+  @Test
+  public void common_subexpression_should_be_evaluated_for_each_row() {
+    CommonSubexpression code = new CommonSubexpression(DSL.abs(DSL.ref("response", INTEGER)));
+    FilterOperator plan =
+        new FilterOperator(
+            new TestScan(),
+            DSL.and(DSL.greater(code, DSL.literal(100)), DSL.less(code, DSL.literal(300))));
+    List<ExprValue> result = execute(plan);
+    assertEquals(3, result.size());
+  }
+
   @Test
   public void null_value_should_been_ignored() {
     LinkedHashMap<String, ExprValue> value = new LinkedHashMap<>();
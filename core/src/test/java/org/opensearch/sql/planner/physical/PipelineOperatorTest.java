@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rename;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.CommonSubexpression;
+import org.opensearch.sql.expression.DSL;
+
+@ExtendWith(MockitoExtension.class)
+class PipelineOperatorTest extends PhysicalPlanTestBase {
+
+  @Mock private PhysicalPlan inputPlan;
+
+  @Test
+  void eval_filter_project_should_return_same_rows_as_not_fused() {
+    assertSameAsNotFused(
+        input ->
+            project(
+                filter(
+                    eval(
+                        eval(
+                            input,
+                            ImmutablePair.of(
+                                DSL.ref("code", INTEGER),
+                                DSL.add(DSL.ref("response", INTEGER), DSL.literal(1)))),
+                        ImmutablePair.of(
+                            DSL.ref("response", INTEGER),
+                            DSL.multiply(DSL.ref("code", INTEGER), DSL.literal(2)))),
+                    DSL.greater(DSL.ref("response", INTEGER), DSL.literal(500))),
+                DSL.named("ip", DSL.ref("ip", STRING)),
+                DSL.named("response", DSL.ref("response", INTEGER)),
+                DSL.named("code", DSL.ref("code", INTEGER))),
+        4);
+  }
+
+  @Test
+  void rename_eval_should_return_same_rows_as_not_fused() {
+    assertSameAsNotFused(
+        input ->
+            eval(
+                rename(
+                    filter(input, DSL.equal(DSL.ref("action", STRING), DSL.literal("GET"))),
+                    ImmutableMap.of(DSL.ref("ip", STRING), DSL.ref("address", STRING))),
+                ImmutablePair.of(DSL.ref("action", STRING), DSL.lower(DSL.ref("action", STRING)))),
+        3);
+  }
+
+  @Test
+  void common_subexpression_should_be_evaluated_for_each_row_as_not_fused() {
+    UnaryOperator<PhysicalPlan> chain =
+        input -> {
+          CommonSubexpression absY = new CommonSubexpression(DSL.abs(DSL.ref("y", INTEGER)));
+          return filter(
+              eval(input, ImmutablePair.of(DSL.ref("y", INTEGER), DSL.ref("x", INTEGER))),
+              DSL.and(DSL.greater(absY, DSL.literal(1)), DSL.less(absY, DSL.literal(10))));
+        };
+    List<ExprValue> rows =
+        Stream.of(5, 50, -3, 100)
+            .map(x -> ExprValueUtils.tupleValue(ImmutableMap.of("x", x)))
+            .collect(Collectors.toList());
+
+    List<ExprValue> expected = execute(chain.apply(new TestScan(rows)));
+    List<ExprValue> actual = execute(fuse(chain.apply(new TestScan(rows)), 2));
+    assertEquals(2, expected.size());
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void rename_to_existing_field_should_fail_as_not_fused() {
+    UnaryOperator<PhysicalPlan> chain =
+        input ->
+            rename(
+                eval(input, ImmutablePair.of(DSL.ref("code", INTEGER), DSL.literal(1))),
+                ImmutableMap.of(DSL.ref("response", INTEGER), DSL.ref("code", INTEGER)));
+
+    assertThrows(IllegalArgumentException.class, () -> execute(chain.apply(new TestScan())));
+    assertThrows(
+        IllegalArgumentException.class, () -> execute(fuse(chain.apply(new TestScan()), 2)));
+  }
+
+  @Test
+  void non_tuple_value_should_be_passed_through_by_eval_and_rename() {
+    when(inputPlan.hasNext()).thenReturn(true, false);
+    when(inputPlan.next()).thenReturn(ExprValueUtils.integerValue(1));
+    PhysicalPlan plan =
+        fuse(
+            rename(
+                eval(inputPlan, ImmutablePair.of(DSL.ref("code", INTEGER), DSL.literal(1))),
+                ImmutableMap.of(DSL.ref("code", INTEGER), DSL.ref("status", INTEGER))),
+            2);
+
+    assertEquals(List.of(ExprValueUtils.integerValue(1)), execute(plan));
+  }
+
+  @Test
+  void schema_should_be_the_same_as_top_operator() {
+    PhysicalPlan chain =
+        project(
+            filter(new TestScan(), DSL.equal(DSL.ref("action", STRING), DSL.literal("GET"))),
+            DSL.named("ip", DSL.ref("ip", STRING)));
+
+    assertEquals(chain.schema(), fuse(chain, 2).schema());
+  }
+
+  private void assertSameAsNotFused(UnaryOperator<PhysicalPlan> chain, int count) {
+    List<ExprValue> expected = execute(chain.apply(new TestScan()));
+    List<ExprValue> actual = execute(fuse(chain.apply(new TestScan()), count));
+    assertEquals(expected, actual);
+  }
+
+  /** Fuse the given number of operators from the top, as DefaultImplementor does. */
+  private PhysicalPlan fuse(PhysicalPlan top, int count) {
+    LinkedList<PhysicalPlan> operators = new LinkedList<>();
+    PhysicalPlan plan = top;
+    for (int i = 0; i < count; i++) {
+      operators.addFirst(plan);
+      plan = plan.getChild().get(0);
+    }
+    return new PipelineOperator(plan, operators);
+  }
+}
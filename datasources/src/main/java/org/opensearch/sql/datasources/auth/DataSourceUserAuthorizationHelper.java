@@ -19,4 +19,12 @@ public interface DataSourceUserAuthorizationHelper {
    * @param dataSourceMetadata {@link DataSourceMetadata}
    */
   void authorizeDataSource(DataSourceMetadata dataSourceMetadata);
+
+  /**
+   * Identity of the user within the current context, made of the user name and roles, so that two
+   * users or the same user with different roles have different identities.
+   *
+   * @return user identity, or empty string if there is no user, i.e. authorization is disabled.
+   */
+  String userIdentity();
 }
@@ -8,6 +8,7 @@ package org.opensearch.sql.datasources.auth;
 import static org.opensearch.sql.analysis.DataSourceSchemaIdentifierNameResolver.DEFAULT_DATASOURCE_NAME;
 
 import java.util.List;
+import java.util.TreeSet;
 import lombok.AllArgsConstructor;
 import org.opensearch.client.Client;
 import org.opensearch.commons.ConfigConstants;
@@ -37,6 +38,24 @@ public class DataSourceUserAuthorizationHelperImpl implements DataSourceUserAuth
     return user.getRoles();
   }
 
+  @Override
+  public String userIdentity() {
+    if (!isAuthorizationRequired()) {
+      return "";
+    }
+    String userString =
+        client
+            .threadPool()
+            .getThreadContext()
+            .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+    User user = User.parse(userString);
+    return String.join(
+        "|",
+        user.getName(),
+        String.join(",", new TreeSet<>(user.getBackendRoles())),
+        String.join(",", new TreeSet<>(user.getRoles())));
+  }
+
   @Override
   public void authorizeDataSource(DataSourceMetadata dataSourceMetadata) {
     if (isAuthorizationRequired()
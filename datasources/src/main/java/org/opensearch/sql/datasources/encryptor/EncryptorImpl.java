@@ -11,55 +11,83 @@ import com.amazonaws.encryptionsdk.AwsCrypto;
 import com.amazonaws.encryptionsdk.CommitmentPolicy;
 import com.amazonaws.encryptionsdk.CryptoResult;
 import com.amazonaws.encryptionsdk.jce.JceMasterKey;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.spec.SecretKeySpec;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 
-@RequiredArgsConstructor
+/**
+ * Encryptor based on AWS Encryption SDK. The {@link AwsCrypto} and {@link JceMasterKey} are thread
+ * safe and created once per encryptor. Decrypted texts are cached for a short time, keyed by the
+ * hash of the encrypted text, as the same credentials are decrypted whenever the datasource
+ * metadata is read.
+ */
 public class EncryptorImpl implements Encryptor {
 
+  private static final int DECRYPTED_CACHE_MAX_SIZE = 1000;
+  private static final long DECRYPTED_CACHE_EXPIRY_MINUTES = 5;
+
   private final String masterKey;
 
-  @Override
-  public String encrypt(String plainText) {
-    validate(masterKey);
-    final AwsCrypto crypto =
+  private final AwsCrypto crypto;
+
+  private final Supplier<JceMasterKey> jceMasterKey;
+
+  private final Cache<String, String> decryptedTextCache;
+
+  /**
+   * Constructor of EncryptorImpl.
+   *
+   * @param masterKey master key.
+   */
+  public EncryptorImpl(String masterKey) {
+    this.masterKey = masterKey;
+    this.crypto =
         AwsCrypto.builder()
             .withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt)
             .build();
+    // Created on first use, so that the master key is validated when it is needed.
+    this.jceMasterKey =
+        Suppliers.memoize(
+            () ->
+                JceMasterKey.getInstance(
+                    new SecretKeySpec(masterKey.getBytes(), "AES"),
+                    "Custom",
+                    "opensearch.config.master.key",
+                    "AES/GCM/NoPadding"));
+    this.decryptedTextCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(DECRYPTED_CACHE_MAX_SIZE)
+            .expireAfterWrite(DECRYPTED_CACHE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
+  }
 
-    JceMasterKey jceMasterKey =
-        JceMasterKey.getInstance(
-            new SecretKeySpec(masterKey.getBytes(), "AES"),
-            "Custom",
-            "opensearch.config.master.key",
-            "AES/GCM/NoPadding");
-
+  @Override
+  public String encrypt(String plainText) {
+    validate(masterKey);
     final CryptoResult<byte[], JceMasterKey> encryptResult =
-        crypto.encryptData(jceMasterKey, plainText.getBytes(StandardCharsets.UTF_8));
+        crypto.encryptData(jceMasterKey.get(), plainText.getBytes(StandardCharsets.UTF_8));
     return Base64.getEncoder().encodeToString(encryptResult.getResult());
   }
 
   @Override
   public String decrypt(String encryptedText) {
     validate(masterKey);
-    final AwsCrypto crypto =
-        AwsCrypto.builder()
-            .withCommitmentPolicy(CommitmentPolicy.RequireEncryptRequireDecrypt)
-            .build();
-
-    JceMasterKey jceMasterKey =
-        JceMasterKey.getInstance(
-            new SecretKeySpec(masterKey.getBytes(), "AES"),
-            "Custom",
-            "opensearch.config.master.key",
-            "AES/GCM/NoPadding");
-
-    final CryptoResult<byte[], JceMasterKey> decryptedResult =
-        crypto.decryptData(jceMasterKey, Base64.getDecoder().decode(encryptedText));
-    return new String(decryptedResult.getResult());
+    String cacheKey = Hashing.sha256().hashString(encryptedText, StandardCharsets.UTF_8).toString();
+    String decryptedText = decryptedTextCache.getIfPresent(cacheKey);
+    if (decryptedText == null) {
+      final CryptoResult<byte[], JceMasterKey> decryptedResult =
+          crypto.decryptData(jceMasterKey.get(), Base64.getDecoder().decode(encryptedText));
+      decryptedText = new String(decryptedResult.getResult());
+      decryptedTextCache.put(cacheKey, decryptedText);
+    }
+    return decryptedText;
   }
 
   private void validate(String masterKey) {
@@ -10,7 +10,11 @@ import static org.opensearch.sql.datasources.utils.XContentParserUtils.*;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.opensearch.sql.common.utils.StringUtils;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasource.model.DataSource;
@@ -26,12 +30,23 @@ import org.opensearch.sql.storage.DataSourceFactory;
  * bootstrap time. The set of {@link DataSourceFactory} is immutable. Client could add {@link
  * DataSource} defined by {@link DataSourceMetadata} at any time. {@link DataSourceService} use
  * {@link DataSourceFactory} to create {@link DataSource}.
+ *
+ * <p>{@link DataSourceMetadata} read from {@link DataSourceMetadataStorage} is cached on the node,
+ * so that checking whether a datasource exists or describing it doesn't search the metadata index
+ * and decrypt the credentials every time. The cached entry is invalidated when the datasource is
+ * created, updated, patched or deleted through this service or when the metadata index document
+ * changes on this node, and expires after {@link #METADATA_CACHE_EXPIRY_MINUTES} to pick up the
+ * changes made on other nodes. The raw metadata used to authorize the user and to connect to the
+ * datasource is always read from the storage, so that a change of the allowed roles or credentials
+ * takes effect on all the nodes immediately.
  */
 public class DataSourceServiceImpl implements DataSourceService {
 
   private static String DATASOURCE_NAME_REGEX = "[@*A-Za-z]+?[*a-zA-Z_\\-0-9]*";
   public static final Set<String> CONFIDENTIAL_AUTH_KEYS =
       Set.of("auth.username", "auth.password", "auth.access_key", "auth.secret_key");
+  public static final long METADATA_CACHE_EXPIRY_MINUTES = 1;
+  private static final int METADATA_CACHE_MAX_SIZE = 1000;
 
   private final DataSourceLoaderCache dataSourceLoaderCache;
 
@@ -39,6 +54,11 @@ public class DataSourceServiceImpl implements DataSourceService {
 
   private final DataSourceUserAuthorizationHelper dataSourceUserAuthorizationHelper;
 
+  private final Cache<String, DataSourceMetadata> dataSourceMetadataCache;
+
+  /** Number of invalidations, to not cache the metadata read before an invalidation. */
+  private final AtomicLong dataSourceMetadataInvalidations = new AtomicLong();
+
   /** Construct from the set of {@link DataSourceFactory} at bootstrap time. */
   public DataSourceServiceImpl(
       Set<DataSourceFactory> dataSourceFactories,
@@ -47,6 +67,11 @@ public class DataSourceServiceImpl implements DataSourceService {
     this.dataSourceMetadataStorage = dataSourceMetadataStorage;
     this.dataSourceUserAuthorizationHelper = dataSourceUserAuthorizationHelper;
     this.dataSourceLoaderCache = new DataSourceLoaderCacheImpl(dataSourceFactories);
+    this.dataSourceMetadataCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(METADATA_CACHE_MAX_SIZE)
+            .expireAfterWrite(METADATA_CACHE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
   }
 
   @Override
@@ -63,7 +88,7 @@ public class DataSourceServiceImpl implements DataSourceService {
 
   @Override
   public DataSourceMetadata getDataSourceMetadata(String dataSourceName) {
-    DataSourceMetadata dataSourceMetadata = getRawDataSourceMetadata(dataSourceName);
+    DataSourceMetadata dataSourceMetadata = getDataSourceMetadata(dataSourceName, false);
     removeAuthInfo(dataSourceMetadata);
     return dataSourceMetadata;
   }
@@ -80,7 +105,11 @@ public class DataSourceServiceImpl implements DataSourceService {
     validateDataSourceMetaData(metadata);
     if (!metadata.getName().equals(DEFAULT_DATASOURCE_NAME)) {
       this.dataSourceLoaderCache.getOrLoadDataSource(metadata);
-      this.dataSourceMetadataStorage.createDataSourceMetadata(metadata);
+      try {
+        this.dataSourceMetadataStorage.createDataSourceMetadata(metadata);
+      } finally {
+        invalidateDataSourceMetadata(metadata.getName());
+      }
     }
   }
 
@@ -89,7 +118,11 @@ public class DataSourceServiceImpl implements DataSourceService {
     validateDataSourceMetaData(dataSourceMetadata);
     if (!dataSourceMetadata.getName().equals(DEFAULT_DATASOURCE_NAME)) {
       this.dataSourceLoaderCache.getOrLoadDataSource(dataSourceMetadata);
-      this.dataSourceMetadataStorage.updateDataSourceMetadata(dataSourceMetadata);
+      try {
+        this.dataSourceMetadataStorage.updateDataSourceMetadata(dataSourceMetadata);
+      } finally {
+        invalidateDataSourceMetadata(dataSourceMetadata.getName());
+      }
     } else {
       throw new UnsupportedOperationException(
           "Not allowed to update default datasource :" + DEFAULT_DATASOURCE_NAME);
@@ -115,14 +148,29 @@ public class DataSourceServiceImpl implements DataSourceService {
       throw new UnsupportedOperationException(
           "Not allowed to delete default datasource :" + DEFAULT_DATASOURCE_NAME);
     } else {
-      this.dataSourceMetadataStorage.deleteDataSourceMetadata(dataSourceName);
+      try {
+        this.dataSourceMetadataStorage.deleteDataSourceMetadata(dataSourceName);
+      } finally {
+        invalidateDataSourceMetadata(dataSourceName);
+      }
     }
   }
 
   @Override
   public Boolean dataSourceExists(String dataSourceName) {
     return DEFAULT_DATASOURCE_NAME.equals(dataSourceName)
-        || this.dataSourceMetadataStorage.getDataSourceMetadata(dataSourceName).isPresent();
+        || lookupDataSourceMetadata(dataSourceName).isPresent();
+  }
+
+  /**
+   * Invalidate the cached metadata of the datasource, e.g. when the metadata index document of the
+   * datasource is changed.
+   *
+   * @param dataSourceName name of the datasource.
+   */
+  public void invalidateDataSourceMetadata(String dataSourceName) {
+    this.dataSourceMetadataInvalidations.incrementAndGet();
+    this.dataSourceMetadataCache.invalidate(dataSourceName);
   }
 
   /**
@@ -174,23 +222,90 @@ public class DataSourceServiceImpl implements DataSourceService {
     }
   }
 
+  /**
+   * The raw metadata is used to authorize the user and to connect to the datasource, so it is read
+   * from the {@link DataSourceMetadataStorage} rather than the cache, in case the allowed roles or
+   * credentials were changed on another node.
+   */
   @Override
   public DataSourceMetadata getRawDataSourceMetadata(String dataSourceName) {
+    return getDataSourceMetadata(dataSourceName, true);
+  }
+
+  private DataSourceMetadata getDataSourceMetadata(String dataSourceName, boolean latest) {
     if (dataSourceName.equals(DEFAULT_DATASOURCE_NAME)) {
       return DataSourceMetadata.defaultOpenSearchDataSourceMetadata();
 
     } else {
       Optional<DataSourceMetadata> dataSourceMetadataOptional =
-          this.dataSourceMetadataStorage.getDataSourceMetadata(dataSourceName);
+          latest
+              ? loadDataSourceMetadata(dataSourceName)
+              : lookupDataSourceMetadata(dataSourceName);
       if (dataSourceMetadataOptional.isEmpty()) {
         throw new DataSourceNotFoundException(
             String.format("DataSource with name %s doesn't exist.", dataSourceName));
       } else {
-        return dataSourceMetadataOptional.get();
+        return copyOf(dataSourceMetadataOptional.get());
       }
     }
   }
 
+  /**
+   * Get the metadata from the cache, or from the {@link DataSourceMetadataStorage} on cache miss.
+   * Missing datasources are not cached, so a datasource created on another node is visible
+   * immediately.
+   */
+  private Optional<DataSourceMetadata> lookupDataSourceMetadata(String dataSourceName) {
+    DataSourceMetadata dataSourceMetadata =
+        this.dataSourceMetadataCache.getIfPresent(dataSourceName);
+    if (dataSourceMetadata != null) {
+      return Optional.of(dataSourceMetadata);
+    }
+    return loadDataSourceMetadata(dataSourceName);
+  }
+
+  /**
+   * Read the metadata from the {@link DataSourceMetadataStorage} and cache it, unless the cache is
+   * invalidated during the read, since the metadata read may be older than the change invalidating
+   * the cache.
+   */
+  private Optional<DataSourceMetadata> loadDataSourceMetadata(String dataSourceName) {
+    long invalidations = this.dataSourceMetadataInvalidations.get();
+    Optional<DataSourceMetadata> dataSourceMetadataOptional =
+        this.dataSourceMetadataStorage.getDataSourceMetadata(dataSourceName);
+    // checked and put atomically against the invalidation of the same datasource
+    dataSourceMetadataOptional.ifPresent(
+        metadata ->
+            this.dataSourceMetadataCache
+                .asMap()
+                .compute(
+                    dataSourceName,
+                    (name, cached) ->
+                        this.dataSourceMetadataInvalidations.get() == invalidations
+                            ? copyOf(metadata)
+                            : cached));
+    return dataSourceMetadataOptional;
+  }
+
+  // Callers modify the returned metadata, e.g. remove the auth info or patch the fields,
+  // so the cached metadata is never handed out directly.
+  private DataSourceMetadata copyOf(DataSourceMetadata dataSourceMetadata) {
+    DataSourceMetadata copy = new DataSourceMetadata();
+    copy.setName(dataSourceMetadata.getName());
+    copy.setDescription(dataSourceMetadata.getDescription());
+    copy.setConnector(dataSourceMetadata.getConnector());
+    copy.setAllowedRoles(
+        dataSourceMetadata.getAllowedRoles() == null
+            ? null
+            : new ArrayList<>(dataSourceMetadata.getAllowedRoles()));
+    copy.setProperties(
+        dataSourceMetadata.getProperties() == null
+            ? null
+            : new HashMap<>(dataSourceMetadata.getProperties()));
+    copy.setResultIndex(dataSourceMetadata.getResultIndex());
+    return copy;
+  }
+
   // It is advised to avoid sending any kind credential
   // info in api response from security point of view.
   private void removeAuthInfo(Set<DataSourceMetadata> dataSourceMetadataSet) {
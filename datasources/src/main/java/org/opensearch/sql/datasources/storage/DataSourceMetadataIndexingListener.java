@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.datasources.storage;
+
+import static org.opensearch.sql.datasources.storage.OpenSearchDataSourceMetadataStorage.DATASOURCE_INDEX_NAME;
+
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexingOperationListener;
+
+/**
+ * Listens to the write operations on the shards of the datasource metadata index allocated on this
+ * node and notifies the datasource name of the changed document, so that the cached metadata of
+ * the datasource can be invalidated.
+ */
+@RequiredArgsConstructor
+public class DataSourceMetadataIndexingListener implements IndexingOperationListener {
+
+  private final Consumer<String> dataSourceChangeConsumer;
+
+  @Override
+  public void postIndex(ShardId shardId, Engine.Index index, Engine.IndexResult result) {
+    onChange(shardId, index.id());
+  }
+
+  @Override
+  public void postIndex(ShardId shardId, Engine.Index index, Exception ex) {
+    onChange(shardId, index.id());
+  }
+
+  @Override
+  public void postDelete(ShardId shardId, Engine.Delete delete, Engine.DeleteResult result) {
+    onChange(shardId, delete.id());
+  }
+
+  @Override
+  public void postDelete(ShardId shardId, Engine.Delete delete, Exception ex) {
+    onChange(shardId, delete.id());
+  }
+
+  private void onChange(ShardId shardId, String dataSourceName) {
+    if (DATASOURCE_INDEX_NAME.equals(shardId.getIndexName())) {
+      dataSourceChangeConsumer.accept(dataSourceName);
+    }
+  }
+}
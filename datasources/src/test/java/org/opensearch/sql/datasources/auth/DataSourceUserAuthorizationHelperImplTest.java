@@ -67,6 +67,29 @@ public class DataSourceUserAuthorizationHelperImplTest {
     this.dataSourceUserAuthorizationHelper.authorizeDataSource(dataSourceMetadata);
   }
 
+  @Test
+  public void testUserIdentity() {
+    Mockito.when(
+            client
+                .threadPool()
+                .getThreadContext()
+                .getTransient(OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT))
+        .thenReturn("myuser|bckrole2,bckrole1|role2,role1|myTenant");
+    Assert.assertEquals(
+        "myuser|bckrole1,bckrole2|role1,role2", dataSourceUserAuthorizationHelper.userIdentity());
+  }
+
+  @Test
+  public void testUserIdentityWithNullUserString() {
+    Mockito.when(
+            client
+                .threadPool()
+                .getThreadContext()
+                .getTransient(OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT))
+        .thenReturn(null);
+    Assert.assertEquals("", dataSourceUserAuthorizationHelper.userIdentity());
+  }
+
   @Test
   public void testAuthorizeDataSourceWithDefaultDataSource() {
     String userString = "myuser|bckrole1,bckrol2|role1|myTenant";
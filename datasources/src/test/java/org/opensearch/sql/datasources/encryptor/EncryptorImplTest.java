@@ -32,6 +32,26 @@ public class EncryptorImplTest {
     assertEquals(input, decrypted);
   }
 
+  @Test
+  public void testRepeatedEncryptAndDecrypt() {
+    Encryptor encryptor = new EncryptorImpl("1234567890123456");
+
+    String encryptedOne = encryptor.encrypt("input one");
+    String encryptedTwo = encryptor.encrypt("input two");
+
+    assertEquals("input one", encryptor.decrypt(encryptedOne));
+    assertEquals("input two", encryptor.decrypt(encryptedTwo));
+    assertEquals("input one", encryptor.decrypt(encryptedOne));
+    assertEquals("input two", encryptor.decrypt(encryptedTwo));
+  }
+
+  @Test
+  public void testInvalidMasterKeySizeFailsOnEveryCall() {
+    Encryptor encryptor = new EncryptorImpl("12345678");
+    assertThrows(AwsCryptoException.class, () -> encryptor.encrypt("input"));
+    assertThrows(AwsCryptoException.class, () -> encryptor.encrypt("input"));
+  }
+
   @Test
   public void testMasterKeySize() {
     String input = "This is a test input";
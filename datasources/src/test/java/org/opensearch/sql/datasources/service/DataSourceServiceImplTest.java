@@ -517,4 +517,108 @@ class DataSourceServiceImplTest {
     assertTrue(dataSourceMetadata1.getProperties().containsKey("prometheus.auth.username"));
     assertTrue(dataSourceMetadata1.getProperties().containsKey("prometheus.auth.password"));
   }
+
+  @Test
+  void testDataSourceExistsUsesCachedMetadata() {
+    DataSourceMetadata dataSourceMetadata =
+        metadata("test", DataSourceType.OPENSEARCH, Collections.emptyList(), ImmutableMap.of());
+    when(dataSourceMetadataStorage.getDataSourceMetadata("test"))
+        .thenReturn(Optional.of(dataSourceMetadata));
+
+    assertTrue(dataSourceService.dataSourceExists("test"));
+    assertTrue(dataSourceService.dataSourceExists("test"));
+    assertEquals("test", dataSourceService.getDataSourceMetadata("test").getName());
+
+    verify(dataSourceMetadataStorage, times(1)).getDataSourceMetadata("test");
+  }
+
+  @Test
+  void testGetDataSourceAuthorizesWithLatestMetadata() {
+    DataSourceMetadata dataSourceMetadata =
+        metadata("test", DataSourceType.OPENSEARCH, List.of("role1"), ImmutableMap.of());
+    DataSourceMetadata updatedDataSourceMetadata =
+        metadata("test", DataSourceType.OPENSEARCH, List.of("role2"), ImmutableMap.of());
+    when(dataSourceMetadataStorage.getDataSourceMetadata("test"))
+        .thenReturn(Optional.of(dataSourceMetadata), Optional.of(updatedDataSourceMetadata));
+
+    assertTrue(dataSourceService.dataSourceExists("test"));
+    dataSourceService.getDataSource("test");
+
+    verify(dataSourceUserAuthorizationHelper).authorizeDataSource(updatedDataSourceMetadata);
+    verify(dataSourceMetadataStorage, times(2)).getDataSourceMetadata("test");
+  }
+
+  @Test
+  void testMetadataReadBeforeInvalidationIsNotCached() {
+    when(dataSourceMetadataStorage.getDataSourceMetadata("test"))
+        .thenAnswer(
+            invocation -> {
+              // the datasource is changed while its metadata is read
+              ((DataSourceServiceImpl) dataSourceService).invalidateDataSourceMetadata("test");
+              return Optional.of(
+                  metadata("test", DataSourceType.OPENSEARCH, List.of(), ImmutableMap.of()));
+            });
+
+    assertTrue(dataSourceService.dataSourceExists("test"));
+    assertTrue(dataSourceService.dataSourceExists("test"));
+
+    verify(dataSourceMetadataStorage, times(2)).getDataSourceMetadata("test");
+  }
+
+  @Test
+  void testNonExistingDataSourceIsNotCached() {
+    when(dataSourceMetadataStorage.getDataSourceMetadata("test")).thenReturn(Optional.empty());
+    assertFalse(dataSourceService.dataSourceExists("test"));
+    assertFalse(dataSourceService.dataSourceExists("test"));
+    verify(dataSourceMetadataStorage, times(2)).getDataSourceMetadata("test");
+  }
+
+  @Test
+  void testCachedMetadataInvalidatedOnUpdateAndDelete() {
+    when(dataSourceMetadataStorage.getDataSourceMetadata("testDS"))
+        .thenReturn(
+            Optional.of(
+                metadata("testDS", DataSourceType.OPENSEARCH, List.of(), ImmutableMap.of())));
+    dataSourceService.dataSourceExists("testDS");
+
+    dataSourceService.updateDataSource(
+        metadata("testDS", DataSourceType.OPENSEARCH, List.of(), ImmutableMap.of()));
+    dataSourceService.dataSourceExists("testDS");
+
+    dataSourceService.deleteDataSource("testDS");
+    dataSourceService.dataSourceExists("testDS");
+
+    ((DataSourceServiceImpl) dataSourceService).invalidateDataSourceMetadata("testDS");
+    dataSourceService.dataSourceExists("testDS");
+
+    verify(dataSourceMetadataStorage, times(4)).getDataSourceMetadata("testDS");
+  }
+
+  @Test
+  void testRemovalOfAuthorizationInfoDoesNotChangeCachedMetadata() {
+    HashMap<String, String> properties = new HashMap<>();
+    properties.put("prometheus.uri", "https://localhost:9090");
+    properties.put("prometheus.auth.type", "basicauth");
+    properties.put("prometheus.auth.username", "username");
+    properties.put("prometheus.auth.password", "password");
+    when(dataSourceMetadataStorage.getDataSourceMetadata("testDS"))
+        .thenReturn(
+            Optional.of(
+                metadata(
+                    "testDS",
+                    DataSourceType.PROMETHEUS,
+                    Collections.singletonList("prometheus_access"),
+                    properties)));
+
+    DataSourceMetadata dataSourceMetadata = dataSourceService.getDataSourceMetadata("testDS");
+    assertFalse(dataSourceMetadata.getProperties().containsKey("prometheus.auth.password"));
+
+    DataSourceMetadata rawDataSourceMetadata = dataSourceService.getRawDataSourceMetadata("testDS");
+    assertEquals("username", rawDataSourceMetadata.getProperties().get("prometheus.auth.username"));
+    assertEquals("password", rawDataSourceMetadata.getProperties().get("prometheus.auth.password"));
+    DataSourceMetadata cachedDataSourceMetadata = dataSourceService.getDataSourceMetadata("testDS");
+    assertEquals(
+        "https://localhost:9090", cachedDataSourceMetadata.getProperties().get("prometheus.uri"));
+    verify(dataSourceMetadataStorage, times(2)).getDataSourceMetadata("testDS");
+  }
 }
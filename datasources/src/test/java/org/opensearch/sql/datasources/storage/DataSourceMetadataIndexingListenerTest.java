@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.datasources.storage;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.datasources.storage.OpenSearchDataSourceMetadataStorage.DATASOURCE_INDEX_NAME;
+
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.Engine;
+
+@ExtendWith(MockitoExtension.class)
+class DataSourceMetadataIndexingListenerTest {
+
+  @Mock private Consumer<String> dataSourceChangeConsumer;
+
+  @Mock private Engine.Index index;
+
+  @Mock private Engine.IndexResult indexResult;
+
+  @Mock private Engine.Delete delete;
+
+  @Mock private Engine.DeleteResult deleteResult;
+
+  @Test
+  void testPostIndexNotifiesDataSourceName() {
+    when(index.id()).thenReturn("my_prometheus");
+    new DataSourceMetadataIndexingListener(dataSourceChangeConsumer)
+        .postIndex(new ShardId(DATASOURCE_INDEX_NAME, "uuid", 0), index, indexResult);
+    verify(dataSourceChangeConsumer).accept("my_prometheus");
+  }
+
+  @Test
+  void testPostDeleteNotifiesDataSourceName() {
+    when(delete.id()).thenReturn("my_prometheus");
+    new DataSourceMetadataIndexingListener(dataSourceChangeConsumer)
+        .postDelete(new ShardId(DATASOURCE_INDEX_NAME, "uuid", 0), delete, deleteResult);
+    verify(dataSourceChangeConsumer).accept("my_prometheus");
+  }
+
+  @Test
+  void testFailedIndexNotifiesDataSourceName() {
+    when(index.id()).thenReturn("my_prometheus");
+    new DataSourceMetadataIndexingListener(dataSourceChangeConsumer)
+        .postIndex(
+            new ShardId(DATASOURCE_INDEX_NAME, "uuid", 0), index, new RuntimeException("failed"));
+    verify(dataSourceChangeConsumer).accept("my_prometheus");
+  }
+
+  @Test
+  void testOtherIndexIgnored() {
+    new DataSourceMetadataIndexingListener(dataSourceChangeConsumer)
+        .postIndex(new ShardId("logs", "uuid", 0), index, indexResult);
+    verifyNoInteractions(dataSourceChangeConsumer);
+  }
+}
@@ -6,7 +6,10 @@
 package org.opensearch.sql.legacy.cursor;
 
 import com.google.common.base.Strings;
+import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +21,13 @@ import lombok.NonNull;
 import lombok.Setter;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.legacy.executor.format.Schema;
 
 /**
@@ -40,6 +50,13 @@ public class DefaultCursor implements Cursor {
   private static final String SCROLL_ID = "s";
   private static final String SCHEMA_COLUMNS = "c";
   private static final String FIELD_ALIAS_MAP = "a";
+  private static final String PIT_ID = "p";
+  private static final String SEARCH_SOURCE = "q";
+  private static final String SORT_VALUES = "u";
+
+  private static final NamedXContentRegistry X_CONTENT_REGISTRY =
+      new NamedXContentRegistry(
+          new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents());
 
   /**
    * To get mappings for index to check if type is date needed for
@@ -67,9 +84,18 @@ public class DefaultCursor implements Cursor {
    */
   @NonNull private Map<String, String> fieldAliasMap;
 
-  /** To get next batch of result */
+  /** To get next batch of result by scroll */
   private String scrollId;
 
+  /** To get next batch of result by search_after in point in time instead of scroll */
+  private String pitId;
+
+  /** Search request to get next batch in point in time */
+  private SearchSourceBuilder searchSourceBuilder;
+
+  /** Sort values of the last row to search after */
+  private Object[] sortValues;
+
   /** To reduce the number of rows left by fetchSize */
   @NonNull private Integer fetchSize;
 
@@ -82,14 +108,21 @@ public class DefaultCursor implements Cursor {
 
   @Override
   public String generateCursorId() {
-    if (rowsLeft <= 0 || Strings.isNullOrEmpty(scrollId)) {
+    if (rowsLeft <= 0 || (Strings.isNullOrEmpty(scrollId) && Strings.isNullOrEmpty(pitId))) {
       return null;
     }
     JSONObject json = new JSONObject();
     json.put(FETCH_SIZE, fetchSize);
     json.put(ROWS_LEFT, rowsLeft);
     json.put(INDEX_PATTERN, indexPattern);
-    json.put(SCROLL_ID, scrollId);
+    if (isPointInTime()) {
+      json.put(PIT_ID, pitId);
+      json.put(
+          SEARCH_SOURCE, searchSourceBuilder.shallowCopy().pointInTimeBuilder(null).toString());
+      json.put(SORT_VALUES, new JSONArray(sortValues));
+    } else {
+      json.put(SCROLL_ID, scrollId);
+    }
     json.put(SCHEMA_COLUMNS, getSchemaAsJson());
     json.put(FIELD_ALIAS_MAP, fieldAliasMap);
     return String.format("%s:%s", type.getId(), encodeCursor(json));
@@ -105,13 +138,24 @@ public class DefaultCursor implements Cursor {
     cursor.setFetchSize(json.getInt(FETCH_SIZE));
     cursor.setRowsLeft(json.getLong(ROWS_LEFT));
     cursor.setIndexPattern(json.getString(INDEX_PATTERN));
-    cursor.setScrollId(json.getString(SCROLL_ID));
+    if (json.has(PIT_ID)) {
+      cursor.setPitId(json.getString(PIT_ID));
+      cursor.setSearchSourceBuilder(searchSourceBuilder(json.getString(SEARCH_SOURCE)));
+      cursor.setSortValues(sortValues(json.getJSONArray(SORT_VALUES)));
+    } else {
+      cursor.setScrollId(json.getString(SCROLL_ID));
+    }
     cursor.setColumns(getColumnsFromSchema(json.getJSONArray(SCHEMA_COLUMNS)));
     cursor.setFieldAliasMap(fieldAliasMap(json.getJSONObject(FIELD_ALIAS_MAP)));
 
     return cursor;
   }
 
+  /** Whether the next batch is fetched by search_after in point in time instead of scroll. */
+  public boolean isPointInTime() {
+    return !Strings.isNullOrEmpty(pitId);
+  }
+
   private JSONArray getSchemaAsJson() {
     JSONArray schemaJson = new JSONArray();
 
@@ -146,6 +190,36 @@ public class DefaultCursor implements Cursor {
     return fieldToAliasMap;
   }
 
+  private static SearchSourceBuilder searchSourceBuilder(String json) {
+    try (XContentParser parser =
+        XContentType.JSON
+            .xContent()
+            .createParser(X_CONTENT_REGISTRY, LoggingDeprecationHandler.INSTANCE, json)) {
+      return SearchSourceBuilder.fromXContent(parser);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to parse search request in cursor", e);
+    }
+  }
+
+  /**
+   * Integral sort values decoded from JSON could be Integer, Long or BigInteger which are accepted
+   * by search_after as is. Decimal sort value is decoded as BigDecimal and converted back to double.
+   */
+  private static Object[] sortValues(JSONArray json) {
+    Object[] values = new Object[json.length()];
+    for (int i = 0; i < values.length; i++) {
+      Object value = json.get(i);
+      if (value == JSONObject.NULL) {
+        values[i] = null;
+      } else if (value instanceof BigDecimal) {
+        values[i] = ((BigDecimal) value).doubleValue();
+      } else {
+        values[i] = value;
+      }
+    }
+    return values;
+  }
+
   private static List<Schema.Column> getColumnsFromSchema(JSONArray schema) {
     List<Schema.Column> columns =
         IntStream.range(0, schema.length())
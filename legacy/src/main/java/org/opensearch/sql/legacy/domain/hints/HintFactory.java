@@ -43,6 +43,9 @@ public class HintFactory {
     if (hintAsString.equals("! HASH_WITH_TERMS_FILTER")) {
       return new Hint(HintType.HASH_WITH_TERMS_FILTER, null);
     }
+    if (hintAsString.equals("! HASH_WITH_BLOOM_FILTER")) {
+      return new Hint(HintType.HASH_WITH_BLOOM_FILTER, null);
+    }
     if (hintAsString.startsWith("! JOIN_TABLES_LIMIT")) {
       String[] numbers = getParamsFromHint(hintAsString, "! JOIN_TABLES_LIMIT");
       // todo: check if numbers etc..
@@ -182,6 +185,7 @@ public class HintFactory {
   private static Hint parseHintForQueryPlanner(String hintStr) {
     if (hintStr.contains("(")
         && (hintStr.startsWith("! JOIN_ALGORITHM_BLOCK_SIZE")
+            || hintStr.startsWith("! JOIN_ALGORITHM_GRACE_HASH")
             || hintStr.startsWith("! JOIN_SCROLL_PAGE_SIZE")
             || hintStr.startsWith("! JOIN_CIRCUIT_BREAK_LIMIT")
             || hintStr.startsWith("! JOIN_BACK_OFF_RETRY_INTERVALS")
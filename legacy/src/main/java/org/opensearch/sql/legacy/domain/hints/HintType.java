@@ -8,6 +8,7 @@ package org.opensearch.sql.legacy.domain.hints;
 /** Created by Eliran on 29/8/2015. */
 public enum HintType {
   HASH_WITH_TERMS_FILTER,
+  HASH_WITH_BLOOM_FILTER,
   JOIN_LIMIT,
   USE_NESTED_LOOPS,
   NL_MULTISEARCH_SIZE,
@@ -23,6 +24,7 @@ public enum HintType {
   POST_FILTER,
   JOIN_ALGORITHM_BLOCK_SIZE,
   JOIN_ALGORITHM_USE_LEGACY,
+  JOIN_ALGORITHM_GRACE_HASH,
   JOIN_SCROLL_PAGE_SIZE,
   JOIN_CIRCUIT_BREAK_LIMIT,
   JOIN_BACK_OFF_RETRY_INTERVALS,
@@ -5,10 +5,14 @@
 
 package org.opensearch.sql.legacy.executor.csv;
 
-import com.google.common.base.Joiner;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import org.opensearch.client.Client;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestChannel;
@@ -16,6 +20,7 @@ import org.opensearch.sql.legacy.executor.QueryActionElasticExecutor;
 import org.opensearch.sql.legacy.executor.RestExecutor;
 import org.opensearch.sql.legacy.query.QueryAction;
 import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
+import org.opensearch.sql.protocol.response.format.CsvWriter;
 
 /** Created by Eliran on 26/12/2015. */
 public class CSVResultRestExecutor implements RestExecutor {
@@ -28,8 +33,10 @@ public class CSVResultRestExecutor implements RestExecutor {
       final RestChannel channel)
       throws Exception {
 
-    final String csvString = execute(client, params, queryAction);
-    final BytesRestResponse bytesRestResponse = new BytesRestResponse(RestStatus.OK, csvString);
+    final BytesStreamOutput out = new BytesStreamOutput();
+    write(client, params, queryAction, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    final BytesRestResponse bytesRestResponse =
+        new BytesRestResponse(RestStatus.OK, BytesRestResponse.TEXT_CONTENT_TYPE, out.bytes());
 
     if (!BackOffRetryStrategy.isHealthy(2 * bytesRestResponse.content().length(), this)) {
       throw new IllegalStateException(
@@ -43,6 +50,18 @@ public class CSVResultRestExecutor implements RestExecutor {
   public String execute(
       final Client client, final Map<String, String> params, final QueryAction queryAction)
       throws Exception {
+    final StringWriter out = new StringWriter();
+    write(client, params, queryAction, out);
+    return out.toString();
+  }
+
+  /** Write CSV lines one by one to the writer rather than building the CSV string first. */
+  private void write(
+      final Client client,
+      final Map<String, String> params,
+      final QueryAction queryAction,
+      final Writer out)
+      throws Exception {
 
     final Object queryResult = QueryActionElasticExecutor.executeAnyAction(client, queryAction);
 
@@ -54,11 +73,9 @@ public class CSVResultRestExecutor implements RestExecutor {
     final boolean includeId = getBooleanOrDefault(params, "_id", false);
 
     final List<String> fieldNames = queryAction.getFieldNames().orElse(null);
-    final CSVResult result =
-        new CSVResultsExtractor(includeScore, includeId)
-            .extractResults(queryResult, flat, separator, fieldNames);
-
-    return buildString(separator, result, newLine);
+    new CSVResultsExtractor(includeScore, includeId)
+        .writeResults(
+            queryResult, flat, separator, fieldNames, new CsvWriter(out, separator, newLine, true));
   }
 
   private boolean getBooleanOrDefault(
@@ -69,12 +86,4 @@ public class CSVResultRestExecutor implements RestExecutor {
     }
     return flat;
   }
-
-  private String buildString(String separator, CSVResult result, String newLine) {
-    StringBuilder csv = new StringBuilder();
-    csv.append(Joiner.on(separator).join(result.getHeaders()));
-    csv.append(newLine);
-    csv.append(Joiner.on(newLine).join(result.getLines()));
-    return csv.toString();
-  }
 }
@@ -5,13 +5,16 @@
 
 package org.opensearch.sql.legacy.executor.csv;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.opensearch.common.document.DocumentField;
 import org.opensearch.geo.search.aggregations.metrics.GeoBounds;
 import org.opensearch.search.SearchHit;
@@ -29,6 +32,7 @@ import org.opensearch.search.aggregations.metrics.TopHits;
 import org.opensearch.sql.legacy.expression.domain.BindingTuple;
 import org.opensearch.sql.legacy.expression.model.ExprValue;
 import org.opensearch.sql.legacy.utils.Util;
+import org.opensearch.sql.protocol.response.format.CsvWriter;
 
 /** Created by Eliran on 27/12/2015. */
 public class CSVResultsExtractor {
@@ -46,42 +50,92 @@ public class CSVResultsExtractor {
   public CSVResult extractResults(
       Object queryResult, boolean flat, String separator, final List<String> fieldNames)
       throws CsvExtractorException {
+    CSVLines csvLines = extractLines(queryResult, flat, separator, fieldNames);
+    if (csvLines == null) {
+      return null;
+    }
+    return new CSVResult(separator, csvLines.headers, Lists.newArrayList(csvLines.lines));
+  }
+
+  /**
+   * Write headers and lines extracted to the CSV writer line by line, instead of collecting all
+   * the lines first.
+   *
+   * @param queryResult query result
+   * @param flat flatten object fields or not
+   * @param separator cell separator
+   * @param fieldNames field names selected
+   * @param writer CSV writer
+   */
+  public void writeResults(
+      Object queryResult,
+      boolean flat,
+      String separator,
+      final List<String> fieldNames,
+      CsvWriter writer)
+      throws CsvExtractorException, IOException {
+    CSVLines csvLines = extractLines(queryResult, flat, separator, fieldNames);
+    if (csvLines == null) {
+      throw new CsvExtractorException(
+          "unsupported query result for CSV: "
+              + (queryResult == null ? null : queryResult.getClass()));
+    }
+
+    writer.writeLine(csvLines.headers);
+    writer.newLine();
+    boolean firstLine = true;
+    while (csvLines.lines.hasNext()) {
+      if (!firstLine) {
+        writer.newLine();
+      }
+      firstLine = false;
+      writer.writeLine(csvLines.lines.next());
+    }
+    writer.flush();
+  }
+
+  /**
+   * Extract headers and lines. Lines of search hits and binding tuples are created lazily while
+   * iterated.
+   */
+  @SuppressWarnings("unchecked")
+  private CSVLines extractLines(
+      Object queryResult, boolean flat, String separator, final List<String> fieldNames)
+      throws CsvExtractorException {
 
     if (queryResult instanceof SearchHits) {
       SearchHit[] hits = ((SearchHits) queryResult).getHits();
       List<Map<String, Object>> docsAsMap = new ArrayList<>();
       List<String> headers = createHeadersAndFillDocsMap(flat, hits, docsAsMap, fieldNames);
-      List<List<String>> csvLines = createCSVLinesFromDocs(flat, separator, docsAsMap, headers);
-      return new CSVResult(separator, headers, csvLines);
+      return new CSVLines(headers, createCSVLinesFromDocs(flat, separator, docsAsMap, headers));
     }
     if (queryResult instanceof Aggregations) {
       List<String> headers = new ArrayList<>();
       List<List<String>> lines = new ArrayList<>();
       lines.add(new ArrayList<String>());
       handleAggregations((Aggregations) queryResult, headers, lines);
-      return new CSVResult(separator, headers, lines);
+      return new CSVLines(headers, lines.iterator());
     }
     // Handle List<BindingTuple> result.
     if (queryResult instanceof List) {
       List<BindingTuple> bindingTuples = (List<BindingTuple>) queryResult;
-      List<List<String>> csvLines =
-          bindingTuples.stream()
-              .map(
-                  tuple -> {
-                    Map<String, ExprValue> bindingMap = tuple.getBindingMap();
-                    List<String> rowValues = new ArrayList<>();
-                    for (String fieldName : fieldNames) {
-                      if (bindingMap.containsKey(fieldName)) {
-                        rowValues.add(String.valueOf(bindingMap.get(fieldName).value()));
-                      } else {
-                        rowValues.add("");
-                      }
-                    }
-                    return rowValues;
-                  })
-              .collect(Collectors.toList());
-
-      return new CSVResult(separator, fieldNames, csvLines);
+      Iterator<List<String>> csvLines =
+          Iterators.transform(
+              bindingTuples.iterator(),
+              tuple -> {
+                Map<String, ExprValue> bindingMap = tuple.getBindingMap();
+                List<String> rowValues = new ArrayList<>();
+                for (String fieldName : fieldNames) {
+                  if (bindingMap.containsKey(fieldName)) {
+                    rowValues.add(String.valueOf(bindingMap.get(fieldName).value()));
+                  } else {
+                    rowValues.add("");
+                  }
+                }
+                return rowValues;
+              });
+
+      return new CSVLines(fieldNames, csvLines);
     }
     return null;
   }
@@ -266,17 +320,17 @@ public class CSVResultsExtractor {
     return aggregations.asList().get(0);
   }
 
-  private List<List<String>> createCSVLinesFromDocs(
+  private Iterator<List<String>> createCSVLinesFromDocs(
       boolean flat, String separator, List<Map<String, Object>> docsAsMap, List<String> headers) {
-    List<List<String>> csvLines = new ArrayList<>();
-    for (Map<String, Object> doc : docsAsMap) {
-      List<String> line = new ArrayList<>();
-      for (String header : headers) {
-        line.add(findFieldValue(header, doc, flat, separator));
-      }
-      csvLines.add(line);
-    }
-    return csvLines;
+    return Iterators.transform(
+        docsAsMap.iterator(),
+        doc -> {
+          List<String> line = new ArrayList<>(headers.size());
+          for (String header : headers) {
+            line.add(findFieldValue(header, doc, flat, separator));
+          }
+          return line;
+        });
   }
 
   private List<String> createHeadersAndFillDocsMap(
@@ -358,4 +412,15 @@ public class CSVResultsExtractor {
       }
     }
   }
+
+  /** Headers and lines to iterate. */
+  private static class CSVLines {
+    private final List<String> headers;
+    private final Iterator<List<String>> lines;
+
+    private CSVLines(List<String> headers, Iterator<List<String>> lines) {
+      this.headers = headers;
+      this.lines = lines;
+    }
+  }
 }
@@ -20,6 +20,7 @@ import org.opensearch.sql.legacy.cursor.CursorType;
 import org.opensearch.sql.legacy.cursor.DefaultCursor;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.legacy.pit.PointInTimeHandler;
 import org.opensearch.sql.legacy.rewriter.matchtoterm.VerificationException;
 
 public class CursorCloseExecutor implements CursorRestExecutor {
@@ -79,6 +80,13 @@ public class CursorCloseExecutor implements CursorRestExecutor {
   }
 
   private String handleDefaultCursorCloseRequest(Client client, DefaultCursor cursor) {
+    if (cursor.isPointInTime()) {
+      if (PointInTimeHandler.delete(client, cursor.getPitId())) {
+        return SUCCEEDED_TRUE;
+      }
+      Metrics.getInstance().getNumericalMetric(MetricName.FAILED_REQ_COUNT_SYS).increment();
+      return SUCCEEDED_FALSE;
+    }
     String scrollId = cursor.getScrollId();
     ClearScrollResponse clearScrollResponse =
         client.prepareClearScroll().addScrollId(scrollId).get();
@@ -14,13 +14,16 @@ import org.apache.logging.log4j.Logger;
 import org.json.JSONException;
 import org.opensearch.OpenSearchException;
 import org.opensearch.action.search.ClearScrollResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Client;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.Strings;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.cursor.CursorType;
 import org.opensearch.sql.legacy.cursor.DefaultCursor;
@@ -29,6 +32,7 @@ import org.opensearch.sql.legacy.executor.Format;
 import org.opensearch.sql.legacy.executor.format.Protocol;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.legacy.pit.PointInTimeHandler;
 import org.opensearch.sql.legacy.rewriter.matchtoterm.VerificationException;
 
 public class CursorResultExecutor implements CursorRestExecutor {
@@ -91,14 +95,15 @@ public class CursorResultExecutor implements CursorRestExecutor {
   }
 
   private String handleDefaultCursorRequest(Client client, DefaultCursor cursor) {
-    String previousScrollId = cursor.getScrollId();
     LocalClusterState clusterState = LocalClusterState.state();
-    TimeValue scrollTimeout = clusterState.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
-    SearchResponse scrollResponse =
-        client.prepareSearchScroll(previousScrollId).setScroll(scrollTimeout).get();
-    SearchHits searchHits = scrollResponse.getHits();
+    TimeValue keepAlive = clusterState.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
+    SearchResponse response =
+        cursor.isPointInTime()
+            ? searchAfter(client, cursor, keepAlive)
+            : client.prepareSearchScroll(cursor.getScrollId()).setScroll(keepAlive).get();
+    SearchHits searchHits = response.getHits();
     SearchHit[] searchHitArray = searchHits.getHits();
-    String newScrollId = scrollResponse.getScrollId();
+    Object[] sortValues = PointInTimeHandler.lastSortValues(searchHits);
 
     int rowsLeft = (int) cursor.getRowsLeft();
     int fetch = cursor.getFetchSize();
@@ -121,20 +126,54 @@ public class CursorResultExecutor implements CursorRestExecutor {
     }
 
     rowsLeft = rowsLeft - fetch;
+    if (cursor.isPointInTime() && searchHitArray.length == 0) {
+      /** No more rows to search after, which happens if rows deleted after the PIT created */
+      rowsLeft = 0;
+    }
 
-    if (rowsLeft <= 0) {
-      /** Clear the scroll context on last page */
-      ClearScrollResponse clearScrollResponse =
-          client.prepareClearScroll().addScrollId(newScrollId).get();
-      if (!clearScrollResponse.isSucceeded()) {
-        Metrics.getInstance().getNumericalMetric(MetricName.FAILED_REQ_COUNT_SYS).increment();
-        LOG.info("Error closing the cursor context {} ", newScrollId);
+    if (cursor.isPointInTime()) {
+      if (!Strings.isNullOrEmpty(response.pointInTimeId())) {
+        cursor.setPitId(response.pointInTimeId());
       }
+      cursor.setSortValues(sortValues);
+    } else {
+      cursor.setScrollId(response.getScrollId());
+    }
+
+    if (rowsLeft <= 0) {
+      /** Clear the scroll context or delete the point in time on last page */
+      closeCursorContext(client, cursor);
     }
 
     cursor.setRowsLeft(rowsLeft);
-    cursor.setScrollId(newScrollId);
     Protocol protocol = new Protocol(client, searchHits, format.name().toLowerCase(), cursor);
     return protocol.cursorFormat();
   }
+
+  /** Search next page in the point in time after the sort values of last row. */
+  private SearchResponse searchAfter(Client client, DefaultCursor cursor, TimeValue keepAlive) {
+    SearchSourceBuilder source =
+        cursor
+            .getSearchSourceBuilder()
+            .shallowCopy()
+            .pointInTimeBuilder(PointInTimeHandler.pointInTime(cursor.getPitId(), keepAlive))
+            .searchAfter(cursor.getSortValues());
+    return client.search(new SearchRequest().source(source)).actionGet();
+  }
+
+  private void closeCursorContext(Client client, DefaultCursor cursor) {
+    if (cursor.isPointInTime()) {
+      if (!PointInTimeHandler.delete(client, cursor.getPitId())) {
+        Metrics.getInstance().getNumericalMetric(MetricName.FAILED_REQ_COUNT_SYS).increment();
+        LOG.info("Error deleting the point in time {} ", cursor.getPitId());
+      }
+      return;
+    }
+    ClearScrollResponse clearScrollResponse =
+        client.prepareClearScroll().addScrollId(cursor.getScrollId()).get();
+    if (!clearScrollResponse.isSucceeded()) {
+      Metrics.getInstance().getNumericalMetric(MetricName.FAILED_REQ_COUNT_SYS).increment();
+      LOG.info("Error closing the cursor context {} ", cursor.getScrollId());
+    }
+  }
 }
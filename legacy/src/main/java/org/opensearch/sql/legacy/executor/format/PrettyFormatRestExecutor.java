@@ -9,6 +9,7 @@ import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Client;
 import org.opensearch.core.common.Strings;
@@ -20,8 +21,10 @@ import org.opensearch.sql.legacy.cursor.DefaultCursor;
 import org.opensearch.sql.legacy.exception.SqlParseException;
 import org.opensearch.sql.legacy.executor.QueryActionElasticExecutor;
 import org.opensearch.sql.legacy.executor.RestExecutor;
+import org.opensearch.sql.legacy.pit.PointInTimeHandler;
 import org.opensearch.sql.legacy.query.DefaultQueryAction;
 import org.opensearch.sql.legacy.query.QueryAction;
+import org.opensearch.sql.legacy.query.SqlOpenSearchRequestBuilder;
 import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
 
 public class PrettyFormatRestExecutor implements RestExecutor {
@@ -90,13 +93,23 @@ public class PrettyFormatRestExecutor implements RestExecutor {
   private Protocol buildProtocolForDefaultQuery(Client client, DefaultQueryAction queryAction)
       throws SqlParseException {
 
-    SearchResponse response = (SearchResponse) queryAction.explain().get();
+    SqlOpenSearchRequestBuilder requestBuilder = queryAction.explain();
+    String pitId = queryAction.createPointInTime();
+    SearchResponse response = (SearchResponse) requestBuilder.get();
     String scrollId = response.getScrollId();
 
     Protocol protocol;
-    if (!Strings.isNullOrEmpty(scrollId)) {
+    if (!Strings.isNullOrEmpty(scrollId) || !Strings.isNullOrEmpty(pitId)) {
       DefaultCursor defaultCursor = new DefaultCursor();
-      defaultCursor.setScrollId(scrollId);
+      if (Strings.isNullOrEmpty(pitId)) {
+        defaultCursor.setScrollId(scrollId);
+      } else {
+        SearchRequest request = (SearchRequest) requestBuilder.request();
+        defaultCursor.setPitId(
+            Strings.isNullOrEmpty(response.pointInTimeId()) ? pitId : response.pointInTimeId());
+        defaultCursor.setSearchSourceBuilder(request.source());
+        defaultCursor.setSortValues(PointInTimeHandler.lastSortValues(response.getHits()));
+      }
       defaultCursor.setLimit(queryAction.getSelect().getRowCount());
       defaultCursor.setFetchSize(queryAction.getSqlRequest().fetchSize());
       protocol = new Protocol(client, queryAction, response.getHits(), format, defaultCursor);
@@ -54,6 +54,7 @@ import org.opensearch.sql.legacy.exception.SqlFeatureNotImplementedException;
 import org.opensearch.sql.legacy.executor.Format;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.legacy.pit.PointInTimeHandler;
 import org.opensearch.sql.legacy.utils.SQLFunctions;
 
 public class SelectResultSet extends ResultSet {
@@ -556,7 +557,7 @@ public class SelectResultSet extends ResultSet {
 
   private void populateDefaultCursor(DefaultCursor cursor) {
     /**
-     * Assumption: scrollId, fetchSize, limit already being set in
+     * Assumption: scrollId or pitId, fetchSize, limit already being set in
      *
      * @see PrettyFormatRestExecutor.buildProtocolForDefaultQuery()
      */
@@ -564,6 +565,14 @@ public class SelectResultSet extends ResultSet {
     long rowsLeft = rowsLeft(cursor.getFetchSize(), cursor.getLimit());
     if (rowsLeft <= 0) {
       // close the cursor
+      if (cursor.isPointInTime()) {
+        String pitId = cursor.getPitId();
+        if (!PointInTimeHandler.delete(client, pitId)) {
+          Metrics.getInstance().getNumericalMetric(MetricName.FAILED_REQ_COUNT_SYS).increment();
+          LOG.error("Error deleting the point in time {} ", pitId);
+        }
+        return;
+      }
       String scrollId = cursor.getScrollId();
       ClearScrollResponse clearScrollResponse =
           client.prepareClearScroll().addScrollId(scrollId).get();
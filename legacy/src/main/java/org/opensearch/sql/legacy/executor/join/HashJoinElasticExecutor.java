@@ -6,6 +6,7 @@
 package org.opensearch.sql.legacy.executor.join;
 
 import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -13,6 +14,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,6 +30,7 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.sql.legacy.domain.Field;
 import org.opensearch.sql.legacy.domain.Select;
 import org.opensearch.sql.legacy.domain.Where;
+import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.exception.SqlParseException;
 import org.opensearch.sql.legacy.query.join.HashJoinElasticRequestBuilder;
 import org.opensearch.sql.legacy.query.join.TableInJoinRequestBuilder;
@@ -40,14 +43,27 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
   private Client client;
   private boolean useQueryTermsFilterOptimization = false;
   private final int MAX_RESULTS_FOR_FIRST_TABLE = 100000;
+
+  /** Min number of join keys of a field pushed down as a Bloom filter instead of terms. */
+  private static final int BLOOM_FILTER_MIN_TERMS = 10000;
+
+  private static final double BLOOM_FILTER_FALSE_POSITIVE_RATE = 0.01;
+  private static final Set<Object> DOC_VALUE_INTEGRAL_TYPES =
+      ImmutableSet.of("long", "integer", "short", "byte");
+
+  private boolean useBloomFilterOptimization = false;
   HashJoinComparisonStructure hashJoinComparisonStructure;
   private Set<String> alreadyMatched;
 
+  /** Join keys of the first table read from doc values. */
+  private final Set<String> docValueKeys = new HashSet<>();
+
   public HashJoinElasticExecutor(Client client, HashJoinElasticRequestBuilder requestBuilder) {
     super(requestBuilder);
     this.client = client;
     this.requestBuilder = requestBuilder;
     this.useQueryTermsFilterOptimization = requestBuilder.isUseTermFiltersOptimization();
+    this.useBloomFilterOptimization = requestBuilder.isUseBloomFilterOptimization();
     this.hashJoinComparisonStructure =
         new HashJoinComparisonStructure(requestBuilder.getT1ToT2FieldsComparison());
     this.alreadyMatched = new HashSet<>();
@@ -55,7 +71,7 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
 
   public List<SearchHit> innerRun() throws IOException, SqlParseException {
 
-    Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure =
+    Map<String, Map<String, Set<Object>>> optimizationTermsFilterStructure =
         initOptimizationStructure();
 
     updateFirstTableLimitIfNeeded();
@@ -99,10 +115,10 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     return combinedResult;
   }
 
-  private Map<String, Map<String, List<Object>>> initOptimizationStructure() {
-    Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure = new HashMap<>();
+  private Map<String, Map<String, Set<Object>>> initOptimizationStructure() {
+    Map<String, Map<String, Set<Object>>> optimizationTermsFilterStructure = new HashMap<>();
     for (String comparisonId : this.hashJoinComparisonStructure.getComparisons().keySet()) {
-      optimizationTermsFilterStructure.put(comparisonId, new HashMap<String, List<Object>>());
+      optimizationTermsFilterStructure.put(comparisonId, new HashMap<String, Set<Object>>());
     }
     return optimizationTermsFilterStructure;
   }
@@ -141,6 +157,8 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     }
     updateMetaSearchResults(searchResponse);
 
+    String t1Alias = requestBuilder.getFirstTable().getAlias();
+    String t2Alias = requestBuilder.getSecondTable().getAlias();
     boolean limitReached = false;
     int fetchedSoFarFromSecondTable = 0;
     while (!limitReached) {
@@ -150,6 +168,8 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
         if (limitReached) {
           break;
         }
+        // returned fields of the hit, shared by all the hits of the first table it is matched with
+        Map<String, Object> secondTableSource = null;
         // todo: need to run on comparisons. for each comparison check if exists and add.
         HashMap<String, List<Map.Entry<Field, Field>>> comparisons =
             this.hashJoinComparisonStructure.getComparisons();
@@ -174,12 +194,13 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
                 this.alreadyMatched.add(combinedId);
               }
 
-              Map<String, Object> copiedSource = new HashMap<String, Object>();
-              copyMaps(copiedSource, secondTableHit.getSourceAsMap());
-              onlyReturnedFields(
-                  copiedSource,
-                  secondTableRequest.getReturnedFields(),
-                  secondTableRequest.getOriginalSelect().isSelectAll());
+              if (secondTableSource == null) {
+                secondTableSource = new HashMap<>(secondTableHit.getSourceAsMap());
+                onlyReturnedFields(
+                    secondTableSource,
+                    secondTableRequest.getReturnedFields(),
+                    secondTableRequest.getOriginalSelect().isSelectAll());
+              }
 
               Map<String, DocumentField> documentFields = new HashMap<>();
               Map<String, DocumentField> metaFields = new HashMap<>();
@@ -196,9 +217,7 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
               searchHit.sourceRef(matchingHit.getSourceRef());
               searchHit.getSourceAsMap().clear();
               searchHit.getSourceAsMap().putAll(matchingHit.getSourceAsMap());
-              String t1Alias = requestBuilder.getFirstTable().getAlias();
-              String t2Alias = requestBuilder.getSecondTable().getAlias();
-              mergeSourceAndAddAliases(copiedSource, searchHit, t1Alias, t2Alias);
+              mergeSourceAndAddAliases(secondTableSource, searchHit, t1Alias, t2Alias);
 
               combinedResult.add(searchHit);
               resultIds++;
@@ -229,15 +248,12 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     return combinedResult;
   }
 
-  private void copyMaps(Map<String, Object> into, Map<String, Object> from) {
-    for (Map.Entry<String, Object> keyAndValue : from.entrySet()) {
-      into.put(keyAndValue.getKey(), keyAndValue.getValue());
-    }
-  }
-
   private void createKeyToResultsAndFillOptimizationStructure(
-      Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure,
+      Map<String, Map<String, Set<Object>>> optimizationTermsFilterStructure,
       TableInJoinRequestBuilder firstTableRequest) {
+    if (useBloomFilterOptimization) {
+      addDocValueKeys(firstTableRequest);
+    }
     List<SearchHit> firstTableHits = fetchAllHits(firstTableRequest);
 
     int resultIds = 1;
@@ -260,11 +276,14 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
         Map<String, DocumentField> metaFields = new HashMap<>();
         hit.getFields()
             .forEach(
-                (fieldName, docField) ->
+                (fieldName, docField) -> {
+                  if (!docValueKeys.contains(fieldName)) {
                     (MapperService.META_FIELDS_BEFORE_7DOT8.contains(fieldName)
                             ? metaFields
                             : documentFields)
-                        .put(fieldName, docField));
+                        .put(fieldName, docField);
+                  }
+                });
         SearchHit searchHit = new SearchHit(resultIds, hit.getId(), documentFields, metaFields);
         searchHit.sourceRef(hit.getSourceRef());
 
@@ -278,6 +297,21 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     }
   }
 
+  /** Read the keyword and integral join keys of the first table from doc values. */
+  private void addDocValueKeys(TableInJoinRequestBuilder firstTableRequest) {
+    Select select = firstTableRequest.getOriginalSelect();
+    for (List<Map.Entry<Field, Field>> comparison :
+        this.hashJoinComparisonStructure.getComparisons().values()) {
+      for (Map.Entry<Field, Field> t1ToT2 : comparison) {
+        String name = t1ToT2.getKey().getName();
+        if (!docValueKeys.contains(name) && isDocValueKey(select, name)) {
+          docValueKeys.add(name);
+          firstTableRequest.getRequestBuilder().addDocValueField(name);
+        }
+      }
+    }
+  }
+
   private List<SearchHit> fetchAllHits(TableInJoinRequestBuilder tableInJoinRequest) {
     Integer hintLimit = tableInJoinRequest.getHintLimit();
     SearchRequestBuilder requestBuilder = tableInJoinRequest.getRequestBuilder();
@@ -323,14 +357,14 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
   }
 
   private boolean needToOptimize(
-      Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure) {
+      Map<String, Map<String, Set<Object>>> optimizationTermsFilterStructure) {
     if (!useQueryTermsFilterOptimization
         && optimizationTermsFilterStructure != null
         && optimizationTermsFilterStructure.size() > 0) {
       return false;
     }
     boolean allEmpty = true;
-    for (Map<String, List<Object>> optimization : optimizationTermsFilterStructure.values()) {
+    for (Map<String, Set<Object>> optimization : optimizationTermsFilterStructure.values()) {
       if (optimization.size() > 0) {
         allEmpty = false;
         break;
@@ -340,18 +374,23 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
   }
 
   private void updateRequestWithTermsFilter(
-      Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure,
+      Map<String, Map<String, Set<Object>>> optimizationTermsFilterStructure,
       TableInJoinRequestBuilder secondTableRequest)
       throws SqlParseException {
     Select select = secondTableRequest.getOriginalSelect();
 
     BoolQueryBuilder orQuery = QueryBuilders.boolQuery();
-    for (Map<String, List<Object>> optimization : optimizationTermsFilterStructure.values()) {
+    for (Map<String, Set<Object>> optimization : optimizationTermsFilterStructure.values()) {
       BoolQueryBuilder andQuery = QueryBuilders.boolQuery();
-      for (Map.Entry<String, List<Object>> keyToValues : optimization.entrySet()) {
+      for (Map.Entry<String, Set<Object>> keyToValues : optimization.entrySet()) {
         String fieldName = keyToValues.getKey();
-        List<Object> values = keyToValues.getValue();
-        andQuery.must(QueryBuilders.termsQuery(fieldName, values));
+        Set<Object> values = keyToValues.getValue();
+        if (useBloomFilter(select, fieldName, values)) {
+          andQuery.must(
+              TermsBloomFilter.create(values, BLOOM_FILTER_FALSE_POSITIVE_RATE).toQuery(fieldName));
+        } else {
+          andQuery.must(QueryBuilders.termsQuery(fieldName, toTerms(values)));
+        }
       }
       orQuery.should(andQuery);
     }
@@ -372,7 +411,7 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
       List<Map.Entry<Field, Field>> t1ToT2FieldsComparison,
       SearchHit hit,
       boolean firstTable,
-      Map<String, List<Object>> optimizationTermsFilterStructure) {
+      Map<String, Set<Object>> optimizationTermsFilterStructure) {
     String key = "";
     Map<String, Object> sourceAsMap = hit.getSourceAsMap();
     for (Map.Entry<Field, Field> t1ToT2 : t1ToT2FieldsComparison) {
@@ -384,7 +423,10 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
         name = t1ToT2.getValue().getName();
       }
 
-      Object data = deepSearchInMap(sourceAsMap, name);
+      Object data =
+          firstTable && docValueKeys.contains(name)
+              ? docValue(hit, sourceAsMap, name)
+              : deepSearchInMap(sourceAsMap, name);
       if (firstTable && useQueryTermsFilterOptimization) {
         updateOptimizationData(optimizationTermsFilterStructure, data, t1ToT2.getValue().getName());
       }
@@ -398,20 +440,69 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
   }
 
   private void updateOptimizationData(
-      Map<String, List<Object>> optimizationTermsFilterStructure,
+      Map<String, Set<Object>> optimizationTermsFilterStructure,
       Object data,
       String queryOptimizationKey) {
-    List<Object> values = optimizationTermsFilterStructure.get(queryOptimizationKey);
+    Set<Object> values = optimizationTermsFilterStructure.get(queryOptimizationKey);
     if (values == null) {
-      values = new ArrayList<>();
+      values = new LinkedHashSet<>();
       optimizationTermsFilterStructure.put(queryOptimizationKey, values);
     }
-    if (data instanceof String) {
-      // todo: analyzed or not analyzed check..
-      data = ((String) data).toLowerCase();
-    }
     if (data != null) {
       values.add(data);
     }
   }
+
+  private Object docValue(SearchHit hit, Map<String, Object> sourceAsMap, String name) {
+    DocumentField field = hit.field(name);
+    if (field == null || field.getValues().size() != 1) {
+      // missing or multi-valued keys are compared as in the source
+      return deepSearchInMap(sourceAsMap, name);
+    }
+    return field.getValue();
+  }
+
+  private List<Object> toTerms(Set<Object> values) {
+    Set<Object> terms = new LinkedHashSet<>();
+    for (Object value : values) {
+      if (value instanceof String) {
+        // todo: analyzed or not analyzed check..
+        value = ((String) value).toLowerCase();
+      }
+      terms.add(value);
+    }
+    return new ArrayList<>(terms);
+  }
+
+  private boolean useBloomFilter(Select select, String fieldName, Set<Object> values) {
+    return useBloomFilterOptimization
+        && values.size() >= BLOOM_FILTER_MIN_TERMS
+        && values.stream().allMatch(TermsBloomFilter::isSupported)
+        && isDocValueKey(select, fieldName);
+  }
+
+  /**
+   * Check whether the doc values of the field are the same as its source values, which is the case
+   * of the keyword fields without normalizer nor ignore_above, and of the integral fields.
+   */
+  private boolean isDocValueKey(Select select, String fieldName) {
+    Map<String, Object> mapping;
+    try {
+      mapping =
+          LocalClusterState.state()
+              .getFieldMappings(new String[] {select.getFrom().get(0).getIndex()})
+              .firstMapping()
+              .mapping(fieldName);
+    } catch (Exception e) {
+      return false;
+    }
+    if (mapping == null || Boolean.FALSE.equals(mapping.get("doc_values"))) {
+      return false;
+    }
+    Object type = mapping.get("type");
+    if ("keyword".equals(type)) {
+      return !mapping.containsKey("normalizer") && !mapping.containsKey("ignore_above");
+    }
+    return DOC_VALUE_INTEGRAL_TYPES.contains(type);
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.executor.join;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptType;
+
+/**
+ * Bloom filter of the join keys of the first table, pushed down to the second table as a script
+ * query on doc values instead of a terms query listing all the keys. Only keyword and integral keys
+ * are supported, since the script has to hash the doc values of the second table the same way the
+ * keys are hashed here. A false positive only fetches a hit which is not joined, so the join result
+ * is the same as without the filter.
+ */
+public class TermsBloomFilter {
+
+  /** Script testing whether any doc value of the field is in the filter. */
+  static final String SCRIPT =
+      "def values = doc[params.field];"
+          + " for (def value : values) {"
+          + " int h1 = value instanceof String ? value.hashCode() : (int) (value ^ (value >>> 32));"
+          + " int h2 = (h1 >>> 16) ^ (h1 * -1640531535) | 1;"
+          + " boolean found = true;"
+          + " for (int i = 0; i < params.hashes; i++) {"
+          + " int bit = Math.floorMod(h1 + i * h2, params.size);"
+          + " long word = params.bits[bit >>> 6];"
+          + " if ((word & (1L << (bit & 63))) == 0) { found = false; break; } }"
+          + " if (found) { return true; } }"
+          + " return false;";
+
+  private final long[] bits;
+  private final int size;
+  private final int hashes;
+
+  private TermsBloomFilter(int size, int hashes) {
+    this.bits = new long[(size + 63) / 64];
+    this.size = size;
+    this.hashes = hashes;
+  }
+
+  /**
+   * Create the filter of the join keys.
+   *
+   * @param values keyword or integral join keys.
+   * @param falsePositiveRate expected rate of false positives.
+   * @return Bloom filter containing the join keys.
+   */
+  public static TermsBloomFilter create(Collection<Object> values, double falsePositiveRate) {
+    int count = Math.max(values.size(), 1);
+    int size =
+        (int)
+            Math.max(
+                64, Math.ceil(-count * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+    int hashes = (int) Math.max(1, Math.round((double) size / count * Math.log(2)));
+    TermsBloomFilter filter = new TermsBloomFilter(size, hashes);
+    values.forEach(filter::put);
+    return filter;
+  }
+
+  /**
+   * Check whether the join key could be pushed down as a Bloom filter.
+   *
+   * @param value join key.
+   * @return true if the value is a keyword or an integral number.
+   */
+  public static boolean isSupported(Object value) {
+    return value instanceof String
+        || value instanceof Long
+        || value instanceof Integer
+        || value instanceof Short
+        || value instanceof Byte;
+  }
+
+  public boolean mightContain(Object value) {
+    int h1 = hash(value);
+    int h2 = secondHash(h1);
+    for (int i = 0; i < hashes; i++) {
+      int bit = Math.floorMod(h1 + i * h2, size);
+      if ((bits[bit >>> 6] & (1L << (bit & 63))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Script query matching the docs whose field might be in the filter.
+   *
+   * @param field field of the second table.
+   * @return script query.
+   */
+  public QueryBuilder toQuery(String field) {
+    List<Long> words = new ArrayList<>(bits.length);
+    for (long word : bits) {
+      words.add(word);
+    }
+    Map<String, Object> params = new HashMap<>();
+    params.put("field", field);
+    params.put("size", size);
+    params.put("hashes", hashes);
+    params.put("bits", words);
+    return QueryBuilders.scriptQuery(new Script(ScriptType.INLINE, "painless", SCRIPT, params));
+  }
+
+  private void put(Object value) {
+    int h1 = hash(value);
+    int h2 = secondHash(h1);
+    for (int i = 0; i < hashes; i++) {
+      int bit = Math.floorMod(h1 + i * h2, size);
+      bits[bit >>> 6] |= 1L << (bit & 63);
+    }
+  }
+
+  private static int hash(Object value) {
+    if (value instanceof String) {
+      return value.hashCode();
+    }
+    long number = ((Number) value).longValue();
+    return (int) (number ^ (number >>> 32));
+  }
+
+  private static int secondHash(int h1) {
+    return (h1 >>> 16) ^ (h1 * -1640531535) | 1;
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** Histogram metric of latency, reported as count and percentiles in milliseconds. */
+public class HistogramMetric extends Metric<Map<String, Object>> {
+
+  private final LatencyHistogram histogram;
+
+  public HistogramMetric(String name, LatencyHistogram histogram) {
+    super(name);
+    this.histogram = histogram;
+  }
+
+  public LatencyHistogram getHistogram() {
+    return histogram;
+  }
+
+  public void record(long nanos) {
+    histogram.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+  }
+
+  @Override
+  public Map<String, Object> getValue() {
+    Map<String, Object> value = new LinkedHashMap<>();
+    value.put("count", histogram.getCount());
+    value.put("p50", toMillis(histogram.getValueAtPercentile(50)));
+    value.put("p90", toMillis(histogram.getValueAtPercentile(90)));
+    value.put("p99", toMillis(histogram.getValueAtPercentile(99)));
+    value.put("max", toMillis(histogram.getMax()));
+    return value;
+  }
+
+  public void clear() {
+    histogram.reset();
+  }
+
+  private static double toMillis(long micros) {
+    return micros / 1000.0;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram in microseconds. Buckets are log-linear like HDR histogram: every power of two
+ * range is split into {@link #SUB_BUCKETS} linear buckets, so any value recorded is within 12.5% of
+ * the bucket it falls in. Recording is lock-free and allocation-free. The histogram is cumulative
+ * since created or reset.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+
+  static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  private static final int NUM_OF_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(NUM_OF_BUCKETS);
+
+  private final LongAdder count = new LongAdder();
+
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+  /**
+   * Record a latency.
+   *
+   * @param micros latency in microseconds, negative value is recorded as 0
+   */
+  public void record(long micros) {
+    long value = Math.max(micros, 0L);
+    buckets.incrementAndGet(bucketOf(value));
+    count.increment();
+    max.accumulate(value);
+  }
+
+  public long getCount() {
+    return count.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Value at the given percentile.
+   *
+   * @param percentile percentile in (0, 100]
+   * @return highest value of the bucket where the percentile falls in, 0 if nothing recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    long total = getCount();
+    if (total == 0) {
+      return 0L;
+    }
+
+    long rank = Math.max((long) Math.ceil(percentile / 100.0 * total), 1L);
+    long cumulative = 0;
+    for (int bucket = 0; bucket < NUM_OF_BUCKETS; bucket++) {
+      cumulative += buckets.get(bucket);
+      if (cumulative >= rank) {
+        return Math.min(highestValueOf(bucket), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  public void reset() {
+    for (int bucket = 0; bucket < NUM_OF_BUCKETS; bucket++) {
+      buckets.set(bucket, 0L);
+    }
+    count.reset();
+    max.reset();
+  }
+
+  /** Values below {@link #SUB_BUCKETS} have their own bucket. */
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long highestValueOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+}
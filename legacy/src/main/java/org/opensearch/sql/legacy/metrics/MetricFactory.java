@@ -41,6 +41,11 @@ public class MetricFactory {
       case EMR_STREAMING_QUERY_JOBS_CREATION_COUNT:
       case EMR_INTERACTIVE_QUERY_JOBS_CREATION_COUNT:
         return new NumericMetric<>(name.getName(), new RollingCounter());
+      case QUERY_PARSE_LATENCY:
+      case QUERY_PLAN_LATENCY:
+      case QUERY_EXECUTE_LATENCY:
+      case QUERY_FORMAT_LATENCY:
+        return new HistogramMetric(name.getName(), new LatencyHistogram());
       default:
         return new NumericMetric<>(name.getName(), new BasicCounter());
     }
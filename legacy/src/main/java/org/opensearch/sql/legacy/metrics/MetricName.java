@@ -10,6 +10,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.opensearch.sql.common.utils.QueryPhaseTimer.Phase;
 
 public enum MetricName {
   REQ_TOTAL("request_total"),
@@ -47,7 +48,13 @@ public enum MetricName {
   EMR_CANCEL_JOB_REQUEST_FAILURE_COUNT("emr_cancel_job_request_failure_count"),
   EMR_STREAMING_QUERY_JOBS_CREATION_COUNT("emr_streaming_jobs_creation_count"),
   EMR_INTERACTIVE_QUERY_JOBS_CREATION_COUNT("emr_interactive_jobs_creation_count"),
-  EMR_BATCH_QUERY_JOBS_CREATION_COUNT("emr_batch_jobs_creation_count");
+  EMR_BATCH_QUERY_JOBS_CREATION_COUNT("emr_batch_jobs_creation_count"),
+  INDEX_CLEANUP_DELETED_DOCS_COUNT("index_cleanup_deleted_docs_count"),
+  INDEX_CLEANUP_TIME_MILLIS("index_cleanup_time_millis"),
+  QUERY_PARSE_LATENCY("query_parse_latency"),
+  QUERY_PLAN_LATENCY("query_plan_latency"),
+  QUERY_EXECUTE_LATENCY("query_execute_latency"),
+  QUERY_FORMAT_LATENCY("query_format_latency");
 
   private String name;
 
@@ -63,6 +70,22 @@ public enum MetricName {
     return Arrays.stream(MetricName.values()).map(v -> v.name).collect(Collectors.toList());
   }
 
+  /** Latency histogram metric of the given query phase. */
+  public static MetricName latencyOf(Phase phase) {
+    switch (phase) {
+      case PARSE:
+        return QUERY_PARSE_LATENCY;
+      case PLAN:
+        return QUERY_PLAN_LATENCY;
+      case EXECUTE:
+        return QUERY_EXECUTE_LATENCY;
+      case FORMAT:
+        return QUERY_FORMAT_LATENCY;
+      default:
+        throw new IllegalArgumentException("Unknown query phase: " + phase);
+    }
+  }
+
   private static Set<MetricName> NUMERICAL_METRIC =
       new ImmutableSet.Builder<MetricName>()
           .add(PPL_REQ_TOTAL)
@@ -91,6 +114,8 @@ public enum MetricName {
           .add(ASYNC_QUERY_CREATE_API_REQUEST_COUNT)
           .add(ASYNC_QUERY_GET_API_REQUEST_COUNT)
           .add(ASYNC_QUERY_CANCEL_API_REQUEST_COUNT)
+          .add(INDEX_CLEANUP_DELETED_DOCS_COUNT)
+          .add(INDEX_CLEANUP_TIME_MILLIS)
           .build();
 
   public boolean isNumerical() {
@@ -6,22 +6,42 @@
 package org.opensearch.sql.legacy.metrics;
 
 import java.time.Clock;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 
 /**
  * Rolling counter. The count is refreshed every interval. In every interval the count is
  * cumulative.
+ *
+ * <p>Counts are kept in a fixed size ring buffer indexed by time slot, so neither increment nor
+ * trim allocates. The ring is striped by thread to reduce contention on the same slot, and the
+ * value of a slot is the sum across all stripes. A slot is reused by a later time slot once the
+ * ring wraps around, which only happens after twice the rolling window.
  */
 public class RollingCounter implements Counter<Long> {
 
-  private final long capacity;
-  private final long window;
+  /** Key of slot never used */
+  private static final long EMPTY = -1L;
+
+  /** Key of slot being reset for a new time slot */
+  private static final long RESETTING = -2L;
+
+  private static final int MAX_STRIPES = 16;
+
+  private final int capacity;
   private final long interval;
   private final Clock clock;
-  private final ConcurrentSkipListMap<Long, Long> time2CountWin;
+  private final int stripes;
+
+  /** Time slot key of each slot in the ring of each stripe */
+  private final AtomicLongArray keys;
+
+  /** Count of each slot in the ring of each stripe */
+  private final AtomicLongArray counts;
+
   private final LongAdder count;
 
   public RollingCounter() {
@@ -31,12 +51,17 @@ public class RollingCounter implements Counter<Long> {
   }
 
   public RollingCounter(long window, long interval, Clock clock) {
-    this.window = window;
     this.interval = interval;
     this.clock = clock;
-    time2CountWin = new ConcurrentSkipListMap<>();
-    count = new LongAdder();
-    capacity = window / interval * 2;
+    // At least current and previous slots are required by getValue()
+    this.capacity = (int) Math.max(window / interval * 2, 2);
+    this.stripes =
+        Math.min(
+            MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+    this.keys = new AtomicLongArray(stripes * capacity);
+    this.counts = new AtomicLongArray(stripes * capacity);
+    this.count = new LongAdder();
+    reset();
   }
 
   public RollingCounter(long window, long interval) {
@@ -50,8 +75,25 @@ public class RollingCounter implements Counter<Long> {
 
   @Override
   public void add(long n) {
-    trim();
-    time2CountWin.compute(getKey(clock.millis()), (k, v) -> (v == null) ? n : v + n);
+    long key = getKey(clock.millis());
+    int slot = stripe() * capacity + (int) Math.floorMod(key, (long) capacity);
+    while (true) {
+      long current = keys.get(slot);
+      if (current == key) {
+        counts.addAndGet(slot, n);
+        return;
+      }
+      if (current > key) {
+        // Slot already taken by a later time slot, the late count is out of window anyway
+        return;
+      }
+      if (current != RESETTING && keys.compareAndSet(slot, current, RESETTING)) {
+        counts.set(slot, n);
+        keys.set(slot, key);
+        return;
+      }
+      Thread.onSpinWait();
+    }
   }
 
   @Override
@@ -60,11 +102,15 @@ public class RollingCounter implements Counter<Long> {
   }
 
   public long getValue(long key) {
-    Long res = time2CountWin.get(key);
-    if (res == null) {
-      return 0;
+    int offset = (int) Math.floorMod(key, (long) capacity);
+    long res = 0;
+    for (int stripe = 0; stripe < stripes; stripe++) {
+      int slot = stripe * capacity + offset;
+      long value = counts.get(slot);
+      if (keys.get(slot) == key) {
+        res += value;
+      }
     }
-
     return res;
   }
 
@@ -72,12 +118,6 @@ public class RollingCounter implements Counter<Long> {
     return count.longValue();
   }
 
-  private void trim() {
-    if (time2CountWin.size() > capacity) {
-      time2CountWin.headMap(getKey(clock.millis() - window * 1000)).clear();
-    }
-  }
-
   private long getKey(long millis) {
     return millis / 1000 / this.interval;
   }
@@ -86,11 +126,28 @@ public class RollingCounter implements Counter<Long> {
     return getKey(millis) - 1;
   }
 
+  private int stripe() {
+    return (int) Thread.currentThread().getId() & (stripes - 1);
+  }
+
+  /**
+   * Number of time slots with count.
+   *
+   * @return number of time slots, which never exceeds the capacity of ring
+   */
   public int size() {
-    return time2CountWin.size();
+    return (int)
+        IntStream.range(0, keys.length())
+            .mapToLong(keys::get)
+            .filter(key -> key >= 0)
+            .distinct()
+            .count();
   }
 
   public void reset() {
-    time2CountWin.clear();
+    for (int slot = 0; slot < keys.length(); slot++) {
+      keys.set(slot, EMPTY);
+      counts.set(slot, 0L);
+    }
   }
 }
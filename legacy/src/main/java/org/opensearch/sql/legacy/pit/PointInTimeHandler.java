@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.pit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitAction;
+import org.opensearch.action.search.DeletePitInfo;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.DeletePitResponse;
+import org.opensearch.client.Client;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.PointInTimeBuilder;
+
+/**
+ * Point in time (PIT) used by cursor to page through results by search_after instead of scroll.
+ * Unlike scroll context, PIT only keeps the segments of indices referenced, and the next page can
+ * be fetched through any coordinating node.
+ */
+public class PointInTimeHandler {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  /** Sort field of the shard and document order in a PIT, which is a total order of the rows. */
+  public static final String SHARD_DOC_FIELD_NAME = "_shard_doc";
+
+  /**
+   * Create a PIT of the given indices.
+   *
+   * @param client OpenSearch client
+   * @param indices indices to search in the PIT
+   * @param keepAlive how long the PIT is kept alive between pages
+   * @return PIT id
+   */
+  public static String create(Client client, String[] indices, TimeValue keepAlive) {
+    CreatePitRequest request = new CreatePitRequest(keepAlive, false, indices);
+    String pitId = client.execute(CreatePitAction.INSTANCE, request).actionGet().getId();
+    LOG.debug("Created point in time {}", pitId);
+    return pitId;
+  }
+
+  /**
+   * Builder of PIT to search in, which extends the keep alive of PIT.
+   *
+   * @param pitId PIT id
+   * @param keepAlive how long the PIT is kept alive until next page
+   * @return PIT builder
+   */
+  public static PointInTimeBuilder pointInTime(String pitId, TimeValue keepAlive) {
+    return new PointInTimeBuilder(pitId).setKeepAlive(keepAlive);
+  }
+
+  /**
+   * Sort values of the last hit to search after for the next page.
+   *
+   * @param hits hits of current page
+   * @return sort values, empty if no hit
+   */
+  public static Object[] lastSortValues(SearchHits hits) {
+    SearchHit[] hitArray = hits.getHits();
+    return hitArray.length == 0 ? new Object[0] : hitArray[hitArray.length - 1].getSortValues();
+  }
+
+  /**
+   * Delete the PIT.
+   *
+   * @param client OpenSearch client
+   * @param pitId PIT id
+   * @return true if deleted successfully
+   */
+  public static boolean delete(Client client, String pitId) {
+    DeletePitResponse response =
+        client.execute(DeletePitAction.INSTANCE, new DeletePitRequest(pitId)).actionGet();
+    return response.getDeletePitResults().stream().allMatch(DeletePitInfo::isSuccessful);
+  }
+
+  private PointInTimeHandler() {}
+}
@@ -9,12 +9,16 @@ import static org.opensearch.core.rest.RestStatus.OK;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.BiConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.inject.Injector;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
@@ -23,6 +27,8 @@ import org.opensearch.rest.RestRequest;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
+import org.opensearch.sql.common.utils.QueryPhaseTimer.Phase;
 import org.opensearch.sql.exception.UnsupportedCursorRequestException;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.legacy.metrics.MetricName;
@@ -31,6 +37,7 @@ import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.protocol.response.QueryResult;
 import org.opensearch.sql.protocol.response.format.CommandResponseFormatter;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
+import org.opensearch.sql.protocol.response.format.FlatResponseFormatter;
 import org.opensearch.sql.protocol.response.format.Format;
 import org.opensearch.sql.protocol.response.format.JdbcResponseFormatter;
 import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
@@ -179,12 +186,20 @@ public class RestSQLQueryAction extends BaseRestHandler {
     return new ResponseListener<QueryResponse>() {
       @Override
       public void onResponse(QueryResponse response) {
-        sendResponse(
-            channel,
-            OK,
-            formatter.format(
-                new QueryResult(response.getSchema(), response.getResults(), response.getCursor())),
-            formatter.contentType());
+        QueryResult result =
+            new QueryResult(response.getSchema(), response.getResults(), response.getCursor());
+        if (formatter instanceof FlatResponseFormatter) {
+          try {
+            sendFlatResponse(channel, (FlatResponseFormatter) formatter, result);
+          } catch (IOException e) {
+            onFailure(e);
+          }
+          return;
+        }
+        long formatStart = QueryPhaseTimer.start();
+        String content = formatter.format(result);
+        QueryPhaseTimer.record(Phase.FORMAT, formatStart);
+        sendResponse(channel, OK, content, formatter.contentType());
       }
 
       @Override
@@ -199,6 +214,19 @@ public class RestSQLQueryAction extends BaseRestHandler {
     channel.sendResponse(new BytesRestResponse(status, contentType, content));
   }
 
+  /**
+   * Write CSV or raw lines straight into the paged bytes of response instead of building all the
+   * lines and the whole string in memory first.
+   */
+  private void sendFlatResponse(
+      RestChannel channel, FlatResponseFormatter formatter, QueryResult result) throws IOException {
+    long formatStart = QueryPhaseTimer.start();
+    BytesStreamOutput out = new BytesStreamOutput();
+    formatter.format(result, new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    QueryPhaseTimer.record(Phase.FORMAT, formatStart);
+    channel.sendResponse(new BytesRestResponse(OK, formatter.contentType(), out.bytes()));
+  }
+
   private static void logAndPublishMetrics(Exception e) {
     LOG.error("Server side error during query execution", e);
     Metrics.getInstance().getNumericalMetric(MetricName.FAILED_REQ_COUNT_SYS).increment();
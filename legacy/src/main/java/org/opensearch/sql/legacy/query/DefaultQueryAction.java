@@ -45,6 +45,7 @@ import org.opensearch.sql.legacy.executor.Format;
 import org.opensearch.sql.legacy.executor.format.Schema;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.legacy.pit.PointInTimeHandler;
 import org.opensearch.sql.legacy.query.maker.QueryMaker;
 import org.opensearch.sql.legacy.rewriter.nestedfield.NestedFieldProjection;
 import org.opensearch.sql.legacy.utils.SQLFunctions;
@@ -55,6 +56,9 @@ public class DefaultQueryAction extends QueryAction {
   private final Select select;
   private SearchRequestBuilder request;
 
+  /** Keep alive of point in time if the query is paged by search_after rather than scroll */
+  private TimeValue pointInTimeKeepAlive;
+
   private final List<String> fieldNames = new LinkedList<>();
 
   public DefaultQueryAction(Client client, Select select) {
@@ -100,13 +104,51 @@ public class DefaultQueryAction extends QueryAction {
           .getNumericalMetric(MetricName.DEFAULT_CURSOR_REQUEST_COUNT_TOTAL)
           .increment();
       Metrics.getInstance().getNumericalMetric(MetricName.DEFAULT_CURSOR_REQUEST_TOTAL).increment();
-      request.setSize(fetchSize).setScroll(timeValue);
+      if (Boolean.TRUE.equals(
+          clusterState.getSettingValue(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER))) {
+        request.setSize(fetchSize);
+        setSortsForSearchAfter();
+        pointInTimeKeepAlive = timeValue;
+      } else {
+        request.setSize(fetchSize).setScroll(timeValue);
+      }
     } else {
       request.setSearchType(SearchType.DFS_QUERY_THEN_FETCH);
       setLimit(select.getOffset(), rowCount != null ? rowCount : Select.DEFAULT_LIMIT);
     }
   }
 
+  /**
+   * Create point in time of the indices and search in it if the query is paged by search_after.
+   * This is supposed to be called right before the request is executed, so that explaining the
+   * query doesn't create any point in time.
+   *
+   * @return point in time id, or null if the query is not paged by point in time
+   */
+  public String createPointInTime() {
+    if (pointInTimeKeepAlive == null) {
+      return null;
+    }
+    String pitId =
+        PointInTimeHandler.create(client, request.request().indices(), pointInTimeKeepAlive);
+    request
+        .setIndices()
+        .setPointInTime(PointInTimeHandler.pointInTime(pitId, pointInTimeKeepAlive));
+    return pitId;
+  }
+
+  /**
+   * search_after requires a total order of rows. Rows are sorted by score if no ORDER BY, which is
+   * the same as scroll, and then rows of the same sort values are ordered by _shard_doc of the PIT,
+   * which unlike _id doesn't need field data loaded.
+   */
+  private void setSortsForSearchAfter() {
+    if (select.getOrderBys().isEmpty()) {
+      request.addSort(SortBuilders.scoreSort());
+    }
+    request.addSort(PointInTimeHandler.SHARD_DOC_FIELD_NAME, SortOrder.ASC);
+  }
+
   private boolean checkIfScrollNeeded(Integer fetchSize, Integer rowCount) {
     return (format != null && format.equals(Format.JDBC))
         && fetchSize > 0
@@ -14,6 +14,7 @@ public class HashJoinElasticRequestBuilder extends JoinRequestBuilder {
 
   private List<List<Map.Entry<Field, Field>>> t1ToT2FieldsComparison;
   private boolean useTermFiltersOptimization;
+  private boolean useBloomFilterOptimization;
 
   public HashJoinElasticRequestBuilder() {}
 
@@ -38,4 +39,12 @@ public class HashJoinElasticRequestBuilder extends JoinRequestBuilder {
   public void setUseTermFiltersOptimization(boolean useTermFiltersOptimization) {
     this.useTermFiltersOptimization = useTermFiltersOptimization;
   }
+
+  public boolean isUseBloomFilterOptimization() {
+    return useBloomFilterOptimization;
+  }
+
+  public void setUseBloomFilterOptimization(boolean useBloomFilterOptimization) {
+    this.useBloomFilterOptimization = useBloomFilterOptimization;
+  }
 }
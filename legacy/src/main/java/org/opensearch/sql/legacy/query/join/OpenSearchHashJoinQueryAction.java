@@ -52,6 +52,10 @@ public class OpenSearchHashJoinQueryAction extends OpenSearchJoinQueryAction {
     for (Hint hint : joinSelect.getHints()) {
       if (hint.getType() == HintType.HASH_WITH_TERMS_FILTER) {
         ((HashJoinElasticRequestBuilder) requestBuilder).setUseTermFiltersOptimization(true);
+      } else if (hint.getType() == HintType.HASH_WITH_BLOOM_FILTER) {
+        // large key sets are pushed down as a Bloom filter, the others as terms
+        ((HashJoinElasticRequestBuilder) requestBuilder).setUseTermFiltersOptimization(true);
+        ((HashJoinElasticRequestBuilder) requestBuilder).setUseBloomFilterOptimization(true);
       }
     }
   }
@@ -68,6 +68,11 @@ public abstract class OpenSearchJoinQueryAction extends QueryAction {
             queryPlannerConfig(requestBuilder).configureBlockSize(hint.getParams());
           }
           break;
+        case JOIN_ALGORITHM_GRACE_HASH:
+          if (requestBuilder instanceof HashJoinQueryPlanRequestBuilder) {
+            queryPlannerConfig(requestBuilder).configureGraceHashJoin(hint.getParams());
+          }
+          break;
         case JOIN_SCROLL_PAGE_SIZE:
           if (requestBuilder instanceof HashJoinQueryPlanRequestBuilder) {
             queryPlannerConfig(requestBuilder).configureScrollPageSize(hint.getParams());
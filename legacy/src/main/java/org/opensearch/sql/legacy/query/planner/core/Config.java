@@ -41,6 +41,12 @@ public class Config {
   /** Push down column values in ON of first table to query against second table */
   private boolean isUseTermsFilterOptimization = false;
 
+  /**
+   * Number of partitions to spill rows for grace hash join. Block size limits the rows kept in
+   * memory in this case. 0 means block hash join is used.
+   */
+  private int numOfGracePartitions = 0;
+
   /** Total time out (seconds) for the execution */
   private int timeout = DEFAULT_TIME_OUT;
 
@@ -124,6 +130,16 @@ public class Config {
     return isUseTermsFilterOptimization;
   }
 
+  public void configureGraceHashJoin(Object[] params) {
+    if (params.length > 0 && (Integer) params[0] > 0) {
+      numOfGracePartitions = (Integer) params[0];
+    }
+  }
+
+  public int numOfGracePartitions() {
+    return numOfGracePartitions;
+  }
+
   public void configureTimeOut(Object[] params) {
     if (params.length > 0) {
       timeout = (Integer) params[0];
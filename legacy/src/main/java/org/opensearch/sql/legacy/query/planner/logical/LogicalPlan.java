@@ -139,7 +139,8 @@ public class LogicalPlan implements Plan {
         params.joinType(),
         groupJoinConditionByOr(),
         config.blockSize(),
-        config.isUseTermsFilterOptimization());
+        config.isUseTermsFilterOptimization(),
+        config.numOfGracePartitions());
   }
 
   /** Group conditions in ON by OR because it makes hash table group be required too */
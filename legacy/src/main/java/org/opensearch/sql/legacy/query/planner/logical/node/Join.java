@@ -12,6 +12,7 @@ import org.opensearch.sql.legacy.query.planner.core.PlanNode;
 import org.opensearch.sql.legacy.query.planner.logical.LogicalOperator;
 import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
 import org.opensearch.sql.legacy.query.planner.physical.node.join.BlockHashJoin;
+import org.opensearch.sql.legacy.query.planner.physical.node.join.GraceHashJoin;
 import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize;
 
 /** Join expression */
@@ -32,19 +33,24 @@ public class Join implements LogicalOperator {
   /** Use terms filter optimization or not */
   private final boolean isUseTermsFilterOptimization;
 
+  /** Number of partitions for grace hash join, 0 if not used */
+  private final int numOfGracePartitions;
+
   public Join(
       LogicalOperator left,
       LogicalOperator right,
       JoinType joinType,
       JoinCondition condition,
       BlockSize blockSize,
-      boolean isUseTermsFilterOptimization) {
+      boolean isUseTermsFilterOptimization,
+      int numOfGracePartitions) {
     this.left = left;
     this.right = right;
     this.type = joinType;
     this.condition = condition;
     this.blockSize = blockSize;
     this.isUseTermsFilterOptimization = isUseTermsFilterOptimization;
+    this.numOfGracePartitions = numOfGracePartitions;
   }
 
   @Override
@@ -56,6 +62,17 @@ public class Join implements LogicalOperator {
   public <T> PhysicalOperator[] toPhysical(Map<LogicalOperator, PhysicalOperator<T>> optimalOps) {
     PhysicalOperator<T> optimalLeft = optimalOps.get(left);
     PhysicalOperator<T> optimalRight = optimalOps.get(right);
+
+    // Rows with same key must fall into same partition which is impossible for OR conditions
+    if (numOfGracePartitions > 0
+        && condition.groupSize() == 1
+        && optimalLeft.rowCodec().isPresent()
+        && optimalRight.rowCodec().isPresent()) {
+      return new PhysicalOperator[] {
+        new GraceHashJoin<>(
+            optimalLeft, optimalRight, type, condition, blockSize, numOfGracePartitions)
+      };
+    }
     return new PhysicalOperator[] {
       new BlockHashJoin<>(
           optimalLeft, optimalRight, type, condition, blockSize, isUseTermsFilterOptimization)
@@ -6,6 +6,7 @@
 package org.opensearch.sql.legacy.query.planner.physical;
 
 import java.util.Iterator;
+import java.util.Optional;
 import org.opensearch.sql.legacy.query.planner.core.ExecuteParams;
 import org.opensearch.sql.legacy.query.planner.core.PlanNode;
 import org.opensearch.sql.legacy.query.planner.physical.estimation.Cost;
@@ -20,6 +21,15 @@ public interface PhysicalOperator<T> extends PlanNode, Iterator<Row<T>>, AutoClo
    */
   Cost estimate();
 
+  /**
+   * Codec to write rows of the operator out of memory, ex. spill rows to local disk.
+   *
+   * @return codec, or empty if rows cannot be written
+   */
+  default Optional<RowCodec<T>> rowCodec() {
+    return Optional.empty();
+  }
+
   /**
    * Initialize operator.
    *
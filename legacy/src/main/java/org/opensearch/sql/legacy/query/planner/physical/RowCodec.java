@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.query.planner.physical;
+
+import java.io.IOException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/**
+ * Codec to write rows out of memory and read them back, ex. spill rows to local disk.
+ *
+ * @param <T> data object underlying, ex. SearchHit
+ */
+public interface RowCodec<T> {
+
+  /**
+   * Write the row.
+   *
+   * @param row row to write
+   * @param out output stream
+   */
+  void write(Row<T> row, StreamOutput out) throws IOException;
+
+  /**
+   * Read the row written by {@link #write(Row, StreamOutput)}.
+   *
+   * @param in input stream
+   * @return row read
+   */
+  Row<T> read(StreamInput in) throws IOException;
+}
@@ -0,0 +1,461 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.query.planner.physical.node.join;
+
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptyList;
+
+import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource.JoinType;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import org.opensearch.sql.legacy.query.planner.logical.node.Join.JoinCondition;
+import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
+import org.opensearch.sql.legacy.query.planner.physical.Row;
+import org.opensearch.sql.legacy.query.planner.physical.Row.RowKey;
+import org.opensearch.sql.legacy.query.planner.physical.RowCodec;
+import org.opensearch.sql.legacy.query.planner.physical.estimation.Cost;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize;
+
+/**
+ * Grace hash join which partitions rows of both sides by hash of join key so that right side is
+ * scanned only once regardless of how many rows on the left.
+ *
+ * <ol>
+ *   <li>Partition left rows. Partitions are kept in memory until the number of left rows in memory
+ *       exceeds block size, in which case the largest partition is spilled to local temp file.
+ *   <li>Scan right once. Right rows of partitions in memory probe hash table built from them
+ *       directly. Right rows of spilled partitions are spilled too.
+ *   <li>Join each pair of spilled partitions by hash table built from left partition. The pair is
+ *       re-partitioned by another hash first if the left partition still exceeds block size.
+ * </ol>
+ *
+ * Because matched rows must fall into the same partition, join condition with OR is not supported.
+ * Rows of both sides must be able to be spilled by {@link PhysicalOperator#rowCodec()}.
+ *
+ * @param <T> data object underlying, ex. SearchHit
+ */
+public class GraceHashJoin<T> extends JoinAlgorithm<T> {
+
+  /** Max times of re-partitioning spilled partition, ex. rows of same key can never be split */
+  private static final int MAX_PARTITION_LEVEL = 3;
+
+  /** Hash function of each partition level so that rows of a partition are split on next level */
+  private static final HashFunction[] PARTITION_HASHES = new HashFunction[MAX_PARTITION_LEVEL + 1];
+
+  static {
+    for (int level = 0; level <= MAX_PARTITION_LEVEL; level++) {
+      PARTITION_HASHES[level] = Hashing.murmur3_32_fixed(level);
+    }
+  }
+
+  /** Number of partitions to hash rows into */
+  private final int numOfPartitions;
+
+  /** Codec to spill left rows */
+  private final RowCodec<T> leftCodec;
+
+  /** Codec to spill right rows */
+  private final RowCodec<T> rightCodec;
+
+  /** Partitions of left, null if left is not partitioned yet */
+  private List<Partition> partitions;
+
+  /** Spilled partitions to join after right is scanned */
+  private final Deque<Partition> spilledPartitions = new ArrayDeque<>();
+
+  /** Spilled partition being joined */
+  private Partition current;
+
+  /** Right rows to probe hash table, which is right side itself until it's scanned */
+  private Iterator<Row<T>> probing;
+
+  public GraceHashJoin(
+      PhysicalOperator<T> left,
+      PhysicalOperator<T> right,
+      JoinType type,
+      JoinCondition condition,
+      BlockSize blockSize,
+      int numOfPartitions) {
+    super(left, right, type, condition, blockSize);
+    if (condition.groupSize() != 1) {
+      throw new IllegalArgumentException(
+          "Grace hash join only supports join conditions without OR: " + condition);
+    }
+    this.numOfPartitions = numOfPartitions;
+    this.leftCodec =
+        left.rowCodec()
+            .orElseThrow(
+                () -> new IllegalArgumentException("Rows of left cannot be spilled: " + left));
+    this.rightCodec =
+        right
+            .rowCodec()
+            .orElseThrow(
+                () -> new IllegalArgumentException("Rows of right cannot be spilled: " + right));
+  }
+
+  @Override
+  public Cost estimate() {
+    return new Cost();
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    if (partitions != null) {
+      partitions.forEach(Partition::close);
+    }
+    spilledPartitions.forEach(Partition::close);
+    if (current != null) {
+      current.close();
+    }
+  }
+
+  @Override
+  protected Collection<Row<T>> prefetch() throws Exception {
+    if (partitions == null) {
+      if (partitionLeft() == 0) {
+        LOG.debug("No rows from left. Skip scanning right.");
+        probing = emptyIterator();
+      } else {
+        joinPartitionsInMemory();
+      }
+    }
+
+    while (true) {
+      Collection<Row<T>> matched = combineAndBookkeepMismatch(probe());
+      if (!matched.isEmpty()) {
+        return matched;
+      }
+      if (isAnyMismatchForOuterJoin()) {
+        return returnAndClearMismatch();
+      }
+      if (!joinNextSpilledPartition()) {
+        return emptyList();
+      }
+    }
+  }
+
+  @Override
+  protected void reopenRight() throws Exception {
+    right.open(params);
+  }
+
+  /**
+   * Probe hash table by right rows. Spill right rows of spilled partitions while scanning right.
+   * Return if already found enough matched rows to give ResourceMgr a chance to check resource
+   * usage.
+   */
+  @Override
+  protected List<CombinedRow<T>> probe() {
+    List<CombinedRow<T>> combinedRows = new ArrayList<>();
+    int totalSize = 0;
+    while (probing.hasNext() && totalSize < memoryLimit()) {
+      Row<T> rightRow = probing.next();
+      if (probing == right && spillOrSkipRight(rightRow)) {
+        continue;
+      }
+
+      Collection<Row<T>> matchedLeftRows = hashTable.match(rightRow);
+      if (!matchedLeftRows.isEmpty()) {
+        combinedRows.add(new CombinedRow<>(rightRow, matchedLeftRows));
+        totalSize += matchedLeftRows.size();
+      }
+    }
+    return combinedRows;
+  }
+
+  /**
+   * Partition all rows from left and spill the largest partition whenever rows in memory exceed
+   * the block size.
+   *
+   * @return number of rows from left
+   */
+  private int partitionLeft() throws IOException {
+    partitions = newPartitions(0);
+
+    int numOfRows = 0;
+    int numOfRowsInMemory = 0;
+    while (left.hasNext()) {
+      Row<T> row = left.next();
+      Partition partition = partitionOf(partitions, 0, row.key(condition.leftColumnNames(0)));
+      partition.addLeft(row);
+      numOfRows++;
+
+      if (!partition.isSpilled()) {
+        numOfRowsInMemory++;
+        if (numOfRowsInMemory > memoryLimit()) {
+          numOfRowsInMemory -= spillLargestPartition();
+        }
+      }
+    }
+    LOG.debug("Partitioned {} rows from left with {} rows in memory", numOfRows, numOfRowsInMemory);
+    return numOfRows;
+  }
+
+  private int spillLargestPartition() throws IOException {
+    Partition largest = null;
+    for (Partition partition : partitions) {
+      if (!partition.isSpilled()
+          && (largest == null || partition.leftRows.size() > largest.leftRows.size())) {
+        largest = partition;
+      }
+    }
+    return largest.spill();
+  }
+
+  /** Build hash table by partitions in memory and scan right side. */
+  private void joinPartitionsInMemory() throws Exception {
+    List<Row<T>> rowsInMemory = new ArrayList<>();
+    for (Partition partition : partitions) {
+      if (!partition.isSpilled()) {
+        rowsInMemory.addAll(partition.leftRows);
+        partition.leftRows = null;
+      }
+    }
+    buildHashTable(rowsInMemory.iterator());
+
+    reopenRight();
+    probing = right;
+  }
+
+  /**
+   * Spill right row if its partition is spilled.
+   *
+   * @return true if the row is spilled or skipped because of NULL key
+   */
+  private boolean spillOrSkipRight(Row<T> row) {
+    RowKey key = row.key(condition.rightColumnNames(0));
+    if (key == RowKey.NULL) {
+      return true;
+    }
+
+    Partition partition = partitionOf(partitions, 0, key);
+    if (!partition.isSpilled()) {
+      return false;
+    }
+    try {
+      partition.addRight(row);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill right row", e);
+    }
+    return true;
+  }
+
+  /**
+   * Join next pair of partitions spilled.
+   *
+   * @return false if no more partition to join
+   */
+  private boolean joinNextSpilledPartition() throws IOException {
+    if (probing == right) {
+      LOG.debug("No more data from right. Close right.");
+      right.close();
+      probing = emptyIterator();
+      for (Partition partition : partitions) {
+        if (partition.isSpilled()) {
+          spilledPartitions.add(partition);
+        }
+      }
+    }
+    if (current != null) {
+      current.close();
+      current = null;
+    }
+    hashTable.clear();
+
+    while (!spilledPartitions.isEmpty()) {
+      Partition partition = spilledPartitions.poll();
+      if (partition.rightFile == null && type != JoinType.LEFT_OUTER_JOIN) {
+        partition.close();
+        continue;
+      }
+      if (partition.leftFile.size() > memoryLimit() && partition.level < MAX_PARTITION_LEVEL) {
+        try {
+          repartition(partition).forEach(spilledPartitions::push);
+        } finally {
+          partition.close();
+        }
+        continue;
+      }
+
+      LOG.debug(
+          "Join spilled partition: left={}, right={}", partition.leftFile, partition.rightFile);
+      current = partition;
+      buildHashTable(partition.leftFile.read());
+      probing = (partition.rightFile == null) ? emptyIterator() : partition.rightFile.read();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Re-partition spilled partition too large to join in memory by hash function of next level.
+   *
+   * @return spilled partitions of next level
+   */
+  private List<Partition> repartition(Partition partition) throws IOException {
+    int level = partition.level + 1;
+    List<Partition> subPartitions = newPartitions(level);
+
+    Iterator<Row<T>> leftRows = partition.leftFile.read();
+    while (leftRows.hasNext()) {
+      Row<T> row = leftRows.next();
+      partitionOf(subPartitions, level, row.key(condition.leftColumnNames(0))).spillLeft(row);
+    }
+
+    // Right rows can only match left rows in spilled partition of the same key
+    if (partition.rightFile != null) {
+      Iterator<Row<T>> rightRows = partition.rightFile.read();
+      while (rightRows.hasNext()) {
+        Row<T> row = rightRows.next();
+        Partition subPartition =
+            partitionOf(subPartitions, level, row.key(condition.rightColumnNames(0)));
+        if (subPartition.isSpilled()) {
+          subPartition.addRight(row);
+        }
+      }
+    }
+
+    List<Partition> spilled = new ArrayList<>();
+    for (Partition subPartition : subPartitions) {
+      if (!subPartition.isSpilled()) {
+        continue;
+      }
+      // All rows falling into the same partition again are not going to be split by other hash
+      if (subPartition.leftFile.size() == partition.leftFile.size()) {
+        subPartition.level = MAX_PARTITION_LEVEL;
+      }
+      spilled.add(subPartition);
+    }
+    LOG.debug(
+        "Re-partitioned {} into {} partitions of level {}",
+        partition.leftFile,
+        spilled.size(),
+        level);
+    return spilled;
+  }
+
+  private List<Partition> newPartitions(int level) {
+    List<Partition> newPartitions = new ArrayList<>(numOfPartitions);
+    for (int i = 0; i < numOfPartitions; i++) {
+      newPartitions.add(new Partition(level));
+    }
+    return newPartitions;
+  }
+
+  /** Rows with NULL key never match and simply go to the first partition. */
+  private Partition partitionOf(List<Partition> partitionsOfLevel, int level, RowKey key) {
+    int hash = (key == RowKey.NULL) ? 0 : PARTITION_HASHES[level].hashInt(key.hashCode()).asInt();
+    return partitionsOfLevel.get(Math.floorMod(hash, numOfPartitions));
+  }
+
+  private int memoryLimit() {
+    return Math.max(blockSize.size(), 1);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName()
+        + "[ conditions="
+        + condition
+        + ", type="
+        + type
+        + ", blockSize=["
+        + blockSize
+        + "], partitions="
+        + numOfPartitions
+        + " ]";
+  }
+
+  /** Partition of left and right rows with the same join key hash. */
+  private class Partition {
+
+    /** Level of partition, which is greater than 0 if re-partitioned from spilled partition */
+    private int level;
+
+    /** Left rows in memory, null if spilled or moved to hash table */
+    private List<Row<T>> leftRows = new ArrayList<>();
+
+    /** Left rows spilled */
+    private SpillFile<T> leftFile;
+
+    /** Right rows spilled */
+    private SpillFile<T> rightFile;
+
+    private Partition(int level) {
+      this.level = level;
+    }
+
+    private boolean isSpilled() {
+      return leftFile != null;
+    }
+
+    private void addLeft(Row<T> row) throws IOException {
+      if (isSpilled()) {
+        leftFile.write(row);
+      } else {
+        leftRows.add(row);
+      }
+    }
+
+    /** Write left row to spill file directly without keeping any row in memory. */
+    private void spillLeft(Row<T> row) throws IOException {
+      if (leftFile == null) {
+        leftFile = new SpillFile<>(leftCodec);
+        leftRows = null;
+      }
+      leftFile.write(row);
+    }
+
+    private void addRight(Row<T> row) throws IOException {
+      if (rightFile == null) {
+        rightFile = new SpillFile<>(rightCodec);
+      }
+      rightFile.write(row);
+    }
+
+    /**
+     * Spill left rows in memory.
+     *
+     * @return number of rows spilled
+     */
+    private int spill() throws IOException {
+      leftFile = new SpillFile<>(leftCodec);
+      for (Row<T> row : leftRows) {
+        leftFile.write(row);
+      }
+      int numOfRows = leftRows.size();
+      leftRows = null;
+      LOG.debug("Spilled {} rows from left to {}", numOfRows, leftFile);
+      return numOfRows;
+    }
+
+    private void close() {
+      closeQuietly(leftFile);
+      closeQuietly(rightFile);
+      leftFile = null;
+      rightFile = null;
+    }
+
+    private void closeQuietly(SpillFile<T> file) {
+      if (file != null) {
+        try {
+          file.close();
+        } catch (IOException e) {
+          LOG.warn("Failed to delete spill file " + file, e);
+        }
+      }
+    }
+  }
+}
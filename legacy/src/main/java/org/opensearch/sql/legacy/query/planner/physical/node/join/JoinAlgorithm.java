@@ -11,6 +11,7 @@ import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource.JoinType;
 import com.google.common.collect.Sets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import org.apache.logging.log4j.LogManager;
@@ -33,19 +34,19 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
   protected static final Logger LOG = LogManager.getLogger();
 
   /** Left child operator */
-  private final PhysicalOperator<T> left;
+  protected final PhysicalOperator<T> left;
 
   /** Right child operator handled by concrete join algorithm subclass */
   protected final PhysicalOperator<T> right;
 
   /** Join type ex. inner join, left join */
-  private final JoinType type;
+  protected final JoinType type;
 
   /** Joined columns in ON conditions */
-  private final JoinCondition condition;
+  protected final JoinCondition condition;
 
   /** Block size calculator */
-  private final BlockSize blockSize;
+  protected final BlockSize blockSize;
 
   /** Bookkeeping unmatched rows in current block from left */
   private final Set<Row<T>> leftMismatch;
@@ -138,9 +139,11 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
     if (hashTable.isEmpty()) {
       throw new IllegalStateException("Hash table is NOT supposed to be empty");
     }
+    return combineAndBookkeepMismatch(probe());
+  }
 
-    List<CombinedRow<T>> combinedRows = probe();
-
+  /** Combine rows matched by probing and remove matched left rows from mismatch. */
+  protected Collection<Row<T>> combineAndBookkeepMismatch(List<CombinedRow<T>> combinedRows) {
     List<Row<T>> matchRows = new ArrayList<>();
     if (combinedRows.isEmpty()) {
       LOG.debug("No matched row found");
@@ -178,13 +181,13 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
     return right.hasNext();
   }
 
-  private boolean isAnyMismatchForOuterJoin() {
+  protected boolean isAnyMismatchForOuterJoin() {
     return !leftMismatch.isEmpty();
   }
 
   /** Clone mismatch list and clear it so that we won't return it forever */
   @SuppressWarnings("unchecked")
-  private Collection<Row<T>> returnAndClearMismatch() {
+  protected Collection<Row<T>> returnAndClearMismatch() {
     if (LOG.isTraceEnabled()) {
       leftMismatch.forEach(row -> LOG.trace("Mismatched rows before combined: {}", row));
     }
@@ -207,13 +210,17 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
     if (LOG.isTraceEnabled()) {
       LOG.trace("Build hash table on conditions with block: {}, {}", condition, block);
     }
+    buildHashTable(block.iterator());
+  }
 
-    for (Row<T> data : block) {
-      hashTable.add(data);
-    }
-
-    if (type == JoinType.LEFT_OUTER_JOIN) {
-      leftMismatch.addAll(block);
+  /** Add left rows to hash table and bookkeep them as mismatch if outer join. */
+  protected void buildHashTable(Iterator<Row<T>> rows) {
+    while (rows.hasNext()) {
+      Row<T> row = rows.next();
+      hashTable.add(row);
+      if (type == JoinType.LEFT_OUTER_JOIN) {
+        leftMismatch.add(row);
+      }
     }
   }
 
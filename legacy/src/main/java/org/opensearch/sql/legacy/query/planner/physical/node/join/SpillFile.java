@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.query.planner.physical.node.join;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.sql.legacy.query.planner.physical.Row;
+import org.opensearch.sql.legacy.query.planner.physical.RowCodec;
+
+/**
+ * Rows spilled to a local temp file. Rows are appended first and then read back once in the same
+ * order. The temp file is deleted on close.
+ *
+ * @param <T> data object underlying, ex. SearchHit
+ */
+class SpillFile<T> implements Closeable {
+
+  private final RowCodec<T> codec;
+
+  private final Path path;
+
+  private StreamOutput out;
+
+  private StreamInput in;
+
+  /** Number of rows written */
+  private int size;
+
+  SpillFile(RowCodec<T> codec) throws IOException {
+    this.codec = codec;
+    this.path = Files.createTempFile("opensearch-sql-join-", ".spill");
+    this.out = new OutputStreamStreamOutput(new BufferedOutputStream(Files.newOutputStream(path)));
+  }
+
+  void write(Row<T> row) throws IOException {
+    codec.write(row, out);
+    size++;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Finish writing and read the rows back.
+   *
+   * @return iterator of rows in the order written
+   */
+  Iterator<Row<T>> read() throws IOException {
+    out.close();
+    out = null;
+    in = new InputStreamStreamInput(new BufferedInputStream(Files.newInputStream(path)));
+    return new Iterator<Row<T>>() {
+      private int remaining = size;
+
+      @Override
+      public boolean hasNext() {
+        return remaining > 0;
+      }
+
+      @Override
+      public Row<T> next() {
+        if (remaining == 0) {
+          throw new NoSuchElementException("No more rows in spill file " + path);
+        }
+        remaining--;
+        try {
+          return codec.read(in);
+        } catch (IOException e) {
+          throw new UncheckedIOException("Failed to read rows from spill file " + path, e);
+        }
+      }
+    };
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      if (out != null) {
+        out.close();
+      }
+      if (in != null) {
+        in.close();
+      }
+    } finally {
+      Files.deleteIfExists(path);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "SpillFile{path=" + path + ", size=" + size + '}';
+  }
+}
@@ -8,6 +8,7 @@ package org.opensearch.sql.legacy.query.planner.physical.node.scroll;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import org.opensearch.action.search.ClearScrollResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Client;
@@ -26,6 +27,7 @@ import org.opensearch.sql.legacy.query.maker.QueryMaker;
 import org.opensearch.sql.legacy.query.planner.core.ExecuteParams;
 import org.opensearch.sql.legacy.query.planner.core.PlanNode;
 import org.opensearch.sql.legacy.query.planner.physical.Row;
+import org.opensearch.sql.legacy.query.planner.physical.RowCodec;
 import org.opensearch.sql.legacy.query.planner.physical.estimation.Cost;
 import org.opensearch.sql.legacy.query.planner.physical.node.BatchPhysicalOperator;
 import org.opensearch.sql.legacy.query.planner.resource.ResourceManager;
@@ -66,6 +68,11 @@ public class Scroll extends BatchPhysicalOperator<SearchHit> {
     return new Cost();
   }
 
+  @Override
+  public Optional<RowCodec<SearchHit>> rowCodec() {
+    return Optional.of(SearchHitRowCodec.INSTANCE);
+  }
+
   @Override
   public void open(ExecuteParams params) throws Exception {
     super.open(params);
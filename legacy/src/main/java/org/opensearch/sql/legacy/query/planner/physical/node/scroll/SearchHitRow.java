@@ -106,6 +106,10 @@ class SearchHitRow implements Row<SearchHit> {
     return hit;
   }
 
+  String tableAlias() {
+    return tableAlias;
+  }
+
   @Override
   public String toString() {
     return "SearchHitRow{" + "hit=" + source + '}';
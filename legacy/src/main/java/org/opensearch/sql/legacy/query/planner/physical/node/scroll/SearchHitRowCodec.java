@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.query.planner.physical.node.scroll;
+
+import java.io.IOException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.SearchHit;
+import org.opensearch.sql.legacy.query.planner.physical.Row;
+import org.opensearch.sql.legacy.query.planner.physical.RowCodec;
+
+/**
+ * Codec of search hit rows from scroll. Only the hit and table alias are written because the
+ * source of row from scroll is the same as the source of hit. Rows combined or retained are not
+ * supposed to be written.
+ */
+public class SearchHitRowCodec implements RowCodec<SearchHit> {
+
+  public static final SearchHitRowCodec INSTANCE = new SearchHitRowCodec();
+
+  private SearchHitRowCodec() {}
+
+  @Override
+  public void write(Row<SearchHit> row, StreamOutput out) throws IOException {
+    out.writeString(((SearchHitRow) row).tableAlias());
+    row.data().writeTo(out);
+  }
+
+  @Override
+  public Row<SearchHit> read(StreamInput in) throws IOException {
+    String tableAlias = in.readString();
+    return new SearchHitRow(new SearchHit(in), tableAlias);
+  }
+}
@@ -3,6 +3,7 @@ package org.opensearch.sql.legacy.utils;
 import lombok.experimental.UtilityClass;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.sql.legacy.metrics.HistogramMetric;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 
@@ -19,4 +20,20 @@ public class MetricUtils {
       LOG.error("Error while adding metric: {}", throwable.getMessage());
     }
   }
+
+  public static void incrementNumericalMetric(MetricName metricName, long n) {
+    try {
+      Metrics.getInstance().getNumericalMetric(metricName).increment(n);
+    } catch (Throwable throwable) {
+      LOG.error("Error while adding metric: {}", throwable.getMessage());
+    }
+  }
+
+  public static void recordLatency(MetricName metricName, long nanos) {
+    try {
+      ((HistogramMetric) Metrics.getInstance().getMetric(metricName.getName())).record(nanos);
+    } catch (Throwable throwable) {
+      LOG.error("Error while adding metric: {}", throwable.getMessage());
+    }
+  }
 }
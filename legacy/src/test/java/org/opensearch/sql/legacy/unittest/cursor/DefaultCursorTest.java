@@ -9,10 +9,16 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.emptyOrNullString;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import org.junit.Test;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.legacy.cursor.CursorType;
 import org.opensearch.sql.legacy.cursor.DefaultCursor;
 
@@ -53,4 +59,49 @@ public class DefaultCursorTest {
     cursor.setScrollId("");
     assertThat(cursor.generateCursorId(), emptyOrNullString());
   }
+
+  @Test
+  public void pointInTimeCursorShouldBeDecodedAsEncoded() {
+    DefaultCursor cursor = new DefaultCursor();
+    cursor.setRowsLeft(50);
+    cursor.setPitId("pit-id");
+    cursor.setSearchSourceBuilder(
+        new SearchSourceBuilder()
+            .query(QueryBuilders.termQuery("name", "John"))
+            .size(10)
+            .pointInTimeBuilder(new PointInTimeBuilder("pit-id")));
+    cursor.setSortValues(new Object[] {"John", 5L, 1.5, null});
+    cursor.setIndexPattern("myIndex");
+    cursor.setFetchSize(10);
+    cursor.setFieldAliasMap(Collections.emptyMap());
+    cursor.setColumns(new ArrayList<>());
+
+    String cursorId = cursor.generateCursorId();
+    DefaultCursor decoded = DefaultCursor.from(cursorId.split(":", 2)[1]);
+    assertTrue(decoded.isPointInTime());
+    assertEquals("pit-id", decoded.getPitId());
+    assertNull(decoded.getScrollId());
+    assertEquals(
+        new SearchSourceBuilder().query(QueryBuilders.termQuery("name", "John")).size(10),
+        decoded.getSearchSourceBuilder());
+    assertEquals("John", decoded.getSortValues()[0]);
+    assertEquals(5L, ((Number) decoded.getSortValues()[1]).longValue());
+    assertEquals(1.5, decoded.getSortValues()[2]);
+    assertNull(decoded.getSortValues()[3]);
+  }
+
+  @Test
+  public void scrollCursorShouldNotBePointInTime() {
+    DefaultCursor cursor = new DefaultCursor();
+    cursor.setRowsLeft(50);
+    cursor.setScrollId("dbdskbcdjksbcjkdsbcjk+//");
+    cursor.setIndexPattern("myIndex");
+    cursor.setFetchSize(500);
+    cursor.setFieldAliasMap(Collections.emptyMap());
+    cursor.setColumns(new ArrayList<>());
+
+    DefaultCursor decoded = DefaultCursor.from(cursor.generateCursorId().split(":", 2)[1]);
+    assertFalse(decoded.isPointInTime());
+    assertEquals("dbdskbcdjksbcjkdsbcjk+//", decoded.getScrollId());
+  }
 }
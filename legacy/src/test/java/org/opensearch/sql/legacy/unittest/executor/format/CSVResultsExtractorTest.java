@@ -7,8 +7,11 @@ package org.opensearch.sql.legacy.unittest.executor.format;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.Test;
@@ -16,6 +19,7 @@ import org.opensearch.sql.legacy.executor.csv.CSVResult;
 import org.opensearch.sql.legacy.executor.csv.CSVResultsExtractor;
 import org.opensearch.sql.legacy.executor.csv.CsvExtractorException;
 import org.opensearch.sql.legacy.expression.domain.BindingTuple;
+import org.opensearch.sql.protocol.response.format.CsvWriter;
 
 public class CSVResultsExtractorTest {
   private final CSVResultsExtractor csvResultsExtractor = new CSVResultsExtractor(false, false);
@@ -35,6 +39,31 @@ public class CSVResultsExtractorTest {
     assertThat(csvResult.getLines(), contains("31,m", "31,f", "39,m", "39,f"));
   }
 
+  @Test
+  public void writeResultsFromBindingTupleListShouldPass()
+      throws CsvExtractorException, IOException {
+    StringWriter out = new StringWriter();
+    csvResultsExtractor.writeResults(
+        Arrays.asList(
+            BindingTuple.from(ImmutableMap.of("age", 31, "gender", "m")),
+            BindingTuple.from(ImmutableMap.of("age", -39, "gender", "f,m"))),
+        false,
+        ",",
+        Arrays.asList("age", "gender"),
+        new CsvWriter(out, ",", "\n", true));
+
+    assertEquals("age,gender\n31,m\n'-39,\"f,m\"", out.toString());
+  }
+
+  @Test
+  public void writeResultsWithoutLines() throws CsvExtractorException, IOException {
+    StringWriter out = new StringWriter();
+    csvResultsExtractor.writeResults(
+        Arrays.asList(), false, ",", Arrays.asList("age"), new CsvWriter(out, ",", "\n", true));
+
+    assertEquals("age\n", out.toString());
+  }
+
   private CSVResult csv(List<BindingTuple> bindingTupleList, List<String> fieldNames)
       throws CsvExtractorException {
     return csvResultsExtractor.extractResults(bindingTupleList, false, ",", fieldNames);
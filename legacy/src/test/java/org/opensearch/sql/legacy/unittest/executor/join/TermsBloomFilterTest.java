@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.executor.join;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.opensearch.index.query.ScriptQueryBuilder;
+import org.opensearch.sql.legacy.executor.join.TermsBloomFilter;
+
+public class TermsBloomFilterTest {
+
+  @Test
+  public void containsAllTheKeys() {
+    List<Object> values = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      values.add("key" + i);
+      values.add((long) i * 31);
+    }
+    TermsBloomFilter filter = TermsBloomFilter.create(values, 0.01);
+
+    for (Object value : values) {
+      assertTrue(filter.mightContain(value));
+    }
+  }
+
+  @Test
+  public void integralKeysOfAnyTypeAreTheSame() {
+    TermsBloomFilter filter = TermsBloomFilter.create(List.of(5, 7L), 0.01);
+
+    assertTrue(filter.mightContain(5L));
+    assertTrue(filter.mightContain((short) 7));
+  }
+
+  @Test
+  public void falsePositiveRateIsBounded() {
+    List<Object> values = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      values.add("key" + i);
+    }
+    TermsBloomFilter filter = TermsBloomFilter.create(values, 0.01);
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10000; i++) {
+      if (filter.mightContain("other" + i)) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives, lessThan(300));
+  }
+
+  @Test
+  public void supportedKeys() {
+    assertTrue(TermsBloomFilter.isSupported("key"));
+    assertTrue(TermsBloomFilter.isSupported(1));
+    assertTrue(TermsBloomFilter.isSupported(1L));
+    assertFalse(TermsBloomFilter.isSupported(1.5d));
+    assertFalse(TermsBloomFilter.isSupported(List.of("key")));
+  }
+
+  @Test
+  public void pushedDownAsScriptQuery() {
+    ScriptQueryBuilder query =
+        (ScriptQueryBuilder) TermsBloomFilter.create(List.of("a", "b"), 0.01).toQuery("name");
+
+    Map<String, Object> params = query.script().getParams();
+    assertEquals("name", params.get("field"));
+    assertEquals("painless", query.script().getLang());
+    assertEquals(((Integer) params.get("size") + 63) / 64, ((List<?>) params.get("bits")).size());
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.Map;
+import org.junit.Test;
+import org.opensearch.sql.common.utils.QueryPhaseTimer.Phase;
+import org.opensearch.sql.legacy.metrics.HistogramMetric;
+import org.opensearch.sql.legacy.metrics.LatencyHistogram;
+import org.opensearch.sql.legacy.metrics.MetricFactory;
+import org.opensearch.sql.legacy.metrics.MetricName;
+
+public class HistogramMetricTest {
+
+  @Test
+  public void percentilesOfSmallValuesAreExact() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 8; i++) {
+      histogram.record(i);
+    }
+
+    assertThat(histogram.getCount(), equalTo(8L));
+    assertThat(histogram.getValueAtPercentile(50), equalTo(4L));
+    assertThat(histogram.getValueAtPercentile(100), equalTo(8L));
+    assertThat(histogram.getMax(), equalTo(8L));
+  }
+
+  @Test
+  public void percentilesOfLargeValuesAreWithinBucketPrecision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 100_000; i++) {
+      histogram.record(i);
+    }
+
+    assertThat(
+        histogram.getValueAtPercentile(50),
+        allOf(greaterThanOrEqualTo(50_000L), lessThanOrEqualTo(56_250L)));
+    assertThat(
+        histogram.getValueAtPercentile(99),
+        allOf(greaterThanOrEqualTo(99_000L), lessThanOrEqualTo(100_000L)));
+    assertThat(histogram.getMax(), equalTo(100_000L));
+  }
+
+  @Test
+  public void emptyHistogram() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertThat(histogram.getCount(), equalTo(0L));
+    assertThat(histogram.getValueAtPercentile(99), equalTo(0L));
+  }
+
+  @Test
+  public void negativeLatencyIsRecordedAsZero() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-5);
+    assertThat(histogram.getValueAtPercentile(100), equalTo(0L));
+  }
+
+  @Test
+  public void reset() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(100);
+    histogram.reset();
+
+    assertThat(histogram.getCount(), equalTo(0L));
+    assertThat(histogram.getMax(), equalTo(0L));
+  }
+
+  @Test
+  public void valueInMillis() {
+    HistogramMetric metric = new HistogramMetric("test", new LatencyHistogram());
+    metric.record(2_000_000L); // 2 ms
+
+    Map<String, Object> value = metric.getValue();
+    assertThat(value, hasEntry("count", (Object) 1L));
+    assertThat(value, hasEntry("p50", (Object) 2.0));
+    assertThat(value, hasEntry("max", (Object) 2.0));
+  }
+
+  @Test
+  public void createLatencyMetricOfQueryPhase() {
+    for (Phase phase : Phase.values()) {
+      MetricName name = MetricName.latencyOf(phase);
+      assertThat(MetricFactory.createMetric(name) instanceof HistogramMetric, equalTo(true));
+    }
+  }
+}
@@ -65,12 +65,63 @@ public class RollingCounterTest {
   public void trim() {
     RollingCounter counter = new RollingCounter(2, 1, clock);
 
-    for (int i = 1; i < 6; ++i) {
+    for (int i = 1; i < 5; ++i) {
       counter.increment();
       assertThat(counter.size(), equalTo(i));
       when(clock.millis()).thenReturn(i * 1000L); // i seconds passed
     }
-    counter.increment();
-    assertThat(counter.size(), lessThanOrEqualTo(3));
+
+    // Ring of 4 slots is full and the oldest slot is reused from now on
+    for (int i = 5; i < 10; ++i) {
+      counter.increment();
+      assertThat(counter.size(), equalTo(4));
+      when(clock.millis()).thenReturn(i * 1000L); // i seconds passed
+    }
+    assertThat(counter.getValue(), equalTo(1L));
+  }
+
+  @Test
+  public void lateCountOfReusedSlotIsDropped() {
+    RollingCounter counter = new RollingCounter(2, 1, clock);
+    when(clock.millis()).thenReturn(4000L);
+    counter.add(3);
+
+    // Slot of 0 second is taken by 4 seconds
+    when(clock.millis()).thenReturn(0L);
+    counter.add(5);
+    assertThat(counter.getValue(0L), equalTo(0L));
+    assertThat(counter.getValue(4L), equalTo(3L));
+  }
+
+  @Test
+  public void reset() {
+    RollingCounter counter = new RollingCounter(2, 1, clock);
+    counter.add(5);
+    counter.reset();
+
+    when(clock.millis()).thenReturn(1000L);
+    assertThat(counter.getValue(), equalTo(0L));
+    assertThat(counter.size(), equalTo(0));
+  }
+
+  @Test
+  public void concurrentIncrement() throws InterruptedException {
+    RollingCounter counter = new RollingCounter(2, 1, clock);
+    Thread[] threads = new Thread[8];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  counter.increment();
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(counter.getValue(0L), equalTo(8000L));
   }
 }
@@ -448,6 +448,24 @@ public class SqlParserTest {
     Assert.assertEquals(HintType.HASH_WITH_TERMS_FILTER, hint.getType());
   }
 
+  @Test
+  public void hashBloomFilterHint() throws SqlParseException {
+    String query =
+        String.format(
+            Locale.ROOT,
+            "select /*! HASH_WITH_BLOOM_FILTER*/ "
+                + "c.name.firstname,c.parents.father , h.name,h.words from %s/gotCharacters c "
+                + "JOIN %s/gotCharacters h "
+                + "on c.name.lastname = h.name  "
+                + "where c.name.firstname='Daenerys'",
+            TEST_INDEX_GAME_OF_THRONES,
+            TEST_INDEX_GAME_OF_THRONES);
+    JoinSelect joinSelect = parser.parseJoinSelect((SQLQueryExpr) queryToExpr(query));
+    List<Hint> hints = joinSelect.getHints();
+    Assert.assertEquals("hints size was not 1", 1, hints.size());
+    Assert.assertEquals(HintType.HASH_WITH_BLOOM_FILTER, hints.get(0).getType());
+  }
+
   @Test
   public void multipleHints() throws SqlParseException {
     String query =
@@ -42,6 +42,13 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
         hint(hintType(HintType.JOIN_ALGORITHM_USE_LEGACY), hintValues()));
   }
 
+  @Test
+  public void algorithmGraceHashHint() {
+    assertThat(
+        parseHint("! JOIN_ALGORITHM_GRACE_HASH(16)"),
+        hint(hintType(HintType.JOIN_ALGORITHM_GRACE_HASH), hintValues(16)));
+  }
+
   @Test
   public void algorithmBlockSizeHintWithSpaces() {
     assertThat(
@@ -98,6 +105,16 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
             timeOut(Config.DEFAULT_TIME_OUT)));
   }
 
+  @Test
+  public void graceHashJoinConfig() {
+    Config config =
+        queryPlannerConfig(
+            "SELECT /*! JOIN_ALGORITHM_GRACE_HASH(16) */ "
+                + "  d.name FROM employee e JOIN department d ON d.id = e.departmentId ");
+    assertThat(config.numOfGracePartitions(), is(16));
+    assertThat(config.blockSize().size(), is(Config.DEFAULT_BLOCK_SIZE));
+  }
+
   @Test
   public void scrollPageSizeConfig() {
     assertThat(
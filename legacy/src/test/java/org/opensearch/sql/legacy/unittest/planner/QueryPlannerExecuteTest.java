@@ -429,4 +429,112 @@ public class QueryPlannerExecuteTest extends QueryPlannerTest {
                 department(2, "4", "AWS"))),
         hits(hit(MatcherUtils.kv("d.name", "Dell"), MatcherUtils.kv("e.lastname", "Alice"))));
   }
+
+  @Test
+  public void graceHashJoinWithSpilledPartitions() {
+    MatcherAssert.assertThat(
+        query(
+            "SELECT /*! JOIN_ALGORITHM_GRACE_HASH(2) */ /*! JOIN_ALGORITHM_BLOCK_SIZE(1) */ "
+                + "  d.name, e.lastname FROM employee e "
+                + "    JOIN department d ON d.id = e.departmentId",
+            employees(
+                employee(1, "Alice", "1"),
+                employee(2, "Hank", "2"),
+                employee(3, "Mike", "3"),
+                employee(4, "Dell", "1"),
+                employee(5, "Allen", null)),
+            departments(
+                department(1, "1", "AWS"),
+                department(2, "2", "Retail"),
+                department(3, "4", "Search"),
+                department(4, null, "Mobile"))),
+        hits(
+            hit(MatcherUtils.kv("d.name", "AWS"), MatcherUtils.kv("e.lastname", "Alice")),
+            hit(MatcherUtils.kv("d.name", "AWS"), MatcherUtils.kv("e.lastname", "Dell")),
+            hit(MatcherUtils.kv("d.name", "Retail"), MatcherUtils.kv("e.lastname", "Hank"))));
+  }
+
+  @Test
+  public void graceHashJoinInMemory() {
+    MatcherAssert.assertThat(
+        query(
+            "SELECT /*! JOIN_ALGORITHM_GRACE_HASH(4) */ "
+                + "  d.name, e.lastname FROM employee e "
+                + "    JOIN department d ON d.id = e.departmentId",
+            employees(employee(1, "Alice", "1"), employee(2, "Hank", "2")),
+            departments(department(1, "1", "AWS"), department(2, "3", "Retail"))),
+        hits(hit(MatcherUtils.kv("d.name", "AWS"), MatcherUtils.kv("e.lastname", "Alice"))));
+  }
+
+  @Test
+  public void graceHashLeftJoinWithSpilledPartitions() {
+    MatcherAssert.assertThat(
+        query(
+            "SELECT /*! JOIN_ALGORITHM_GRACE_HASH(3) */ /*! JOIN_ALGORITHM_BLOCK_SIZE(2) */ "
+                + "  d.name, e.lastname FROM employee e "
+                + "    LEFT JOIN department d ON d.id = e.departmentId",
+            employees(
+                employee(1, "Alice", "1"),
+                employee(2, "Hank", "2"),
+                employee(3, "Mike", "3"),
+                employee(4, "Dell", "1"),
+                employee(5, "Allen", null)),
+            departments(department(1, "1", "AWS"), department(2, "3", "Retail"))),
+        hits(
+            hit(MatcherUtils.kv("d.name", "AWS"), MatcherUtils.kv("e.lastname", "Alice")),
+            hit(MatcherUtils.kv("d.name", "AWS"), MatcherUtils.kv("e.lastname", "Dell")),
+            hit(MatcherUtils.kv("d.name", "Retail"), MatcherUtils.kv("e.lastname", "Mike")),
+            hit(MatcherUtils.kv("d.name", null), MatcherUtils.kv("e.lastname", "Hank")),
+            hit(MatcherUtils.kv("d.name", null), MatcherUtils.kv("e.lastname", "Allen"))));
+  }
+
+  @Test
+  public void graceHashJoinWithRepartitionedSpilledPartitions() {
+    MatcherAssert.assertThat(
+        query(
+            "SELECT /*! JOIN_ALGORITHM_GRACE_HASH(2) */ /*! JOIN_ALGORITHM_BLOCK_SIZE(1) */ "
+                + "  d.name, e.lastname FROM employee e "
+                + "    LEFT JOIN department d ON d.id = e.departmentId",
+            employees(
+                employee(1, "Alice", "1"),
+                employee(2, "Hank", "2"),
+                employee(3, "Mike", "3"),
+                employee(4, "Dell", "4"),
+                employee(5, "Allen", "5"),
+                employee(6, "Bob", "6"),
+                employee(7, "Carl", "1"),
+                employee(8, "Eve", null)),
+            departments(
+                department(1, "1", "AWS"),
+                department(2, "2", "Retail"),
+                department(3, "4", "Search"),
+                department(4, "6", "Mobile"),
+                department(5, "7", "Cloud"))),
+        hits(
+            hit(MatcherUtils.kv("d.name", "AWS"), MatcherUtils.kv("e.lastname", "Alice")),
+            hit(MatcherUtils.kv("d.name", "AWS"), MatcherUtils.kv("e.lastname", "Carl")),
+            hit(MatcherUtils.kv("d.name", "Retail"), MatcherUtils.kv("e.lastname", "Hank")),
+            hit(MatcherUtils.kv("d.name", "Search"), MatcherUtils.kv("e.lastname", "Dell")),
+            hit(MatcherUtils.kv("d.name", "Mobile"), MatcherUtils.kv("e.lastname", "Bob")),
+            hit(MatcherUtils.kv("d.name", null), MatcherUtils.kv("e.lastname", "Mike")),
+            hit(MatcherUtils.kv("d.name", null), MatcherUtils.kv("e.lastname", "Allen")),
+            hit(MatcherUtils.kv("d.name", null), MatcherUtils.kv("e.lastname", "Eve"))));
+  }
+
+  @Test
+  public void graceHashJoinWithOrConditionsFallsBackToBlockHashJoin() {
+    MatcherAssert.assertThat(
+        query(
+            "SELECT /*! JOIN_ALGORITHM_GRACE_HASH(2) */ "
+                + " d.name, e.lastname "
+                + "  FROM employee e "
+                + "    JOIN department d "
+                + "      ON d.id = e.departmentId OR d.name = e.lastname",
+            employees(
+                employee(1, "Alice", "1"), employee(2, "Dell", "2"), employee(3, "Hank", "3")),
+            departments(department(1, "1", "Dell"), department(2, "4", "AWS"))),
+        hits(
+            hit(MatcherUtils.kv("d.name", "Dell"), MatcherUtils.kv("e.lastname", "Alice")),
+            hit(MatcherUtils.kv("d.name", "Dell"), MatcherUtils.kv("e.lastname", "Dell"))));
+  }
 }
@@ -23,10 +23,17 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchRequestBuilder;
 import org.opensearch.client.Client;
+import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.script.Script;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.domain.Field;
 import org.opensearch.sql.legacy.domain.KVValue;
@@ -36,6 +43,7 @@ import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.exception.SqlParseException;
 import org.opensearch.sql.legacy.executor.Format;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.legacy.pit.PointInTimeHandler;
 import org.opensearch.sql.legacy.query.DefaultQueryAction;
 import org.opensearch.sql.legacy.request.SqlRequest;
 
@@ -228,7 +236,60 @@ public class DefaultQueryActionTest {
     Mockito.verify(mockRequestBuilder, never()).setScroll(timeValue);
   }
 
-  private void mockLocalClusterStateAndInitializeMetrics(TimeValue time) {
+  @Test
+  public void testIfPointInTimeShouldBeUsedInsteadOfScroll() {
+    TimeValue timeValue = new TimeValue(120000);
+    LocalClusterState mockLocalClusterState = mockLocalClusterStateAndInitializeMetrics(timeValue);
+    doReturn(true)
+        .when(mockLocalClusterState)
+        .getSettingValue(Settings.Key.SQL_PAGINATION_API_SEARCH_AFTER);
+
+    int userFetchSize = 20;
+    doReturn(2300).when(mockSelect).getRowCount();
+    SqlRequest mockSqlRequest = mock(SqlRequest.class);
+    doReturn(userFetchSize).when(mockSqlRequest).fetchSize();
+    doReturn(mockRequestBuilder).when(mockRequestBuilder).setSize(userFetchSize);
+    queryAction.setSqlRequest(mockSqlRequest);
+    queryAction.setFormat(Format.JDBC);
+
+    queryAction.checkAndSetScroll();
+    Mockito.verify(mockRequestBuilder).setSize(userFetchSize);
+    Mockito.verify(mockRequestBuilder, never()).setScroll(any(TimeValue.class));
+    Mockito.verify(mockRequestBuilder).addSort(SortBuilders.scoreSort());
+    Mockito.verify(mockRequestBuilder)
+        .addSort(PointInTimeHandler.SHARD_DOC_FIELD_NAME, SortOrder.ASC);
+
+    ActionFuture<CreatePitResponse> future = mock(ActionFuture.class);
+    CreatePitResponse response = mock(CreatePitResponse.class);
+    doReturn("pit-id").when(response).getId();
+    doReturn(response).when(future).actionGet();
+    doReturn(future).when(mockClient).execute(eq(CreatePitAction.INSTANCE), any());
+    doReturn(new SearchRequest("test")).when(mockRequestBuilder).request();
+    doReturn(mockRequestBuilder).when(mockRequestBuilder).setIndices();
+
+    Assert.assertEquals("pit-id", queryAction.createPointInTime());
+    Mockito.verify(mockRequestBuilder)
+        .setPointInTime(new PointInTimeBuilder("pit-id").setKeepAlive(timeValue));
+  }
+
+  @Test
+  public void testPointInTimeShouldNotBeCreatedIfScrollUsed() {
+    TimeValue timeValue = new TimeValue(120000);
+    mockLocalClusterStateAndInitializeMetrics(timeValue);
+
+    doReturn(2300).when(mockSelect).getRowCount();
+    SqlRequest mockSqlRequest = mock(SqlRequest.class);
+    doReturn(20).when(mockSqlRequest).fetchSize();
+    doReturn(mockRequestBuilder).when(mockRequestBuilder).setSize(20);
+    queryAction.setSqlRequest(mockSqlRequest);
+    queryAction.setFormat(Format.JDBC);
+
+    queryAction.checkAndSetScroll();
+    Assert.assertNull(queryAction.createPointInTime());
+    Mockito.verify(mockClient, never()).execute(any(), any());
+  }
+
+  private LocalClusterState mockLocalClusterStateAndInitializeMetrics(TimeValue time) {
     LocalClusterState mockLocalClusterState = mock(LocalClusterState.class);
     LocalClusterState.state(mockLocalClusterState);
     doReturn(time).when(mockLocalClusterState).getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
@@ -238,6 +299,7 @@ public class DefaultQueryActionTest {
     doReturn(2L).when(mockLocalClusterState).getSettingValue(Settings.Key.METRICS_ROLLING_INTERVAL);
 
     Metrics.getInstance().registerDefaultMetrics();
+    return mockLocalClusterState;
   }
 
   private Field createScriptField(
@@ -18,6 +18,7 @@ import org.opensearch.sql.planner.physical.FilterOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PipelineOperator;
 import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
@@ -97,6 +98,11 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new EvalOperator(visitInput(node.getInput(), context), node.getExpressionList());
   }
 
+  @Override
+  public PhysicalPlan visitPipeline(PipelineOperator node, Object context) {
+    return new PipelineOperator(visitInput(node.getInput(), context), node.getOperators());
+  }
+
   @Override
   public PhysicalPlan visitNested(NestedOperator node, Object context) {
     return doProtect(
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.SingleBucketAggregation;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.sql.ast.tree.Sort;
+
+/**
+ * Top-N Aggregation Parser which include terms aggregation ordered by a metric, missing aggregation
+ * and metric parsers. Terms aggregation doesn't return the bucket of null key which composite
+ * aggregation does, so the missing bucket is inserted into the buckets by the metric order before
+ * the offset and size are applied.
+ */
+@EqualsAndHashCode
+public class TopNAggregationParser implements OpenSearchAggregationResponseParser {
+
+  /** Name of terms aggregation. */
+  public static final String TERMS_BUCKETS = "terms_buckets";
+
+  /** Name of missing aggregation. */
+  public static final String MISSING_BUCKET = "missing_bucket";
+
+  private final MetricParserHelper metricsParser;
+
+  /** Name of the grouping field. */
+  private final String groupName;
+
+  /** Name of the metric which buckets are ordered by. */
+  private final String metricName;
+
+  /** Sort option of the metric. */
+  private final Sort.SortOption sortOption;
+
+  private final int offset;
+
+  private final int size;
+
+  /** Constructor of TopNAggregationParser. */
+  public TopNAggregationParser(
+      List<MetricParser> metricParserList,
+      String groupName,
+      String metricName,
+      Sort.SortOption sortOption,
+      int offset,
+      int size) {
+    this.metricsParser = new MetricParserHelper(metricParserList);
+    this.groupName = groupName;
+    this.metricName = metricName;
+    this.sortOption = sortOption;
+    this.offset = offset;
+    this.size = size;
+  }
+
+  @Override
+  public List<Map<String, Object>> parse(Aggregations aggregations) {
+    List<Map<String, Object>> results = new ArrayList<>();
+    for (Terms.Bucket bucket : ((Terms) aggregations.get(TERMS_BUCKETS)).getBuckets()) {
+      Map<String, Object> resultMap = new HashMap<>();
+      resultMap.put(groupName, bucket.getKey());
+      resultMap.putAll(metricsParser.parse(bucket.getAggregations()));
+      results.add(resultMap);
+    }
+
+    SingleBucketAggregation missing = aggregations.get(MISSING_BUCKET);
+    if (missing.getDocCount() > 0) {
+      Map<String, Object> resultMap = new HashMap<>();
+      resultMap.put(groupName, null);
+      resultMap.putAll(metricsParser.parse(missing.getAggregations()));
+      insert(results, resultMap);
+    }
+
+    int from = Math.min(offset, results.size());
+    int to = Math.min(offset + size, results.size());
+    return results.subList(from, to);
+  }
+
+  /**
+   * Insert the bucket of null key before the first bucket not ordered before it, which is the same
+   * position as composite aggregation with null key first followed by a stable sort.
+   */
+  private void insert(List<Map<String, Object>> results, Map<String, Object> resultMap) {
+    Comparator<Double> order =
+        sortOption.getSortOrder() == Sort.SortOrder.ASC
+            ? Comparator.naturalOrder()
+            : Comparator.reverseOrder();
+    Comparator<Double> comparator =
+        sortOption.getNullOrder() == Sort.NullOrder.NULL_FIRST
+            ? Comparator.nullsFirst(order)
+            : Comparator.nullsLast(order);
+
+    Double value = (Double) resultMap.get(metricName);
+    int pos = 0;
+    while (pos < results.size()
+        && comparator.compare((Double) results.get(pos).get(metricName), value) < 0) {
+      pos++;
+    }
+    results.add(pos, resultMap);
+  }
+}
@@ -69,6 +69,13 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> SQL_PAGINATION_API_SEARCH_AFTER_SETTING =
+      Setting.boolSetting(
+          Key.SQL_PAGINATION_API_SEARCH_AFTER.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> PPL_ENABLED_SETTING =
       Setting.boolSetting(
           Key.PPL_ENABLED.getKeyValue(),
@@ -123,6 +130,27 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.Final,
           Setting.Property.Filtered);
 
+  public static final Setting<Boolean> PARSER_WARMUP_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.PARSER_WARMUP_ENABLED.getKeyValue(),
+          true,
+          Setting.Property.NodeScope,
+          Setting.Property.Final);
+
+  public static final Setting<Boolean> EXPLAIN_OPTIMIZER_RULES_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.EXPLAIN_OPTIMIZER_RULES_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<Boolean> TOP_N_AGGREGATION_PUSHDOWN_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.TOP_N_AGGREGATION_PUSHDOWN_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<List<String>> DATASOURCE_URI_HOSTS_DENY_LIST =
       Setting.listSetting(
           Key.DATASOURCES_URI_HOSTS_DENY_LIST.getKeyValue(),
@@ -144,6 +172,14 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> SPARK_EXECUTION_SESSION_WARM_POOL_SIZE_SETTING =
+      Setting.intSetting(
+          Key.SPARK_EXECUTION_SESSION_WARM_POOL_SIZE.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> SPARK_EXECUTION_REFRESH_JOB_LIMIT_SETTING =
       Setting.intSetting(
           Key.SPARK_EXECUTION_REFRESH_JOB_LIMIT.getKeyValue(),
@@ -165,6 +201,14 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<TimeValue> SPARK_EXECUTION_RESULT_REUSE_TTL_SETTING =
+      Setting.timeSetting(
+          Key.SPARK_EXECUTION_RESULT_REUSE_TTL.getKeyValue(),
+          TimeValue.ZERO,
+          TimeValue.ZERO,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<Boolean> AUTO_INDEX_MANAGEMENT_ENABLED_SETTING =
       Setting.boolSetting(
           Key.AUTO_INDEX_MANAGEMENT_ENABLED.getKeyValue(),
@@ -172,6 +216,22 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<Float> AUTO_INDEX_MANAGEMENT_REQUESTS_PER_SECOND_SETTING =
+      Setting.floatSetting(
+          Key.AUTO_INDEX_MANAGEMENT_REQUESTS_PER_SECOND.getKeyValue(),
+          1000f,
+          -1f,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<Integer> AUTO_INDEX_MANAGEMENT_SLICES_SETTING =
+      Setting.intSetting(
+          Key.AUTO_INDEX_MANAGEMENT_SLICES.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> DATASOURCES_LIMIT_SETTING =
       Setting.intSetting(
           Key.DATASOURCES_LIMIT.getKeyValue(),
@@ -214,6 +274,12 @@ public class OpenSearchSettings extends Settings {
         Key.SQL_DELETE_ENABLED,
         SQL_DELETE_ENABLED_SETTING,
         new Updater(Key.SQL_DELETE_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.SQL_PAGINATION_API_SEARCH_AFTER,
+        SQL_PAGINATION_API_SEARCH_AFTER_SETTING,
+        new Updater(Key.SQL_PAGINATION_API_SEARCH_AFTER));
     register(
         settingBuilder,
         clusterSettings,
@@ -262,6 +328,12 @@ public class OpenSearchSettings extends Settings {
         Key.SPARK_EXECUTION_SESSION_LIMIT,
         SPARK_EXECUTION_SESSION_LIMIT_SETTING,
         new Updater(Key.SPARK_EXECUTION_SESSION_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.SPARK_EXECUTION_SESSION_WARM_POOL_SIZE,
+        SPARK_EXECUTION_SESSION_WARM_POOL_SIZE_SETTING,
+        new Updater(Key.SPARK_EXECUTION_SESSION_WARM_POOL_SIZE));
     register(
         settingBuilder,
         clusterSettings,
@@ -280,12 +352,30 @@ public class OpenSearchSettings extends Settings {
         Key.RESULT_INDEX_TTL,
         RESULT_INDEX_TTL_SETTING,
         new Updater(Key.RESULT_INDEX_TTL));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.SPARK_EXECUTION_RESULT_REUSE_TTL,
+        SPARK_EXECUTION_RESULT_REUSE_TTL_SETTING,
+        new Updater(Key.SPARK_EXECUTION_RESULT_REUSE_TTL));
     register(
         settingBuilder,
         clusterSettings,
         Key.AUTO_INDEX_MANAGEMENT_ENABLED,
         AUTO_INDEX_MANAGEMENT_ENABLED_SETTING,
         new Updater(Key.AUTO_INDEX_MANAGEMENT_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.AUTO_INDEX_MANAGEMENT_REQUESTS_PER_SECOND,
+        AUTO_INDEX_MANAGEMENT_REQUESTS_PER_SECOND_SETTING,
+        new Updater(Key.AUTO_INDEX_MANAGEMENT_REQUESTS_PER_SECOND));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.AUTO_INDEX_MANAGEMENT_SLICES,
+        AUTO_INDEX_MANAGEMENT_SLICES_SETTING,
+        new Updater(Key.AUTO_INDEX_MANAGEMENT_SLICES));
     register(
         settingBuilder,
         clusterSettings,
@@ -300,6 +390,18 @@ public class OpenSearchSettings extends Settings {
         Key.SESSION_INACTIVITY_TIMEOUT_MILLIS,
         SESSION_INACTIVITY_TIMEOUT_MILLIS_SETTING,
         new Updater((Key.SESSION_INACTIVITY_TIMEOUT_MILLIS)));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.EXPLAIN_OPTIMIZER_RULES_ENABLED,
+        EXPLAIN_OPTIMIZER_RULES_ENABLED_SETTING,
+        new Updater(Key.EXPLAIN_OPTIMIZER_RULES_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.TOP_N_AGGREGATION_PUSHDOWN_ENABLED,
+        TOP_N_AGGREGATION_PUSHDOWN_ENABLED_SETTING,
+        new Updater(Key.TOP_N_AGGREGATION_PUSHDOWN_ENABLED));
     defaultSettings = settingBuilder.build();
   }
 
@@ -356,6 +458,7 @@ public class OpenSearchSettings extends Settings {
         .add(SQL_SLOWLOG_SETTING)
         .add(SQL_CURSOR_KEEP_ALIVE_SETTING)
         .add(SQL_DELETE_ENABLED_SETTING)
+        .add(SQL_PAGINATION_API_SEARCH_AFTER_SETTING)
         .add(PPL_ENABLED_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
@@ -364,12 +467,18 @@ public class OpenSearchSettings extends Settings {
         .add(DATASOURCE_URI_HOSTS_DENY_LIST)
         .add(SPARK_EXECUTION_ENGINE_CONFIG)
         .add(SPARK_EXECUTION_SESSION_LIMIT_SETTING)
+        .add(SPARK_EXECUTION_SESSION_WARM_POOL_SIZE_SETTING)
         .add(SPARK_EXECUTION_REFRESH_JOB_LIMIT_SETTING)
         .add(SESSION_INDEX_TTL_SETTING)
         .add(RESULT_INDEX_TTL_SETTING)
+        .add(SPARK_EXECUTION_RESULT_REUSE_TTL_SETTING)
         .add(AUTO_INDEX_MANAGEMENT_ENABLED_SETTING)
+        .add(AUTO_INDEX_MANAGEMENT_REQUESTS_PER_SECOND_SETTING)
+        .add(AUTO_INDEX_MANAGEMENT_SLICES_SETTING)
         .add(DATASOURCES_LIMIT_SETTING)
         .add(SESSION_INACTIVITY_TIMEOUT_MILLIS_SETTING)
+        .add(EXPLAIN_OPTIMIZER_RULES_ENABLED_SETTING)
+        .add(TOP_N_AGGREGATION_PUSHDOWN_ENABLED_SETTING)
         .build();
   }
 
@@ -378,6 +487,7 @@ public class OpenSearchSettings extends Settings {
     return new ImmutableList.Builder<Setting<?>>()
         .add(DATASOURCE_MASTER_SECRET_KEY)
         .add(DATASOURCE_CONFIG)
+        .add(PARSER_WARMUP_ENABLED_SETTING)
         .build();
   }
 
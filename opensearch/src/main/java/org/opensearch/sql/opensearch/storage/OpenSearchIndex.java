@@ -163,6 +163,9 @@ public class OpenSearchIndex implements Table {
     final int querySizeLimit = settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT);
 
     final TimeValue cursorKeepAlive = settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
+    final boolean topNPushDownEnabled =
+        Boolean.TRUE.equals(
+            settings.getSettingValue(Settings.Key.TOP_N_AGGREGATION_PUSHDOWN_ENABLED));
     var builder = new OpenSearchRequestBuilder(querySizeLimit, createExprValueFactory());
     Function<OpenSearchRequestBuilder, OpenSearchIndexScan> createScanOperator =
         requestBuilder ->
@@ -170,7 +173,7 @@ public class OpenSearchIndex implements Table {
                 client,
                 requestBuilder.getMaxResponseSize(),
                 requestBuilder.build(indexName, getMaxResultWindow(), cursorKeepAlive));
-    return new OpenSearchIndexScanBuilder(builder, createScanOperator);
+    return new OpenSearchIndexScanBuilder(builder, topNPushDownEnabled, createScanOperator);
   }
 
   private OpenSearchExprValueFactory createExprValueFactory() {
@@ -5,29 +5,54 @@
 
 package org.opensearch.sql.opensearch.storage.scan;
 
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder.AGGREGATION_BUCKET_SIZE;
+
+import com.google.common.collect.ImmutableSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.sql.ast.tree.Sort;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
 import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalLimit;
 import org.opensearch.sql.planner.logical.LogicalSort;
 
 /** Index scan builder for aggregate query used by {@link OpenSearchIndexScanBuilder} internally. */
 @EqualsAndHashCode
 class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
 
+  /** Types of grouping field supported by terms aggregation for top-N query. */
+  private static final Set<ExprType> TERMS_GROUP_TYPES =
+      ImmutableSet.of(STRING, BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE);
+
+  /**
+   * Metrics supported for top-N query, which are never null and never negative such that the error
+   * of the top terms collected from each shard is bounded.
+   */
+  private static final Set<String> TOP_N_METRICS = ImmutableSet.of("count");
+
   /** OpenSearch index scan to be optimized. */
   private final OpenSearchRequestBuilder requestBuilder;
 
@@ -40,9 +65,26 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
   /** Sorting items pushed down. */
   private List<Pair<Sort.SortOption, Expression>> sortList;
 
+  /** Sorting item by a metric pushed down along with limit for top-N query. */
+  private Pair<Sort.SortOption, Expression> topNSortItem;
+
+  /** Is sort by a metric and limit allowed to be pushed down as top-N query. */
+  private final boolean topNPushDownEnabled;
+
+  /** Limit pushed down for top-N query. */
+  private LogicalLimit topNLimit;
+
   OpenSearchIndexScanAggregationBuilder(
       OpenSearchRequestBuilder requestBuilder, LogicalAggregation aggregation) {
+    this(requestBuilder, aggregation, false);
+  }
+
+  OpenSearchIndexScanAggregationBuilder(
+      OpenSearchRequestBuilder requestBuilder,
+      LogicalAggregation aggregation,
+      boolean topNPushDownEnabled) {
     this.requestBuilder = requestBuilder;
+    this.topNPushDownEnabled = topNPushDownEnabled;
     aggregatorList = aggregation.getAggregatorList();
     groupByList = aggregation.getGroupByList();
   }
@@ -52,7 +94,14 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
     AggregationQueryBuilder builder =
         new AggregationQueryBuilder(new DefaultExpressionSerializer());
     Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder =
-        builder.buildAggregationBuilder(aggregatorList, groupByList, sortList);
+        topNLimit == null
+            ? builder.buildAggregationBuilder(aggregatorList, groupByList, sortList)
+            : builder.buildTopNAggregationBuilder(
+                aggregatorList,
+                groupByList.get(0),
+                topNSortItem,
+                topNLimit.getOffset(),
+                topNLimit.getLimit());
     requestBuilder.pushDownAggregation(aggregationBuilder);
     requestBuilder.pushTypeMapping(builder.buildTypeMapping(aggregatorList, groupByList));
     return requestBuilder;
@@ -65,7 +114,7 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
 
   @Override
   public boolean pushDownSort(LogicalSort sort) {
-    if (hasAggregatorInSortBy(sort)) {
+    if (topNLimit != null || hasAggregatorInSortBy(sort)) {
       return false;
     }
 
@@ -73,6 +122,62 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
     return true;
   }
 
+  /**
+   * Push down sort by a metric and limit if grouping by a single field, which is translated into
+   * terms aggregation ordered by the metric with the size of limit instead of composite aggregation.
+   * Only the metrics never null are supported, because terms aggregation orders NaN and infinite
+   * values differently from the null values they are parsed into. Terms aggregation ordered by a
+   * metric is approximate across shards, so only descending count is supported, whose error is
+   * bounded and reduced by a large shard size. The error of ascending order or of other metrics,
+   * for example sum of negative values, is unbounded. Because the result may still be inexact if a
+   * shard has more distinct terms than the shard size, this is only done if enabled by setting.
+   */
+  @Override
+  public boolean pushDownTopN(LogicalSort sort, LogicalLimit limit) {
+    if (!topNPushDownEnabled
+        || sortList != null
+        || topNLimit != null
+        || groupByList.size() != 1
+        || sort.getSortList().size() != 1
+        || limit.getOffset() + limit.getLimit() > AGGREGATION_BUCKET_SIZE) {
+      return false;
+    }
+
+    Pair<Sort.SortOption, Expression> sortItem = sort.getSortList().get(0);
+    if (!isTermsGroupField(groupByList.get(0))
+        || sortItem.getLeft().getSortOrder() != Sort.SortOrder.DESC
+        || !isTopNMetric(sortItem.getRight())) {
+      return false;
+    }
+    topNSortItem = sortItem;
+    topNLimit = limit;
+    return true;
+  }
+
+  private boolean isTermsGroupField(NamedExpression groupBy) {
+    if (!(groupBy.getDelegated() instanceof ReferenceExpression)) {
+      return false;
+    }
+    ExprType type = groupBy.getDelegated().type();
+    return TERMS_GROUP_TYPES.contains(type) || type instanceof OpenSearchTextType;
+  }
+
+  private boolean isTopNMetric(Expression sortBy) {
+    if (!(sortBy instanceof ReferenceExpression)) {
+      return false;
+    }
+    String name = ((ReferenceExpression) sortBy).getAttr();
+    return aggregatorList.stream()
+        .filter(aggregator -> aggregator.getName().equals(name))
+        .anyMatch(
+            aggregator ->
+                aggregator.getDelegated().condition() == null
+                    && TOP_N_METRICS.contains(
+                        aggregator.getFunctionName().getFunctionName().toLowerCase(Locale.ROOT))
+                    // Metric name is parsed as aggregation path by terms aggregation ordering
+                    && StringUtils.containsNone(name, '>', '.', '[', ']'));
+  }
+
   private boolean hasAggregatorInSortBy(LogicalSort sort) {
     final Set<String> aggregatorNames =
         aggregatorList.stream().map(NamedAggregator::getName).collect(Collectors.toSet());
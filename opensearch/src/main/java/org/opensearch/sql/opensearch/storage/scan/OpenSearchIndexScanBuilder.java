@@ -34,6 +34,9 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
   /** Delegated index scan builder for non-aggregate or aggregate query. */
   @EqualsAndHashCode.Include private PushDownQueryBuilder delegate;
 
+  /** Is sort by a metric and limit allowed to be pushed down as top-N aggregation. */
+  private final boolean topNPushDownEnabled;
+
   /** Is limit operator pushed down. */
   private boolean isLimitPushedDown = false;
 
@@ -41,7 +44,16 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
   public OpenSearchIndexScanBuilder(
       OpenSearchRequestBuilder requestBuilder,
       Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
+    this(requestBuilder, false, scanFactory);
+  }
+
+  /** Constructor used during query execution with top-N aggregation push down option. */
+  public OpenSearchIndexScanBuilder(
+      OpenSearchRequestBuilder requestBuilder,
+      boolean topNPushDownEnabled,
+      Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
     this.delegate = new OpenSearchIndexScanQueryBuilder(requestBuilder);
+    this.topNPushDownEnabled = topNPushDownEnabled;
     this.scanFactory = scanFactory;
   }
 
@@ -50,6 +62,7 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
       PushDownQueryBuilder translator,
       Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
     this.delegate = translator;
+    this.topNPushDownEnabled = false;
     this.scanFactory = scanFactory;
   }
 
@@ -71,7 +84,9 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
     // Switch to builder for aggregate query which has different push down logic
     //  for later filter, sort and limit operator.
-    delegate = new OpenSearchIndexScanAggregationBuilder(delegate.build(), aggregation);
+    delegate =
+        new OpenSearchIndexScanAggregationBuilder(
+            delegate.build(), aggregation, topNPushDownEnabled);
     return true;
   }
 
@@ -95,6 +110,11 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
     return delegate.pushDownLimit(limit);
   }
 
+  @Override
+  public boolean pushDownTopN(LogicalSort sort, LogicalLimit limit) {
+    return delegate.pushDownTopN(sort, limit);
+  }
+
   @Override
   public boolean pushDownProject(LogicalProject project) {
     return delegate.pushDownProject(project);
@@ -28,6 +28,10 @@ public interface PushDownQueryBuilder {
     return false;
   }
 
+  default boolean pushDownTopN(LogicalSort sort, LogicalLimit limit) {
+    return false;
+  }
+
   default boolean pushDownProject(LogicalProject project) {
     return false;
   }
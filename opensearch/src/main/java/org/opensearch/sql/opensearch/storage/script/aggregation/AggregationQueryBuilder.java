@@ -33,6 +33,7 @@ import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.MetricParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.TopNAggregationParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.BucketAggregationBuilder;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.MetricAggregationBuilder;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
@@ -96,6 +97,41 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
     }
   }
 
+  /**
+   * Build AggregationBuilder for top-N query grouping by a single expression, which is ordered by
+   * a metric and limited. Terms aggregation with metric ordering and size is built instead of
+   * composite aggregation, along with missing aggregation for the bucket of null key.
+   */
+  public Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser>
+      buildTopNAggregationBuilder(
+          List<NamedAggregator> namedAggregatorList,
+          NamedExpression groupBy,
+          Pair<Sort.SortOption, Expression> sortItem,
+          int offset,
+          int size) {
+    final Pair<AggregatorFactories.Builder, List<MetricParser>> metrics =
+        metricBuilder.build(namedAggregatorList);
+    String metricName = ((ReferenceExpression) sortItem.getRight()).getAttr();
+    boolean asc = sortItem.getLeft().getSortOrder() == Sort.SortOrder.ASC;
+
+    return Pair.of(
+        ImmutableList.of(
+            bucketBuilder
+                .buildTerms(
+                    TopNAggregationParser.TERMS_BUCKETS, groupBy, metricName, asc, offset + size)
+                .subAggregations(metrics.getLeft()),
+            bucketBuilder
+                .buildMissing(TopNAggregationParser.MISSING_BUCKET, groupBy)
+                .subAggregations(metricBuilder.build(namedAggregatorList).getLeft())),
+        new TopNAggregationParser(
+            metrics.getRight(),
+            groupBy.getNameOrAlias(),
+            metricName,
+            sortItem.getLeft(),
+            offset,
+            size));
+  }
+
   /** Build mapping for OpenSearchExprValueFactory. */
   public Map<String, OpenSearchDataType> buildTypeMapping(
       List<NamedAggregator> namedAggregatorList, List<NamedExpression> groupByList) {
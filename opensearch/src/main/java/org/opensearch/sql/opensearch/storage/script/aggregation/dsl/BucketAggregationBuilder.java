@@ -12,12 +12,16 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import com.google.common.collect.ImmutableList;
 import java.util.List;
 import org.apache.commons.lang3.tuple.Triple;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.composite.DateHistogramValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.composite.HistogramValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
+import org.opensearch.search.aggregations.bucket.missing.MissingAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValueType;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.ast.expression.SpanUnit;
@@ -28,6 +32,12 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 /** Bucket Aggregation Builder. */
 public class BucketAggregationBuilder {
 
+  /**
+   * Minimum number of top buckets collected from each shard by terms aggregation, which is 10
+   * times the maximum size of top-N query.
+   */
+  public static final int TERMS_SHARD_SIZE = 10_000;
+
   private final AggregationBuilderHelper helper;
 
   public BucketAggregationBuilder(ExpressionSerializer serializer) {
@@ -47,6 +57,30 @@ public class BucketAggregationBuilder {
     return resultBuilder.build();
   }
 
+  /**
+   * Build the terms aggregation of grouping expression which returns the first buckets ordered by
+   * the metric given, and then by the key. The order by metric is approximate as the top buckets
+   * are collected from each shard, so the shard size is much larger than the size to reduce the
+   * error.
+   */
+  public TermsAggregationBuilder buildTerms(
+      String name, NamedExpression expr, String metricName, boolean asc, int size) {
+    TermsAggregationBuilder termsBuilder =
+        AggregationBuilders.terms(name)
+            .order(
+                BucketOrder.compound(
+                    BucketOrder.aggregation(metricName, asc), BucketOrder.key(true)))
+            .size(size)
+            .shardSize(Math.max(size, TERMS_SHARD_SIZE));
+    return helper.build(expr.getDelegated(), termsBuilder::field, termsBuilder::script);
+  }
+
+  /** Build the missing aggregation of grouping expression, i.e. the bucket of null key. */
+  public MissingAggregationBuilder buildMissing(String name, NamedExpression expr) {
+    MissingAggregationBuilder missingBuilder = AggregationBuilders.missing(name);
+    return helper.build(expr.getDelegated(), missingBuilder::field, missingBuilder::script);
+  }
+
   // todo, Expression should implement buildCompositeValuesSourceBuilder() interface.
   private CompositeValuesSourceBuilder<?> buildCompositeValuesSourceBuilder(
       NamedExpression expr, SortOrder sortOrder, MissingOrder missingOrder) {
@@ -25,6 +25,7 @@ import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
@@ -41,6 +42,9 @@ public class ExpressionScript {
   /** Expression to execute. */
   private final Expression expression;
 
+  /** Expression compiled for evaluation on each document. */
+  @EqualsAndHashCode.Exclude private final Expression compiledExpression;
+
   /** ElasticsearchExprValueFactory. */
   @EqualsAndHashCode.Exclude private final OpenSearchExprValueFactory valueFactory;
 
@@ -50,6 +54,7 @@ public class ExpressionScript {
   /** Expression constructor. */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
+    this.compiledExpression = ExpressionCompiler.compile(expression);
     this.fields =
         AccessController.doPrivileged(
             (PrivilegedAction<Set<ReferenceExpression>>) () -> extractFields(expression));
@@ -73,7 +78,7 @@ public class ExpressionScript {
             () -> {
               Environment<Expression, ExprValue> valueEnv =
                   buildValueEnv(fields, valueFactory, docProvider);
-              ExprValue result = evaluator.apply(expression, valueEnv);
+              ExprValue result = evaluator.apply(compiledExpression, valueEnv);
               return result;
             });
   }
@@ -19,9 +19,11 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.ScriptQueryBuilder;
 import org.opensearch.script.Script;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.FunctionName;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.LikeQuery;
@@ -117,6 +119,16 @@ public class FilterQueryBuilder extends ExpressionNodeVisitor<QueryBuilder, Obje
     }
   }
 
+  /** Build query for condition folded into literal, e.g. WHERE 1 = 1. */
+  @Override
+  public QueryBuilder visitLiteral(LiteralExpression node, Object context) {
+    ExprValue value = node.valueOf();
+    if (!value.isNull() && !value.isMissing() && value.booleanValue()) {
+      return QueryBuilders.matchAllQuery();
+    }
+    return QueryBuilders.boolQuery().mustNot(QueryBuilders.matchAllQuery());
+  }
+
   private BoolQueryBuilder buildBoolQuery(
       FunctionExpression node,
       Object context,
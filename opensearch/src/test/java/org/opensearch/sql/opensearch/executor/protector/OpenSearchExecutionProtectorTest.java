@@ -68,6 +68,7 @@ import org.opensearch.sql.planner.physical.CursorCloseOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.planner.physical.PipelineOperator;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -225,6 +226,21 @@ class OpenSearchExecutionProtectorTest {
         executionProtector.protect(filter(filter(null, filterExpr), filterExpr)));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void test_protect_pipeline_input() {
+    Expression filterExpr = literal(ExprBooleanValue.of(true));
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+    PhysicalPlan input = sort(values(emptyList()), sortItem);
+    PhysicalPlan filter = filter(input, filterExpr);
+    List<PhysicalPlan> operators = List.of(filter, filter(filter, filterExpr));
+
+    assertEquals(
+        new PipelineOperator(resourceMonitor(input), operators),
+        executionProtector.protect(new PipelineOperator(input, operators)));
+  }
+
   @Test
   void test_visitMLcommons() {
     NodeClient nodeClient = mock(NodeClient.class);
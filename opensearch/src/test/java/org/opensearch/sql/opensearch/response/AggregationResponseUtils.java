@@ -26,6 +26,8 @@ import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregat
 import org.opensearch.search.aggregations.bucket.histogram.HistogramAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.histogram.ParsedDateHistogram;
 import org.opensearch.search.aggregations.bucket.histogram.ParsedHistogram;
+import org.opensearch.search.aggregations.bucket.missing.MissingAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.missing.ParsedMissing;
 import org.opensearch.search.aggregations.bucket.terms.DoubleTerms;
 import org.opensearch.search.aggregations.bucket.terms.LongTerms;
 import org.opensearch.search.aggregations.bucket.terms.ParsedDoubleTerms;
@@ -79,6 +81,9 @@ public class AggregationResponseUtils {
                   (p, c) -> ParsedComposite.fromXContent(p, (String) c))
               .put(
                   FilterAggregationBuilder.NAME, (p, c) -> ParsedFilter.fromXContent(p, (String) c))
+              .put(
+                  MissingAggregationBuilder.NAME,
+                  (p, c) -> ParsedMissing.fromXContent(p, (String) c))
               .put(
                   TopHitsAggregationBuilder.NAME,
                   (p, c) -> ParsedTopHits.fromXContent(p, (String) c))
@@ -16,12 +16,14 @@ import static org.opensearch.sql.opensearch.response.agg.Utils.handleNanInfValue
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.opensearch.search.aggregations.metrics.ExtendedStats;
+import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.FilterParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
@@ -29,6 +31,7 @@ import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseP
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.response.agg.StatsParser;
 import org.opensearch.sql.opensearch.response.agg.TopHitsParser;
+import org.opensearch.sql.opensearch.response.agg.TopNAggregationParser;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class OpenSearchAggregationResponseParserTest {
@@ -309,6 +312,85 @@ class OpenSearchAggregationResponseParserTest {
         contains(ImmutableMap.of("type", "take", "take", ImmutableList.of("m", "f"))));
   }
 
+  /** stats count() as count by host | sort - count | head 2. */
+  @Test
+  void top_n_should_insert_missing_bucket_by_metric_order() {
+    String response =
+        "{\n"
+            + "  \"sterms#terms_buckets\": {\n"
+            + "    \"buckets\": [\n"
+            + "      {\n"
+            + "        \"key\": \"h1\",\n"
+            + "        \"doc_count\": 3,\n"
+            + "        \"value_count#count\": {\n"
+            + "          \"value\": 3\n"
+            + "        }\n"
+            + "      },\n"
+            + "      {\n"
+            + "        \"key\": \"h2\",\n"
+            + "        \"doc_count\": 2,\n"
+            + "        \"value_count#count\": {\n"
+            + "          \"value\": 2\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ]\n"
+            + "  },\n"
+            + "  \"missing#missing_bucket\": {\n"
+            + "    \"doc_count\": 2,\n"
+            + "    \"value_count#count\": {\n"
+            + "      \"value\": 2\n"
+            + "    }\n"
+            + "  }\n"
+            + "}";
+    OpenSearchAggregationResponseParser parser =
+        new TopNAggregationParser(
+            List.of(new SingleValueParser("count")),
+            "host",
+            "count",
+            Sort.SortOption.DEFAULT_DESC,
+            0,
+            2);
+    Map<String, Object> missing = new HashMap<>();
+    missing.put("host", null);
+    missing.put("count", 2d);
+    assertThat(parse(parser, response), contains(entry("host", "h1", "count", 3d), missing));
+  }
+
+  @Test
+  void top_n_should_skip_empty_missing_bucket_and_apply_offset() {
+    String response =
+        "{\n"
+            + "  \"lterms#terms_buckets\": {\n"
+            + "    \"buckets\": [\n"
+            + "      {\n"
+            + "        \"key\": 10,\n"
+            + "        \"doc_count\": 1,\n"
+            + "        \"sum#sum\": {\n"
+            + "          \"value\": 5\n"
+            + "        }\n"
+            + "      },\n"
+            + "      {\n"
+            + "        \"key\": 20,\n"
+            + "        \"doc_count\": 1,\n"
+            + "        \"sum#sum\": {\n"
+            + "          \"value\": 7\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ]\n"
+            + "  },\n"
+            + "  \"missing#missing_bucket\": {\n"
+            + "    \"doc_count\": 0,\n"
+            + "    \"sum#sum\": {\n"
+            + "      \"value\": 0\n"
+            + "    }\n"
+            + "  }\n"
+            + "}";
+    OpenSearchAggregationResponseParser parser =
+        new TopNAggregationParser(
+            List.of(new SingleValueParser("sum")), "id", "sum", Sort.SortOption.DEFAULT_ASC, 1, 5);
+    assertThat(parse(parser, response), contains(entry("id", 20L, "sum", 7d)));
+  }
+
   public List<Map<String, Object>> parse(OpenSearchAggregationResponseParser parser, String json) {
     return parser.parse(fromJson(json));
   }
@@ -35,6 +35,7 @@ import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.P
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_NESTED;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_PROJECT;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_SORT;
+import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_TOP_N;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -56,6 +57,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.sort.NestedSortBuilder;
@@ -78,7 +80,9 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
+import org.opensearch.sql.opensearch.response.agg.TopNAggregationParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
+import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.BucketAggregationBuilder;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalNested;
 import org.opensearch.sql.planner.logical.LogicalPlan;
@@ -595,6 +599,116 @@ class OpenSearchIndexScanOptimizationTest {
             DSL.named("AVG(intV)", DSL.ref("AVG(intV)", DOUBLE))));
   }
 
+  /** SELECT COUNT(intV) FROM schema GROUP BY stringV ORDER BY COUNT(intV) DESC LIMIT 10. */
+  @Test
+  void test_top_n_aggregation_push_down() {
+    enableTopNPushDown();
+    assertEqualsAfterOptimization(
+        project(
+            topNIndexScanAggBuilder(
+                withTopNAggregationPushedDown("COUNT(intV)", "intV", "stringV", 10)),
+            DSL.named("COUNT(intV)", DSL.ref("COUNT(intV)", INTEGER))),
+        project(
+            limit(
+                sort(
+                    aggregation(
+                        relation("schema", table),
+                        ImmutableList.of(
+                            DSL.named("COUNT(intV)", DSL.count(DSL.ref("intV", INTEGER)))),
+                        ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)))),
+                    Pair.of(SortOption.DEFAULT_DESC, DSL.ref("COUNT(intV)", INTEGER))),
+                10,
+                0),
+            DSL.named("COUNT(intV)", DSL.ref("COUNT(intV)", INTEGER))));
+  }
+
+  /** Top-N is not pushed down by default, because its result may be inexact across shards. */
+  @Test
+  void top_n_aggregation_should_not_be_pushed_down_by_default() {
+    assertEqualsAfterOptimization(
+        project(
+            limit(
+                sort(
+                    indexScanAggBuilder(),
+                    Pair.of(SortOption.DEFAULT_DESC, DSL.ref("COUNT(intV)", INTEGER))),
+                10,
+                0),
+            DSL.named("COUNT(intV)", DSL.ref("COUNT(intV)", INTEGER))),
+        project(
+            limit(
+                sort(
+                    aggregation(
+                        relation("schema", table),
+                        ImmutableList.of(
+                            DSL.named("COUNT(intV)", DSL.count(DSL.ref("intV", INTEGER)))),
+                        ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)))),
+                    Pair.of(SortOption.DEFAULT_DESC, DSL.ref("COUNT(intV)", INTEGER))),
+                10,
+                0),
+            DSL.named("COUNT(intV)", DSL.ref("COUNT(intV)", INTEGER))));
+  }
+
+  /** Top-N by AVG is not pushed down, because AVG of no values is null. */
+  @Test
+  void top_n_by_nullable_metric_should_not_be_pushed_down() {
+    enableTopNPushDown();
+    assertEqualsAfterOptimization(
+        project(
+            limit(
+                sort(
+                    topNIndexScanAggBuilder(
+                        withAggregationPushedDown(
+                            aggregate("AVG(intV)")
+                                .aggregateBy("intV")
+                                .groupBy("stringV")
+                                .resultTypes(
+                                    Map.of(
+                                        "AVG(intV)", DOUBLE,
+                                        "stringV", STRING)))),
+                    Pair.of(SortOption.DEFAULT_DESC, DSL.ref("AVG(intV)", DOUBLE))),
+                10,
+                0),
+            DSL.named("AVG(intV)", DSL.ref("AVG(intV)", DOUBLE))),
+        project(
+            limit(
+                sort(
+                    aggregation(
+                        relation("schema", table),
+                        ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+                        ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)))),
+                    Pair.of(SortOption.DEFAULT_DESC, DSL.ref("AVG(intV)", DOUBLE))),
+                10,
+                0),
+            DSL.named("AVG(intV)", DSL.ref("AVG(intV)", DOUBLE))));
+  }
+
+  /** Top-N by ascending count is not pushed down, because its error across shards is unbounded. */
+  @Test
+  void top_n_by_ascending_metric_should_not_be_pushed_down() {
+    enableTopNPushDown();
+    assertEqualsAfterOptimization(
+        project(
+            limit(
+                sort(
+                    topNIndexScanAggBuilder(),
+                    Pair.of(SortOption.DEFAULT_ASC, DSL.ref("COUNT(intV)", INTEGER))),
+                10,
+                0),
+            DSL.named("COUNT(intV)", DSL.ref("COUNT(intV)", INTEGER))),
+        project(
+            limit(
+                sort(
+                    aggregation(
+                        relation("schema", table),
+                        ImmutableList.of(
+                            DSL.named("COUNT(intV)", DSL.count(DSL.ref("intV", INTEGER)))),
+                        ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)))),
+                    Pair.of(SortOption.DEFAULT_ASC, DSL.ref("COUNT(intV)", INTEGER))),
+                10,
+                0),
+            DSL.named("COUNT(intV)", DSL.ref("COUNT(intV)", INTEGER))));
+  }
+
   @Test
   void project_literal_should_not_be_pushed_down() {
     assertEqualsAfterOptimization(
@@ -615,6 +729,19 @@ class OpenSearchIndexScanOptimizationTest {
     return new OpenSearchIndexScanBuilder(aggregationBuilder, builder -> indexScan);
   }
 
+  private void enableTopNPushDown() {
+    indexScanBuilder = new OpenSearchIndexScanBuilder(requestBuilder, true, builder -> indexScan);
+    when(table.createScanBuilder()).thenReturn(indexScanBuilder);
+  }
+
+  private OpenSearchIndexScanBuilder topNIndexScanAggBuilder(Runnable... verifyPushDownCalls) {
+    this.verifyPushDownCalls = verifyPushDownCalls;
+    var aggregationBuilder =
+        new OpenSearchIndexScanAggregationBuilder(
+            requestBuilder, mock(LogicalAggregation.class), true);
+    return new OpenSearchIndexScanBuilder(aggregationBuilder, builder -> indexScan);
+  }
+
   private void assertEqualsAfterOptimization(LogicalPlan expected, LogicalPlan actual) {
     final var optimized = optimize(actual);
     assertEquals(expected, optimized);
@@ -667,6 +794,34 @@ class OpenSearchIndexScanOptimizationTest {
     };
   }
 
+  private Runnable withTopNAggregationPushedDown(
+      String countName, String countBy, String groupBy, int limit) {
+    List<AggregationBuilder> aggBuilders =
+        List.of(
+            AggregationBuilders.terms(TopNAggregationParser.TERMS_BUCKETS)
+                .field(groupBy)
+                .order(
+                    BucketOrder.compound(
+                        BucketOrder.aggregation(countName, false), BucketOrder.key(true)))
+                .size(limit)
+                .shardSize(BucketAggregationBuilder.TERMS_SHARD_SIZE)
+                .subAggregation(AggregationBuilders.count(countName).field(countBy)),
+            AggregationBuilders.missing(TopNAggregationParser.MISSING_BUCKET)
+                .field(groupBy)
+                .subAggregation(AggregationBuilders.count(countName).field(countBy)));
+    OpenSearchAggregationResponseParser responseParser =
+        new TopNAggregationParser(
+            List.of(new SingleValueParser(countName)),
+            groupBy,
+            countName,
+            SortOption.DEFAULT_DESC,
+            0,
+            limit);
+
+    return () ->
+        verify(requestBuilder, times(1)).pushDownAggregation(Pair.of(aggBuilders, responseParser));
+  }
+
   private Runnable withSortPushedDown(SortBuilder<?>... sorts) {
     return () -> verify(requestBuilder, times(1)).pushDownSort(Arrays.asList(sorts));
   }
@@ -727,6 +882,7 @@ class OpenSearchIndexScanOptimizationTest {
                 PUSH_DOWN_FILTER,
                 PUSH_DOWN_AGGREGATION,
                 PUSH_DOWN_SORT,
+                PUSH_DOWN_TOP_N,
                 PUSH_DOWN_LIMIT,
                 PUSH_DOWN_HIGHLIGHT,
                 PUSH_DOWN_NESTED,
@@ -40,12 +40,14 @@ import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
+import org.opensearch.index.IndexModule;
 import org.opensearch.plugins.ActionPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.ScriptPlugin;
@@ -55,6 +57,7 @@ import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.script.ScriptService;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasources.auth.DataSourceUserAuthorizationHelper;
 import org.opensearch.sql.datasources.auth.DataSourceUserAuthorizationHelperImpl;
@@ -64,14 +67,17 @@ import org.opensearch.sql.datasources.model.transport.*;
 import org.opensearch.sql.datasources.rest.RestDataSourceQueryAction;
 import org.opensearch.sql.datasources.service.DataSourceMetadataStorage;
 import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
+import org.opensearch.sql.datasources.storage.DataSourceMetadataIndexingListener;
 import org.opensearch.sql.datasources.storage.OpenSearchDataSourceMetadataStorage;
 import org.opensearch.sql.datasources.transport.*;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
 import org.opensearch.sql.legacy.metrics.GaugeMetric;
+import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
+import org.opensearch.sql.legacy.utils.MetricUtils;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
@@ -85,10 +91,12 @@ import org.opensearch.sql.plugin.rest.RestQuerySettingsAction;
 import org.opensearch.sql.plugin.transport.PPLQueryAction;
 import org.opensearch.sql.plugin.transport.TransportPPLQueryAction;
 import org.opensearch.sql.plugin.transport.TransportPPLQueryResponse;
+import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
 import org.opensearch.sql.prometheus.storage.PrometheusStorageFactory;
 import org.opensearch.sql.spark.asyncquery.AsyncQueryExecutorService;
 import org.opensearch.sql.spark.asyncquery.AsyncQueryExecutorServiceImpl;
 import org.opensearch.sql.spark.asyncquery.AsyncQueryJobMetadataStorageService;
+import org.opensearch.sql.spark.asyncquery.AsyncQueryResultCache;
 import org.opensearch.sql.spark.asyncquery.OpensearchAsyncQueryJobMetadataStorageService;
 import org.opensearch.sql.spark.client.EMRServerlessClient;
 import org.opensearch.sql.spark.client.EmrServerlessClientImpl;
@@ -97,7 +105,9 @@ import org.opensearch.sql.spark.config.SparkExecutionEngineConfig;
 import org.opensearch.sql.spark.config.SparkExecutionEngineConfigSupplier;
 import org.opensearch.sql.spark.config.SparkExecutionEngineConfigSupplierImpl;
 import org.opensearch.sql.spark.dispatcher.SparkQueryDispatcher;
+import org.opensearch.sql.spark.execution.jobstate.JobStateTracker;
 import org.opensearch.sql.spark.execution.session.SessionManager;
+import org.opensearch.sql.spark.execution.session.SessionWarmPool;
 import org.opensearch.sql.spark.execution.statestore.StateStore;
 import org.opensearch.sql.spark.flint.FlintIndexMetadataReaderImpl;
 import org.opensearch.sql.spark.leasemanager.DefaultLeaseManager;
@@ -110,6 +120,7 @@ import org.opensearch.sql.spark.transport.TransportGetAsyncQueryResultAction;
 import org.opensearch.sql.spark.transport.model.CancelAsyncQueryActionResponse;
 import org.opensearch.sql.spark.transport.model.CreateAsyncQueryActionResponse;
 import org.opensearch.sql.spark.transport.model.GetAsyncQueryResultActionResponse;
+import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.storage.DataSourceFactory;
 import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.FixedExecutorBuilder;
@@ -152,6 +163,8 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
 
     LocalClusterState.state().setResolver(indexNameExpressionResolver);
     Metrics.getInstance().registerDefaultMetrics();
+    QueryPhaseTimer.setRecorder(
+        (phase, nanos) -> MetricUtils.recordLatency(MetricName.latencyOf(phase), nanos));
 
     return Arrays.asList(
         new RestPPLQueryAction(),
@@ -237,7 +250,7 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     } else {
       this.asyncQueryExecutorService =
           createAsyncQueryExecutorService(
-              sparkExecutionEngineConfigSupplier, sparkExecutionEngineConfig);
+              sparkExecutionEngineConfigSupplier, sparkExecutionEngineConfig, threadPool);
     }
 
     ModulesBuilder modules = new ModulesBuilder();
@@ -259,7 +272,12 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
             OpenSearchSettings.SESSION_INDEX_TTL_SETTING,
             OpenSearchSettings.RESULT_INDEX_TTL_SETTING,
             OpenSearchSettings.AUTO_INDEX_MANAGEMENT_ENABLED_SETTING,
+            OpenSearchSettings.AUTO_INDEX_MANAGEMENT_REQUESTS_PER_SECOND_SETTING,
+            OpenSearchSettings.AUTO_INDEX_MANAGEMENT_SLICES_SETTING,
             environment.settings());
+    if (OpenSearchSettings.PARSER_WARMUP_ENABLED_SETTING.get(environment.settings())) {
+      threadPool.generic().execute(this::warmUpParsers);
+    }
     return ImmutableList.of(
         dataSourceService, asyncQueryExecutorService, clusterManagerEventListener, pluginSettings);
   }
@@ -289,6 +307,27 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     return new ExpressionScriptEngine(new DefaultExpressionSerializer());
   }
 
+  /** Invalidate the cached datasource metadata on the changes to the datasource index. */
+  @Override
+  public void onIndexModule(IndexModule indexModule) {
+    if (OpenSearchDataSourceMetadataStorage.DATASOURCE_INDEX_NAME.equals(
+        indexModule.getIndex().getName())) {
+      indexModule.addIndexOperationListener(
+          new DataSourceMetadataIndexingListener(
+              dataSourceName -> dataSourceService.invalidateDataSourceMetadata(dataSourceName)));
+    }
+  }
+
+  /** Warm up SQL and PPL parsers, so the first queries after node start are not slowed down. */
+  private void warmUpParsers() {
+    try {
+      new SQLSyntaxParser().warmUp();
+      new PPLSyntaxParser().warmUp();
+    } catch (Exception e) {
+      LOGGER.warn("Failed to warm up SQL and PPL parsers", e);
+    }
+  }
+
   private DataSourceServiceImpl createDataSourceService() {
     String masterKey =
         OpenSearchSettings.DATASOURCE_MASTER_SECRET_KEY.get(clusterService.getSettings());
@@ -321,7 +360,8 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
 
   private AsyncQueryExecutorService createAsyncQueryExecutorService(
       SparkExecutionEngineConfigSupplier sparkExecutionEngineConfigSupplier,
-      SparkExecutionEngineConfig sparkExecutionEngineConfig) {
+      SparkExecutionEngineConfig sparkExecutionEngineConfig,
+      ThreadPool threadPool) {
     StateStore stateStore = new StateStore(client, clusterService);
     registerStateStoreMetrics(stateStore);
     AsyncQueryJobMetadataStorageService asyncQueryJobMetadataStorageService =
@@ -329,6 +369,17 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     EMRServerlessClient emrServerlessClient =
         createEMRServerlessClient(sparkExecutionEngineConfig.getRegion());
     JobExecutionResponseReader jobExecutionResponseReader = new JobExecutionResponseReader(client);
+    JobStateTracker jobStateTracker = new JobStateTracker(emrServerlessClient, stateStore);
+    threadPool.scheduleWithFixedDelay(
+        jobStateTracker,
+        TimeValue.timeValueMillis(JobStateTracker.POLL_INTERVAL.toMillis()),
+        ThreadPool.Names.GENERIC);
+    SessionWarmPool sessionWarmPool =
+        new SessionWarmPool(stateStore, emrServerlessClient, pluginSettings);
+    threadPool.scheduleWithFixedDelay(
+        sessionWarmPool,
+        TimeValue.timeValueMillis(SessionWarmPool.REFILL_INTERVAL.toMillis()),
+        ThreadPool.Names.GENERIC);
     SparkQueryDispatcher sparkQueryDispatcher =
         new SparkQueryDispatcher(
             emrServerlessClient,
@@ -337,9 +388,11 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
             jobExecutionResponseReader,
             new FlintIndexMetadataReaderImpl(client),
             client,
-            new SessionManager(stateStore, emrServerlessClient, pluginSettings),
+            new SessionManager(stateStore, emrServerlessClient, pluginSettings, sessionWarmPool),
             new DefaultLeaseManager(pluginSettings, stateStore),
-            stateStore);
+            stateStore,
+            jobStateTracker,
+            new AsyncQueryResultCache(pluginSettings));
     return new AsyncQueryExecutorServiceImpl(
         asyncQueryJobMetadataStorageService,
         sparkQueryDispatcher,
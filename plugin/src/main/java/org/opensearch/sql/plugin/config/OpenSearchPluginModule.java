@@ -97,12 +97,12 @@ public class OpenSearchPluginModule extends AbstractModule {
   /** {@link QueryPlanFactory}. */
   @Provides
   public QueryPlanFactory queryPlanFactory(
-      DataSourceService dataSourceService, ExecutionEngine executionEngine) {
+      DataSourceService dataSourceService, ExecutionEngine executionEngine, Settings settings) {
     Analyzer analyzer =
         new Analyzer(
             new ExpressionAnalyzer(functionRepository), dataSourceService, functionRepository);
     Planner planner = new Planner(LogicalPlanOptimizer.create());
-    QueryService queryService = new QueryService(analyzer, executionEngine, planner);
+    QueryService queryService = new QueryService(analyzer, executionEngine, planner, settings);
     return new QueryPlanFactory(queryService);
   }
 }
@@ -23,6 +23,8 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
+import org.opensearch.sql.common.utils.QueryPhaseTimer.Phase;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
 import org.opensearch.sql.executor.ExecutionEngine;
@@ -158,9 +160,11 @@ public class TransportPPLQueryAction
     return new ResponseListener<ExecutionEngine.QueryResponse>() {
       @Override
       public void onResponse(ExecutionEngine.QueryResponse response) {
+        long formatStart = QueryPhaseTimer.start();
         String responseContent =
             formatter.format(
                 new QueryResult(response.getSchema(), response.getResults(), response.getCursor()));
+        QueryPhaseTimer.record(Phase.FORMAT, formatStart);
         listener.onResponse(new TransportPPLQueryResponse(responseContent));
       }
 
@@ -15,6 +15,8 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
+import org.opensearch.sql.common.utils.QueryPhaseTimer.Phase;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.execution.AbstractPlan;
@@ -73,6 +75,7 @@ public class PPLService {
       Optional<ResponseListener<QueryResponse>> queryListener,
       Optional<ResponseListener<ExplainResponse>> explainListener) {
     // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
+    long parseStart = QueryPhaseTimer.start();
     ParseTree cst = parser.parse(request.getRequest());
     Statement statement =
         cst.accept(
@@ -81,11 +84,14 @@ public class PPLService {
                 AstStatementBuilder.StatementBuilderContext.builder()
                     .isExplain(request.isExplainRequest())
                     .build()));
+    QueryPhaseTimer.record(Phase.PARSE, parseStart);
 
+    // Anonymize the statement only when it is logged
+    String requestId = QueryContext.getRequestId();
     LOG.info(
         "[{}] Incoming request {}",
-        QueryContext.getRequestId(),
-        anonymizer.anonymizeStatement(statement));
+        () -> requestId,
+        () -> anonymizer.anonymizeStatement(statement));
 
     return queryExecutionFactory.create(statement, queryListener, explainListener);
   }
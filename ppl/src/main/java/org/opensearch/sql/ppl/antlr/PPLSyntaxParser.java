@@ -5,23 +5,46 @@
 
 package org.opensearch.sql.ppl.antlr;
 
+import java.util.List;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.common.antlr.Parser;
-import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.common.antlr.TwoStageParser;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLLexer;
 import org.opensearch.sql.ppl.antlr.parser.OpenSearchPPLParser;
 
 /** PPL Syntax Parser. */
 public class PPLSyntaxParser implements Parser {
+
+  /** Representative queries parsed to warm up the DFA cache shared by all parser instances. */
+  private static final List<String> WARM_UP_QUERIES =
+      List.of(
+          "source=accounts",
+          "source=accounts | where age > 30 and like(name, 'J%') | fields name, age | head 10",
+          "search source=accounts balance > 1000 | stats count() as cnt, avg(age) by state "
+              + "| sort - cnt",
+          "source=accounts | eval a = abs(balance) + 1, b = cast(age as double) "
+              + "| rename a as c | dedup state",
+          "source=accounts | where isnotnull(email) and match(address, 'street') "
+              + "| top 3 state by gender",
+          "source=accounts | parse email '.+@(?<host>.+)' | rare host",
+          "describe accounts",
+          "show datasources");
+
   /** Analyze the query syntax. */
   @Override
   public ParseTree parse(String query) {
-    OpenSearchPPLParser parser = createParser(createLexer(query));
-    parser.addErrorListener(new SyntaxAnalysisErrorListener());
-    return parser.root();
+    return TwoStageParser.parse(createParser(createLexer(query)), OpenSearchPPLParser::root);
+  }
+
+  /**
+   * Warm up ANTLR DFA cache by parsing representative queries, so the first queries after the node
+   * starts are not slowed down by filling the cache.
+   */
+  public void warmUp() {
+    WARM_UP_QUERIES.forEach(this::parse);
   }
 
   private OpenSearchPPLParser createParser(Lexer lexer) {
@@ -26,6 +26,11 @@ public class PPLSyntaxParserTest {
     assertNotEquals(null, tree);
   }
 
+  @Test
+  public void testWarmUpShouldParseAllQueries() {
+    new PPLSyntaxParser().warmUp();
+  }
+
   @Test
   public void testSearchCommandIgnoreSearchKeywordShouldPass() {
     ParseTree tree = new PPLSyntaxParser().parse("source=t a=1 b=2");
@@ -37,6 +37,15 @@ public class PrometheusLogicalMetricAgg extends LogicalPlan {
   /** Group List. */
   @Setter private List<NamedExpression> groupByList;
 
+  /** Filter Condition on the aggregated value, applied after aggregation. */
+  @Setter private Expression valueFilter;
+
+  /** Number of series kept at each step by topk/bottomk, null if no sort and limit is pushed. */
+  @Setter private Integer topK;
+
+  /** Keep the series with the smallest values (bottomk) instead of the largest (topk). */
+  @Setter private boolean bottomK;
+
   /**
    * Constructor for LogicalMetricAgg Logical Plan.
    *
@@ -44,18 +53,27 @@ public class PrometheusLogicalMetricAgg extends LogicalPlan {
    * @param filter filter
    * @param aggregatorList aggregatorList
    * @param groupByList groupByList.
+   * @param valueFilter valueFilter.
+   * @param topK topK.
+   * @param bottomK bottomK.
    */
   @Builder
   public PrometheusLogicalMetricAgg(
       String metricName,
       Expression filter,
       List<NamedAggregator> aggregatorList,
-      List<NamedExpression> groupByList) {
+      List<NamedExpression> groupByList,
+      Expression valueFilter,
+      Integer topK,
+      boolean bottomK) {
     super(ImmutableList.of());
     this.metricName = metricName;
     this.filter = filter;
     this.aggregatorList = aggregatorList;
     this.groupByList = groupByList;
+    this.valueFilter = valueFilter;
+    this.topK = topK;
+    this.bottomK = bottomK;
   }
 
   @Override
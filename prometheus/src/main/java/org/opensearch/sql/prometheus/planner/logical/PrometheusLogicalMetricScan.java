@@ -30,17 +30,28 @@ public class PrometheusLogicalMetricScan extends LogicalPlan {
   /** Filter Condition. */
   private final Expression filter;
 
+  /** Number of series kept at each step by topk/bottomk, null if no sort and limit is pushed. */
+  private final Integer topK;
+
+  /** Keep the series with the smallest values (bottomk) instead of the largest (topk). */
+  private final boolean bottomK;
+
   /**
    * PrometheusLogicalMetricScan constructor.
    *
    * @param metricName metricName.
    * @param filter filter.
+   * @param topK topK.
+   * @param bottomK bottomK.
    */
   @Builder
-  public PrometheusLogicalMetricScan(String metricName, Expression filter) {
+  public PrometheusLogicalMetricScan(
+      String metricName, Expression filter, Integer topK, boolean bottomK) {
     super(ImmutableList.of());
     this.metricName = metricName;
     this.filter = filter;
+    this.topK = topK;
+    this.bottomK = bottomK;
   }
 
   @Override
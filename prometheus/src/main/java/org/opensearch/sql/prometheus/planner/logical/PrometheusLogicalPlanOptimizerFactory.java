@@ -10,7 +10,10 @@ import lombok.experimental.UtilityClass;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
 import org.opensearch.sql.prometheus.planner.logical.rules.MergeAggAndIndexScan;
 import org.opensearch.sql.prometheus.planner.logical.rules.MergeAggAndRelation;
+import org.opensearch.sql.prometheus.planner.logical.rules.MergeFilterAndEval;
+import org.opensearch.sql.prometheus.planner.logical.rules.MergeFilterAndMetricAgg;
 import org.opensearch.sql.prometheus.planner.logical.rules.MergeFilterAndRelation;
+import org.opensearch.sql.prometheus.planner.logical.rules.PushDownTopK;
 
 /** Prometheus storage engine specified logical plan optimizer. */
 @UtilityClass
@@ -20,6 +23,11 @@ public class PrometheusLogicalPlanOptimizerFactory {
   public static LogicalPlanOptimizer create() {
     return new LogicalPlanOptimizer(
         Arrays.asList(
-            new MergeFilterAndRelation(), new MergeAggAndIndexScan(), new MergeAggAndRelation()));
+            new MergeFilterAndRelation(),
+            new MergeFilterAndEval(),
+            new MergeAggAndIndexScan(),
+            new MergeAggAndRelation(),
+            new MergeFilterAndMetricAgg(),
+            new PushDownTopK()));
   }
 }
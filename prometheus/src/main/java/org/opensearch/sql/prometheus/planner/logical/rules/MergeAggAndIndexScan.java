@@ -7,6 +7,7 @@ package org.opensearch.sql.prometheus.planner.logical.rules;
 
 import static com.facebook.presto.matching.Pattern.typeOf;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
 
 import com.facebook.presto.matching.Capture;
 import com.facebook.presto.matching.Captures;
@@ -18,8 +19,13 @@ import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.Rule;
 import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricAgg;
 import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricScan;
+import org.opensearch.sql.prometheus.storage.querybuilder.ValueFilterQueryBuilder;
 
-/** Merge Aggregation -- Relation to MetricScanAggregation. */
+/**
+ * Merge Aggregation -- Relation to MetricScanAggregation. Scans which filter on the sample value or
+ * keep only the top series are not merged, since the range vector of the aggregation query is
+ * selected before any of these are applied.
+ */
 public class MergeAggAndIndexScan implements Rule<LogicalAggregation> {
 
   private final Capture<PrometheusLogicalMetricScan> capture;
@@ -39,6 +45,10 @@ public class MergeAggAndIndexScan implements Rule<LogicalAggregation> {
   @Override
   public LogicalPlan apply(LogicalAggregation aggregation, Captures captures) {
     PrometheusLogicalMetricScan indexScan = captures.get(capture);
+    if (indexScan.getTopK() != null
+        || ValueFilterQueryBuilder.hasValueCondition(indexScan.getFilter(), VALUE)) {
+      return aggregation;
+    }
     return PrometheusLogicalMetricAgg.builder()
         .metricName(indexScan.getMetricName())
         .filter(indexScan.getFilter())
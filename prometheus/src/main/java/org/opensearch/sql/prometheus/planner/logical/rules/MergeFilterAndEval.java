@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.planner.logical.rules;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.optimizer.Rule;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricScan;
+import org.opensearch.sql.prometheus.storage.querybuilder.ValueFilterQueryBuilder;
+
+/**
+ * Merge Filter -- Eval -- Relation/LogicalMetricScan to Eval -- LogicalMetricScan.<br>
+ * The filter on fields evaluated from the sample value is rewritten in terms of the value, e.g.
+ * {@code eval x = @value * 2 | where x > 10} filters on {@code @value * 2 > 10}, so that Prometheus
+ * only returns the matching samples. The eval itself still runs on the returned samples.
+ */
+public class MergeFilterAndEval implements Rule<LogicalFilter> {
+
+  private final Capture<LogicalEval> evalCapture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalFilter> pattern;
+
+  /** Constructor of MergeFilterAndEval. */
+  public MergeFilterAndEval() {
+    this.evalCapture = Capture.newCapture();
+    this.pattern =
+        typeOf(LogicalFilter.class)
+            .with(source().matching(typeOf(LogicalEval.class).capturedAs(evalCapture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalFilter filter, Captures captures) {
+    LogicalEval eval = captures.get(evalCapture);
+    LogicalPlan child = eval.getChild().get(0);
+    if (!(child instanceof LogicalRelation
+        || (child instanceof PrometheusLogicalMetricScan
+            && ((PrometheusLogicalMetricScan) child).getTopK() == null))) {
+      return filter;
+    }
+
+    Expression condition = substitute(filter.getCondition(), eval.getExpressions());
+    if (!ValueFilterQueryBuilder.isValueFilter(condition, VALUE)) {
+      return filter;
+    }
+
+    PrometheusLogicalMetricScan metricScan;
+    if (child instanceof LogicalRelation) {
+      metricScan =
+          PrometheusLogicalMetricScan.builder()
+              .metricName(((LogicalRelation) child).getRelationName())
+              .filter(condition)
+              .build();
+    } else {
+      PrometheusLogicalMetricScan indexScan = (PrometheusLogicalMetricScan) child;
+      metricScan =
+          PrometheusLogicalMetricScan.builder()
+              .metricName(indexScan.getMetricName())
+              .filter(
+                  indexScan.getFilter() == null
+                      ? condition
+                      : DSL.and(indexScan.getFilter(), condition))
+              .build();
+    }
+    return new LogicalEval(metricScan, eval.getExpressions());
+  }
+
+  /** Replace the references to evaluated fields by their definitions. */
+  private Expression substitute(
+      Expression condition, List<Pair<ReferenceExpression, Expression>> evalExpressions) {
+    Map<String, Expression> definitions = new HashMap<>();
+    for (Pair<ReferenceExpression, Expression> evalExpression : evalExpressions) {
+      Expression definition =
+          evalExpression.getValue().accept(new SubstituteVisitor(definitions), null);
+      definitions.put(evalExpression.getKey().getAttr(), definition);
+    }
+    return condition.accept(new SubstituteVisitor(definitions), null);
+  }
+
+  @RequiredArgsConstructor
+  private static class SubstituteVisitor extends ExpressionNodeVisitor<Expression, Object> {
+
+    private final Map<String, Expression> definitions;
+
+    @Override
+    public Expression visitNode(Expression node, Object context) {
+      return node;
+    }
+
+    @Override
+    public Expression visitReference(ReferenceExpression node, Object context) {
+      return definitions.getOrDefault(node.getAttr(), node);
+    }
+
+    @Override
+    public Expression visitFunction(FunctionExpression node, Object context) {
+      List<Expression> arguments =
+          node.getArguments().stream()
+              .map(argument -> argument.accept(this, context))
+              .collect(Collectors.toList());
+      if (arguments.equals(node.getArguments())) {
+        return node;
+      }
+      return (Expression)
+          BuiltinFunctionRepository.getInstance()
+              .compile(FunctionProperties.None, node.getFunctionName(), arguments);
+    }
+  }
+}
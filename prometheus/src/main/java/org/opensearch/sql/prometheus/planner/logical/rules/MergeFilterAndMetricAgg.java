@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.planner.logical.rules;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.Rule;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricAgg;
+import org.opensearch.sql.prometheus.storage.querybuilder.ValueFilterQueryBuilder;
+
+/**
+ * Merge Filter -- LogicalMetricAgg to LogicalMetricAgg with value filter.<br>
+ * Only filters on the aggregated value of a single aggregation are merged, e.g. {@code stats
+ * avg(@value) by span(@timestamp, 1m) | where `avg(@value)` > 10}.
+ */
+public class MergeFilterAndMetricAgg implements Rule<LogicalFilter> {
+
+  private final Capture<PrometheusLogicalMetricAgg> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalFilter> pattern;
+
+  /** Constructor of MergeFilterAndMetricAgg. */
+  public MergeFilterAndMetricAgg() {
+    this.capture = Capture.newCapture();
+    this.pattern =
+        typeOf(LogicalFilter.class)
+            .with(source().matching(typeOf(PrometheusLogicalMetricAgg.class).capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalFilter filter, Captures captures) {
+    PrometheusLogicalMetricAgg metricAgg = captures.get(capture);
+    if (metricAgg.getAggregatorList().size() != 1
+        || metricAgg.getValueFilter() != null
+        || metricAgg.getTopK() != null
+        || !ValueFilterQueryBuilder.isValueFilter(
+            filter.getCondition(), metricAgg.getAggregatorList().get(0).getName())) {
+      return filter;
+    }
+    return PrometheusLogicalMetricAgg.builder()
+        .metricName(metricAgg.getMetricName())
+        .filter(metricAgg.getFilter())
+        .aggregatorList(metricAgg.getAggregatorList())
+        .groupByList(metricAgg.getGroupByList())
+        .valueFilter(filter.getCondition())
+        .build();
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.planner.logical.rules;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.ast.tree.Sort.SortOrder;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.optimizer.Rule;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricAgg;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricScan;
+
+/**
+ * Push Limit -- Sort by value into the LogicalMetricScan or LogicalMetricAgg below as topk/bottomk.
+ * <br>
+ * PromQL topk/bottomk keep the top series at each step, which is a superset of the global top rows
+ * of the limit. Limit and Sort therefore stay in the plan and run on the reduced samples.
+ */
+public class PushDownTopK implements Rule<LogicalLimit> {
+
+  private final Capture<LogicalSort> sortCapture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalLimit> pattern;
+
+  /** Constructor of PushDownTopK. */
+  public PushDownTopK() {
+    this.sortCapture = Capture.newCapture();
+    this.pattern =
+        typeOf(LogicalLimit.class)
+            .with(source().matching(typeOf(LogicalSort.class).capturedAs(sortCapture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalLimit limit, Captures captures) {
+    LogicalSort sort = captures.get(sortCapture);
+    if (sort.getSortList().size() != 1) {
+      return limit;
+    }
+    Pair<SortOption, Expression> sortItem = sort.getSortList().get(0);
+    boolean bottomK = sortItem.getLeft().getSortOrder() != SortOrder.DESC;
+    int topK = limit.getLimit() + limit.getOffset();
+
+    LogicalPlan child = sort.getChild().get(0);
+    LogicalPlan pushedDown = null;
+    if (child instanceof LogicalRelation && isSortedBy(sortItem, VALUE)) {
+      pushedDown =
+          PrometheusLogicalMetricScan.builder()
+              .metricName(((LogicalRelation) child).getRelationName())
+              .topK(topK)
+              .bottomK(bottomK)
+              .build();
+    } else if (child instanceof PrometheusLogicalMetricScan
+        && ((PrometheusLogicalMetricScan) child).getTopK() == null
+        && isSortedBy(sortItem, VALUE)) {
+      pushedDown =
+          PrometheusLogicalMetricScan.builder()
+              .metricName(((PrometheusLogicalMetricScan) child).getMetricName())
+              .filter(((PrometheusLogicalMetricScan) child).getFilter())
+              .topK(topK)
+              .bottomK(bottomK)
+              .build();
+    } else if (child instanceof PrometheusLogicalMetricAgg) {
+      PrometheusLogicalMetricAgg metricAgg = (PrometheusLogicalMetricAgg) child;
+      if (metricAgg.getTopK() == null
+          && metricAgg.getAggregatorList().size() == 1
+          && isSortedBy(sortItem, metricAgg.getAggregatorList().get(0).getName())) {
+        pushedDown =
+            PrometheusLogicalMetricAgg.builder()
+                .metricName(metricAgg.getMetricName())
+                .filter(metricAgg.getFilter())
+                .aggregatorList(metricAgg.getAggregatorList())
+                .groupByList(metricAgg.getGroupByList())
+                .valueFilter(metricAgg.getValueFilter())
+                .topK(topK)
+                .bottomK(bottomK)
+                .build();
+      }
+    }
+
+    if (pushedDown == null) {
+      return limit;
+    }
+    return new LogicalLimit(
+        new LogicalSort(pushedDown, sort.getSortList()), limit.getLimit(), limit.getOffset());
+  }
+
+  private boolean isSortedBy(Pair<SortOption, Expression> sortItem, String fieldName) {
+    return sortItem.getRight() instanceof ReferenceExpression
+        && ((ReferenceExpression) sortItem.getRight()).getAttr().equals(fieldName);
+  }
+}
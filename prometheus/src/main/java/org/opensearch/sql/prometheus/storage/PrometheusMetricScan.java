@@ -8,7 +8,12 @@ package org.opensearch.sql.prometheus.storage;
 import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -16,10 +21,13 @@ import lombok.ToString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.json.JSONObject;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
 import org.opensearch.sql.prometheus.response.PrometheusResponse;
+import org.opensearch.sql.prometheus.storage.model.AdditionalAggregationQuery;
 import org.opensearch.sql.prometheus.storage.model.PrometheusResponseFieldNames;
 import org.opensearch.sql.storage.TableScanOperator;
 
@@ -33,6 +41,10 @@ public class PrometheusMetricScan extends TableScanOperator {
   @EqualsAndHashCode.Include @Getter @Setter @ToString.Include
   private PrometheusQueryRequest request;
 
+  /** Queries of the additional aggregations in a stats command with multiple aggregations. */
+  @EqualsAndHashCode.Include @Getter @ToString.Include
+  private final List<AdditionalAggregationQuery> additionalAggregationQueries = new ArrayList<>();
+
   private Iterator<ExprValue> iterator;
 
   @Setter private PrometheusResponseFieldNames prometheusResponseFieldNames;
@@ -64,8 +76,13 @@ public class PrometheusMetricScan extends TableScanOperator {
                             request.getStartTime(),
                             request.getEndTime(),
                             request.getStep());
-                    return new PrometheusResponse(responseObject, prometheusResponseFieldNames)
-                        .iterator();
+                    Iterator<ExprValue> result =
+                        new PrometheusResponse(responseObject, prometheusResponseFieldNames)
+                            .iterator();
+                    if (!additionalAggregationQueries.isEmpty()) {
+                      result = mergeAdditionalAggregations(result);
+                    }
+                    return result;
                   } catch (IOException e) {
                     LOG.error(e.getMessage());
                     throw new RuntimeException(
@@ -74,6 +91,48 @@ public class PrometheusMetricScan extends TableScanOperator {
                 });
   }
 
+  /**
+   * Query the additional aggregations and add their values to the rows of the first aggregation
+   * with the same labels and timestamp.
+   */
+  private Iterator<ExprValue> mergeAdditionalAggregations(Iterator<ExprValue> result)
+      throws IOException {
+    List<Map<String, ExprValue>> rows = new ArrayList<>();
+    Map<Map<String, ExprValue>, Map<String, ExprValue>> rowsByKey = new HashMap<>();
+    while (result.hasNext()) {
+      Map<String, ExprValue> row = new LinkedHashMap<>(result.next().tupleValue());
+      rows.add(row);
+      rowsByKey.put(rowKey(row, prometheusResponseFieldNames.getValueFieldName()), row);
+    }
+    for (AdditionalAggregationQuery query : additionalAggregationQueries) {
+      PrometheusResponseFieldNames fieldNames = new PrometheusResponseFieldNames();
+      fieldNames.setValueFieldName(query.getValueFieldName());
+      fieldNames.setValueType(query.getValueType());
+      fieldNames.setTimestampFieldName(prometheusResponseFieldNames.getTimestampFieldName());
+      fieldNames.setGroupByList(prometheusResponseFieldNames.getGroupByList());
+      JSONObject responseObject =
+          prometheusClient.queryRange(
+              query.getPromQl(), request.getStartTime(), request.getEndTime(), request.getStep());
+      for (ExprValue value : new PrometheusResponse(responseObject, fieldNames)) {
+        Map<String, ExprValue> row =
+            rowsByKey.get(rowKey(value.tupleValue(), query.getValueFieldName()));
+        if (row != null) {
+          row.put(query.getValueFieldName(), value.tupleValue().get(query.getValueFieldName()));
+        }
+      }
+      rows.forEach(row -> row.putIfAbsent(query.getValueFieldName(), ExprValueUtils.nullValue()));
+    }
+    List<ExprValue> merged = new ArrayList<>(rows.size());
+    rows.forEach(row -> merged.add(ExprTupleValue.fromExprValueMap(row)));
+    return merged.iterator();
+  }
+
+  private Map<String, ExprValue> rowKey(Map<String, ExprValue> row, String valueFieldName) {
+    Map<String, ExprValue> key = new HashMap<>(row);
+    key.remove(valueFieldName);
+    return key;
+  }
+
   @Override
   public boolean hasNext() {
     return iterator.hasNext();
@@ -86,6 +145,9 @@ public class PrometheusMetricScan extends TableScanOperator {
 
   @Override
   public String explain() {
-    return getRequest().toString();
+    if (additionalAggregationQueries.isEmpty()) {
+      return getRequest().toString();
+    }
+    return getRequest().toString() + ", " + additionalAggregationQueries;
   }
 }
@@ -7,6 +7,8 @@
 
 package org.opensearch.sql.prometheus.storage.implementor;
 
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
+
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +16,7 @@ import org.apache.commons.math3.util.Pair;
 import org.opensearch.sql.common.utils.StringUtils;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.span.SpanExpression;
 import org.opensearch.sql.planner.DefaultImplementor;
 import org.opensearch.sql.planner.logical.LogicalPlan;
@@ -23,11 +26,13 @@ import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricAgg;
 import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricScan;
 import org.opensearch.sql.prometheus.storage.PrometheusMetricScan;
 import org.opensearch.sql.prometheus.storage.PrometheusMetricTable;
+import org.opensearch.sql.prometheus.storage.model.AdditionalAggregationQuery;
 import org.opensearch.sql.prometheus.storage.model.PrometheusResponseFieldNames;
 import org.opensearch.sql.prometheus.storage.querybuilder.AggregationQueryBuilder;
 import org.opensearch.sql.prometheus.storage.querybuilder.SeriesSelectionQueryBuilder;
 import org.opensearch.sql.prometheus.storage.querybuilder.StepParameterResolver;
 import org.opensearch.sql.prometheus.storage.querybuilder.TimeRangeParametersResolver;
+import org.opensearch.sql.prometheus.storage.querybuilder.ValueFilterQueryBuilder;
 
 /** Default Implementor of Logical plan for prometheus. */
 @RequiredArgsConstructor
@@ -49,6 +54,8 @@ public class PrometheusDefaultImplementor extends DefaultImplementor<PrometheusM
   public PhysicalPlan visitIndexScan(
       PrometheusLogicalMetricScan node, PrometheusMetricScan context) {
     String query = SeriesSelectionQueryBuilder.build(node.getMetricName(), node.getFilter());
+    query = ValueFilterQueryBuilder.build(query, VALUE, node.getFilter());
+    query = buildTopKQuery(query, node.getTopK(), node.isBottomK());
 
     context.getRequest().setPromQl(query);
     setTimeRangeParameters(node.getFilter(), context);
@@ -75,12 +82,30 @@ public class PrometheusDefaultImplementor extends DefaultImplementor<PrometheusM
     String seriesSelectionQuery =
         SeriesSelectionQueryBuilder.build(node.getMetricName(), node.getFilter());
 
-    String aggregateQuery =
-        AggregationQueryBuilder.build(node.getAggregatorList(), node.getGroupByList());
-
-    String finalQuery = String.format(aggregateQuery, seriesSelectionQuery + "[" + step + "]");
+    String rangeVectorQuery = seriesSelectionQuery + "[" + step + "]";
+    List<NamedAggregator> aggregatorList = node.getAggregatorList();
+    String finalQuery =
+        String.format(
+            AggregationQueryBuilder.build(aggregatorList.get(0), node.getGroupByList()),
+            rangeVectorQuery);
+    finalQuery =
+        ValueFilterQueryBuilder.build(
+            finalQuery, aggregatorList.get(0).getName(), node.getValueFilter());
+    finalQuery = buildTopKQuery(finalQuery, node.getTopK(), node.isBottomK());
     context.getRequest().setPromQl(finalQuery);
 
+    // Each additional aggregation is a separate query, the results are merged by the scan.
+    for (NamedAggregator aggregator : aggregatorList.subList(1, aggregatorList.size())) {
+      String aggregateQuery =
+          String.format(
+              AggregationQueryBuilder.build(aggregator, node.getGroupByList()), rangeVectorQuery);
+      context
+          .getAdditionalAggregationQueries()
+          .add(
+              new AdditionalAggregationQuery(
+                  aggregateQuery, aggregator.getName(), aggregator.type()));
+    }
+
     // Since prometheus response doesn't have any fieldNames in its output.
     // the field names are sent to PrometheusResponse constructor via context.
     setPrometheusResponseFieldNames(node, context);
@@ -101,6 +126,13 @@ public class PrometheusDefaultImplementor extends DefaultImplementor<PrometheusM
     return context;
   }
 
+  private String buildTopKQuery(String query, Integer topK, boolean bottomK) {
+    if (topK == null) {
+      return query;
+    }
+    return (bottomK ? "bottomk" : "topk") + "(" + topK + ", " + query + ")";
+  }
+
   private void setTimeRangeParameters(Expression filter, PrometheusMetricScan context) {
     TimeRangeParametersResolver timeRangeParametersResolver = new TimeRangeParametersResolver();
     Pair<Long, Long> timeRange = timeRangeParametersResolver.resolve(filter);
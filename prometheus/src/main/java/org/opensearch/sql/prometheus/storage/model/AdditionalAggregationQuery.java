@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.storage.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.opensearch.sql.data.type.ExprType;
+
+/**
+ * PromQL query of an additional aggregation in a stats command with multiple aggregations. Its
+ * values are merged into the rows of the first aggregation by labels and timestamp.
+ */
+@Data
+@AllArgsConstructor
+public class AdditionalAggregationQuery {
+
+  /** PromQL. */
+  private final String promQl;
+
+  /** Field name of the aggregated value. */
+  private final String valueFieldName;
+
+  /** Type of the aggregated value. */
+  private final ExprType valueType;
+}
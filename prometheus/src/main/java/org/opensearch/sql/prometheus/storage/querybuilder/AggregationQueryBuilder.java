@@ -34,29 +34,21 @@ public class AggregationQueryBuilder {
           BuiltinFunctionName.AVG.getName().getFunctionName());
 
   /**
-   * Build Aggregation query from series selector query from expression.
+   * Build Aggregation query from series selector query from expression. In case of multiple
+   * aggregations in stats command, one query is built for each of the aggregations.
    *
    * @return query string.
    */
-  public static String build(
-      List<NamedAggregator> namedAggregatorList, List<NamedExpression> groupByList) {
+  public static String build(NamedAggregator namedAggregator, List<NamedExpression> groupByList) {
 
-    if (namedAggregatorList.size() > 1) {
-      throw new RuntimeException(
-          "Prometheus Catalog doesn't multiple aggregations in stats command");
-    }
-
-    if (!allowedStatsFunctions.contains(
-        namedAggregatorList.get(0).getFunctionName().getFunctionName())) {
+    if (!allowedStatsFunctions.contains(namedAggregator.getFunctionName().getFunctionName())) {
       throw new RuntimeException(
           String.format(
               "Prometheus Catalog only supports %s aggregations.", allowedStatsFunctions));
     }
 
     StringBuilder aggregateQuery = new StringBuilder();
-    aggregateQuery
-        .append(namedAggregatorList.get(0).getFunctionName().getFunctionName())
-        .append(" ");
+    aggregateQuery.append(namedAggregator.getFunctionName().getFunctionName()).append(" ");
 
     if (groupByList != null && !groupByList.isEmpty()) {
       groupByList =
@@ -75,7 +67,7 @@ public class AggregationQueryBuilder {
     }
     aggregateQuery
         .append(" (")
-        .append(namedAggregatorList.get(0).getFunctionName().getFunctionName())
+        .append(namedAggregator.getFunctionName().getFunctionName())
         .append("_over_time")
         .append("(%s))");
     return aggregateQuery.toString();
@@ -8,6 +8,7 @@
 package org.opensearch.sql.prometheus.storage.querybuilder;
 
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
 
 import java.util.stream.Collectors;
 import lombok.NoArgsConstructor;
@@ -48,6 +49,9 @@ public class SeriesSelectionQueryBuilder {
             .map(arg -> visitFunction((FunctionExpression) arg, context))
             .filter(StringUtils::isNotEmpty)
             .collect(Collectors.joining(" , "));
+      } else if (ValueFilterQueryBuilder.isValueCondition(func, VALUE)) {
+        // Value conditions are appended to the series selector by ValueFilterQueryBuilder.
+        return null;
       } else if ((BuiltinFunctionName.LTE.getName().equals(func.getFunctionName())
               || BuiltinFunctionName.GTE.getName().equals(func.getFunctionName())
               || BuiltinFunctionName.LESS.getName().equals(func.getFunctionName())
@@ -58,6 +58,9 @@ public class TimeRangeParametersResolver extends ExpressionNodeVisitor<Void, Obj
         || BuiltinFunctionName.GTE.getName().equals(func.getFunctionName())
         || BuiltinFunctionName.LESS.getName().equals(func.getFunctionName())
         || BuiltinFunctionName.GREATER.getName().equals(func.getFunctionName()))) {
+      if (!(func.getArguments().get(0) instanceof ReferenceExpression)) {
+        return null;
+      }
       ReferenceExpression ref = (ReferenceExpression) func.getArguments().get(0);
       Expression rightExpr = func.getArguments().get(1);
       if (ref.getAttr().equals(TIMESTAMP)) {
@@ -0,0 +1,261 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.storage.querybuilder;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NoArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+
+/**
+ * This class builds PromQL comparison filters on the sample value of a series selection or
+ * aggregation query. Comparisons like {@code @value > 10} become {@code query > 10}, comparisons on
+ * arithmetic of the value like {@code @value * 2 > 10} become {@code query and (query * 2) > 10},
+ * so that Prometheus only returns the samples which satisfy the filter.
+ */
+@NoArgsConstructor
+public class ValueFilterQueryBuilder {
+
+  private static final Map<FunctionName, String> COMPARISON_OPERATORS =
+      ImmutableMap.<FunctionName, String>builder()
+          .put(BuiltinFunctionName.EQUAL.getName(), "==")
+          .put(BuiltinFunctionName.NOTEQUAL.getName(), "!=")
+          .put(BuiltinFunctionName.LESS.getName(), "<")
+          .put(BuiltinFunctionName.LTE.getName(), "<=")
+          .put(BuiltinFunctionName.GREATER.getName(), ">")
+          .put(BuiltinFunctionName.GTE.getName(), ">=")
+          .build();
+
+  /** Operator to use when the literal is the left operand, e.g. 10 < @value. */
+  private static final Map<FunctionName, String> REVERSED_COMPARISON_OPERATORS =
+      ImmutableMap.<FunctionName, String>builder()
+          .put(BuiltinFunctionName.EQUAL.getName(), "==")
+          .put(BuiltinFunctionName.NOTEQUAL.getName(), "!=")
+          .put(BuiltinFunctionName.LESS.getName(), ">")
+          .put(BuiltinFunctionName.LTE.getName(), ">=")
+          .put(BuiltinFunctionName.GREATER.getName(), "<")
+          .put(BuiltinFunctionName.GTE.getName(), "<=")
+          .build();
+
+  private static final Map<FunctionName, String> ARITHMETIC_OPERATORS =
+      ImmutableMap.<FunctionName, String>builder()
+          .put(BuiltinFunctionName.ADD.getName(), "+")
+          .put(BuiltinFunctionName.SUBTRACT.getName(), "-")
+          .put(BuiltinFunctionName.MULTIPLY.getName(), "*")
+          .put(BuiltinFunctionName.DIVIDE.getName(), "/")
+          .put(BuiltinFunctionName.MODULUS.getName(), "%")
+          .build();
+
+  private static final Map<FunctionName, String> MATH_FUNCTIONS =
+      ImmutableMap.<FunctionName, String>builder()
+          .put(BuiltinFunctionName.ABS.getName(), "abs")
+          .put(BuiltinFunctionName.CEIL.getName(), "ceil")
+          .put(BuiltinFunctionName.CEILING.getName(), "ceil")
+          .put(BuiltinFunctionName.FLOOR.getName(), "floor")
+          .put(BuiltinFunctionName.SQRT.getName(), "sqrt")
+          .put(BuiltinFunctionName.EXP.getName(), "exp")
+          .put(BuiltinFunctionName.LN.getName(), "ln")
+          .put(BuiltinFunctionName.LOG2.getName(), "log2")
+          .put(BuiltinFunctionName.LOG10.getName(), "log10")
+          .build();
+
+  /**
+   * Append the value conditions of the filter to the given query.
+   *
+   * @param valueQuery series selection or aggregation query which produces the value.
+   * @param valueFieldName name of the value field in the filter condition.
+   * @param filterCondition filter condition, conditions not on the value are ignored.
+   * @return query string.
+   */
+  public static String build(String valueQuery, String valueFieldName, Expression filterCondition) {
+    String query = valueQuery;
+    if (filterCondition == null) {
+      return query;
+    }
+    boolean first = true;
+    for (Expression condition : conjuncts(filterCondition)) {
+      if (isValueCondition(condition, valueFieldName)) {
+        String filteredQuery = first ? query : "(" + query + ")";
+        if (isValueReference(valueArgument(condition), valueFieldName)) {
+          query = comparison(filteredQuery, valueFieldName, condition).get();
+        } else {
+          query = filteredQuery + " and " + comparison(valueQuery, valueFieldName, condition).get();
+        }
+        first = false;
+      }
+    }
+    return query;
+  }
+
+  /**
+   * Check whether the condition is a comparison between the value (or arithmetic of the value) and
+   * a numeric constant which can be evaluated by Prometheus.
+   *
+   * @param condition condition.
+   * @param valueFieldName name of the value field.
+   * @return true if the condition can be translated to PromQL.
+   */
+  public static boolean isValueCondition(Expression condition, String valueFieldName) {
+    return comparison("", valueFieldName, condition).isPresent();
+  }
+
+  /**
+   * Check whether any conjunct of the filter is a value condition.
+   *
+   * @param filterCondition filter condition.
+   * @param valueFieldName name of the value field.
+   * @return true if the filter has at least one value condition.
+   */
+  public static boolean hasValueCondition(Expression filterCondition, String valueFieldName) {
+    return filterCondition != null
+        && conjuncts(filterCondition).stream()
+            .anyMatch(condition -> isValueCondition(condition, valueFieldName));
+  }
+
+  /**
+   * Check whether all the conjuncts of the filter are value conditions.
+   *
+   * @param filterCondition filter condition.
+   * @param valueFieldName name of the value field.
+   * @return true if the whole filter can be translated to PromQL value filters.
+   */
+  public static boolean isValueFilter(Expression filterCondition, String valueFieldName) {
+    return filterCondition != null
+        && conjuncts(filterCondition).stream()
+            .allMatch(condition -> isValueCondition(condition, valueFieldName));
+  }
+
+  private static List<Expression> conjuncts(Expression expression) {
+    List<Expression> conjuncts = new ArrayList<>();
+    if (expression instanceof FunctionExpression
+        && BuiltinFunctionName.AND
+            .getName()
+            .equals(((FunctionExpression) expression).getFunctionName())) {
+      ((FunctionExpression) expression)
+          .getArguments()
+          .forEach(argument -> conjuncts.addAll(conjuncts(argument)));
+    } else {
+      conjuncts.add(expression);
+    }
+    return conjuncts;
+  }
+
+  private static Optional<String> comparison(
+      String valueQuery, String valueFieldName, Expression condition) {
+    if (!(condition instanceof FunctionExpression)) {
+      return Optional.empty();
+    }
+    FunctionExpression func = (FunctionExpression) condition;
+    if (!COMPARISON_OPERATORS.containsKey(func.getFunctionName())
+        || func.getArguments().size() != 2) {
+      return Optional.empty();
+    }
+    Expression left = func.getArguments().get(0);
+    Expression right = func.getArguments().get(1);
+    String operator = COMPARISON_OPERATORS.get(func.getFunctionName());
+    if (isConstant(left) && !isConstant(right)) {
+      Expression swap = left;
+      left = right;
+      right = swap;
+      operator = REVERSED_COMPARISON_OPERATORS.get(func.getFunctionName());
+    }
+    Optional<String> constant = constant(right);
+    Optional<String> value = valueExpression(valueQuery, valueFieldName, left);
+    if (constant.isEmpty() || value.isEmpty() || !containsValueReference(left, valueFieldName)) {
+      return Optional.empty();
+    }
+    return Optional.of(value.get() + " " + operator + " " + constant.get());
+  }
+
+  private static Expression valueArgument(Expression condition) {
+    FunctionExpression func = (FunctionExpression) condition;
+    Expression left = func.getArguments().get(0);
+    return isConstant(left) ? func.getArguments().get(1) : left;
+  }
+
+  private static Optional<String> valueExpression(
+      String valueQuery, String valueFieldName, Expression expression) {
+    if (isValueReference(expression, valueFieldName)) {
+      return Optional.of(valueQuery);
+    } else if (isConstant(expression)) {
+      return constant(expression);
+    } else if (expression instanceof FunctionExpression && DOUBLE.equals(expression.type())) {
+      FunctionExpression func = (FunctionExpression) expression;
+      List<String> arguments = new ArrayList<>();
+      for (Expression argument : func.getArguments()) {
+        Optional<String> translated = valueExpression(valueQuery, valueFieldName, argument);
+        if (translated.isEmpty()) {
+          return Optional.empty();
+        }
+        arguments.add(translated.get());
+      }
+      if (ARITHMETIC_OPERATORS.containsKey(func.getFunctionName()) && arguments.size() == 2) {
+        return Optional.of(
+            "("
+                + arguments.get(0)
+                + " "
+                + ARITHMETIC_OPERATORS.get(func.getFunctionName())
+                + " "
+                + arguments.get(1)
+                + ")");
+      } else if (MATH_FUNCTIONS.containsKey(func.getFunctionName()) && arguments.size() == 1) {
+        return Optional.of(
+            MATH_FUNCTIONS.get(func.getFunctionName()) + "(" + arguments.get(0) + ")");
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static boolean isValueReference(Expression expression, String valueFieldName) {
+    return expression instanceof ReferenceExpression
+        && ((ReferenceExpression) expression).getAttr().equals(valueFieldName);
+  }
+
+  private static boolean containsValueReference(Expression expression, String valueFieldName) {
+    if (isValueReference(expression, valueFieldName)) {
+      return true;
+    } else if (expression instanceof FunctionExpression) {
+      return ((FunctionExpression) expression)
+          .getArguments().stream()
+              .anyMatch(argument -> containsValueReference(argument, valueFieldName));
+    }
+    return false;
+  }
+
+  /** Literal or function of literals only, e.g. cast inserted by the function resolver. */
+  private static boolean isConstant(Expression expression) {
+    if (expression instanceof LiteralExpression) {
+      return true;
+    } else if (expression instanceof FunctionExpression) {
+      List<Expression> arguments = ((FunctionExpression) expression).getArguments();
+      return !arguments.isEmpty()
+          && arguments.stream().allMatch(ValueFilterQueryBuilder::isConstant);
+    }
+    return false;
+  }
+
+  private static Optional<String> constant(Expression expression) {
+    if (!isConstant(expression)) {
+      return Optional.empty();
+    }
+    ExprValue value = expression.valueOf();
+    if (value.isNull() || value.isMissing() || !(value.value() instanceof Number)) {
+      return Optional.empty();
+    }
+    return Optional.of(value.value().toString());
+  }
+}
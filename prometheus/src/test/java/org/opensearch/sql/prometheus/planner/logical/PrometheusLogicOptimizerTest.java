@@ -13,17 +13,26 @@ import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
 import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.indexScan;
 import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.indexScanAgg;
+import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.indexScanAggWithTopK;
+import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.indexScanAggWithValueFilter;
+import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.indexScanWithTopK;
 
 import com.google.common.collect.ImmutableList;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
@@ -92,6 +101,133 @@ public class PrometheusLogicOptimizerTest {
                 DSL.named("AVG(@value)", DSL.ref("AVG(@value)", DOUBLE)))));
   }
 
+  @Test
+  void filter_on_value_merge_with_eval_and_relation() {
+    assertEquals(
+        project(
+            eval(
+                indexScan(
+                    "prometheus_http_total_requests",
+                    DSL.greater(
+                        DSL.multiply(DSL.ref(VALUE, DOUBLE), DSL.literal(2.0)), DSL.literal(10.0))),
+                Pair.of(
+                    DSL.ref("doubled", DOUBLE),
+                    DSL.multiply(DSL.ref(VALUE, DOUBLE), DSL.literal(2.0))))),
+        optimize(
+            project(
+                filter(
+                    eval(
+                        relation("prometheus_http_total_requests", table),
+                        Pair.of(
+                            DSL.ref("doubled", DOUBLE),
+                            DSL.multiply(DSL.ref(VALUE, DOUBLE), DSL.literal(2.0)))),
+                    DSL.greater(DSL.ref("doubled", DOUBLE), DSL.literal(10.0))))));
+  }
+
+  @Test
+  void filter_on_label_not_merge_with_eval() {
+    LogicalPlan plan =
+        project(
+            filter(
+                eval(
+                    relation("prometheus_http_total_requests", table),
+                    Pair.of(DSL.ref("code_copy", STRING), DSL.ref("code", STRING))),
+                DSL.equal(DSL.ref("code_copy", STRING), DSL.literal(stringValue("200")))));
+    assertEquals(plan, optimize(plan));
+  }
+
+  @Test
+  void filter_on_aggregated_value_merge_with_aggregation() {
+    assertEquals(
+        project(
+            indexScanAggWithValueFilter(
+                "prometheus_http_total_requests",
+                null,
+                ImmutableList.of(DSL.named("AVG(@value)", DSL.avg(DSL.ref(VALUE, DOUBLE)))),
+                ImmutableList.of(DSL.named("code", DSL.ref("code", STRING))),
+                DSL.greater(DSL.ref("AVG(@value)", DOUBLE), DSL.literal(10.0)))),
+        optimize(
+            project(
+                filter(
+                    aggregation(
+                        relation("prometheus_http_total_requests", table),
+                        ImmutableList.of(DSL.named("AVG(@value)", DSL.avg(DSL.ref(VALUE, DOUBLE)))),
+                        ImmutableList.of(DSL.named("code", DSL.ref("code", STRING)))),
+                    DSL.greater(DSL.ref("AVG(@value)", DOUBLE), DSL.literal(10.0))))));
+  }
+
+  @Test
+  void sort_and_limit_on_value_push_down_as_top_k() {
+    assertEquals(
+        project(
+            limit(
+                sort(
+                    indexScanWithTopK(
+                        "prometheus_http_total_requests",
+                        DSL.equal(DSL.ref("code", STRING), DSL.literal(stringValue("200"))),
+                        15,
+                        false),
+                    Pair.of(Sort.SortOption.DEFAULT_DESC, DSL.ref(VALUE, DOUBLE))),
+                10,
+                5)),
+        optimize(
+            project(
+                limit(
+                    sort(
+                        filter(
+                            relation("prometheus_http_total_requests", table),
+                            DSL.equal(DSL.ref("code", STRING), DSL.literal(stringValue("200")))),
+                        Pair.of(Sort.SortOption.DEFAULT_DESC, DSL.ref(VALUE, DOUBLE))),
+                    10,
+                    5))));
+  }
+
+  @Test
+  void sort_and_limit_on_aggregated_value_push_down_as_bottom_k() {
+    assertEquals(
+        project(
+            limit(
+                sort(
+                    indexScanAggWithTopK(
+                        indexScanAggWithValueFilter(
+                            "prometheus_http_total_requests",
+                            null,
+                            ImmutableList.of(
+                                DSL.named("AVG(@value)", DSL.avg(DSL.ref(VALUE, DOUBLE)))),
+                            ImmutableList.of(DSL.named("code", DSL.ref("code", STRING))),
+                            null),
+                        10,
+                        true),
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("AVG(@value)", DOUBLE))),
+                10,
+                0)),
+        optimize(
+            project(
+                limit(
+                    sort(
+                        aggregation(
+                            relation("prometheus_http_total_requests", table),
+                            ImmutableList.of(
+                                DSL.named("AVG(@value)", DSL.avg(DSL.ref(VALUE, DOUBLE)))),
+                            ImmutableList.of(DSL.named("code", DSL.ref("code", STRING)))),
+                        Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("AVG(@value)", DOUBLE))),
+                    10,
+                    0))));
+  }
+
+  @Test
+  void sort_by_label_not_push_down() {
+    LogicalPlan plan =
+        project(
+            limit(
+                sort(
+                    relation("prometheus_http_total_requests", table),
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("code", STRING))),
+                10,
+                0));
+    assertEquals(plan, optimize(plan));
+  }
+
   private LogicalPlan optimize(LogicalPlan plan) {
     final LogicalPlanOptimizer optimizer = PrometheusLogicalPlanOptimizerFactory.create();
     return optimizer.optimize(plan);
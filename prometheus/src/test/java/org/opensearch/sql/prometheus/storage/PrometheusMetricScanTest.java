@@ -8,7 +8,9 @@ package org.opensearch.sql.prometheus.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
@@ -39,6 +41,7 @@ import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
+import org.opensearch.sql.prometheus.storage.model.AdditionalAggregationQuery;
 import org.opensearch.sql.prometheus.storage.model.PrometheusResponseFieldNames;
 
 @ExtendWith(MockitoExtension.class)
@@ -291,4 +294,57 @@ public class PrometheusMetricScanTest {
             + "endTime=1664771294133, step=14)",
         prometheusMetricScan.explain());
   }
+
+  @Test
+  @SneakyThrows
+  void testQueryResponseIteratorWithAdditionalAggregationQueries() {
+    PrometheusResponseFieldNames prometheusResponseFieldNames = new PrometheusResponseFieldNames();
+    prometheusResponseFieldNames.setValueFieldName("count()");
+    prometheusResponseFieldNames.setValueType(INTEGER);
+    prometheusResponseFieldNames.setTimestampFieldName(TIMESTAMP);
+    PrometheusMetricScan prometheusMetricScan = new PrometheusMetricScan(prometheusClient);
+    prometheusMetricScan.setPrometheusResponseFieldNames(prometheusResponseFieldNames);
+    prometheusMetricScan.getRequest().setPromQl(QUERY);
+    prometheusMetricScan.getRequest().setStartTime(STARTTIME);
+    prometheusMetricScan.getRequest().setEndTime(ENDTIME);
+    prometheusMetricScan.getRequest().setStep(STEP);
+    prometheusMetricScan
+        .getAdditionalAggregationQueries()
+        .add(new AdditionalAggregationQuery("max_query", "max(@value)", DOUBLE));
+
+    when(prometheusClient.queryRange(eq(QUERY), any(), any(), any()))
+        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    when(prometheusClient.queryRange(eq("max_query"), any(), any(), any()))
+        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+    prometheusMetricScan.open();
+    Assertions.assertTrue(prometheusMetricScan.hasNext());
+    ExprTupleValue firstRow =
+        new ExprTupleValue(
+            new LinkedHashMap<>() {
+              {
+                put(TIMESTAMP, new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
+                put("count()", new ExprIntegerValue(1));
+                put("instance", new ExprStringValue("localhost:9090"));
+                put("__name__", new ExprStringValue("up"));
+                put("job", new ExprStringValue("prometheus"));
+                put("max(@value)", new ExprDoubleValue(1));
+              }
+            });
+    assertEquals(firstRow, prometheusMetricScan.next());
+    Assertions.assertTrue(prometheusMetricScan.hasNext());
+    ExprTupleValue secondRow =
+        new ExprTupleValue(
+            new LinkedHashMap<>() {
+              {
+                put(TIMESTAMP, new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
+                put("count()", new ExprIntegerValue(0));
+                put("instance", new ExprStringValue("localhost:9091"));
+                put("__name__", new ExprStringValue("up"));
+                put("job", new ExprStringValue("node"));
+                put("max(@value)", new ExprDoubleValue(0));
+              }
+            });
+    assertEquals(secondRow, prometheusMetricScan.next());
+    Assertions.assertFalse(prometheusMetricScan.hasNext());
+  }
 }
@@ -16,6 +16,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.fromObjectValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.named;
@@ -28,6 +29,9 @@ import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConsta
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
 import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.indexScan;
 import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.indexScanAgg;
+import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.indexScanAggWithTopK;
+import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.indexScanAggWithValueFilter;
+import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.indexScanWithTopK;
 import static org.opensearch.sql.prometheus.utils.LogicalPlanUtils.testLogicalPlanNode;
 
 import com.google.common.collect.ImmutableList;
@@ -57,6 +61,7 @@ import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.constants.TestConstants;
 import org.opensearch.sql.prometheus.functions.scan.QueryRangeFunctionTableScanBuilder;
 import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
+import org.opensearch.sql.prometheus.storage.model.AdditionalAggregationQuery;
 import org.opensearch.sql.storage.read.TableScanBuilder;
 
 @ExtendWith(MockitoExtension.class)
@@ -745,28 +750,41 @@ class PrometheusMetricTableTest {
   }
 
   @Test
-  void testMultipleAggregationsThrowsRuntimeException() {
+  void testMultipleAggregations() {
 
     PrometheusMetricTable prometheusMetricTable =
         new PrometheusMetricTable(client, "prometheus_http_total_requests");
     LogicalPlan plan =
-        project(
-            indexScanAgg(
-                "prometheus_http_total_requests",
-                DSL.and(
-                    DSL.equal(DSL.ref("code", STRING), DSL.literal(stringValue("200"))),
-                    DSL.equal(DSL.ref("handler", STRING), DSL.literal(stringValue("/ready/")))),
-                ImmutableList.of(
-                    named("AVG(@value)", DSL.avg(DSL.ref("@value", INTEGER))),
-                    named("SUM(@value)", DSL.avg(DSL.ref("@value", INTEGER)))),
-                ImmutableList.of(named("job", DSL.ref("job", STRING)))));
-
-    RuntimeException runtimeException =
-        Assertions.assertThrows(
-            RuntimeException.class, () -> prometheusMetricTable.implement(plan));
+        indexScanAgg(
+            "prometheus_http_total_requests",
+            DSL.and(
+                DSL.equal(DSL.ref("code", STRING), DSL.literal(stringValue("200"))),
+                DSL.equal(DSL.ref("handler", STRING), DSL.literal(stringValue("/ready/")))),
+            ImmutableList.of(
+                named("AVG(@value)", DSL.avg(DSL.ref("@value", INTEGER))),
+                named("SUM(@value)", DSL.sum(DSL.ref("@value", INTEGER)))),
+            ImmutableList.of(
+                named("job", DSL.ref("job", STRING)),
+                named(
+                    "span",
+                    DSL.span(
+                        DSL.ref("@timestamp", ExprCoreType.TIMESTAMP), DSL.literal(40), "s"))));
+
+    PhysicalPlan physicalPlan = prometheusMetricTable.implement(plan);
+    assertTrue(physicalPlan instanceof PrometheusMetricScan);
+    PrometheusMetricScan prometheusMetricScan = (PrometheusMetricScan) physicalPlan;
     assertEquals(
-        "Prometheus Catalog doesn't multiple aggregations in stats command",
-        runtimeException.getMessage());
+        "avg by(job) (avg_over_time"
+            + "(prometheus_http_total_requests{code=\"200\" , handler=\"/ready/\"}[40s]))",
+        prometheusMetricScan.getRequest().getPromQl());
+    assertEquals(
+        List.of(
+            new AdditionalAggregationQuery(
+                "sum by(job) (sum_over_time"
+                    + "(prometheus_http_total_requests{code=\"200\" , handler=\"/ready/\"}[40s]))",
+                "SUM(@value)",
+                INTEGER)),
+        prometheusMetricScan.getAdditionalAggregationQueries());
   }
 
   @Test
@@ -1034,6 +1052,106 @@ class PrometheusMetricTableTest {
         "Prometheus Datasource doesn't support <= in where command.", exception.getMessage());
   }
 
+  @Test
+  void testImplementPrometheusQueryWithValueFilter() {
+
+    PrometheusMetricTable prometheusMetricTable =
+        new PrometheusMetricTable(client, "prometheus_http_total_requests");
+
+    PhysicalPlan plan =
+        prometheusMetricTable.implement(
+            indexScan(
+                "prometheus_http_total_requests",
+                DSL.and(
+                    DSL.equal(DSL.ref("code", STRING), DSL.literal(stringValue("200"))),
+                    DSL.and(
+                        DSL.greater(DSL.ref(VALUE, DOUBLE), DSL.literal(10.0)),
+                        DSL.lte(DSL.ref(VALUE, DOUBLE), DSL.literal(20.0))))));
+
+    assertTrue(plan instanceof PrometheusMetricScan);
+    PrometheusQueryRequest prometheusQueryRequest = ((PrometheusMetricScan) plan).getRequest();
+    assertEquals(
+        "(prometheus_http_total_requests{code=\"200\"} > 10.0) <= 20.0",
+        prometheusQueryRequest.getPromQl());
+  }
+
+  @Test
+  void testImplementPrometheusQueryWithArithmeticValueFilter() {
+
+    PrometheusMetricTable prometheusMetricTable =
+        new PrometheusMetricTable(client, "prometheus_http_total_requests");
+
+    PhysicalPlan plan =
+        prometheusMetricTable.implement(
+            indexScan(
+                "prometheus_http_total_requests",
+                DSL.and(
+                    DSL.equal(DSL.ref("code", STRING), DSL.literal(stringValue("200"))),
+                    DSL.less(
+                        DSL.literal(10.0),
+                        DSL.multiply(DSL.ref(VALUE, DOUBLE), DSL.literal(2.0))))));
+
+    assertTrue(plan instanceof PrometheusMetricScan);
+    PrometheusQueryRequest prometheusQueryRequest = ((PrometheusMetricScan) plan).getRequest();
+    assertEquals(
+        "prometheus_http_total_requests{code=\"200\"}"
+            + " and (prometheus_http_total_requests{code=\"200\"} * 2.0) > 10.0",
+        prometheusQueryRequest.getPromQl());
+  }
+
+  @Test
+  void testImplementPrometheusQueryWithTopK() {
+
+    PrometheusMetricTable prometheusMetricTable =
+        new PrometheusMetricTable(client, "prometheus_http_total_requests");
+
+    PhysicalPlan plan =
+        prometheusMetricTable.implement(
+            indexScanWithTopK(
+                "prometheus_http_total_requests",
+                DSL.greater(DSL.ref(VALUE, DOUBLE), DSL.literal(10.0)),
+                5,
+                false));
+
+    assertTrue(plan instanceof PrometheusMetricScan);
+    PrometheusQueryRequest prometheusQueryRequest = ((PrometheusMetricScan) plan).getRequest();
+    assertEquals(
+        "topk(5, prometheus_http_total_requests > 10.0)", prometheusQueryRequest.getPromQl());
+  }
+
+  @Test
+  void testImplementPrometheusQueryWithStatsValueFilterAndBottomK() {
+
+    PrometheusMetricTable prometheusMetricTable =
+        new PrometheusMetricTable(client, "prometheus_http_total_requests");
+
+    PhysicalPlan plan =
+        prometheusMetricTable.implement(
+            indexScanAggWithTopK(
+                indexScanAggWithValueFilter(
+                    "prometheus_http_total_requests",
+                    DSL.equal(DSL.ref("code", STRING), DSL.literal(stringValue("200"))),
+                    ImmutableList.of(named("AVG(@value)", DSL.avg(DSL.ref("@value", DOUBLE)))),
+                    ImmutableList.of(
+                        named("job", DSL.ref("job", STRING)),
+                        named(
+                            "span",
+                            DSL.span(
+                                DSL.ref("@timestamp", ExprCoreType.TIMESTAMP),
+                                DSL.literal(40),
+                                "s"))),
+                    DSL.gte(DSL.ref("AVG(@value)", DOUBLE), DSL.literal(1.5))),
+                3,
+                true));
+
+    assertTrue(plan instanceof PrometheusMetricScan);
+    PrometheusQueryRequest prometheusQueryRequest = ((PrometheusMetricScan) plan).getRequest();
+    assertEquals(
+        "bottomk(3, avg by(job) (avg_over_time"
+            + "(prometheus_http_total_requests{code=\"200\"}[40s])) >= 1.5)",
+        prometheusQueryRequest.getPromQl());
+  }
+
   @Test
   void testCreateScanBuilderWithQueryRangeTableFunction() {
     PrometheusQueryRequest prometheusQueryRequest = new PrometheusQueryRequest();
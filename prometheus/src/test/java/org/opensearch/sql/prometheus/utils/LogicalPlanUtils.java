@@ -48,6 +48,41 @@ public class LogicalPlanUtils {
         .build();
   }
 
+  /** Build PrometheusLogicalMetricScan with topk/bottomk. */
+  public static LogicalPlan indexScanWithTopK(
+      String metricName, Expression filter, Integer topK, boolean bottomK) {
+    return PrometheusLogicalMetricScan.builder()
+        .metricName(metricName)
+        .filter(filter)
+        .topK(topK)
+        .bottomK(bottomK)
+        .build();
+  }
+
+  /** Build PrometheusLogicalMetricAgg with filter on the aggregated value. */
+  public static PrometheusLogicalMetricAgg indexScanAggWithValueFilter(
+      String metricName,
+      Expression filter,
+      List<NamedAggregator> aggregators,
+      List<NamedExpression> groupByList,
+      Expression valueFilter) {
+    return PrometheusLogicalMetricAgg.builder()
+        .metricName(metricName)
+        .filter(filter)
+        .aggregatorList(aggregators)
+        .groupByList(groupByList)
+        .valueFilter(valueFilter)
+        .build();
+  }
+
+  /** Build PrometheusLogicalMetricAgg with topk/bottomk. */
+  public static LogicalPlan indexScanAggWithTopK(
+      PrometheusLogicalMetricAgg metricAgg, Integer topK, boolean bottomK) {
+    metricAgg.setTopK(topK);
+    metricAgg.setBottomK(bottomK);
+    return metricAgg;
+  }
+
   /** Build PrometheusLogicalMetricAgg. */
   public static LogicalPlan testLogicalPlanNode() {
     return new TestLogicalPlan();
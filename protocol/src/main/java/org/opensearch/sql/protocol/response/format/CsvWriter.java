@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * Writer of CSV lines. Each cell is sanitized and quoted while it is written out, so neither the
+ * lines nor the whole CSV are built in memory before sending.
+ *
+ * <ol>
+ *   <li>Prepend single quote if first char is sensitive (= - + @) and sanitize is enabled.
+ *   <li>Double quote entire cell if separator is found, with double quotes in it escaped.
+ * </ol>
+ */
+public class CsvWriter {
+  private static final Set<Character> SENSITIVE_CHAR = ImmutableSet.of('=', '+', '-', '@');
+  private static final char SANITIZE_PREFIX = '\'';
+  private static final char QUOTE = '"';
+
+  private final Writer out;
+  private final String separator;
+  private final String newLine;
+  private final boolean sanitize;
+
+  public CsvWriter(Writer out, String separator, String newLine, boolean sanitize) {
+    this.out = out;
+    this.separator = separator;
+    this.newLine = newLine;
+    this.sanitize = sanitize;
+  }
+
+  /**
+   * Write cells of a line, without line separator.
+   *
+   * @param cells cells of the line, null is written as empty cell.
+   */
+  public void writeLine(Iterable<?> cells) throws IOException {
+    boolean first = true;
+    for (Object cell : cells) {
+      if (!first) {
+        out.write(separator);
+      }
+      first = false;
+      writeCell(cell == null ? "" : cell.toString());
+    }
+  }
+
+  /** Write line separator. */
+  public void newLine() throws IOException {
+    out.write(newLine);
+  }
+
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  private void writeCell(String cell) throws IOException {
+    boolean isSanitized = sanitize && isStartWithSensitiveChar(cell);
+    if (!isQuoteRequired(cell, isSanitized)) {
+      if (isSanitized) {
+        out.write(SANITIZE_PREFIX);
+      }
+      out.write(cell);
+      return;
+    }
+
+    out.write(QUOTE);
+    if (isSanitized) {
+      out.write(SANITIZE_PREFIX);
+    }
+    int start = 0;
+    for (int i = cell.indexOf(QUOTE); i >= 0; i = cell.indexOf(QUOTE, start)) {
+      out.write(cell, start, i + 1 - start);
+      out.write(QUOTE);
+      start = i + 1;
+    }
+    out.write(cell, start, cell.length() - start);
+    out.write(QUOTE);
+  }
+
+  /** Check if separator is found in the cell including the prefix prepended by sanitize. */
+  private boolean isQuoteRequired(String cell, boolean isSanitized) {
+    if (cell.contains(separator)) {
+      return true;
+    }
+    return isSanitized
+        && !separator.isEmpty()
+        && separator.charAt(0) == SANITIZE_PREFIX
+        && (SANITIZE_PREFIX + cell).startsWith(separator);
+  }
+
+  private boolean isStartWithSensitiveChar(String cell) {
+    return !cell.isEmpty() && SENSITIVE_CHAR.contains(cell.charAt(0));
+  }
+}
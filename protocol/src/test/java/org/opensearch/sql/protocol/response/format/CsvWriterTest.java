@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link CsvWriter}. */
+public class CsvWriterTest {
+
+  @Test
+  void writeLines() throws IOException {
+    assertEquals(
+        "name,age\nJohn,20\nSmith,",
+        write(
+            ",",
+            true,
+            Arrays.asList("name", "age"),
+            Arrays.asList("John", 20),
+            line("Smith", null)));
+  }
+
+  @Test
+  void quoteCellWithSeparator() throws IOException {
+    assertEquals(
+        "\"Seattle, WA\",\"say \"\"hi\"\", bye\",hi\"",
+        write(",", true, Arrays.asList("Seattle, WA", "say \"hi\", bye", "hi\"")));
+  }
+
+  @Test
+  void quoteOnlyIfSeparatorFound() throws IOException {
+    assertEquals("a\"b|c,d", write("|", true, Arrays.asList("a\"b", "c,d")));
+  }
+
+  @Test
+  void sanitizeCell() throws IOException {
+    assertEquals(
+        "'=cmd|'+1|'-1|'@a|\"'-a|b\"|",
+        write("|", true, Arrays.asList("=cmd", "+1", "-1", "@a", "-a|b", "")));
+  }
+
+  @Test
+  void skipSanitize() throws IOException {
+    assertEquals("=cmd,-1,\"-a,b\"", write(",", false, Arrays.asList("=cmd", "-1", "-a,b")));
+  }
+
+  @Test
+  void quoteIfSeparatorFoundWithSanitizePrefix() throws IOException {
+    assertEquals("\"'=a\"", write("'=", true, Arrays.asList("=a")));
+  }
+
+  private static List<Object> line(Object... cells) {
+    return Arrays.asList(cells);
+  }
+
+  @SafeVarargs
+  private static String write(String separator, boolean sanitize, List<?>... lines)
+      throws IOException {
+    StringWriter out = new StringWriter();
+    CsvWriter writer = new CsvWriter(out, separator, "\n", sanitize);
+    for (int i = 0; i < lines.length; i++) {
+      if (i > 0) {
+        writer.newLine();
+      }
+      writer.writeLine(lines[i]);
+    }
+    writer.flush();
+    return out.toString();
+  }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.sql.spark.asyncquery;
 
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryExecutionResponse;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.rest.model.CreateAsyncQueryRequest;
 import org.opensearch.sql.spark.rest.model.CreateAsyncQueryResponse;
 
@@ -30,6 +31,15 @@ public interface AsyncQueryExecutorService {
    */
   AsyncQueryExecutionResponse getAsyncQueryResults(String queryId);
 
+  /**
+   * Returns a page of the async query response for a given queryId.
+   *
+   * @param queryId queryId.
+   * @param page page of the result rows.
+   * @return {@link AsyncQueryExecutionResponse}
+   */
+  AsyncQueryExecutionResponse getAsyncQueryResults(String queryId, AsyncQueryResultPage page);
+
   /**
    * Cancels running async query and returns the cancelled queryId.
    *
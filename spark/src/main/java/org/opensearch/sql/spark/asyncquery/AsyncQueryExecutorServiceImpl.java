@@ -15,10 +15,12 @@ import java.util.List;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import org.json.JSONObject;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.spark.asyncquery.exceptions.AsyncQueryNotFoundException;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryExecutionResponse;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryJobMetadata;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.config.SparkExecutionEngineConfig;
 import org.opensearch.sql.spark.config.SparkExecutionEngineConfigSupplier;
 import org.opensearch.sql.spark.dispatcher.SparkQueryDispatcher;
@@ -73,19 +75,33 @@ public class AsyncQueryExecutorServiceImpl implements AsyncQueryExecutorService
             sparkExecutionEngineConfig.getApplicationId(),
             dispatchQueryResponse.getJobId(),
             dispatchQueryResponse.getResultIndex(),
-            dispatchQueryResponse.getSessionId()));
+            dispatchQueryResponse.getSessionId(),
+            null,
+            dispatchQueryResponse.getResultQueryId(),
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            SequenceNumbers.UNASSIGNED_PRIMARY_TERM));
     return new CreateAsyncQueryResponse(
         dispatchQueryResponse.getQueryId().getId(), dispatchQueryResponse.getSessionId());
   }
 
   @Override
   public AsyncQueryExecutionResponse getAsyncQueryResults(String queryId) {
+    return getAsyncQueryResults(queryId, AsyncQueryResultPage.ALL);
+  }
+
+  @Override
+  public AsyncQueryExecutionResponse getAsyncQueryResults(
+      String queryId, AsyncQueryResultPage page) {
     validateSparkExecutionEngineSettings();
     Optional<AsyncQueryJobMetadata> jobMetadata =
         asyncQueryJobMetadataStorageService.getJobMetadata(queryId);
     if (jobMetadata.isPresent()) {
       String sessionId = jobMetadata.get().getSessionId();
-      JSONObject jsonObject = sparkQueryDispatcher.getQueryResponse(jobMetadata.get());
+      // fetch one more row to find out whether there is a next page
+      JSONObject jsonObject =
+          sparkQueryDispatcher.getQueryResponse(
+              jobMetadata.get(),
+              page.isAll() ? page : new AsyncQueryResultPage(page.getOffset(), page.getSize() + 1));
       if (JobRunState.SUCCESS.toString().equals(jsonObject.getString(STATUS_FIELD))) {
         DefaultSparkSqlFunctionResponseHandle sparkSqlFunctionResponseHandle =
             new DefaultSparkSqlFunctionResponseHandle(jsonObject);
@@ -93,12 +109,18 @@ public class AsyncQueryExecutorServiceImpl implements AsyncQueryExecutorService
         while (sparkSqlFunctionResponseHandle.hasNext()) {
           result.add(sparkSqlFunctionResponseHandle.next());
         }
+        String cursor = null;
+        if (!page.isAll() && result.size() > page.getSize()) {
+          result = result.subList(0, page.getSize());
+          cursor = page.next().toCursor();
+        }
         return new AsyncQueryExecutionResponse(
             JobRunState.SUCCESS.toString(),
             sparkSqlFunctionResponseHandle.schema(),
             result,
             null,
-            sessionId);
+            sessionId,
+            cursor);
       } else {
         return new AsyncQueryExecutionResponse(
             jsonObject.optString(STATUS_FIELD, JobRunState.FAILED.toString()),
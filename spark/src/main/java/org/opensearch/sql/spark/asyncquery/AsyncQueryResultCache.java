@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.asyncquery;
+
+import static org.opensearch.sql.common.setting.Settings.Key.SPARK_EXECUTION_RESULT_REUSE_TTL;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Clock;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.spark.dispatcher.model.DispatchQueryRequest;
+import org.opensearch.sql.spark.rest.model.LangType;
+import org.opensearch.sql.spark.utils.SQLQueryUtils;
+
+/**
+ * Node-local cache of the read-only SQL queries submitted recently, keyed by data source, user
+ * identity and normalized query. An identical query submitted by the same user within the TTL
+ * reuses the result of the cached query instead of starting a new job, so results are never shared
+ * across users. The TTL is counted from the submission of the cached query.
+ */
+public class AsyncQueryResultCache {
+  private static final int MAX_SIZE = 1000;
+
+  private final Settings settings;
+  private final Clock clock;
+  private final Cache<String, CachedQuery> cache =
+      CacheBuilder.newBuilder().maximumSize(MAX_SIZE).build();
+
+  public AsyncQueryResultCache(Settings settings) {
+    this(settings, Clock.systemUTC());
+  }
+
+  public AsyncQueryResultCache(Settings settings, Clock clock) {
+    this.settings = settings;
+    this.clock = clock;
+  }
+
+  /**
+   * Check whether the result of the query may be reused, i.e. reuse is enabled and the query is a
+   * single query statement classified by Spark SQL grammar, which neither writes (for example
+   * INSERT with CTEs) nor calls non-deterministic function such as rand() or current_timestamp().
+   *
+   * @param request dispatch query request.
+   * @return true if the result of the query may be reused.
+   */
+  public boolean isReusable(DispatchQueryRequest request) {
+    if (ttlMillis() <= 0 || !LangType.SQL.equals(request.getLangType())) {
+      return false;
+    }
+    return SQLQueryUtils.isDeterministicReadOnlyQuery(request.getQuery());
+  }
+
+  /**
+   * Find the query whose result may be reused.
+   *
+   * @param datasourceName data source name.
+   * @param userIdentity identity of the user submitting the query.
+   * @param query query.
+   * @return id of the query submitted by the same user within the TTL, or empty.
+   */
+  public Optional<String> get(String datasourceName, String userIdentity, String query) {
+    String key = key(datasourceName, userIdentity, query);
+    CachedQuery cached = cache.getIfPresent(key);
+    if (cached == null) {
+      return Optional.empty();
+    }
+    if (clock.millis() - cached.submitTime >= ttlMillis()) {
+      cache.asMap().remove(key, cached);
+      return Optional.empty();
+    }
+    return Optional.of(cached.queryId);
+  }
+
+  /**
+   * Remember a query submitted to run.
+   *
+   * @param datasourceName data source name.
+   * @param userIdentity identity of the user submitting the query.
+   * @param query query.
+   * @param queryId id of the query.
+   */
+  public void put(String datasourceName, String userIdentity, String query, String queryId) {
+    cache.put(key(datasourceName, userIdentity, query), new CachedQuery(queryId, clock.millis()));
+  }
+
+  private long ttlMillis() {
+    TimeValue ttl = settings.getSettingValue(SPARK_EXECUTION_RESULT_REUSE_TTL);
+    return ttl.millis();
+  }
+
+  private static String key(String datasourceName, String userIdentity, String query) {
+    return datasourceName + "\n" + userIdentity + "\n" + normalize(query);
+  }
+
+  /**
+   * Collapse the whitespace outside quoted literals and identifiers, and drop the trailing
+   * semicolon, so that queries differing in formatting only are the same.
+   */
+  @VisibleForTesting
+  static String normalize(String query) {
+    StringBuilder normalized = new StringBuilder(query.length());
+    char quote = 0;
+    boolean space = false;
+    for (char c : query.trim().toCharArray()) {
+      if (quote != 0) {
+        normalized.append(c);
+        if (c == quote) {
+          quote = 0;
+        }
+      } else if (Character.isWhitespace(c)) {
+        space = true;
+      } else {
+        if (space) {
+          normalized.append(' ');
+          space = false;
+        }
+        if (c == '\'' || c == '"' || c == '`') {
+          quote = c;
+        }
+        normalized.append(c);
+      }
+    }
+    int end = normalized.length();
+    while (end > 0 && (normalized.charAt(end - 1) == ';' || normalized.charAt(end - 1) == ' ')) {
+      end--;
+    }
+    return normalized.substring(0, end);
+  }
+
+  @RequiredArgsConstructor
+  private static class CachedQuery {
+    private final String queryId;
+    private final long submitTime;
+  }
+}
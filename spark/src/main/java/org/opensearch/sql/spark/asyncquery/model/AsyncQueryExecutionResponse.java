@@ -8,16 +8,30 @@
 package org.opensearch.sql.spark.asyncquery.model;
 
 import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 
 /** AsyncQueryExecutionResponse to store the response form spark job execution. */
 @Data
+@AllArgsConstructor
 public class AsyncQueryExecutionResponse {
   private final String status;
   private final ExecutionEngine.Schema schema;
   private final List<ExprValue> results;
   private final String error;
   private final String sessionId;
+
+  /** Cursor of the next result page, null if there is no more page. */
+  private final String cursor;
+
+  public AsyncQueryExecutionResponse(
+      String status,
+      ExecutionEngine.Schema schema,
+      List<ExprValue> results,
+      String error,
+      String sessionId) {
+    this(status, schema, results, error, sessionId, null);
+  }
 }
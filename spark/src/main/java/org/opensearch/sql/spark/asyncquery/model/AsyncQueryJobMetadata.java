@@ -9,6 +9,7 @@ package org.opensearch.sql.spark.asyncquery.model;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.sql.spark.execution.statement.StatementModel.QUERY_ID;
+import static org.opensearch.sql.spark.execution.statestore.StateModel.STATE;
 
 import com.google.gson.Gson;
 import java.io.IOException;
@@ -32,6 +33,10 @@ public class AsyncQueryJobMetadata extends StateModel {
   private final String resultIndex;
   // optional sessionId.
   private final String sessionId;
+  // optional terminal state of the EMR-S job persisted once observed, or CANCELLING once cancelled.
+  private final String state;
+  // optional id of the query whose result is reused as the result of this query.
+  private final String resultQueryId;
 
   @EqualsAndHashCode.Exclude private final long seqNo;
   @EqualsAndHashCode.Exclude private final long primaryTerm;
@@ -72,11 +77,38 @@ public class AsyncQueryJobMetadata extends StateModel {
       String sessionId,
       long seqNo,
       long primaryTerm) {
+    this(queryId, applicationId, jobId, resultIndex, sessionId, null, seqNo, primaryTerm);
+  }
+
+  public AsyncQueryJobMetadata(
+      AsyncQueryId queryId,
+      String applicationId,
+      String jobId,
+      String resultIndex,
+      String sessionId,
+      String state,
+      long seqNo,
+      long primaryTerm) {
+    this(queryId, applicationId, jobId, resultIndex, sessionId, state, null, seqNo, primaryTerm);
+  }
+
+  public AsyncQueryJobMetadata(
+      AsyncQueryId queryId,
+      String applicationId,
+      String jobId,
+      String resultIndex,
+      String sessionId,
+      String state,
+      String resultQueryId,
+      long seqNo,
+      long primaryTerm) {
     this.queryId = queryId;
     this.applicationId = applicationId;
     this.jobId = jobId;
     this.resultIndex = resultIndex;
     this.sessionId = sessionId;
+    this.state = state;
+    this.resultQueryId = resultQueryId;
     this.seqNo = seqNo;
     this.primaryTerm = primaryTerm;
   }
@@ -102,6 +134,8 @@ public class AsyncQueryJobMetadata extends StateModel {
         .field("applicationId", applicationId)
         .field("resultIndex", resultIndex)
         .field("sessionId", sessionId)
+        .field(STATE, state)
+        .field("resultQueryId", resultQueryId)
         .endObject();
     return builder;
   }
@@ -115,6 +149,23 @@ public class AsyncQueryJobMetadata extends StateModel {
         copy.getJobId(),
         copy.getResultIndex(),
         copy.getSessionId(),
+        copy.getState(),
+        copy.getResultQueryId(),
+        seqNo,
+        primaryTerm);
+  }
+
+  /** copy builder. update state, seqNo and primaryTerm */
+  public static AsyncQueryJobMetadata copyWithState(
+      AsyncQueryJobMetadata copy, String state, long seqNo, long primaryTerm) {
+    return new AsyncQueryJobMetadata(
+        copy.getQueryId(),
+        copy.getApplicationId(),
+        copy.getJobId(),
+        copy.getResultIndex(),
+        copy.getSessionId(),
+        state,
+        copy.getResultQueryId(),
         seqNo,
         primaryTerm);
   }
@@ -135,6 +186,8 @@ public class AsyncQueryJobMetadata extends StateModel {
     boolean isDropIndexQuery = false;
     String resultIndex = null;
     String sessionId = null;
+    String state = null;
+    String resultQueryId = null;
     ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
     while (!XContentParser.Token.END_OBJECT.equals(parser.nextToken())) {
       String fieldName = parser.currentName();
@@ -158,6 +211,12 @@ public class AsyncQueryJobMetadata extends StateModel {
         case "sessionId":
           sessionId = parser.textOrNull();
           break;
+        case STATE:
+          state = parser.textOrNull();
+          break;
+        case "resultQueryId":
+          resultQueryId = parser.textOrNull();
+          break;
         case "type":
           break;
         default:
@@ -168,7 +227,15 @@ public class AsyncQueryJobMetadata extends StateModel {
       throw new IllegalArgumentException("jobId and applicationId are required fields.");
     }
     return new AsyncQueryJobMetadata(
-        queryId, applicationId, jobId, resultIndex, sessionId, seqNo, primaryTerm);
+        queryId,
+        applicationId,
+        jobId,
+        resultIndex,
+        sessionId,
+        state,
+        resultQueryId,
+        seqNo,
+        primaryTerm);
   }
 
   @Override
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.asyncquery.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Data;
+
+/**
+ * Page of the result rows of an async query. The page of the next request is encoded as an opaque
+ * cursor in the response, so the client could fetch a large result page by page.
+ */
+@Data
+public class AsyncQueryResultPage {
+
+  public static final int MAX_PAGE_SIZE = 10000;
+
+  /** All the result rows in a single response. */
+  public static final AsyncQueryResultPage ALL = new AsyncQueryResultPage(0, -1);
+
+  private static final String CURSOR_SEPARATOR = ":";
+
+  private final int offset;
+
+  /** Number of rows in the page, negative if all the rows are returned. */
+  private final int size;
+
+  /**
+   * Resolve the page of the request.
+   *
+   * @param cursor cursor returned by the previous page, null for the first page.
+   * @param size page size, null to return all the rows if there is no cursor.
+   * @return {@link AsyncQueryResultPage}
+   */
+  public static AsyncQueryResultPage of(String cursor, Integer size) {
+    if (cursor != null) {
+      return fromCursor(cursor);
+    } else if (size != null) {
+      validateSize(size);
+      return new AsyncQueryResultPage(0, size);
+    } else {
+      return ALL;
+    }
+  }
+
+  public boolean isAll() {
+    return size < 0;
+  }
+
+  public AsyncQueryResultPage next() {
+    return new AsyncQueryResultPage(offset + size, size);
+  }
+
+  public String toCursor() {
+    return Base64.getUrlEncoder()
+        .encodeToString((offset + CURSOR_SEPARATOR + size).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static AsyncQueryResultPage fromCursor(String cursor) {
+    try {
+      String[] parts =
+          new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+              .split(CURSOR_SEPARATOR);
+      if (parts.length != 2) {
+        throw new IllegalArgumentException();
+      }
+      int offset = Integer.parseInt(parts[0]);
+      int size = Integer.parseInt(parts[1]);
+      validateSize(size);
+      if (offset < 0) {
+        throw new IllegalArgumentException();
+      }
+      return new AsyncQueryResultPage(offset, size);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid async query result cursor: " + cursor);
+    }
+  }
+
+  private static void validateSize(int size) {
+    if (size <= 0 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("Page size must be between 1 and %d, but got %d", MAX_PAGE_SIZE, size));
+    }
+  }
+}
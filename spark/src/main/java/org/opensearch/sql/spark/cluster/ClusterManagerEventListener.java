@@ -29,6 +29,7 @@ public class ClusterManagerEventListener implements LocalNodeClusterManagerListe
   private ClusterService clusterService;
   private ThreadPool threadPool;
   private Client client;
+  private IndexCleanup indexCleanup;
   private Clock clock;
   private Duration sessionTtlDuration;
   private Duration resultTtlDuration;
@@ -42,10 +43,13 @@ public class ClusterManagerEventListener implements LocalNodeClusterManagerListe
       Setting<TimeValue> sessionTtl,
       Setting<TimeValue> resultTtl,
       Setting<Boolean> isAutoIndexManagementEnabledSetting,
+      Setting<Float> requestsPerSecond,
+      Setting<Integer> slices,
       Settings settings) {
     this.clusterService = clusterService;
     this.threadPool = threadPool;
     this.client = client;
+    this.indexCleanup = new IndexCleanup(client, clusterService);
     this.clusterService.addLocalNodeClusterManagerListener(this);
     this.clock = clock;
 
@@ -72,6 +76,13 @@ public class ClusterManagerEventListener implements LocalNodeClusterManagerListe
               reInitializeFlintIndexRetention();
             });
 
+    indexCleanup.setRequestsPerSecond(requestsPerSecond.get(settings));
+    clusterService
+        .getClusterSettings()
+        .addSettingsUpdateConsumer(requestsPerSecond, indexCleanup::setRequestsPerSecond);
+    indexCleanup.setSlices(slices.get(settings));
+    clusterService.getClusterSettings().addSettingsUpdateConsumer(slices, indexCleanup::setSlices);
+
     isAutoIndexManagementEnabled = isAutoIndexManagementEnabledSetting.get(settings);
     clusterService
         .getClusterSettings()
@@ -101,13 +112,15 @@ public class ClusterManagerEventListener implements LocalNodeClusterManagerListe
             public void beforeStop() {
               cancel(flintIndexRetentionCron);
               flintIndexRetentionCron = null;
+              indexCleanup.stop();
             }
           });
     }
   }
 
   private void reInitializeFlintIndexRetention() {
-    IndexCleanup indexCleanup = new IndexCleanup(client, clusterService);
+    // the cleanup in progress is resumed by the new cron
+    indexCleanup.stop();
     flintIndexRetentionCron =
         threadPool.scheduleWithFixedDelay(
             new FlintIndexRetention(
@@ -125,6 +138,7 @@ public class ClusterManagerEventListener implements LocalNodeClusterManagerListe
   public void offClusterManager() {
     cancel(flintIndexRetentionCron);
     flintIndexRetentionCron = null;
+    indexCleanup.stop();
   }
 
   private void cancel(Cancellable cron) {
@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.spark.cluster;
 
+import com.google.common.annotations.VisibleForTesting;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.support.IndicesOptions;
@@ -13,35 +15,82 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.sql.legacy.metrics.MetricName;
+import org.opensearch.sql.legacy.utils.MetricUtils;
 
-/** Clean up the old docs for indices. */
+/**
+ * Clean up the old docs for indices. Docs are deleted by sliced and throttled delete by query
+ * requests of at most {@link #BATCH_SIZE} docs each, so the deletion does not compete with the
+ * searches for I/O, and the docs deleted by the batches done are kept when the cleanup is stopped.
+ * The next cleanup resumes from the docs left.
+ */
 public class IndexCleanup {
   private static final Logger LOG = LogManager.getLogger(IndexCleanup.class);
 
+  /** Max number of docs deleted by a delete by query request. */
+  static final int BATCH_SIZE = 10000;
+
   private final Client client;
   private final ClusterService clusterService;
 
+  private volatile float requestsPerSecond = Float.POSITIVE_INFINITY;
+  private volatile int slices = 1;
+
+  /** Incremented to stop the cleanups in progress after their current batch. */
+  private final AtomicLong generation = new AtomicLong();
+
   public IndexCleanup(Client client, ClusterService clusterService) {
     this.client = client;
     this.clusterService = clusterService;
   }
 
+  /**
+   * Set the throttle of the deletion.
+   *
+   * @param requestsPerSecond docs deleted per second, zero or negative to delete without throttle.
+   */
+  public void setRequestsPerSecond(float requestsPerSecond) {
+    this.requestsPerSecond = requestsPerSecond > 0 ? requestsPerSecond : Float.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Set the number of slices of the delete by query requests.
+   *
+   * @param slices number of slices, {@link
+   *     org.opensearch.index.reindex.AbstractBulkByScrollRequest#AUTO_SLICES} for one slice per
+   *     shard.
+   */
+  public void setSlices(int slices) {
+    this.slices = slices;
+  }
+
+  /** Stop the cleanups in progress once their current batch is done. */
+  public void stop() {
+    generation.incrementAndGet();
+  }
+
   /**
    * Delete docs based on query request
    *
    * @param indexName index name
    * @param queryForDeleteByQueryRequest query request
-   * @param listener action listener
+   * @param listener action listener, called with the number of docs deleted
    */
   public void deleteDocsByQuery(
       String indexName, QueryBuilder queryForDeleteByQueryRequest, ActionListener<Long> listener) {
-    DeleteByQueryRequest deleteRequest =
-        new DeleteByQueryRequest(indexName)
-            .setQuery(queryForDeleteByQueryRequest)
-            .setIndicesOptions(IndicesOptions.LENIENT_EXPAND_OPEN)
-            .setRefresh(true);
+    deleteBatch(
+        indexName,
+        queryForDeleteByQueryRequest,
+        new Progress(generation.get(), System.nanoTime()),
+        listener);
+  }
+
+  private void deleteBatch(
+      String indexName, QueryBuilder query, Progress progress, ActionListener<Long> listener) {
+    DeleteByQueryRequest deleteRequest = deleteRequest(indexName, query);
 
     try (ThreadContext.StoredContext context =
         client.threadPool().getThreadContext().stashContext()) {
@@ -50,15 +99,63 @@ public class IndexCleanup {
           deleteRequest,
           ActionListener.wrap(
               response -> {
-                long deleted = response.getDeleted();
-                if (deleted > 0) {
+                progress.add(response);
+                MetricUtils.incrementNumericalMetric(
+                    MetricName.INDEX_CLEANUP_DELETED_DOCS_COUNT, response.getDeleted());
+                MetricUtils.incrementNumericalMetric(
+                    MetricName.INDEX_CLEANUP_TIME_MILLIS, response.getTook().millis());
+                if (response.getDeleted() >= BATCH_SIZE && !isStopped(progress)) {
+                  deleteBatch(indexName, query, progress, listener);
+                  return;
+                }
+                if (progress.deleted > 0) {
                   // if 0 docs get deleted, it means our query cannot find any matching doc
                   // or the index does not exist at all
-                  LOG.info("{} docs are deleted for index:{}", deleted, indexName);
+                  LOG.info(
+                      "{} docs are deleted for index:{} in {} batches and {} ms{}",
+                      progress.deleted,
+                      indexName,
+                      progress.batches,
+                      (System.nanoTime() - progress.startNanos) / 1_000_000,
+                      isStopped(progress) ? ", stopped before all the docs are deleted" : "");
                 }
-                listener.onResponse(response.getDeleted());
+                listener.onResponse(progress.deleted);
               },
               listener::onFailure));
     }
   }
+
+  @VisibleForTesting
+  DeleteByQueryRequest deleteRequest(String indexName, QueryBuilder query) {
+    return new DeleteByQueryRequest(indexName)
+        .setQuery(query)
+        .setIndicesOptions(IndicesOptions.LENIENT_EXPAND_OPEN)
+        .setAbortOnVersionConflict(false)
+        .setMaxDocs(BATCH_SIZE)
+        .setSlices(slices)
+        .setRequestsPerSecond(requestsPerSecond)
+        .setRefresh(true);
+  }
+
+  private boolean isStopped(Progress progress) {
+    return progress.generation != generation.get();
+  }
+
+  /** Progress of the deletion of the docs of an index. */
+  private static class Progress {
+    private final long generation;
+    private final long startNanos;
+    private long deleted;
+    private int batches;
+
+    private Progress(long generation, long startNanos) {
+      this.generation = generation;
+      this.startNanos = startNanos;
+    }
+
+    private void add(BulkByScrollResponse response) {
+      deleted += response.getDeleted();
+      batches++;
+    }
+  }
 }
@@ -12,6 +12,7 @@ import static org.opensearch.sql.spark.data.constants.SparkConstants.STATUS_FIEL
 import com.amazonaws.services.emrserverless.model.JobRunState;
 import org.json.JSONObject;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryJobMetadata;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryContext;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryRequest;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryResponse;
@@ -21,7 +22,12 @@ import org.opensearch.sql.spark.execution.statement.StatementState;
 public abstract class AsyncQueryHandler {
 
   public JSONObject getQueryResponse(AsyncQueryJobMetadata asyncQueryJobMetadata) {
-    JSONObject result = getResponseFromResultIndex(asyncQueryJobMetadata);
+    return getQueryResponse(asyncQueryJobMetadata, AsyncQueryResultPage.ALL);
+  }
+
+  public JSONObject getQueryResponse(
+      AsyncQueryJobMetadata asyncQueryJobMetadata, AsyncQueryResultPage page) {
+    JSONObject result = getResponseFromResultIndex(asyncQueryJobMetadata, page);
     if (result.has(DATA_FIELD)) {
       JSONObject items = result.getJSONObject(DATA_FIELD);
 
@@ -49,7 +55,7 @@ public abstract class AsyncQueryHandler {
   }
 
   protected abstract JSONObject getResponseFromResultIndex(
-      AsyncQueryJobMetadata asyncQueryJobMetadata);
+      AsyncQueryJobMetadata asyncQueryJobMetadata, AsyncQueryResultPage page);
 
   protected abstract JSONObject getResponseFromExecutor(
       AsyncQueryJobMetadata asyncQueryJobMetadata);
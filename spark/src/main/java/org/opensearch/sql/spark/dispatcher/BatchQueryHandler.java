@@ -9,7 +9,6 @@ import static org.opensearch.sql.spark.data.constants.SparkConstants.ERROR_FIELD
 import static org.opensearch.sql.spark.data.constants.SparkConstants.STATUS_FIELD;
 import static org.opensearch.sql.spark.dispatcher.SparkQueryDispatcher.JOB_TYPE_TAG_KEY;
 
-import com.amazonaws.services.emrserverless.model.GetJobRunResult;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.json.JSONObject;
@@ -17,6 +16,7 @@ import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.utils.MetricUtils;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryJobMetadata;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.asyncquery.model.SparkSubmitParameters;
 import org.opensearch.sql.spark.client.EMRServerlessClient;
 import org.opensearch.sql.spark.client.StartJobRequest;
@@ -24,6 +24,7 @@ import org.opensearch.sql.spark.dispatcher.model.DispatchQueryContext;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryRequest;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryResponse;
 import org.opensearch.sql.spark.dispatcher.model.JobType;
+import org.opensearch.sql.spark.execution.jobstate.JobStateTracker;
 import org.opensearch.sql.spark.leasemanager.LeaseManager;
 import org.opensearch.sql.spark.leasemanager.model.LeaseRequest;
 import org.opensearch.sql.spark.response.JobExecutionResponseReader;
@@ -33,23 +34,23 @@ public class BatchQueryHandler extends AsyncQueryHandler {
   private final EMRServerlessClient emrServerlessClient;
   private final JobExecutionResponseReader jobExecutionResponseReader;
   protected final LeaseManager leaseManager;
+  private final JobStateTracker jobStateTracker;
 
   @Override
-  protected JSONObject getResponseFromResultIndex(AsyncQueryJobMetadata asyncQueryJobMetadata) {
+  protected JSONObject getResponseFromResultIndex(
+      AsyncQueryJobMetadata asyncQueryJobMetadata, AsyncQueryResultPage page) {
     // either empty json when the result is not available or data with status
     // Fetch from Result Index
     return jobExecutionResponseReader.getResultFromOpensearchIndex(
-        asyncQueryJobMetadata.getJobId(), asyncQueryJobMetadata.getResultIndex());
+        asyncQueryJobMetadata.getJobId(), asyncQueryJobMetadata.getResultIndex(), page);
   }
 
   @Override
   protected JSONObject getResponseFromExecutor(AsyncQueryJobMetadata asyncQueryJobMetadata) {
     JSONObject result = new JSONObject();
-    // make call to EMR Serverless when related result index documents are not available
-    GetJobRunResult getJobRunResult =
-        emrServerlessClient.getJobRunResult(
-            asyncQueryJobMetadata.getApplicationId(), asyncQueryJobMetadata.getJobId());
-    String jobState = getJobRunResult.getJobRun().getState();
+    // get the job state tracked from EMR Serverless when related result index documents are not
+    // available
+    String jobState = jobStateTracker.getJobState(asyncQueryJobMetadata);
     result.put(STATUS_FIELD, jobState);
     result.put(ERROR_FIELD, "");
     return result;
@@ -59,6 +60,7 @@ public class BatchQueryHandler extends AsyncQueryHandler {
   public String cancelJob(AsyncQueryJobMetadata asyncQueryJobMetadata) {
     emrServerlessClient.cancelJobRun(
         asyncQueryJobMetadata.getApplicationId(), asyncQueryJobMetadata.getJobId());
+    jobStateTracker.invalidate(asyncQueryJobMetadata);
     return asyncQueryJobMetadata.getQueryId().getId();
   }
 
@@ -18,6 +18,7 @@ import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.utils.MetricUtils;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryJobMetadata;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.asyncquery.model.SparkSubmitParameters;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryContext;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryRequest;
@@ -42,10 +43,11 @@ public class InteractiveQueryHandler extends AsyncQueryHandler {
   private final LeaseManager leaseManager;
 
   @Override
-  protected JSONObject getResponseFromResultIndex(AsyncQueryJobMetadata asyncQueryJobMetadata) {
+  protected JSONObject getResponseFromResultIndex(
+      AsyncQueryJobMetadata asyncQueryJobMetadata, AsyncQueryResultPage page) {
     String queryId = asyncQueryJobMetadata.getQueryId().getId();
     return jobExecutionResponseReader.getResultWithQueryId(
-        queryId, asyncQueryJobMetadata.getResultIndex());
+        queryId, asyncQueryJobMetadata.getResultIndex(), page);
   }
 
   @Override
@@ -75,10 +77,6 @@ public class InteractiveQueryHandler extends AsyncQueryHandler {
     Map<String, String> tags = context.getTags();
     DataSourceMetadata dataSourceMetadata = context.getDataSourceMetadata();
 
-    // todo, manage lease lifecycle
-    leaseManager.borrow(
-        new LeaseRequest(JobType.INTERACTIVE, dispatchQueryRequest.getDatasource()));
-
     if (dispatchQueryRequest.getSessionId() != null) {
       // get session from request
       SessionId sessionId = new SessionId(dispatchQueryRequest.getSessionId());
@@ -91,20 +89,35 @@ public class InteractiveQueryHandler extends AsyncQueryHandler {
         || !session.isOperationalForDataSource(dispatchQueryRequest.getDatasource())) {
       // create session if not exist or session dead/fail
       tags.put(JOB_TYPE_TAG_KEY, JobType.INTERACTIVE.getText());
-      session =
-          sessionManager.createSession(
-              new CreateSessionRequest(
-                  jobName,
-                  dispatchQueryRequest.getApplicationId(),
-                  dispatchQueryRequest.getExecutionRoleARN(),
-                  SparkSubmitParameters.Builder.builder()
-                      .className(FLINT_SESSION_CLASS_NAME)
-                      .clusterName(clusterName)
-                      .dataSource(dataSourceMetadata)
-                      .extraParameters(dispatchQueryRequest.getExtraSparkSubmitParams()),
-                  tags,
-                  dataSourceMetadata.getResultIndex(),
-                  dataSourceMetadata.getName()));
+      CreateSessionRequest createSessionRequest =
+          new CreateSessionRequest(
+              jobName,
+              dispatchQueryRequest.getApplicationId(),
+              dispatchQueryRequest.getExecutionRoleARN(),
+              SparkSubmitParameters.Builder.builder()
+                  .className(FLINT_SESSION_CLASS_NAME)
+                  .clusterName(clusterName)
+                  .dataSource(dataSourceMetadata)
+                  .extraParameters(dispatchQueryRequest.getExtraSparkSubmitParams()),
+              tags,
+              dataSourceMetadata.getResultIndex(),
+              dataSourceMetadata.getName());
+      // a pooled session is already counted against the session limit, only a session started on
+      // demand takes a lease
+      Optional<Session> pooledSession = sessionManager.claimPooledSession(createSessionRequest);
+      if (pooledSession.isPresent()) {
+        session = pooledSession.get();
+      } else {
+        LeaseRequest leaseRequest =
+            new LeaseRequest(JobType.INTERACTIVE, dispatchQueryRequest.getDatasource());
+        leaseManager.borrow(leaseRequest);
+        try {
+          session = sessionManager.createSession(createSessionRequest);
+        } catch (RuntimeException e) {
+          leaseManager.release(leaseRequest);
+          throw e;
+        }
+      }
       MetricUtils.incrementNumericalMetric(MetricName.EMR_INTERACTIVE_QUERY_JOBS_CREATION_COUNT);
     }
     session.submit(
@@ -5,8 +5,12 @@
 
 package org.opensearch.sql.spark.dispatcher;
 
+import static org.opensearch.sql.spark.data.constants.SparkConstants.STATUS_FIELD;
+
+import com.amazonaws.services.emrserverless.model.JobRunState;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -15,14 +19,18 @@ import org.opensearch.client.Client;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.datasources.auth.DataSourceUserAuthorizationHelperImpl;
+import org.opensearch.sql.spark.asyncquery.AsyncQueryResultCache;
+import org.opensearch.sql.spark.asyncquery.exceptions.AsyncQueryNotFoundException;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryId;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryJobMetadata;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.client.EMRServerlessClient;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryContext;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryRequest;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryResponse;
 import org.opensearch.sql.spark.dispatcher.model.IndexQueryActionType;
 import org.opensearch.sql.spark.dispatcher.model.IndexQueryDetails;
+import org.opensearch.sql.spark.execution.jobstate.JobStateTracker;
 import org.opensearch.sql.spark.execution.session.SessionManager;
 import org.opensearch.sql.spark.execution.statestore.StateStore;
 import org.opensearch.sql.spark.flint.FlintIndexMetadataReader;
@@ -59,15 +67,41 @@ public class SparkQueryDispatcher {
 
   private StateStore stateStore;
 
+  private JobStateTracker jobStateTracker;
+
+  private AsyncQueryResultCache asyncQueryResultCache;
+
   public DispatchQueryResponse dispatch(DispatchQueryRequest dispatchQueryRequest) {
     DataSourceMetadata dataSourceMetadata =
         this.dataSourceService.getRawDataSourceMetadata(dispatchQueryRequest.getDatasource());
     dataSourceUserAuthorizationHelper.authorizeDataSource(dataSourceMetadata);
 
+    boolean reusable = asyncQueryResultCache.isReusable(dispatchQueryRequest);
+    String userIdentity = reusable ? dataSourceUserAuthorizationHelper.userIdentity() : null;
+    if (reusable) {
+      Optional<DispatchQueryResponse> reused =
+          reuse(dispatchQueryRequest, dataSourceMetadata, userIdentity);
+      if (reused.isPresent()) {
+        return reused.get();
+      }
+    }
+    DispatchQueryResponse response = submit(dispatchQueryRequest, dataSourceMetadata);
+    if (reusable) {
+      asyncQueryResultCache.put(
+          dataSourceMetadata.getName(),
+          userIdentity,
+          dispatchQueryRequest.getQuery(),
+          response.getQueryId().getId());
+    }
+    return response;
+  }
+
+  private DispatchQueryResponse submit(
+      DispatchQueryRequest dispatchQueryRequest, DataSourceMetadata dataSourceMetadata) {
     AsyncQueryHandler asyncQueryHandler =
         sessionManager.isEnabled()
             ? new InteractiveQueryHandler(sessionManager, jobExecutionResponseReader, leaseManager)
-            : new BatchQueryHandler(emrServerlessClient, jobExecutionResponseReader, leaseManager);
+            : createBatchQueryHandler();
     DispatchQueryContext.DispatchQueryContextBuilder contextBuilder =
         DispatchQueryContext.builder()
             .dataSourceMetadata(dataSourceMetadata)
@@ -88,29 +122,74 @@ public class SparkQueryDispatcher {
           && indexQueryDetails.isAutoRefresh()) {
         asyncQueryHandler =
             new StreamingQueryHandler(
-                emrServerlessClient, jobExecutionResponseReader, leaseManager);
+                emrServerlessClient, jobExecutionResponseReader, leaseManager, jobStateTracker);
       } else if (IndexQueryActionType.REFRESH.equals(indexQueryDetails.getIndexQueryActionType())) {
         // manual refresh should be handled by batch handler
-        asyncQueryHandler =
-            new BatchQueryHandler(emrServerlessClient, jobExecutionResponseReader, leaseManager);
+        asyncQueryHandler = createBatchQueryHandler();
       }
     }
     return asyncQueryHandler.submit(dispatchQueryRequest, contextBuilder.build());
   }
 
+  /**
+   * Reuse the result of an identical query submitted recently by the same user, once that query
+   * succeeded. The response points to the result of the query reused only, neither to its job nor
+   * to its session, so the caller can't poll, cancel or submit statements to them.
+   */
+  private Optional<DispatchQueryResponse> reuse(
+      DispatchQueryRequest dispatchQueryRequest,
+      DataSourceMetadata dataSourceMetadata,
+      String userIdentity) {
+    String datasourceName = dataSourceMetadata.getName();
+    Optional<AsyncQueryJobMetadata> source =
+        asyncQueryResultCache
+            .get(datasourceName, userIdentity, dispatchQueryRequest.getQuery())
+            .flatMap(
+                queryId ->
+                    StateStore.getJobMetaData(stateStore, datasourceName)
+                        .apply(new AsyncQueryId(queryId).docId()));
+    if (source.isEmpty()) {
+      return Optional.empty();
+    }
+    JSONObject result = getQueryResponse(source.get(), new AsyncQueryResultPage(0, 1));
+    if (!JobRunState.SUCCESS.toString().equals(result.optString(STATUS_FIELD))) {
+      return Optional.empty();
+    }
+    LOG.info("Query reuses the result of query {}", source.get().getQueryId().getId());
+    return Optional.of(
+        new DispatchQueryResponse(
+            AsyncQueryId.newAsyncQueryId(datasourceName),
+            null,
+            null,
+            null,
+            source.get().getQueryId().getId()));
+  }
+
   public JSONObject getQueryResponse(AsyncQueryJobMetadata asyncQueryJobMetadata) {
+    return getQueryResponse(asyncQueryJobMetadata, AsyncQueryResultPage.ALL);
+  }
+
+  public JSONObject getQueryResponse(
+      AsyncQueryJobMetadata asyncQueryJobMetadata, AsyncQueryResultPage page) {
+    if (asyncQueryJobMetadata.getResultQueryId() != null) {
+      return getQueryResponse(resultSource(asyncQueryJobMetadata), page);
+    }
     if (asyncQueryJobMetadata.getSessionId() != null) {
       return new InteractiveQueryHandler(sessionManager, jobExecutionResponseReader, leaseManager)
-          .getQueryResponse(asyncQueryJobMetadata);
+          .getQueryResponse(asyncQueryJobMetadata, page);
     } else if (IndexDMLHandler.isIndexDMLQuery(asyncQueryJobMetadata.getJobId())) {
-      return createIndexDMLHandler().getQueryResponse(asyncQueryJobMetadata);
+      return createIndexDMLHandler().getQueryResponse(asyncQueryJobMetadata, page);
     } else {
-      return new BatchQueryHandler(emrServerlessClient, jobExecutionResponseReader, leaseManager)
-          .getQueryResponse(asyncQueryJobMetadata);
+      return createBatchQueryHandler().getQueryResponse(asyncQueryJobMetadata, page);
     }
   }
 
   public String cancelJob(AsyncQueryJobMetadata asyncQueryJobMetadata) {
+    // A query reusing the result of a finished query has nothing to cancel. The query reused
+    // belongs to another caller and may be reused by others, thus it must not be cancelled.
+    if (asyncQueryJobMetadata.getResultQueryId() != null) {
+      return asyncQueryJobMetadata.getQueryId().getId();
+    }
     AsyncQueryHandler queryHandler;
     if (asyncQueryJobMetadata.getSessionId() != null) {
       queryHandler =
@@ -118,12 +197,26 @@ public class SparkQueryDispatcher {
     } else if (IndexDMLHandler.isIndexDMLQuery(asyncQueryJobMetadata.getJobId())) {
       queryHandler = createIndexDMLHandler();
     } else {
-      queryHandler =
-          new BatchQueryHandler(emrServerlessClient, jobExecutionResponseReader, leaseManager);
+      queryHandler = createBatchQueryHandler();
     }
     return queryHandler.cancelJob(asyncQueryJobMetadata);
   }
 
+  private AsyncQueryJobMetadata resultSource(AsyncQueryJobMetadata asyncQueryJobMetadata) {
+    AsyncQueryId resultQueryId = new AsyncQueryId(asyncQueryJobMetadata.getResultQueryId());
+    return StateStore.getJobMetaData(stateStore, resultQueryId.getDataSourceName())
+        .apply(resultQueryId.docId())
+        .orElseThrow(
+            () ->
+                new AsyncQueryNotFoundException(
+                    String.format("QueryId: %s not found", resultQueryId.getId())));
+  }
+
+  private BatchQueryHandler createBatchQueryHandler() {
+    return new BatchQueryHandler(
+        emrServerlessClient, jobExecutionResponseReader, leaseManager, jobStateTracker);
+  }
+
   private IndexDMLHandler createIndexDMLHandler() {
     return new IndexDMLHandler(
         emrServerlessClient,
@@ -21,6 +21,7 @@ import org.opensearch.sql.spark.dispatcher.model.DispatchQueryRequest;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryResponse;
 import org.opensearch.sql.spark.dispatcher.model.IndexQueryDetails;
 import org.opensearch.sql.spark.dispatcher.model.JobType;
+import org.opensearch.sql.spark.execution.jobstate.JobStateTracker;
 import org.opensearch.sql.spark.leasemanager.LeaseManager;
 import org.opensearch.sql.spark.leasemanager.model.LeaseRequest;
 import org.opensearch.sql.spark.response.JobExecutionResponseReader;
@@ -32,8 +33,9 @@ public class StreamingQueryHandler extends BatchQueryHandler {
   public StreamingQueryHandler(
       EMRServerlessClient emrServerlessClient,
       JobExecutionResponseReader jobExecutionResponseReader,
-      LeaseManager leaseManager) {
-    super(emrServerlessClient, jobExecutionResponseReader, leaseManager);
+      LeaseManager leaseManager,
+      JobStateTracker jobStateTracker) {
+    super(emrServerlessClient, jobExecutionResponseReader, leaseManager, jobStateTracker);
     this.emrServerlessClient = emrServerlessClient;
   }
 
@@ -41,7 +43,9 @@ public class StreamingQueryHandler extends BatchQueryHandler {
   public DispatchQueryResponse submit(
       DispatchQueryRequest dispatchQueryRequest, DispatchQueryContext context) {
 
-    leaseManager.borrow(new LeaseRequest(JobType.STREAMING, dispatchQueryRequest.getDatasource()));
+    LeaseRequest leaseRequest =
+        new LeaseRequest(JobType.STREAMING, dispatchQueryRequest.getDatasource());
+    leaseManager.borrow(leaseRequest);
 
     String clusterName = dispatchQueryRequest.getClusterName();
     String jobName = clusterName + ":" + "index-query";
@@ -66,7 +70,13 @@ public class StreamingQueryHandler extends BatchQueryHandler {
             tags,
             indexQueryDetails.isAutoRefresh(),
             dataSourceMetadata.getResultIndex());
-    String jobId = emrServerlessClient.startJobRun(startJobRequest);
+    String jobId;
+    try {
+      jobId = emrServerlessClient.startJobRun(startJobRequest);
+    } catch (RuntimeException e) {
+      leaseManager.release(leaseRequest);
+      throw e;
+    }
     MetricUtils.incrementNumericalMetric(MetricName.EMR_STREAMING_QUERY_JOBS_CREATION_COUNT);
     return new DispatchQueryResponse(
         AsyncQueryId.newAsyncQueryId(dataSourceMetadata.getName()),
@@ -11,4 +11,11 @@ public class DispatchQueryResponse {
   private String jobId;
   private String resultIndex;
   private String sessionId;
+  // optional id of the query whose result is reused.
+  private String resultQueryId;
+
+  public DispatchQueryResponse(
+      AsyncQueryId queryId, String jobId, String resultIndex, String sessionId) {
+    this(queryId, jobId, resultIndex, sessionId, null);
+  }
 }
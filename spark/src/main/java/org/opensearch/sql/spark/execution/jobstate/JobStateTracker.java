@@ -0,0 +1,201 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.execution.jobstate;
+
+import static org.opensearch.sql.spark.execution.statestore.StateStore.updateJobMetaDataState;
+
+import com.amazonaws.services.emrserverless.model.JobRunState;
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryJobMetadata;
+import org.opensearch.sql.spark.client.EMRServerlessClient;
+import org.opensearch.sql.spark.execution.statestore.StateStore;
+
+/**
+ * Node local cache of the EMR-S job states. The state of a job is fetched from EMR-S on the first
+ * poll of the job only, subsequent polls are served from the cache which is refreshed by a single
+ * background poller. The refresh interval of a job doubles each time its state is unchanged, up to
+ * {@link #MAX_REFRESH_INTERVAL}. Terminal states are persisted to the job metadata in the {@link
+ * StateStore}, so they are never fetched from EMR-S again, on any node. A cancelled job is recorded
+ * in its metadata too, and the cached state of a job whose metadata has changed since it was
+ * tracked is not served, so the other nodes stop serving the state from before the cancellation.
+ */
+public class JobStateTracker implements Runnable {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  /** Delay between two runs of the background poller. */
+  public static final Duration POLL_INTERVAL = Duration.ofSeconds(5);
+
+  public static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(5);
+  public static final Duration MAX_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+  /** Jobs not polled by any client for this duration are no longer tracked. */
+  public static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+  /** Maximum number of EMR-S calls in a single run of the background poller. */
+  public static final int MAX_REFRESH_PER_RUN = 100;
+
+  private static final Set<String> TERMINAL_STATES =
+      Set.of(
+          JobRunState.SUCCESS.toString(),
+          JobRunState.FAILED.toString(),
+          JobRunState.CANCELLED.toString());
+
+  private final EMRServerlessClient emrServerlessClient;
+  private final StateStore stateStore;
+  private final Clock clock;
+  private final Map<String, TrackedJob> jobs = new ConcurrentHashMap<>();
+
+  public JobStateTracker(EMRServerlessClient emrServerlessClient, StateStore stateStore) {
+    this(emrServerlessClient, stateStore, Clock.systemUTC());
+  }
+
+  public JobStateTracker(
+      EMRServerlessClient emrServerlessClient, StateStore stateStore, Clock clock) {
+    this.emrServerlessClient = emrServerlessClient;
+    this.stateStore = stateStore;
+    this.clock = clock;
+  }
+
+  /**
+   * Get the state of the job, from the persisted terminal state or the cache if available.
+   *
+   * @param jobMetadata job metadata.
+   * @return EMR-S job state.
+   */
+  public String getJobState(AsyncQueryJobMetadata jobMetadata) {
+    if (isTerminal(jobMetadata.getState())) {
+      return jobMetadata.getState();
+    }
+    long now = clock.millis();
+    String id = jobMetadata.getQueryId().getId();
+    TrackedJob job = jobs.get(id);
+    if (job != null && jobMetadata.getSeqNo() > job.jobMetadata.getSeqNo()) {
+      // the job metadata is updated since tracked, e.g. the job is cancelled through other node
+      jobs.remove(id, job);
+      job = null;
+    }
+    if (job == null) {
+      // Fetched outside the map to not block the other updates of the map on the remote calls. The
+      // job may be fetched by concurrent polls, the first one tracked wins and persists the state.
+      TrackedJob fetched = new TrackedJob(jobMetadata, fetchState(jobMetadata), now);
+      job = jobs.putIfAbsent(id, fetched);
+      if (job == null) {
+        job = fetched;
+        persistIfTerminal(job);
+      }
+    }
+    job.lastAccessTime = now;
+    return job.state;
+  }
+
+  /**
+   * Stop serving the cached state of the job on all nodes once the job is cancelled, so that the
+   * next poll fetches the state from EMR-S. The cancellation is persisted to the job metadata,
+   * which makes the cached state on other nodes outdated.
+   *
+   * @param jobMetadata job metadata.
+   */
+  public void invalidate(AsyncQueryJobMetadata jobMetadata) {
+    jobs.remove(jobMetadata.getQueryId().getId());
+    try {
+      updateJobMetaDataState(stateStore, jobMetadata.getQueryId().getDataSourceName())
+          .apply(jobMetadata, JobRunState.CANCELLING.toString());
+    } catch (Exception e) {
+      LOG.warn("Failed to persist the cancellation of job {}", jobMetadata.getJobId(), e);
+    }
+  }
+
+  /** Refresh the states of the tracked jobs which are due, called by the background poller. */
+  @Override
+  public void run() {
+    long now = clock.millis();
+    int refreshed = 0;
+    for (Iterator<TrackedJob> it = jobs.values().iterator(); it.hasNext(); ) {
+      TrackedJob job = it.next();
+      if (now - job.lastAccessTime > IDLE_TIMEOUT.toMillis()) {
+        it.remove();
+      } else if (!isTerminal(job.state)
+          && job.nextRefreshTime <= now
+          && refreshed < MAX_REFRESH_PER_RUN) {
+        refreshed++;
+        refresh(job, now);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  int size() {
+    return jobs.size();
+  }
+
+  private void refresh(TrackedJob job, long now) {
+    try {
+      String state = fetchState(job.jobMetadata);
+      if (state.equals(job.state)) {
+        job.refreshInterval = Math.min(job.refreshInterval * 2, MAX_REFRESH_INTERVAL.toMillis());
+      } else {
+        job.refreshInterval = MIN_REFRESH_INTERVAL.toMillis();
+        job.state = state;
+        persistIfTerminal(job);
+      }
+    } catch (Exception e) {
+      LOG.error("Failed to refresh the state of job {}", job.jobMetadata.getJobId(), e);
+      job.refreshInterval = Math.min(job.refreshInterval * 2, MAX_REFRESH_INTERVAL.toMillis());
+    }
+    job.nextRefreshTime = now + job.refreshInterval;
+  }
+
+  private String fetchState(AsyncQueryJobMetadata jobMetadata) {
+    return emrServerlessClient
+        .getJobRunResult(jobMetadata.getApplicationId(), jobMetadata.getJobId())
+        .getJobRun()
+        .getState();
+  }
+
+  private void persistIfTerminal(TrackedJob job) {
+    if (!isTerminal(job.state)) {
+      return;
+    }
+    AsyncQueryJobMetadata jobMetadata = job.jobMetadata;
+    try {
+      updateJobMetaDataState(stateStore, jobMetadata.getQueryId().getDataSourceName())
+          .apply(jobMetadata, job.state);
+    } catch (Exception e) {
+      // the state is still served from the cache, persisting it is an optimization only
+      LOG.warn("Failed to persist the state of job {}", jobMetadata.getJobId(), e);
+    }
+  }
+
+  private static boolean isTerminal(String state) {
+    return state != null && TERMINAL_STATES.contains(state.toUpperCase(Locale.ROOT));
+  }
+
+  private static class TrackedJob {
+    private final AsyncQueryJobMetadata jobMetadata;
+    private volatile String state;
+    private volatile long lastAccessTime;
+    private long nextRefreshTime;
+    private long refreshInterval;
+
+    private TrackedJob(AsyncQueryJobMetadata jobMetadata, String state, long now) {
+      this.jobMetadata = jobMetadata;
+      this.state = state;
+      this.lastAccessTime = now;
+      this.refreshInterval = MIN_REFRESH_INTERVAL.toMillis();
+      this.nextRefreshTime = now + refreshInterval;
+    }
+  }
+}
@@ -5,7 +5,10 @@
 
 package org.opensearch.sql.spark.execution.session;
 
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.TreeMap;
 import lombok.Data;
 import org.opensearch.sql.spark.asyncquery.model.SparkSubmitParameters;
 import org.opensearch.sql.spark.client.StartJobRequest;
@@ -20,6 +23,25 @@ public class CreateSessionRequest {
   private final String resultIndex;
   private final String datasourceName;
 
+  /**
+   * Key of the warm pool whose sessions are started with the same parameters as this request. It is
+   * a hash of all the start parameters, which may include credentials. The key must be computed
+   * before a session is opened with the request, which appends the session id to the parameters.
+   */
+  public String poolKey() {
+    String parameters =
+        String.join(
+            "\n",
+            jobName,
+            applicationId,
+            executionRoleArn,
+            sparkSubmitParametersBuilder.build().toString(),
+            new TreeMap<>(tags).toString(),
+            resultIndex,
+            datasourceName);
+    return Hashing.sha256().hashString(parameters, StandardCharsets.UTF_8).toString();
+  }
+
   public StartJobRequest getStartJobRequest() {
     return new InteractiveSessionStartJobRequest(
         "select 1",
@@ -46,6 +46,8 @@ public class InteractiveSession implements Session {
   // the threshold of elapsed time in milliseconds before we say a session is stale
   private long sessionInactivityTimeoutMilli;
   private TimeProvider timeProvider;
+  // key of the warm pool to open the session in, null to open it on demand
+  private String poolKey;
 
   @Override
   public void open(CreateSessionRequest createSessionRequest) {
@@ -60,7 +62,7 @@ public class InteractiveSession implements Session {
 
       sessionModel =
           initInteractiveSession(
-              applicationId, jobID, sessionId, createSessionRequest.getDatasourceName());
+              applicationId, jobID, sessionId, createSessionRequest.getDatasourceName(), poolKey);
       createSession(stateStore, sessionModel.getDatasourceName()).apply(sessionModel);
     } catch (VersionConflictEngineException e) {
       String errorMsg = "session already exist. " + sessionId;
@@ -23,15 +23,47 @@ public class SessionManager {
   private final StateStore stateStore;
   private final EMRServerlessClient emrServerlessClient;
   private Settings settings;
+  private final SessionWarmPool warmPool;
 
   public SessionManager(
       StateStore stateStore, EMRServerlessClient emrServerlessClient, Settings settings) {
+    this(
+        stateStore,
+        emrServerlessClient,
+        settings,
+        new SessionWarmPool(stateStore, emrServerlessClient, settings));
+  }
+
+  public SessionManager(
+      StateStore stateStore,
+      EMRServerlessClient emrServerlessClient,
+      Settings settings,
+      SessionWarmPool warmPool) {
     this.stateStore = stateStore;
     this.emrServerlessClient = emrServerlessClient;
     this.settings = settings;
+    this.warmPool = warmPool;
+  }
+
+  /**
+   * Take a session started with the same parameters as the request out of the warm pool. A pooled
+   * session is already counted as an active session.
+   *
+   * @param request request of the session, which is not opened yet.
+   * @return the session, or empty if the pool has no session to hand out.
+   */
+  public Optional<Session> claimPooledSession(CreateSessionRequest request) {
+    Optional<Session> pooledSession = warmPool.claim(request);
+    if (pooledSession.isPresent()) {
+      warmPool.register(request);
+    }
+    return pooledSession;
   }
 
+  /** Create a session started on demand, whose parameters are kept to refill the warm pool. */
   public Session createSession(CreateSessionRequest request) {
+    // register before open, which appends the session id to the request
+    warmPool.register(request);
     InteractiveSession session =
         InteractiveSession.builder()
             .sessionId(newSessionId(request.getDatasourceName()))
@@ -32,6 +32,8 @@ public class SessionModel extends StateModel {
   public static final String APPLICATION_ID = "applicationId";
   public static final String JOB_ID = "jobId";
   public static final String ERROR = "error";
+  public static final String POOLED = "pooled";
+  public static final String POOL_KEY = "poolKey";
   public static final String UNKNOWN = "unknown";
   public static final String SESSION_DOC_TYPE = "session";
 
@@ -44,6 +46,10 @@ public class SessionModel extends StateModel {
   private final String datasourceName;
   private final String error;
   private final long lastUpdateTime;
+  // session is started in the warm pool and not handed out yet
+  private final boolean pooled;
+  // key of the warm pool the session is started in, null if started on demand
+  private final String poolKey;
 
   private final long seqNo;
   private final long primaryTerm;
@@ -62,6 +68,8 @@ public class SessionModel extends StateModel {
         .field(JOB_ID, jobId)
         .field(LAST_UPDATE_TIME, lastUpdateTime)
         .field(ERROR, error)
+        .field(POOLED, pooled)
+        .field(POOL_KEY, poolKey)
         .endObject();
     return builder;
   }
@@ -77,6 +85,8 @@ public class SessionModel extends StateModel {
         .jobId(copy.jobId)
         .error(UNKNOWN)
         .lastUpdateTime(copy.getLastUpdateTime())
+        .pooled(copy.pooled)
+        .poolKey(copy.poolKey)
         .seqNo(seqNo)
         .primaryTerm(primaryTerm)
         .build();
@@ -94,6 +104,27 @@ public class SessionModel extends StateModel {
         .jobId(copy.jobId)
         .error(UNKNOWN)
         .lastUpdateTime(copy.getLastUpdateTime())
+        .pooled(copy.pooled)
+        .poolKey(copy.poolKey)
+        .seqNo(seqNo)
+        .primaryTerm(primaryTerm)
+        .build();
+  }
+
+  public static SessionModel copyWithPooled(
+      SessionModel copy, Boolean pooled, long seqNo, long primaryTerm) {
+    return builder()
+        .version(copy.version)
+        .sessionType(copy.sessionType)
+        .sessionId(new SessionId(copy.sessionId.getSessionId()))
+        .sessionState(copy.sessionState)
+        .datasourceName(copy.datasourceName)
+        .applicationId(copy.getApplicationId())
+        .jobId(copy.jobId)
+        .error(UNKNOWN)
+        .lastUpdateTime(copy.getLastUpdateTime())
+        .pooled(pooled)
+        .poolKey(copy.poolKey)
         .seqNo(seqNo)
         .primaryTerm(primaryTerm)
         .build();
@@ -135,6 +166,12 @@ public class SessionModel extends StateModel {
         case LAST_UPDATE_TIME:
           builder.lastUpdateTime(parser.longValue());
           break;
+        case POOLED:
+          builder.pooled(parser.booleanValue());
+          break;
+        case POOL_KEY:
+          builder.poolKey(parser.textOrNull());
+          break;
         case TYPE:
           // do nothing.
           break;
@@ -146,7 +183,7 @@ public class SessionModel extends StateModel {
   }
 
   public static SessionModel initInteractiveSession(
-      String applicationId, String jobId, SessionId sid, String datasourceName) {
+      String applicationId, String jobId, SessionId sid, String datasourceName, String poolKey) {
     return builder()
         .version("1.0")
         .sessionType(INTERACTIVE)
@@ -157,6 +194,8 @@ public class SessionModel extends StateModel {
         .jobId(jobId)
         .error(UNKNOWN)
         .lastUpdateTime(System.currentTimeMillis())
+        .pooled(poolKey != null)
+        .poolKey(poolKey)
         .seqNo(SequenceNumbers.UNASSIGNED_SEQ_NO)
         .primaryTerm(SequenceNumbers.UNASSIGNED_PRIMARY_TERM)
         .build();
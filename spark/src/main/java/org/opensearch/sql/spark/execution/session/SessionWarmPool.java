@@ -0,0 +1,223 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.execution.session;
+
+import static org.opensearch.sql.common.setting.Settings.Key.SESSION_INACTIVITY_TIMEOUT_MILLIS;
+import static org.opensearch.sql.common.setting.Settings.Key.SPARK_EXECUTION_SESSION_LIMIT;
+import static org.opensearch.sql.common.setting.Settings.Key.SPARK_EXECUTION_SESSION_WARM_POOL_SIZE;
+import static org.opensearch.sql.spark.execution.session.SessionId.newSessionId;
+import static org.opensearch.sql.spark.execution.session.SessionState.DEAD;
+import static org.opensearch.sql.spark.execution.session.SessionState.RUNNING;
+import static org.opensearch.sql.spark.execution.statestore.StateStore.ALL_DATASOURCE;
+import static org.opensearch.sql.spark.execution.statestore.StateStore.activeSessionsCount;
+import static org.opensearch.sql.spark.execution.statestore.StateStore.claimPooledSession;
+import static org.opensearch.sql.spark.execution.statestore.StateStore.pooledSessions;
+import static org.opensearch.sql.spark.execution.statestore.StateStore.updateSessionState;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.spark.client.EMRServerlessClient;
+import org.opensearch.sql.spark.execution.statestore.StateStore;
+import org.opensearch.sql.spark.utils.RealTimeProvider;
+import org.opensearch.sql.spark.utils.TimeProvider;
+
+/**
+ * Warm pools of pre-started interactive sessions. Each pool is keyed by a hash of the parameters
+ * the sessions are started with, see {@link CreateSessionRequest#poolKey()}, so a session is only
+ * handed out to a request with exactly the same parameters. Pooled sessions are started like any
+ * other session but flagged as pooled in the {@link StateStore}. A pooled session is handed out by
+ * clearing the flag with a conditional update, so it is handed out once only across the cluster.
+ * The pools of the requests registered on this node are refilled in the background. Pooled sessions
+ * are active sessions, so they count against the session limit and are not started beyond it.
+ */
+public class SessionWarmPool implements Runnable {
+  private static final Logger LOG = LogManager.getLogger();
+
+  /** Delay between two refills of the pools. */
+  public static final Duration REFILL_INTERVAL = Duration.ofSeconds(30);
+
+  private final StateStore stateStore;
+  private final EMRServerlessClient emrServerlessClient;
+  private final Settings settings;
+  private final TimeProvider timeProvider;
+
+  /** Count of the active sessions in the cluster, including the pooled ones. */
+  private final Supplier<Long> activeSessions;
+
+  /** Request to start the pooled sessions of each pool key. */
+  private final Map<String, CreateSessionRequest> requests = new ConcurrentHashMap<>();
+
+  public SessionWarmPool(
+      StateStore stateStore, EMRServerlessClient emrServerlessClient, Settings settings) {
+    this(
+        stateStore,
+        emrServerlessClient,
+        settings,
+        new RealTimeProvider(),
+        activeSessionsCount(stateStore, ALL_DATASOURCE));
+  }
+
+  public SessionWarmPool(
+      StateStore stateStore,
+      EMRServerlessClient emrServerlessClient,
+      Settings settings,
+      TimeProvider timeProvider,
+      Supplier<Long> activeSessions) {
+    this.stateStore = stateStore;
+    this.emrServerlessClient = emrServerlessClient;
+    this.settings = settings;
+    this.timeProvider = timeProvider;
+    this.activeSessions = activeSessions;
+  }
+
+  /**
+   * Take a session started with the same parameters as the request out of the pool.
+   *
+   * @param request request of the session, which is not opened yet.
+   * @return the session, or empty if the pool has no session to hand out.
+   */
+  public Optional<Session> claim(CreateSessionRequest request) {
+    int size = poolSize();
+    if (size == 0) {
+      return Optional.empty();
+    }
+    String datasourceName = request.getDatasourceName();
+    List<SessionModel> pooled =
+        new ArrayList<>(pooledSessions(stateStore, datasourceName, request.poolKey()).apply(size));
+    // hand out the sessions which already started first
+    pooled.sort(Comparator.comparing(model -> model.getSessionState() != RUNNING));
+    long now = timeProvider.currentEpochMillis();
+    for (SessionModel model : pooled) {
+      if (isIdle(model, now)) {
+        continue;
+      }
+      try {
+        SessionModel claimed = claimPooledSession(stateStore, datasourceName).apply(model);
+        LOG.info("Session {} is handed out from the warm pool", claimed.getSessionId());
+        return Optional.of(toSession(claimed));
+      } catch (VersionConflictEngineException e) {
+        LOG.debug("Session {} is handed out by another request", model.getSessionId());
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Keep the request of a session created on demand to start the pooled sessions with the same
+   * parameters. It must be called before the session is opened with the request.
+   *
+   * @param request request of the session created on demand.
+   */
+  public void register(CreateSessionRequest request) {
+    if (poolSize() > 0) {
+      requests.put(request.poolKey(), request);
+    }
+  }
+
+  /**
+   * Reap the idle pooled sessions and start new ones up to the pool size, for each pool, as long as
+   * the active sessions are below the session limit.
+   */
+  @Override
+  public void run() {
+    if (requests.isEmpty()) {
+      return;
+    }
+    int size = poolSize();
+    long available = sessionLimit() - activeSessions.get();
+    for (Map.Entry<String, CreateSessionRequest> entry : requests.entrySet()) {
+      try {
+        available -= refill(entry.getKey(), entry.getValue(), size, available);
+      } catch (Exception e) {
+        LOG.error(
+            "Failed to refill the warm pool of datasource {}",
+            entry.getValue().getDatasourceName(),
+            e);
+      }
+    }
+  }
+
+  /** Refill the pool, starting no more than the number of sessions available, and return it. */
+  private int refill(String poolKey, CreateSessionRequest request, int size, long available) {
+    String datasourceName = request.getDatasourceName();
+    // sessions beyond the pool size are started concurrently by several nodes, or before the pool
+    // size was decreased
+    List<SessionModel> pooled = pooledSessions(stateStore, datasourceName, poolKey).apply(2 * size);
+    long now = timeProvider.currentEpochMillis();
+    int live = 0;
+    for (SessionModel model : pooled) {
+      if (isIdle(model, now) || live >= size) {
+        reap(datasourceName, model);
+      } else {
+        live++;
+      }
+    }
+    int started = 0;
+    for (int i = live; i < size; i++) {
+      if (started >= available) {
+        LOG.warn("Warm pool of datasource {} is not refilled beyond session limit", datasourceName);
+        break;
+      }
+      InteractiveSession.builder()
+          .sessionId(newSessionId(datasourceName))
+          .stateStore(stateStore)
+          .serverlessClient(emrServerlessClient)
+          .poolKey(poolKey)
+          .build()
+          .open(request);
+      started++;
+    }
+    return started;
+  }
+
+  private void reap(String datasourceName, SessionModel model) {
+    SessionModel claimed;
+    try {
+      claimed = claimPooledSession(stateStore, datasourceName).apply(model);
+    } catch (VersionConflictEngineException e) {
+      // handed out meanwhile
+      return;
+    }
+    updateSessionState(stateStore, datasourceName).apply(claimed, DEAD);
+    emrServerlessClient.cancelJobRun(claimed.getApplicationId(), claimed.getJobId());
+    LOG.info("Session {} is removed from the warm pool", claimed.getSessionId());
+  }
+
+  private boolean isIdle(SessionModel model, long now) {
+    long sessionInactivityTimeoutMilli =
+        settings.getSettingValue(SESSION_INACTIVITY_TIMEOUT_MILLIS);
+    return now - model.getLastUpdateTime() > sessionInactivityTimeoutMilli;
+  }
+
+  private InteractiveSession toSession(SessionModel model) {
+    return InteractiveSession.builder()
+        .sessionId(model.getSessionId())
+        .stateStore(stateStore)
+        .serverlessClient(emrServerlessClient)
+        .sessionModel(model)
+        .sessionInactivityTimeoutMilli(settings.getSettingValue(SESSION_INACTIVITY_TIMEOUT_MILLIS))
+        .timeProvider(timeProvider)
+        .build();
+  }
+
+  private int sessionLimit() {
+    return settings.getSettingValue(SPARK_EXECUTION_SESSION_LIMIT);
+  }
+
+  private int poolSize() {
+    return settings.getSettingValue(SPARK_EXECUTION_SESSION_WARM_POOL_SIZE);
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.execution.statestore;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.client.Client;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+/**
+ * Write the state docs of concurrent requests in bulk. A write is queued, then the first writer
+ * which finds no bulk in flight sends the queued writes of all the writers in one bulk request,
+ * while the others wait for their write to be done. A writer sends at most one bulk at a time, so
+ * the writes queued meanwhile are sent by the next writer which finds no bulk in flight, and no
+ * writer keeps sending bulks of the others. Each write keeps its own seqNo/primaryTerm condition,
+ * so a conflicting write fails alone.
+ */
+@RequiredArgsConstructor
+class BulkStateWriter {
+  static final int MAX_BULK_SIZE = 100;
+
+  /** Max time a writer waits before checking again whether its write is left in the queue. */
+  private static final long WAIT_MILLIS = 10;
+
+  private final Client client;
+  private final Queue<PendingWrite> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+  /**
+   * Write a state doc.
+   *
+   * @param request index or update request.
+   * @return response of the write.
+   */
+  DocWriteResponse write(DocWriteRequest<?> request) {
+    PendingWrite pendingWrite = new PendingWrite(request);
+    queue.add(pendingWrite);
+    flushOnce();
+    while (true) {
+      try {
+        return pendingWrite.response.get(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (TimeoutException e) {
+        flushOnce();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new RuntimeException(e.getCause());
+      }
+    }
+  }
+
+  @VisibleForTesting
+  int queued() {
+    return queue.size();
+  }
+
+  private void flushOnce() {
+    // a write queued while the queue is flushed by another writer is sent by its own writer after
+    // the wait, unless another writer sends it first
+    if (!queue.isEmpty() && flushing.compareAndSet(false, true)) {
+      try {
+        flush();
+      } finally {
+        flushing.set(false);
+      }
+    }
+  }
+
+  private void flush() {
+    List<PendingWrite> batch = new ArrayList<>();
+    BulkRequest bulkRequest = new BulkRequest();
+    PendingWrite pendingWrite;
+    while (batch.size() < MAX_BULK_SIZE && (pendingWrite = queue.poll()) != null) {
+      batch.add(pendingWrite);
+      bulkRequest.add(pendingWrite.request);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    try {
+      ActionFuture<BulkResponse> bulkResponseActionFuture;
+      try (ThreadContext.StoredContext ignored =
+          client.threadPool().getThreadContext().stashContext()) {
+        bulkResponseActionFuture = client.bulk(bulkRequest);
+      }
+      BulkItemResponse[] items = bulkResponseActionFuture.actionGet().getItems();
+      for (int i = 0; i < batch.size(); i++) {
+        if (items[i].isFailed()) {
+          batch.get(i).response.completeExceptionally(items[i].getFailure().getCause());
+        } else {
+          batch.get(i).response.complete(items[i].getResponse());
+        }
+      }
+    } catch (Exception e) {
+      batch.forEach(write -> write.response.completeExceptionally(e));
+    }
+  }
+
+  @RequiredArgsConstructor
+  private static class PendingWrite {
+    private final DocWriteRequest<?> request;
+    private final CompletableFuture<DocWriteResponse> response = new CompletableFuture<>();
+  }
+}
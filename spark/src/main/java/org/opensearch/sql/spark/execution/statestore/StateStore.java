@@ -12,27 +12,28 @@ import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
-import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
-import org.opensearch.action.support.WriteRequest;
 import org.opensearch.action.update.UpdateRequest;
-import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.action.ActionFuture;
@@ -45,6 +46,7 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryJobMetadata;
 import org.opensearch.sql.spark.dispatcher.model.IndexDMLResult;
@@ -59,8 +61,14 @@ import org.opensearch.sql.spark.flint.FlintIndexStateModel;
 /**
  * State Store maintain the state of Session and Statement. State State create/update/get doc on
  * index regardless user FGAC permissions.
+ *
+ * <p>Writes do not wait for a refresh. Docs are read back with a realtime get by id, and the
+ * concurrent writes are sent in bulk by {@link BulkStateWriter}. Searches and counts do not force a
+ * refresh either, so they may miss the writes made within the last refresh interval, which the
+ * callers tolerate: the lease counts are reconciled with the leases acquired recently by {@link
+ * org.opensearch.sql.spark.leasemanager.LeaseLedger}, and a pooled session found is claimed by a
+ * conditional update which fails if the session is stale.
  */
-@RequiredArgsConstructor
 public class StateStore {
   public static String SETTINGS_FILE_NAME = "query_execution_request_settings.yml";
   public static String MAPPING_FILE_NAME = "query_execution_request_mapping.yml";
@@ -75,6 +83,17 @@ public class StateStore {
   private final Client client;
   private final ClusterService clusterService;
 
+  private final BulkStateWriter bulkStateWriter;
+
+  /** Indices whose mapping is known to be up to date on this node. */
+  private final Set<String> mappedIndices = ConcurrentHashMap.newKeySet();
+
+  public StateStore(Client client, ClusterService clusterService) {
+    this.client = client;
+    this.clusterService = clusterService;
+    this.bulkStateWriter = new BulkStateWriter(client);
+  }
+
   @VisibleForTesting
   public <T extends StateModel> T create(
       T st, StateModel.CopyBuilder<T> builder, String indexName) {
@@ -88,22 +107,18 @@ public class StateStore {
               .source(st.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS))
               .setIfSeqNo(st.getSeqNo())
               .setIfPrimaryTerm(st.getPrimaryTerm())
-              .create(true)
-              .setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
-      try (ThreadContext.StoredContext ignored =
-          client.threadPool().getThreadContext().stashContext()) {
-        IndexResponse indexResponse = client.index(indexRequest).actionGet();
-        if (indexResponse.getResult().equals(DocWriteResponse.Result.CREATED)) {
-          LOG.debug("Successfully created doc. id: {}", st.getId());
-          return builder.of(st, indexResponse.getSeqNo(), indexResponse.getPrimaryTerm());
-        } else {
-          throw new RuntimeException(
-              String.format(
-                  Locale.ROOT,
-                  "Failed create doc. id: %s, error: %s",
-                  st.getId(),
-                  indexResponse.getResult().getLowercase()));
-        }
+              .create(true);
+      DocWriteResponse indexResponse = bulkStateWriter.write(indexRequest);
+      if (indexResponse.getResult().equals(DocWriteResponse.Result.CREATED)) {
+        LOG.debug("Successfully created doc. id: {}", st.getId());
+        return builder.of(st, indexResponse.getSeqNo(), indexResponse.getPrimaryTerm());
+      } else {
+        throw new RuntimeException(
+            String.format(
+                Locale.ROOT,
+                "Failed create doc. id: %s, error: %s",
+                st.getId(),
+                indexResponse.getResult().getLowercase()));
       }
     } catch (IOException e) {
       throw new RuntimeException(e);
@@ -118,7 +133,7 @@ public class StateStore {
         createIndex(indexName);
         return Optional.empty();
       }
-      GetRequest getRequest = new GetRequest().index(indexName).id(sid).refresh(true);
+      GetRequest getRequest = new GetRequest().index(indexName).id(sid).realtime(true);
       try (ThreadContext.StoredContext ignored =
           client.threadPool().getThreadContext().stashContext()) {
         GetResponse getResponse = client.get(getRequest).actionGet();
@@ -154,19 +169,68 @@ public class StateStore {
               .setIfSeqNo(model.getSeqNo())
               .setIfPrimaryTerm(model.getPrimaryTerm())
               .doc(model.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS))
-              .fetchSource(true)
-              .setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
+              .fetchSource(true);
+      DocWriteResponse updateResponse = bulkStateWriter.write(updateRequest);
+      LOG.debug("Successfully update doc. id: {}", st.getId());
+      return builder.of(model, state, updateResponse.getSeqNo(), updateResponse.getPrimaryTerm());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @VisibleForTesting
+  public <T extends StateModel> List<T> search(
+      String indexName, QueryBuilder query, int size, StateModel.FromXContent<T> builder) {
+    try {
+      if (!this.clusterService.state().routingTable().hasIndex(indexName)) {
+        createIndex(indexName);
+        return List.of();
+      }
+      updateMapping(indexName);
+      SearchRequest searchRequest =
+          new SearchRequest()
+              .indices(indexName)
+              .preference("_primary_first")
+              .source(new SearchSourceBuilder().query(query).size(size).seqNoAndPrimaryTerm(true));
+      ActionFuture<SearchResponse> searchResponseActionFuture;
       try (ThreadContext.StoredContext ignored =
           client.threadPool().getThreadContext().stashContext()) {
-        UpdateResponse updateResponse = client.update(updateRequest).actionGet();
-        LOG.debug("Successfully update doc. id: {}", st.getId());
-        return builder.of(model, state, updateResponse.getSeqNo(), updateResponse.getPrimaryTerm());
+        searchResponseActionFuture = client.search(searchRequest);
+      }
+      SearchResponse searchResponse = searchResponseActionFuture.actionGet();
+      List<T> result = new ArrayList<>();
+      for (SearchHit hit : searchResponse.getHits().getHits()) {
+        XContentParser parser =
+            XContentType.JSON
+                .xContent()
+                .createParser(
+                    NamedXContentRegistry.EMPTY,
+                    LoggingDeprecationHandler.INSTANCE,
+                    hit.getSourceAsString());
+        parser.nextToken();
+        result.add(builder.fromXContent(parser, hit.getSeqNo(), hit.getPrimaryTerm()));
       }
+      return result;
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /** Add the fields introduced since the index was created to its mapping. */
+  private void updateMapping(String indexName) throws IOException {
+    if (mappedIndices.contains(indexName)) {
+      return;
+    }
+    PutMappingRequest putMappingRequest =
+        new PutMappingRequest(indexName)
+            .source(loadConfigFromResource(MAPPING_FILE_NAME), XContentType.YAML);
+    try (ThreadContext.StoredContext ignored =
+        client.threadPool().getThreadContext().stashContext()) {
+      client.admin().indices().putMapping(putMappingRequest).actionGet();
+    }
+    mappedIndices.add(indexName);
+  }
+
   private void createIndex(String indexName) {
     try {
       CreateIndexRequest createIndexRequest = new CreateIndexRequest(indexName);
@@ -288,6 +352,16 @@ public class StateStore {
             DATASOURCE_TO_REQUEST_INDEX.apply(datasourceName));
   }
 
+  public static BiFunction<AsyncQueryJobMetadata, String, AsyncQueryJobMetadata>
+      updateJobMetaDataState(StateStore stateStore, String datasourceName) {
+    return (old, state) ->
+        stateStore.updateState(
+            old,
+            state,
+            AsyncQueryJobMetadata::copyWithState,
+            DATASOURCE_TO_REQUEST_INDEX.apply(datasourceName));
+  }
+
   public static Supplier<Long> activeSessionsCount(StateStore stateStore, String datasourceName) {
     return () ->
         stateStore.count(
@@ -302,6 +376,43 @@ public class StateStore {
                         SessionModel.SESSION_STATE, SessionState.RUNNING.getSessionState())));
   }
 
+  /**
+   * Sessions started in the warm pool of the data source with the given key which are not handed
+   * out yet.
+   */
+  public static Function<Integer, List<SessionModel>> pooledSessions(
+      StateStore stateStore, String datasourceName, String poolKey) {
+    return (size) ->
+        stateStore.search(
+            DATASOURCE_TO_REQUEST_INDEX.apply(datasourceName),
+            QueryBuilders.boolQuery()
+                .must(QueryBuilders.termQuery(SessionModel.TYPE, SessionModel.SESSION_DOC_TYPE))
+                .must(QueryBuilders.termQuery(SessionModel.POOLED, true))
+                .must(QueryBuilders.termQuery(SessionModel.POOL_KEY, poolKey))
+                .must(
+                    QueryBuilders.termsQuery(
+                        SessionModel.SESSION_STATE,
+                        SessionState.NOT_STARTED.getSessionState(),
+                        SessionState.RUNNING.getSessionState())),
+            size,
+            SessionModel::fromXContent);
+  }
+
+  /**
+   * Take the session out of the warm pool. The update is conditional on the sequence number of the
+   * session, so a pooled session is handed out once only, the other updates fail with {@link
+   * org.opensearch.index.engine.VersionConflictEngineException}.
+   */
+  public static Function<SessionModel, SessionModel> claimPooledSession(
+      StateStore stateStore, String datasourceName) {
+    return (session) ->
+        stateStore.updateState(
+            session,
+            false,
+            SessionModel::copyWithPooled,
+            DATASOURCE_TO_REQUEST_INDEX.apply(datasourceName));
+  }
+
   public static BiFunction<FlintIndexStateModel, FlintIndexState, FlintIndexStateModel>
       updateFlintIndexState(StateStore stateStore, String datasourceName) {
     return (old, state) ->
@@ -11,6 +11,7 @@ import static org.opensearch.sql.spark.execution.statestore.StateStore.ALL_DATAS
 import static org.opensearch.sql.spark.execution.statestore.StateStore.activeRefreshJobCount;
 import static org.opensearch.sql.spark.execution.statestore.StateStore.activeSessionsCount;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -26,6 +27,9 @@ import org.opensearch.sql.spark.leasemanager.model.LeaseRequest;
  * <li>QueryHandler borrow lease before execute the query.
  * <li>LeaseManagerService check request against domain level concurrent limit.
  * <li>LeaseManagerService running on data node and check limit based on cluster settings.
+ * <li>Active leases are counted by a {@link LeaseLedger} per rule, which rejects requests over
+ *     the limit on this node without querying the state store, and admits the others against the
+ *     count in the state store.
  */
 public class DefaultLeaseManager implements LeaseManager {
 
@@ -44,21 +48,36 @@ public class DefaultLeaseManager implements LeaseManager {
 
   @Override
   public void borrow(LeaseRequest request) {
+    List<Rule<LeaseRequest>> passedRules = new ArrayList<>();
     for (Rule<LeaseRequest> rule : concurrentLimitRules) {
       if (!rule.test(request)) {
+        passedRules.forEach(passedRule -> passedRule.release(request));
         throw new ConcurrencyLimitExceededException(rule.description());
       }
+      passedRules.add(rule);
     }
   }
 
+  @Override
+  public void release(LeaseRequest request) {
+    concurrentLimitRules.forEach(rule -> rule.release(request));
+  }
+
   interface Rule<T> extends Predicate<T> {
     String description();
+
+    /** Release the lease acquired by the request when it passed the rule. */
+    void release(T t);
   }
 
   @RequiredArgsConstructor
   public static class ConcurrentSessionRule implements Rule<LeaseRequest> {
     private final Settings settings;
-    private final StateStore stateStore;
+    private final LeaseLedger activeSessions;
+
+    public ConcurrentSessionRule(Settings settings, StateStore stateStore) {
+      this(settings, new LeaseLedger(activeSessionsCount(stateStore, ALL_DATASOURCE)));
+    }
 
     @Override
     public String description() {
@@ -71,7 +90,14 @@ public class DefaultLeaseManager implements LeaseManager {
       if (leaseRequest.getJobType() != JobType.INTERACTIVE) {
         return true;
       }
-      return activeSessionsCount(stateStore, ALL_DATASOURCE).get() < sessionMaxLimit();
+      return activeSessions.tryAcquire(sessionMaxLimit());
+    }
+
+    @Override
+    public void release(LeaseRequest leaseRequest) {
+      if (leaseRequest.getJobType() == JobType.INTERACTIVE) {
+        activeSessions.release();
+      }
     }
 
     public int sessionMaxLimit() {
@@ -82,7 +108,11 @@ public class DefaultLeaseManager implements LeaseManager {
   @RequiredArgsConstructor
   public static class ConcurrentRefreshJobRule implements Rule<LeaseRequest> {
     private final Settings settings;
-    private final StateStore stateStore;
+    private final LeaseLedger activeRefreshJobs;
+
+    public ConcurrentRefreshJobRule(Settings settings, StateStore stateStore) {
+      this(settings, new LeaseLedger(activeRefreshJobCount(stateStore, ALL_DATASOURCE)));
+    }
 
     @Override
     public String description() {
@@ -95,7 +125,18 @@ public class DefaultLeaseManager implements LeaseManager {
       if (leaseRequest.getJobType() == JobType.INTERACTIVE) {
         return true;
       }
-      return activeRefreshJobCount(stateStore, ALL_DATASOURCE).get() < refreshJobLimit();
+      // only streaming jobs keep refreshing, batch jobs are admitted without a lease
+      if (leaseRequest.getJobType() == JobType.STREAMING) {
+        return activeRefreshJobs.tryAcquire(refreshJobLimit());
+      }
+      return activeRefreshJobs.isBelow(refreshJobLimit());
+    }
+
+    @Override
+    public void release(LeaseRequest leaseRequest) {
+      if (leaseRequest.getJobType() == JobType.STREAMING) {
+        activeRefreshJobs.release();
+      }
     }
 
     public int refreshJobLimit() {
@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.leasemanager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory count of the active leases of one kind, e.g. the active sessions. The count is the
+ * number of leased resources found in the state store at the last reconciliation, plus the leases
+ * acquired on this node during the last two reconcile intervals, whose resources may not be visible
+ * in the state store yet. The count is only used to reject requests early on this node, because
+ * the resources started through the other nodes are unknown until the next reconciliation. A lease
+ * is admitted only if it is still within the limit after the count in the state store is
+ * refreshed, so the limit holds for the whole cluster.
+ */
+public class LeaseLedger {
+
+  public static final Duration RECONCILE_INTERVAL = Duration.ofSeconds(10);
+
+  private static final long NEVER = Long.MIN_VALUE;
+
+  /** Count of the leased resources in the state store. */
+  private final Supplier<Long> activeCount;
+
+  private final Clock clock;
+
+  private final AtomicReference<Snapshot> snapshot =
+      new AtomicReference<>(new Snapshot(0L, 0L, 0L, NEVER));
+
+  private final ReentrantLock reconcileLock = new ReentrantLock();
+
+  public LeaseLedger(Supplier<Long> activeCount) {
+    this(activeCount, Clock.systemUTC());
+  }
+
+  public LeaseLedger(Supplier<Long> activeCount, Clock clock) {
+    this.activeCount = activeCount;
+    this.clock = clock;
+  }
+
+  /**
+   * Acquire a lease if the number of active leases is below the limit.
+   *
+   * @param limit max number of active leases.
+   * @return true if the lease is acquired.
+   */
+  public boolean tryAcquire(long limit) {
+    reconcileIfStale();
+    while (true) {
+      Snapshot current = snapshot.get();
+      if (current.active() >= limit) {
+        return false;
+      }
+      if (snapshot.compareAndSet(
+          current,
+          new Snapshot(
+              current.counted, current.previous, current.recent + 1, current.reconciledAt))) {
+        break;
+      }
+    }
+    if (refreshCount().active() > limit) {
+      release();
+      return false;
+    }
+    return true;
+  }
+
+  /** Release a lease which was acquired but whose resource was not started. */
+  public void release() {
+    while (true) {
+      Snapshot current = snapshot.get();
+      Snapshot released;
+      if (current.recent > 0) {
+        released =
+            new Snapshot(
+                current.counted, current.previous, current.recent - 1, current.reconciledAt);
+      } else if (current.previous > 0) {
+        released =
+            new Snapshot(
+                current.counted, current.previous - 1, current.recent, current.reconciledAt);
+      } else {
+        // already forgotten by a reconciliation
+        return;
+      }
+      if (snapshot.compareAndSet(current, released)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Check whether the number of active leases is below the limit, without acquiring one.
+   *
+   * @param limit max number of active leases.
+   * @return true if the number of active leases is below the limit.
+   */
+  public boolean isBelow(long limit) {
+    reconcileIfStale();
+    return snapshot.get().active() < limit && refreshCount().active() < limit;
+  }
+
+  public long active() {
+    return snapshot.get().active();
+  }
+
+  private void reconcileIfStale() {
+    if (!isStale(snapshot.get())) {
+      return;
+    }
+    if (snapshot.get().reconciledAt == NEVER) {
+      // no count to admit requests against yet, wait for the first reconciliation
+      reconcileLock.lock();
+    } else if (!reconcileLock.tryLock()) {
+      // reconciled by another request, the current count is good enough meanwhile
+      return;
+    }
+    try {
+      if (isStale(snapshot.get())) {
+        reconcile();
+      }
+    } finally {
+      reconcileLock.unlock();
+    }
+  }
+
+  private void reconcile() {
+    long counted = activeCount.get();
+    long now = clock.millis();
+    while (true) {
+      Snapshot current = snapshot.get();
+      // leases acquired more than one interval ago are expected to be in the count by now
+      if (snapshot.compareAndSet(current, new Snapshot(counted, current.recent, 0L, now))) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Refresh the count of the leased resources in the state store, which includes the resources
+   * started through the other nodes. The leases acquired on this node are kept until the next
+   * reconciliation, as their resources may not be visible yet.
+   */
+  private Snapshot refreshCount() {
+    long counted = activeCount.get();
+    while (true) {
+      Snapshot current = snapshot.get();
+      Snapshot refreshed =
+          new Snapshot(counted, current.previous, current.recent, current.reconciledAt);
+      if (snapshot.compareAndSet(current, refreshed)) {
+        return refreshed;
+      }
+    }
+  }
+
+  private boolean isStale(Snapshot current) {
+    return current.reconciledAt == NEVER
+        || clock.millis() - current.reconciledAt >= RECONCILE_INTERVAL.toMillis();
+  }
+
+  @RequiredArgsConstructor
+  private static class Snapshot {
+    private final long counted;
+
+    /** Leases acquired in the interval before the last reconciliation. */
+    private final long previous;
+
+    /** Leases acquired since the last reconciliation. */
+    private final long recent;
+
+    private final long reconciledAt;
+
+    private long active() {
+      return counted + previous + recent;
+    }
+  }
+}
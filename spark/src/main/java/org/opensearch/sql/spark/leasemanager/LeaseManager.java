@@ -16,4 +16,10 @@ public interface LeaseManager {
    * @throws ConcurrencyLimitExceededException
    */
   void borrow(LeaseRequest request);
+
+  /**
+   * Return the lease borrowed by the request if the leased resource was not started, e.g. the
+   * existing session is reused or the job submission failed.
+   */
+  void release(LeaseRequest request);
 }
@@ -9,6 +9,8 @@ import static org.opensearch.sql.datasource.model.DataSourceMetadata.DEFAULT_RES
 import static org.opensearch.sql.spark.data.constants.SparkConstants.DATA_FIELD;
 import static org.opensearch.sql.spark.data.constants.SparkConstants.JOB_ID_FIELD;
 
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.json.JSONObject;
@@ -19,10 +21,26 @@ import org.opensearch.common.action.ActionFuture;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptType;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 
 public class JobExecutionResponseReader {
+  private static final String RESULT_FIELD = "result";
+
+  /**
+   * Slices the result rows of the document on the data node, so that only the rows of the page are
+   * returned instead of the whole result.
+   */
+  private static final String RESULT_PAGE_SCRIPT =
+      "def rows = params._source.result;"
+          + " if (rows == null) { return []; }"
+          + " int from = (int) Math.min(params.offset, rows.size());"
+          + " int to = (int) Math.min((long) params.offset + params.size, rows.size());"
+          + " return new ArrayList(rows.subList(from, to));";
+
   private final Client client;
   private static final Logger LOG = LogManager.getLogger();
 
@@ -36,19 +54,41 @@ public class JobExecutionResponseReader {
   }
 
   public JSONObject getResultFromOpensearchIndex(String jobId, String resultIndex) {
-    return searchInSparkIndex(QueryBuilders.termQuery(JOB_ID_FIELD, jobId), resultIndex);
+    return getResultFromOpensearchIndex(jobId, resultIndex, AsyncQueryResultPage.ALL);
+  }
+
+  public JSONObject getResultFromOpensearchIndex(
+      String jobId, String resultIndex, AsyncQueryResultPage page) {
+    return searchInSparkIndex(QueryBuilders.termQuery(JOB_ID_FIELD, jobId), resultIndex, page);
   }
 
   public JSONObject getResultWithQueryId(String queryId, String resultIndex) {
-    return searchInSparkIndex(QueryBuilders.termQuery("queryId", queryId), resultIndex);
+    return getResultWithQueryId(queryId, resultIndex, AsyncQueryResultPage.ALL);
+  }
+
+  public JSONObject getResultWithQueryId(
+      String queryId, String resultIndex, AsyncQueryResultPage page) {
+    return searchInSparkIndex(QueryBuilders.termQuery("queryId", queryId), resultIndex, page);
   }
 
-  private JSONObject searchInSparkIndex(QueryBuilder query, String resultIndex) {
+  private JSONObject searchInSparkIndex(
+      QueryBuilder query, String resultIndex, AsyncQueryResultPage page) {
     SearchRequest searchRequest = new SearchRequest();
     String searchResultIndex = resultIndex == null ? DEFAULT_RESULT_INDEX : resultIndex;
     searchRequest.indices(searchResultIndex);
     SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
     searchSourceBuilder.query(query);
+    if (!page.isAll()) {
+      // fetch everything except the result rows, which are sliced by the script field
+      searchSourceBuilder.fetchSource(null, new String[] {RESULT_FIELD});
+      searchSourceBuilder.scriptField(
+          RESULT_FIELD,
+          new Script(
+              ScriptType.INLINE,
+              Script.DEFAULT_SCRIPT_LANG,
+              RESULT_PAGE_SCRIPT,
+              ImmutableMap.of("offset", page.getOffset(), "size", page.getSize())));
+    }
     searchRequest.source(searchSourceBuilder);
     ActionFuture<SearchResponse> searchResponseActionFuture;
     JSONObject data = new JSONObject();
@@ -71,7 +111,11 @@ public class JobExecutionResponseReader {
               + searchResponse.status());
     } else {
       for (SearchHit searchHit : searchResponse.getHits().getHits()) {
-        data.put(DATA_FIELD, searchHit.getSourceAsMap());
+        Map<String, Object> source = searchHit.getSourceAsMap();
+        if (!page.isAll() && source != null && searchHit.field(RESULT_FIELD) != null) {
+          source.put(RESULT_FIELD, searchHit.field(RESULT_FIELD).getValues());
+        }
+        data.put(DATA_FIELD, source);
       }
       return data;
     }
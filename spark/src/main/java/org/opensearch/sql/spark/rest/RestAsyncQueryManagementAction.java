@@ -146,13 +146,15 @@ public class RestAsyncQueryManagementAction extends BaseRestHandler {
       RestRequest restRequest, NodeClient nodeClient) {
     MetricUtils.incrementNumericalMetric(MetricName.ASYNC_QUERY_GET_API_REQUEST_COUNT);
     String queryId = restRequest.param("queryId");
+    String cursor = restRequest.param("cursor");
+    Integer size = restRequest.hasParam("size") ? restRequest.paramAsInt("size", 0) : null;
     return restChannel ->
         Scheduler.schedule(
             nodeClient,
             () ->
                 nodeClient.execute(
                     TransportGetAsyncQueryResultAction.ACTION_TYPE,
-                    new GetAsyncQueryResultActionRequest(queryId),
+                    new GetAsyncQueryResultActionRequest(queryId, cursor, size),
                     new ActionListener<>() {
                       @Override
                       public void onResponse(
@@ -19,6 +19,7 @@ import org.opensearch.sql.spark.asyncquery.AsyncQueryExecutorService;
 import org.opensearch.sql.spark.asyncquery.AsyncQueryExecutorServiceImpl;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryExecutionResponse;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResult;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.transport.format.AsyncQueryResultResponseFormatter;
 import org.opensearch.sql.spark.transport.model.GetAsyncQueryResultActionRequest;
 import org.opensearch.sql.spark.transport.model.GetAsyncQueryResultActionResponse;
@@ -51,8 +52,9 @@ public class TransportGetAsyncQueryResultAction
       ActionListener<GetAsyncQueryResultActionResponse> listener) {
     try {
       String jobId = request.getQueryId();
+      AsyncQueryResultPage page = AsyncQueryResultPage.of(request.getCursor(), request.getSize());
       AsyncQueryExecutionResponse asyncQueryExecutionResponse =
-          asyncQueryExecutorService.getAsyncQueryResults(jobId);
+          asyncQueryExecutorService.getAsyncQueryResults(jobId, page);
       ResponseFormatter<AsyncQueryResult> formatter =
           new AsyncQueryResultResponseFormatter(JsonResponseFormatter.Style.PRETTY);
       String responseContent =
@@ -61,7 +63,9 @@ public class TransportGetAsyncQueryResultAction
                   asyncQueryExecutionResponse.getStatus(),
                   asyncQueryExecutionResponse.getSchema(),
                   asyncQueryExecutionResponse.getResults(),
-                  Cursor.None,
+                  asyncQueryExecutionResponse.getCursor() == null
+                      ? Cursor.None
+                      : new Cursor(asyncQueryExecutionResponse.getCursor()),
                   asyncQueryExecutionResponse.getError()));
       listener.onResponse(new GetAsyncQueryResultActionResponse(responseContent));
     } catch (Exception e) {
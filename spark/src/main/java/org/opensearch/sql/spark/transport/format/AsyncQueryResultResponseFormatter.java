@@ -5,14 +5,21 @@
 
 package org.opensearch.sql.spark.transport.format;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import java.util.List;
-import java.util.stream.Collectors;
-import lombok.Builder;
+import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Map;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.core.common.Strings;
-import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResult;
 
@@ -32,59 +39,72 @@ import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResult;
  *          ["Smith"]
  *      ],
  *      "total": 2,
- *      "size": 2
+ *      "size": 2,
+ *      "cursor": "MjoyMA=="
  *  }
  * </pre>
+ *
+ * The data rows are written to the output one by one instead of being copied into an intermediate
+ * JSON object first, which keeps the memory footprint of large results close to the result itself.
  */
 public class AsyncQueryResultResponseFormatter extends JsonResponseFormatter<AsyncQueryResult> {
 
+  private static final Gson GSON =
+      AccessController.doPrivileged(
+          (PrivilegedAction<Gson>) () -> new GsonBuilder().disableHtmlEscaping().create());
+
+  private final Style style;
+
   public AsyncQueryResultResponseFormatter(Style style) {
     super(style);
+    this.style = style;
   }
 
   @Override
-  public Object buildJsonObject(AsyncQueryResult response) {
-    JsonResponse.JsonResponseBuilder json = JsonResponse.builder();
-    if (response.getStatus().equalsIgnoreCase("success")) {
-      json.total(response.size()).size(response.size());
-      json.schema(
-          response.columnNameTypes().entrySet().stream()
-              .map((entry) -> new Column(entry.getKey(), entry.getValue()))
-              .collect(Collectors.toList()));
-      json.datarows(fetchDataRows(response));
-    }
-    json.status(response.getStatus());
-    if (!Strings.isEmpty(response.getError())) {
-      json.error(response.getError());
-    }
-
-    return json.build();
+  public String format(AsyncQueryResult response) {
+    return AccessController.doPrivileged((PrivilegedAction<String>) () -> stream(response));
   }
 
-  private Object[][] fetchDataRows(QueryResult response) {
-    Object[][] rows = new Object[response.size()][];
-    int i = 0;
-    for (Object[] values : response) {
-      rows[i++] = values;
+  private String stream(AsyncQueryResult response) {
+    StringWriter output = new StringWriter();
+    try (JsonWriter writer = new JsonWriter(output)) {
+      writer.setHtmlSafe(false);
+      if (style == PRETTY) {
+        writer.setIndent("  ");
+      }
+      writer.beginObject();
+      writer.name("status").value(response.getStatus());
+      if (response.getStatus().equalsIgnoreCase("success")) {
+        writer.name("schema").beginArray();
+        for (Map.Entry<String, String> entry : response.columnNameTypes().entrySet()) {
+          GSON.toJson(new Column(entry.getKey(), entry.getValue()), Column.class, writer);
+        }
+        writer.endArray();
+        writer.name("datarows").beginArray();
+        for (Object[] values : response) {
+          GSON.toJson(values, Object[].class, writer);
+        }
+        writer.endArray();
+        writer.name("total").value(response.size());
+        writer.name("size").value(response.size());
+        if (!response.getCursor().equals(Cursor.None)) {
+          writer.name("cursor").value(response.getCursor().toString());
+        }
+      }
+      if (!Strings.isEmpty(response.getError())) {
+        writer.name("error").value(response.getError());
+      }
+      writer.endObject();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
-    return rows;
+    return output.toString();
   }
 
-  /** org.json requires these inner data classes be public (and static) */
-  @Builder
-  @Getter
-  @JsonIgnoreProperties(ignoreUnknown = true)
-  public static class JsonResponse {
-
-    private final String status;
-
-    private final List<Column> schema;
-
-    private final Object[][] datarows;
-
-    private Integer total;
-    private Integer size;
-    private final String error;
+  /** The response is always streamed by {@link #format(AsyncQueryResult)} instead. */
+  @Override
+  public Object buildJsonObject(AsyncQueryResult response) {
+    throw new UnsupportedOperationException("Async query result is written by format directly");
   }
 
   @RequiredArgsConstructor
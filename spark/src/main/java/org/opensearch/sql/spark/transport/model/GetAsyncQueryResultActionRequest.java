@@ -19,6 +19,16 @@ public class GetAsyncQueryResultActionRequest extends ActionRequest {
 
   @Getter private String queryId;
 
+  /** Cursor of the result page returned by the previous request. */
+  @Getter private String cursor;
+
+  /** Number of result rows per page, null to return all the rows. */
+  @Getter private Integer size;
+
+  public GetAsyncQueryResultActionRequest(String queryId) {
+    this(queryId, null, null);
+  }
+
   /** Constructor of GetJobQueryResultActionRequest from StreamInput. */
   public GetAsyncQueryResultActionRequest(StreamInput in) throws IOException {
     super(in);
@@ -5,7 +5,9 @@
 
 package org.opensearch.sql.spark.utils;
 
+import com.google.common.collect.ImmutableSet;
 import java.util.Locale;
+import java.util.Set;
 import lombok.Getter;
 import lombok.experimental.UtilityClass;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -70,6 +72,91 @@ public class SQLQueryUtils {
     }
   }
 
+  /**
+   * Check whether the query is a single query statement without side effects which returns the
+   * same result when run again on the same data, i.e. no DML (including DML with CTEs), no DDL and
+   * no non-deterministic function.
+   *
+   * @param sqlQuery spark sql query
+   * @return true if the query is a deterministic read-only query
+   */
+  public static boolean isDeterministicReadOnlyQuery(String sqlQuery) {
+    SqlBaseParser sqlBaseParser =
+        new SqlBaseParser(
+            new CommonTokenStream(new SqlBaseLexer(new CaseInsensitiveCharStream(sqlQuery))));
+    sqlBaseParser.addErrorListener(new SyntaxAnalysisErrorListener());
+    SqlBaseParser.SingleStatementContext singleStatement;
+    try {
+      singleStatement = sqlBaseParser.singleStatement();
+    } catch (SyntaxCheckException syntaxCheckException) {
+      return false;
+    }
+    if (!(singleStatement.statement() instanceof SqlBaseParser.StatementDefaultContext)) {
+      return false;
+    }
+    NonDeterministicQueryVisitor visitor = new NonDeterministicQueryVisitor();
+    singleStatement.accept(visitor);
+    return !visitor.isNonDeterministic();
+  }
+
+  /** Visitor finding non-deterministic function, current value like CURRENT_DATE or sampling. */
+  public static class NonDeterministicQueryVisitor extends SqlBaseParserBaseVisitor<Void> {
+    private static final Set<String> NON_DETERMINISTIC_FUNCTIONS =
+        ImmutableSet.of(
+            "rand",
+            "random",
+            "randn",
+            "randstr",
+            "uniform",
+            "uuid",
+            "shuffle",
+            "now",
+            "curdate",
+            "current_date",
+            "current_timestamp",
+            "current_timezone",
+            "localtimestamp",
+            "unix_timestamp",
+            "current_user",
+            "user",
+            "session_user",
+            "current_database",
+            "current_schema",
+            "current_catalog",
+            "monotonically_increasing_id",
+            "spark_partition_id",
+            "input_file_name",
+            "input_file_block_start",
+            "input_file_block_length",
+            "reflect",
+            "java_method");
+
+    @Getter private boolean nonDeterministic = false;
+
+    @Override
+    public Void visitFunctionCall(SqlBaseParser.FunctionCallContext ctx) {
+      String name = ctx.functionName().getText().toLowerCase(Locale.ROOT);
+      // Builtin function may be qualified by builtin or system namespace
+      String simpleName = name.substring(name.lastIndexOf('.') + 1);
+      if (NON_DETERMINISTIC_FUNCTIONS.contains(simpleName)) {
+        nonDeterministic = true;
+      }
+      return super.visitFunctionCall(ctx);
+    }
+
+    @Override
+    public Void visitCurrentLike(SqlBaseParser.CurrentLikeContext ctx) {
+      nonDeterministic = true;
+      return null;
+    }
+
+    @Override
+    public Void visitSample(SqlBaseParser.SampleContext ctx) {
+      nonDeterministic = true;
+      return null;
+    }
+  }
+
   public static class SparkSqlTableNameVisitor extends SqlBaseParserBaseVisitor<Void> {
 
     @Getter private FullyQualifiedTableName fullyQualifiedTableName;
@@ -32,6 +32,7 @@ import org.opensearch.sql.spark.asyncquery.exceptions.AsyncQueryNotFoundExceptio
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryExecutionResponse;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryId;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryJobMetadata;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.config.SparkExecutionEngineConfig;
 import org.opensearch.sql.spark.config.SparkExecutionEngineConfigSupplier;
 import org.opensearch.sql.spark.dispatcher.SparkQueryDispatcher;
@@ -149,7 +150,8 @@ public class AsyncQueryExecutorServiceImplTest {
     JSONObject jobResult = new JSONObject();
     jobResult.put("status", JobRunState.PENDING.toString());
     when(sparkQueryDispatcher.getQueryResponse(
-            new AsyncQueryJobMetadata(QUERY_ID, EMRS_APPLICATION_ID, EMR_JOB_ID, null)))
+            new AsyncQueryJobMetadata(QUERY_ID, EMRS_APPLICATION_ID, EMR_JOB_ID, null),
+            AsyncQueryResultPage.ALL))
         .thenReturn(jobResult);
     AsyncQueryExecutionResponse asyncQueryExecutionResponse =
         jobExecutorService.getAsyncQueryResults(EMR_JOB_ID);
@@ -169,7 +171,8 @@ public class AsyncQueryExecutorServiceImplTest {
     JSONObject jobResult = new JSONObject(getJson("select_query_response.json"));
     jobResult.put("status", JobRunState.SUCCESS.toString());
     when(sparkQueryDispatcher.getQueryResponse(
-            new AsyncQueryJobMetadata(QUERY_ID, EMRS_APPLICATION_ID, EMR_JOB_ID, null)))
+            new AsyncQueryJobMetadata(QUERY_ID, EMRS_APPLICATION_ID, EMR_JOB_ID, null),
+            AsyncQueryResultPage.ALL))
         .thenReturn(jobResult);
 
     AsyncQueryExecutionResponse asyncQueryExecutionResponse =
@@ -186,6 +189,45 @@ public class AsyncQueryExecutorServiceImplTest {
     verifyNoInteractions(sparkExecutionEngineConfigSupplier);
   }
 
+  @Test
+  void testGetAsyncQueryResultsWithResultPage() throws IOException {
+    AsyncQueryJobMetadata jobMetadata =
+        new AsyncQueryJobMetadata(QUERY_ID, EMRS_APPLICATION_ID, EMR_JOB_ID, null);
+    when(asyncQueryJobMetadataStorageService.getJobMetadata(EMR_JOB_ID))
+        .thenReturn(Optional.of(jobMetadata));
+    JSONObject jobResult = new JSONObject(getJson("select_query_response.json"));
+    jobResult.getJSONObject("data").getJSONArray("result").put("{'1':2}");
+    jobResult.put("status", JobRunState.SUCCESS.toString());
+    when(sparkQueryDispatcher.getQueryResponse(jobMetadata, new AsyncQueryResultPage(3, 2)))
+        .thenReturn(jobResult);
+
+    AsyncQueryExecutionResponse asyncQueryExecutionResponse =
+        jobExecutorService.getAsyncQueryResults(EMR_JOB_ID, new AsyncQueryResultPage(3, 1));
+
+    Assertions.assertEquals("SUCCESS", asyncQueryExecutionResponse.getStatus());
+    Assertions.assertEquals(1, asyncQueryExecutionResponse.getResults().size());
+    Assertions.assertEquals(
+        new AsyncQueryResultPage(4, 1).toCursor(), asyncQueryExecutionResponse.getCursor());
+  }
+
+  @Test
+  void testGetAsyncQueryResultsWithLastResultPage() throws IOException {
+    AsyncQueryJobMetadata jobMetadata =
+        new AsyncQueryJobMetadata(QUERY_ID, EMRS_APPLICATION_ID, EMR_JOB_ID, null);
+    when(asyncQueryJobMetadataStorageService.getJobMetadata(EMR_JOB_ID))
+        .thenReturn(Optional.of(jobMetadata));
+    JSONObject jobResult = new JSONObject(getJson("select_query_response.json"));
+    jobResult.put("status", JobRunState.SUCCESS.toString());
+    when(sparkQueryDispatcher.getQueryResponse(jobMetadata, new AsyncQueryResultPage(0, 3)))
+        .thenReturn(jobResult);
+
+    AsyncQueryExecutionResponse asyncQueryExecutionResponse =
+        jobExecutorService.getAsyncQueryResults(EMR_JOB_ID, new AsyncQueryResultPage(0, 2));
+
+    Assertions.assertEquals(1, asyncQueryExecutionResponse.getResults().size());
+    Assertions.assertNull(asyncQueryExecutionResponse.getCursor());
+  }
+
   @Test
   void testGetAsyncQueryResultsWithDisabledExecutionEngine() {
     AsyncQueryExecutorService asyncQueryExecutorService = new AsyncQueryExecutorServiceImpl();
@@ -62,6 +62,7 @@ import org.opensearch.sql.spark.client.EMRServerlessClient;
 import org.opensearch.sql.spark.client.StartJobRequest;
 import org.opensearch.sql.spark.config.SparkExecutionEngineConfig;
 import org.opensearch.sql.spark.dispatcher.SparkQueryDispatcher;
+import org.opensearch.sql.spark.execution.jobstate.JobStateTracker;
 import org.opensearch.sql.spark.execution.session.SessionManager;
 import org.opensearch.sql.spark.execution.session.SessionModel;
 import org.opensearch.sql.spark.execution.session.SessionState;
@@ -217,7 +218,9 @@ public class AsyncQueryExecutorServiceSpec extends OpenSearchIntegTestCase {
             client,
             new SessionManager(stateStore, emrServerlessClient, pluginSettings),
             new DefaultLeaseManager(pluginSettings, stateStore),
-            stateStore);
+            stateStore,
+            new JobStateTracker(emrServerlessClient, stateStore),
+            new AsyncQueryResultCache(pluginSettings));
     return new AsyncQueryExecutorServiceImpl(
         asyncQueryJobMetadataStorageService,
         sparkQueryDispatcher,
@@ -302,6 +305,7 @@ public class AsyncQueryExecutorServiceSpec extends OpenSearchIntegTestCase {
   }
 
   int search(QueryBuilder query) {
+    refreshRequestIndex();
     SearchRequest searchRequest = new SearchRequest();
     searchRequest.indices(DATASOURCE_TO_REQUEST_INDEX.apply(DATASOURCE));
     SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
@@ -317,6 +321,12 @@ public class AsyncQueryExecutorServiceSpec extends OpenSearchIntegTestCase {
     SessionModel updated =
         updateSessionState(stateStore, DATASOURCE).apply(model.get(), sessionState);
     assertEquals(sessionState, updated.getSessionState());
+    refreshRequestIndex();
+  }
+
+  /** State store does not refresh, make the state written visible to the searches and counts. */
+  void refreshRequestIndex() {
+    client.admin().indices().prepareRefresh(DATASOURCE_TO_REQUEST_INDEX.apply(DATASOURCE)).get();
   }
 
   @SneakyThrows
@@ -349,6 +359,7 @@ public class AsyncQueryExecutorServiceSpec extends OpenSearchIntegTestCase {
       stateModel =
           StateStore.updateFlintIndexState(stateStore, DATASOURCE)
               .apply(stateModel, FlintIndexState.REFRESHING);
+      refreshRequestIndex();
     }
 
     public void cancelling() {
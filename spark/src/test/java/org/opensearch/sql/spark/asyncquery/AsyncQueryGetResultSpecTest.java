@@ -22,6 +22,7 @@ import org.junit.Test;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryExecutionResponse;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.execution.statement.StatementModel;
 import org.opensearch.sql.spark.execution.statement.StatementState;
 import org.opensearch.sql.spark.execution.statestore.StateStore;
@@ -205,12 +206,14 @@ public class AsyncQueryGetResultSpecTest extends AsyncQueryExecutorServiceSpec {
                */
               new JobExecutionResponseReader(client) {
                 @Override
-                public JSONObject getResultFromOpensearchIndex(String jobId, String resultIndex) {
+                public JSONObject getResultFromOpensearchIndex(
+                    String jobId, String resultIndex, AsyncQueryResultPage page) {
                   return interaction.interact(new InteractionStep(emrClient, jobId, resultIndex));
                 }
 
                 @Override
-                public JSONObject getResultWithQueryId(String queryId, String resultIndex) {
+                public JSONObject getResultWithQueryId(
+                    String queryId, String resultIndex, AsyncQueryResultPage page) {
                   return interaction.interact(new InteractionStep(emrClient, queryId, resultIndex));
                 }
               });
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.asyncquery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.common.setting.Settings.Key.SPARK_EXECUTION_RESULT_REUSE_TTL;
+
+import java.time.Clock;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.spark.dispatcher.model.DispatchQueryRequest;
+import org.opensearch.sql.spark.rest.model.LangType;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncQueryResultCacheTest {
+  private static final String DS_NAME = "mys3";
+
+  @Mock private Settings settings;
+
+  @Mock private Clock clock;
+
+  @Test
+  public void normalizeCollapsesWhitespaceOutsideQuotes() {
+    assertEquals("select `a  b` from t", AsyncQueryResultCache.normalize("select  `a  b`\nfrom t"));
+    assertEquals(
+        "select * from t where a = 'x  y'",
+        AsyncQueryResultCache.normalize("  select *\n  from t\twhere a = 'x  y'  ; "));
+  }
+
+  @Test
+  public void reusableQueries() {
+    AsyncQueryResultCache cache = cache(TimeValue.timeValueMinutes(1));
+
+    assertTrue(cache.isReusable(request(LangType.SQL, "SELECT 1")));
+    assertTrue(cache.isReusable(request(LangType.SQL, "with t as (select 1) select * from t;")));
+    assertFalse(cache.isReusable(request(LangType.SQL, "DROP INDEX idx ON mys3.default.t")));
+    assertFalse(cache.isReusable(request(LangType.SQL, "select 1; drop table t")));
+    assertFalse(
+        cache.isReusable(
+            request(LangType.SQL, "with t as (select 1 as a) insert into s select * from t")));
+    assertFalse(
+        cache.isReusable(
+            request(LangType.SQL, "WITH t AS (SELECT 1 AS a) INSERT OVERWRITE s SELECT * FROM t")));
+    assertFalse(cache.isReusable(request(LangType.SQL, "select rand() from t")));
+    assertFalse(cache.isReusable(request(LangType.SQL, "select * from t where ts < now()")));
+    assertFalse(cache.isReusable(request(LangType.SQL, "select current_timestamp")));
+    assertFalse(cache.isReusable(request(LangType.PPL, "source=t")));
+  }
+
+  @Test
+  public void reuseDisabledByDefault() {
+    AsyncQueryResultCache cache = cache(TimeValue.ZERO);
+
+    assertFalse(cache.isReusable(request(LangType.SQL, "select 1")));
+  }
+
+  @Test
+  public void getWithinTtl() {
+    AsyncQueryResultCache cache = cache(TimeValue.timeValueMinutes(1));
+    when(clock.millis()).thenReturn(0L);
+    cache.put(DS_NAME, "user1", "select * from t", "qid");
+
+    assertEquals(Optional.of("qid"), cache.get(DS_NAME, "user1", " select *\nfrom t ;"));
+    assertEquals(Optional.empty(), cache.get("other", "user1", "select * from t"));
+    assertEquals(Optional.empty(), cache.get(DS_NAME, "user2", "select * from t"));
+
+    when(clock.millis()).thenReturn(TimeValue.timeValueMinutes(1).millis());
+    assertEquals(Optional.empty(), cache.get(DS_NAME, "user1", "select * from t"));
+  }
+
+  private AsyncQueryResultCache cache(TimeValue ttl) {
+    when(settings.getSettingValue(SPARK_EXECUTION_RESULT_REUSE_TTL)).thenReturn(ttl);
+    return new AsyncQueryResultCache(settings, clock);
+  }
+
+  private DispatchQueryRequest request(LangType langType, String query) {
+    return new DispatchQueryRequest("appId", query, DS_NAME, langType, "role", "cluster");
+  }
+}
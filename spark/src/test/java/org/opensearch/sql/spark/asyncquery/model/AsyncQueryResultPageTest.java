@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.asyncquery.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncQueryResultPageTest {
+
+  @Test
+  public void testAllRowsWithoutCursorAndSize() {
+    assertTrue(AsyncQueryResultPage.of(null, null).isAll());
+  }
+
+  @Test
+  public void testFirstPage() {
+    AsyncQueryResultPage page = AsyncQueryResultPage.of(null, 100);
+    assertFalse(page.isAll());
+    assertEquals(new AsyncQueryResultPage(0, 100), page);
+  }
+
+  @Test
+  public void testNextPageFromCursor() {
+    String cursor = AsyncQueryResultPage.of(null, 100).next().toCursor();
+    assertEquals(new AsyncQueryResultPage(100, 100), AsyncQueryResultPage.of(cursor, null));
+  }
+
+  @Test
+  public void testInvalidSize() {
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> AsyncQueryResultPage.of(null, 0));
+    assertEquals("Page size must be between 1 and 10000, but got 0", exception.getMessage());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AsyncQueryResultPage.of(null, AsyncQueryResultPage.MAX_PAGE_SIZE + 1));
+  }
+
+  @Test
+  public void testInvalidCursor() {
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> AsyncQueryResultPage.of("#", null));
+    assertEquals("Invalid async query result cursor: #", exception.getMessage());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> AsyncQueryResultPage.of(new AsyncQueryResultPage(-1, 10).toCursor(), null));
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.reindex.AbstractBulkByScrollRequest;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.DeleteByQueryAction;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.threadpool.ThreadPool;
+
+@ExtendWith(MockitoExtension.class)
+public class IndexCleanupTest {
+  private static final String INDEX_NAME = ".query_execution_request_*";
+
+  @Mock private Client client;
+  @Mock private ClusterService clusterService;
+  @Mock private ThreadPool threadPool;
+  @Mock private ActionListener<Long> listener;
+
+  private IndexCleanup indexCleanup;
+
+  private final List<DeleteByQueryRequest> requests = new ArrayList<>();
+
+  @BeforeEach
+  public void setUp() {
+    indexCleanup = new IndexCleanup(client, clusterService);
+  }
+
+  @Test
+  public void deleteRequestIsSlicedAndThrottled() {
+    indexCleanup.setRequestsPerSecond(200f);
+    indexCleanup.setSlices(AbstractBulkByScrollRequest.AUTO_SLICES);
+
+    DeleteByQueryRequest request =
+        indexCleanup.deleteRequest(INDEX_NAME, QueryBuilders.matchAllQuery());
+
+    assertEquals(200f, request.getRequestsPerSecond());
+    assertEquals(AbstractBulkByScrollRequest.AUTO_SLICES, request.getSlices());
+    assertEquals(IndexCleanup.BATCH_SIZE, request.getMaxDocs());
+  }
+
+  @Test
+  public void deleteWithoutThrottle() {
+    indexCleanup.setRequestsPerSecond(-1f);
+
+    DeleteByQueryRequest request =
+        indexCleanup.deleteRequest(INDEX_NAME, QueryBuilders.matchAllQuery());
+
+    assertEquals(Float.POSITIVE_INFINITY, request.getRequestsPerSecond());
+  }
+
+  @Test
+  public void deleteInBatchesUntilNoDocLeft() {
+    mockDeleted(IndexCleanup.BATCH_SIZE, IndexCleanup.BATCH_SIZE, 5L);
+
+    indexCleanup.deleteDocsByQuery(INDEX_NAME, QueryBuilders.matchAllQuery(), listener);
+
+    assertEquals(3, requests.size());
+    verify(listener).onResponse(2L * IndexCleanup.BATCH_SIZE + 5L);
+  }
+
+  @Test
+  public void stopAfterCurrentBatch() {
+    BulkByScrollResponse response = deleted(IndexCleanup.BATCH_SIZE);
+    mockThreadContext();
+    doAnswer(
+            invocation -> {
+              requests.add(invocation.getArgument(1));
+              // stopped while the batch is in flight
+              indexCleanup.stop();
+              ActionListener<BulkByScrollResponse> actionListener = invocation.getArgument(2);
+              actionListener.onResponse(response);
+              return null;
+            })
+        .when(client)
+        .execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
+
+    indexCleanup.deleteDocsByQuery(INDEX_NAME, QueryBuilders.matchAllQuery(), listener);
+
+    assertEquals(1, requests.size());
+    verify(listener).onResponse((long) IndexCleanup.BATCH_SIZE);
+  }
+
+  private void mockDeleted(long... deleted) {
+    List<BulkByScrollResponse> responses = new ArrayList<>();
+    for (long count : deleted) {
+      responses.add(deleted(count));
+    }
+    Iterator<BulkByScrollResponse> iterator = responses.iterator();
+    mockThreadContext();
+    doAnswer(
+            invocation -> {
+              requests.add(invocation.getArgument(1));
+              ActionListener<BulkByScrollResponse> actionListener = invocation.getArgument(2);
+              actionListener.onResponse(iterator.next());
+              return null;
+            })
+        .when(client)
+        .execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
+  }
+
+  private void mockThreadContext() {
+    when(client.threadPool()).thenReturn(threadPool);
+    when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+  }
+
+  private BulkByScrollResponse deleted(long count) {
+    BulkByScrollResponse response = mock(BulkByScrollResponse.class);
+    when(response.getDeleted()).thenReturn(count);
+    when(response.getTook()).thenReturn(TimeValue.timeValueMillis(10));
+    return response;
+  }
+}
@@ -55,17 +55,22 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.client.Client;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.datasource.model.DataSourceType;
 import org.opensearch.sql.datasources.auth.DataSourceUserAuthorizationHelperImpl;
+import org.opensearch.sql.spark.asyncquery.AsyncQueryResultCache;
+import org.opensearch.sql.spark.asyncquery.exceptions.AsyncQueryNotFoundException;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryId;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryJobMetadata;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.client.EMRServerlessClient;
 import org.opensearch.sql.spark.client.StartJobRequest;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryRequest;
 import org.opensearch.sql.spark.dispatcher.model.DispatchQueryResponse;
 import org.opensearch.sql.spark.dispatcher.model.JobType;
+import org.opensearch.sql.spark.execution.jobstate.JobStateTracker;
 import org.opensearch.sql.spark.execution.session.Session;
 import org.opensearch.sql.spark.execution.session.SessionId;
 import org.opensearch.sql.spark.execution.session.SessionManager;
@@ -102,6 +107,8 @@ public class SparkQueryDispatcherTest {
 
   @Mock private StateStore stateStore;
 
+  @Mock private AsyncQueryResultCache asyncQueryResultCache;
+
   private SparkQueryDispatcher sparkQueryDispatcher;
 
   private final AsyncQueryId QUERY_ID = AsyncQueryId.newAsyncQueryId(DS_NAME);
@@ -120,7 +127,9 @@ public class SparkQueryDispatcherTest {
             openSearchClient,
             sessionManager,
             leaseManager,
-            stateStore);
+            stateStore,
+            new JobStateTracker(emrServerlessClient, stateStore),
+            asyncQueryResultCache);
   }
 
   @Test
@@ -911,7 +920,8 @@ public class SparkQueryDispatcherTest {
         .thenReturn(new GetJobRunResult().withJobRun(new JobRun().withState(JobRunState.PENDING)));
 
     // simulate result index is not created yet
-    when(jobExecutionResponseReader.getResultFromOpensearchIndex(EMR_JOB_ID, null))
+    when(jobExecutionResponseReader.getResultFromOpensearchIndex(
+            EMR_JOB_ID, null, AsyncQueryResultPage.ALL))
         .thenReturn(new JSONObject());
     JSONObject result = sparkQueryDispatcher.getQueryResponse(asyncQueryJobMetadata());
     Assertions.assertEquals("PENDING", result.get("status"));
@@ -926,7 +936,7 @@ public class SparkQueryDispatcherTest {
 
     doReturn(new JSONObject())
         .when(jobExecutionResponseReader)
-        .getResultWithQueryId(eq(MOCK_STATEMENT_ID), any());
+        .getResultWithQueryId(eq(MOCK_STATEMENT_ID), any(), eq(AsyncQueryResultPage.ALL));
     JSONObject result =
         sparkQueryDispatcher.getQueryResponse(
             asyncQueryJobMetadataWithSessionId(MOCK_STATEMENT_ID, MOCK_SESSION_ID));
@@ -940,7 +950,7 @@ public class SparkQueryDispatcherTest {
     doReturn(Optional.empty()).when(sessionManager).getSession(eq(new SessionId(MOCK_SESSION_ID)));
     doReturn(new JSONObject())
         .when(jobExecutionResponseReader)
-        .getResultWithQueryId(eq(MOCK_STATEMENT_ID), any());
+        .getResultWithQueryId(eq(MOCK_STATEMENT_ID), any(), eq(AsyncQueryResultPage.ALL));
     IllegalArgumentException exception =
         Assertions.assertThrows(
             IllegalArgumentException.class,
@@ -959,7 +969,7 @@ public class SparkQueryDispatcherTest {
     doReturn(Optional.empty()).when(session).get(any());
     doReturn(new JSONObject())
         .when(jobExecutionResponseReader)
-        .getResultWithQueryId(eq(MOCK_STATEMENT_ID), any());
+        .getResultWithQueryId(eq(MOCK_STATEMENT_ID), any(), eq(AsyncQueryResultPage.ALL));
 
     IllegalArgumentException exception =
         Assertions.assertThrows(
@@ -979,10 +989,12 @@ public class SparkQueryDispatcherTest {
     resultMap.put(STATUS_FIELD, "SUCCESS");
     resultMap.put(ERROR_FIELD, "");
     queryResult.put(DATA_FIELD, resultMap);
-    when(jobExecutionResponseReader.getResultFromOpensearchIndex(EMR_JOB_ID, null))
+    when(jobExecutionResponseReader.getResultFromOpensearchIndex(
+            EMR_JOB_ID, null, AsyncQueryResultPage.ALL))
         .thenReturn(queryResult);
     JSONObject result = sparkQueryDispatcher.getQueryResponse(asyncQueryJobMetadata());
-    verify(jobExecutionResponseReader, times(1)).getResultFromOpensearchIndex(EMR_JOB_ID, null);
+    verify(jobExecutionResponseReader, times(1))
+        .getResultFromOpensearchIndex(EMR_JOB_ID, null, AsyncQueryResultPage.ALL);
     Assertions.assertEquals(
         new HashSet<>(Arrays.asList(DATA_FIELD, STATUS_FIELD, ERROR_FIELD)), result.keySet());
     JSONObject dataJson = new JSONObject();
@@ -998,6 +1010,145 @@ public class SparkQueryDispatcherTest {
     verifyNoInteractions(emrServerlessClient);
   }
 
+  @Test
+  void testDispatchReusesResultOfIdenticalQuery() {
+    String query = "select * from my_glue.default.http_logs";
+    DataSourceMetadata dataSourceMetadata = constructMyGlueDataSourceMetadata();
+    when(dataSourceService.getRawDataSourceMetadata("my_glue")).thenReturn(dataSourceMetadata);
+    doNothing().when(dataSourceUserAuthorizationHelper).authorizeDataSource(dataSourceMetadata);
+    DispatchQueryRequest request =
+        new DispatchQueryRequest(
+            EMRS_APPLICATION_ID,
+            query,
+            "my_glue",
+            LangType.SQL,
+            EMRS_EXECUTION_ROLE,
+            TEST_CLUSTER_NAME);
+    when(asyncQueryResultCache.isReusable(request)).thenReturn(true);
+    when(dataSourceUserAuthorizationHelper.userIdentity()).thenReturn("user1");
+    when(asyncQueryResultCache.get("my_glue", "user1", query))
+        .thenReturn(Optional.of(QUERY_ID.getId()));
+    when(stateStore.get(eq(QUERY_ID.docId()), any(), any()))
+        .thenReturn(Optional.of(asyncQueryJobMetadata()));
+    JSONObject queryResult = new JSONObject();
+    queryResult.put(DATA_FIELD, Map.of(STATUS_FIELD, "SUCCESS", ERROR_FIELD, ""));
+    when(jobExecutionResponseReader.getResultFromOpensearchIndex(
+            EMR_JOB_ID, null, new AsyncQueryResultPage(0, 1)))
+        .thenReturn(queryResult);
+
+    DispatchQueryResponse dispatchQueryResponse = sparkQueryDispatcher.dispatch(request);
+
+    Assertions.assertNotEquals(QUERY_ID, dispatchQueryResponse.getQueryId());
+    Assertions.assertEquals(QUERY_ID.getId(), dispatchQueryResponse.getResultQueryId());
+    Assertions.assertNull(dispatchQueryResponse.getJobId());
+    Assertions.assertNull(dispatchQueryResponse.getSessionId());
+    verifyNoInteractions(emrServerlessClient);
+    verify(asyncQueryResultCache, never()).put(any(), any(), any(), any());
+  }
+
+  @Test
+  void testDispatchDoesNotReuseResultOfUnfinishedQuery() {
+    String query = "select * from my_glue.default.http_logs";
+    when(emrServerlessClient.startJobRun(any())).thenReturn(EMR_JOB_ID);
+    DataSourceMetadata dataSourceMetadata = constructMyGlueDataSourceMetadata();
+    when(dataSourceService.getRawDataSourceMetadata("my_glue")).thenReturn(dataSourceMetadata);
+    doNothing().when(dataSourceUserAuthorizationHelper).authorizeDataSource(dataSourceMetadata);
+    DispatchQueryRequest request =
+        new DispatchQueryRequest(
+            EMRS_APPLICATION_ID,
+            query,
+            "my_glue",
+            LangType.SQL,
+            EMRS_EXECUTION_ROLE,
+            TEST_CLUSTER_NAME);
+    when(asyncQueryResultCache.isReusable(request)).thenReturn(true);
+    when(dataSourceUserAuthorizationHelper.userIdentity()).thenReturn("user1");
+    when(asyncQueryResultCache.get("my_glue", "user1", query))
+        .thenReturn(Optional.of(QUERY_ID.getId()));
+    when(stateStore.get(eq(QUERY_ID.docId()), any(), any()))
+        .thenReturn(Optional.of(asyncQueryJobMetadata()));
+    when(jobExecutionResponseReader.getResultFromOpensearchIndex(
+            EMR_JOB_ID, null, new AsyncQueryResultPage(0, 1)))
+        .thenReturn(new JSONObject());
+    when(emrServerlessClient.getJobRunResult(EMRS_APPLICATION_ID, EMR_JOB_ID))
+        .thenReturn(new GetJobRunResult().withJobRun(new JobRun().withState(JobRunState.RUNNING)));
+
+    DispatchQueryResponse dispatchQueryResponse = sparkQueryDispatcher.dispatch(request);
+
+    Assertions.assertNull(dispatchQueryResponse.getResultQueryId());
+    verify(emrServerlessClient, times(1)).startJobRun(any());
+    verify(asyncQueryResultCache)
+        .put("my_glue", "user1", query, dispatchQueryResponse.getQueryId().getId());
+  }
+
+  @Test
+  void testGetQueryResponseOfReusedQuery() {
+    when(stateStore.get(eq(QUERY_ID.docId()), any(), any()))
+        .thenReturn(Optional.of(asyncQueryJobMetadata()));
+    JSONObject queryResult = new JSONObject();
+    queryResult.put(DATA_FIELD, Map.of(STATUS_FIELD, "SUCCESS", ERROR_FIELD, ""));
+    when(jobExecutionResponseReader.getResultFromOpensearchIndex(
+            EMR_JOB_ID, null, AsyncQueryResultPage.ALL))
+        .thenReturn(queryResult);
+
+    JSONObject result =
+        sparkQueryDispatcher.getQueryResponse(
+            new AsyncQueryJobMetadata(
+                AsyncQueryId.newAsyncQueryId(DS_NAME),
+                EMRS_APPLICATION_ID,
+                EMR_JOB_ID,
+                null,
+                null,
+                null,
+                QUERY_ID.getId(),
+                SequenceNumbers.UNASSIGNED_SEQ_NO,
+                SequenceNumbers.UNASSIGNED_PRIMARY_TERM));
+
+    Assertions.assertEquals("SUCCESS", result.get(STATUS_FIELD));
+  }
+
+  @Test
+  void testCancelReusedQueryDoesNotCancelQueryReused() {
+    AsyncQueryId reusedQueryId = AsyncQueryId.newAsyncQueryId(DS_NAME);
+
+    String queryId =
+        sparkQueryDispatcher.cancelJob(
+            new AsyncQueryJobMetadata(
+                reusedQueryId,
+                EMRS_APPLICATION_ID,
+                EMR_JOB_ID,
+                null,
+                null,
+                null,
+                QUERY_ID.getId(),
+                SequenceNumbers.UNASSIGNED_SEQ_NO,
+                SequenceNumbers.UNASSIGNED_PRIMARY_TERM));
+
+    Assertions.assertEquals(reusedQueryId.getId(), queryId);
+    verifyNoInteractions(emrServerlessClient);
+    verify(stateStore, never()).get(any(), any(), any());
+  }
+
+  @Test
+  void testGetQueryResponseOfReusedQueryNotFound() {
+    when(stateStore.get(eq(QUERY_ID.docId()), any(), any())).thenReturn(Optional.empty());
+
+    Assertions.assertThrows(
+        AsyncQueryNotFoundException.class,
+        () ->
+            sparkQueryDispatcher.getQueryResponse(
+                new AsyncQueryJobMetadata(
+                    AsyncQueryId.newAsyncQueryId(DS_NAME),
+                    EMRS_APPLICATION_ID,
+                    EMR_JOB_ID,
+                    null,
+                    null,
+                    null,
+                    QUERY_ID.getId(),
+                    SequenceNumbers.UNASSIGNED_SEQ_NO,
+                    SequenceNumbers.UNASSIGNED_PRIMARY_TERM)));
+  }
+
   @Test
   void testDispatchQueryWithExtraSparkSubmitParameters() {
     DataSourceMetadata dataSourceMetadata = constructMyGlueDataSourceMetadata();
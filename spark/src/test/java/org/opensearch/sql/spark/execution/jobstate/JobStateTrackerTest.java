@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.execution.jobstate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.spark.constants.TestConstants.EMRS_APPLICATION_ID;
+import static org.opensearch.sql.spark.constants.TestConstants.EMR_JOB_ID;
+
+import com.amazonaws.services.emrserverless.model.GetJobRunResult;
+import com.amazonaws.services.emrserverless.model.JobRun;
+import com.amazonaws.services.emrserverless.model.JobRunState;
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryId;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryJobMetadata;
+import org.opensearch.sql.spark.client.EMRServerlessClient;
+import org.opensearch.sql.spark.execution.statestore.StateStore;
+
+@ExtendWith(MockitoExtension.class)
+public class JobStateTrackerTest {
+
+  private static final AsyncQueryJobMetadata JOB_METADATA =
+      new AsyncQueryJobMetadata(
+          AsyncQueryId.newAsyncQueryId("mys3"), EMRS_APPLICATION_ID, EMR_JOB_ID, null);
+
+  @Mock private EMRServerlessClient emrServerlessClient;
+
+  @Mock private StateStore stateStore;
+
+  @Mock private Clock clock;
+
+  private JobStateTracker jobStateTracker;
+
+  @BeforeEach
+  public void setUp() {
+    jobStateTracker = new JobStateTracker(emrServerlessClient, stateStore, clock);
+  }
+
+  @Test
+  public void getJobStateFromCache() {
+    mockJobState(JobRunState.RUNNING);
+
+    assertEquals("RUNNING", jobStateTracker.getJobState(JOB_METADATA));
+    assertEquals("RUNNING", jobStateTracker.getJobState(JOB_METADATA));
+    verify(emrServerlessClient, times(1)).getJobRunResult(EMRS_APPLICATION_ID, EMR_JOB_ID);
+  }
+
+  @Test
+  public void getPersistedTerminalJobState() {
+    AsyncQueryJobMetadata jobMetadata =
+        AsyncQueryJobMetadata.copyWithState(
+            JOB_METADATA,
+            JobRunState.SUCCESS.toString(),
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            SequenceNumbers.UNASSIGNED_PRIMARY_TERM);
+
+    assertEquals("SUCCESS", jobStateTracker.getJobState(jobMetadata));
+    verify(emrServerlessClient, never()).getJobRunResult(any(), any());
+  }
+
+  @Test
+  public void refreshDueJobStateWithBackoff() {
+    mockJobState(JobRunState.RUNNING);
+    jobStateTracker.getJobState(JOB_METADATA);
+
+    // not due yet
+    when(clock.millis()).thenReturn(1000L);
+    jobStateTracker.run();
+    verify(emrServerlessClient, times(1)).getJobRunResult(EMRS_APPLICATION_ID, EMR_JOB_ID);
+
+    // state unchanged, the next refresh is delayed by 10 seconds
+    when(clock.millis()).thenReturn(5000L);
+    jobStateTracker.run();
+    when(clock.millis()).thenReturn(14000L);
+    jobStateTracker.run();
+    verify(emrServerlessClient, times(2)).getJobRunResult(EMRS_APPLICATION_ID, EMR_JOB_ID);
+
+    mockJobState(JobRunState.FAILED);
+    when(clock.millis()).thenReturn(15000L);
+    jobStateTracker.run();
+    assertEquals("FAILED", jobStateTracker.getJobState(JOB_METADATA));
+    verify(stateStore)
+        .updateState(eq(JOB_METADATA), eq("FAILED"), any(), eq(".query_execution_request_mys3"));
+
+    // terminal state is not refreshed anymore
+    when(clock.millis()).thenReturn(60000L);
+    jobStateTracker.run();
+    verify(emrServerlessClient, times(3)).getJobRunResult(EMRS_APPLICATION_ID, EMR_JOB_ID);
+  }
+
+  @Test
+  public void persistTerminalJobStateOnFirstPoll() {
+    mockJobState(JobRunState.CANCELLED);
+
+    assertEquals("CANCELLED", jobStateTracker.getJobState(JOB_METADATA));
+    verify(stateStore)
+        .updateState(eq(JOB_METADATA), eq("CANCELLED"), any(), eq(".query_execution_request_mys3"));
+  }
+
+  @Test
+  public void firstTrackedJobStateWinsConcurrentFirstPolls() {
+    AtomicInteger fetched = new AtomicInteger();
+    when(emrServerlessClient.getJobRunResult(EMRS_APPLICATION_ID, EMR_JOB_ID))
+        .thenAnswer(
+            invocation -> {
+              if (fetched.getAndIncrement() == 0) {
+                // another poll of the same job completes while this one is fetching
+                assertEquals("SUCCESS", jobStateTracker.getJobState(JOB_METADATA));
+                return new GetJobRunResult()
+                    .withJobRun(new JobRun().withState(JobRunState.RUNNING));
+              }
+              return new GetJobRunResult().withJobRun(new JobRun().withState(JobRunState.SUCCESS));
+            });
+
+    assertEquals("SUCCESS", jobStateTracker.getJobState(JOB_METADATA));
+    assertEquals(1, jobStateTracker.size());
+    verify(stateStore, times(1))
+        .updateState(eq(JOB_METADATA), eq("SUCCESS"), any(), eq(".query_execution_request_mys3"));
+  }
+
+  @Test
+  public void failedFetchIsNotTracked() {
+    when(emrServerlessClient.getJobRunResult(EMRS_APPLICATION_ID, EMR_JOB_ID))
+        .thenThrow(new RuntimeException("EMR-S unavailable"));
+
+    assertThrows(RuntimeException.class, () -> jobStateTracker.getJobState(JOB_METADATA));
+    assertEquals(0, jobStateTracker.size());
+  }
+
+  @Test
+  public void removeIdleJob() {
+    mockJobState(JobRunState.RUNNING);
+    jobStateTracker.getJobState(JOB_METADATA);
+    assertEquals(1, jobStateTracker.size());
+
+    when(clock.millis()).thenReturn(JobStateTracker.IDLE_TIMEOUT.toMillis() + 1);
+    jobStateTracker.run();
+    assertEquals(0, jobStateTracker.size());
+  }
+
+  @Test
+  public void invalidateJobState() {
+    mockJobState(JobRunState.RUNNING);
+    jobStateTracker.getJobState(JOB_METADATA);
+    jobStateTracker.invalidate(JOB_METADATA);
+
+    verify(stateStore)
+        .updateState(
+            eq(JOB_METADATA), eq("CANCELLING"), any(), eq(".query_execution_request_mys3"));
+
+    mockJobState(JobRunState.CANCELLING);
+    assertEquals("CANCELLING", jobStateTracker.getJobState(JOB_METADATA));
+  }
+
+  @Test
+  public void skipCachedJobStateIfJobMetadataUpdated() {
+    mockJobState(JobRunState.RUNNING);
+    assertEquals("RUNNING", jobStateTracker.getJobState(JOB_METADATA));
+
+    // the job is cancelled through other node which persisted the cancellation
+    AsyncQueryJobMetadata cancelled =
+        AsyncQueryJobMetadata.copyWithState(
+            JOB_METADATA, JobRunState.CANCELLING.toString(), 1L, 1L);
+    mockJobState(JobRunState.CANCELLED);
+    assertEquals("CANCELLED", jobStateTracker.getJobState(cancelled));
+    verify(emrServerlessClient, times(2)).getJobRunResult(EMRS_APPLICATION_ID, EMR_JOB_ID);
+
+    // served from cache again until the metadata is updated once more
+    assertEquals("CANCELLED", jobStateTracker.getJobState(cancelled));
+    verify(emrServerlessClient, times(2)).getJobRunResult(EMRS_APPLICATION_ID, EMR_JOB_ID);
+  }
+
+  private void mockJobState(JobRunState state) {
+    when(emrServerlessClient.getJobRunResult(EMRS_APPLICATION_ID, EMR_JOB_ID))
+        .thenReturn(new GetJobRunResult().withJobRun(new JobRun().withState(state)));
+  }
+}
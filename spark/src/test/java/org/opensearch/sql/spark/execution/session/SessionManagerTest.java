@@ -30,6 +30,7 @@ public class SessionManagerTest {
   public static org.opensearch.sql.common.setting.Settings sessionSetting() {
     Map<org.opensearch.sql.common.setting.Settings.Key, Object> settings = new HashMap<>();
     settings.put(Settings.Key.SPARK_EXECUTION_SESSION_LIMIT, 100);
+    settings.put(Settings.Key.SPARK_EXECUTION_SESSION_WARM_POOL_SIZE, 0);
     settings.put(
         org.opensearch.sql.common.setting.Settings.Key.SESSION_INACTIVITY_TIMEOUT_MILLIS, 10000L);
     return settings(settings);
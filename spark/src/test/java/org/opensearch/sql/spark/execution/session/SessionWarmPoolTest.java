@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.execution.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.spark.execution.session.SessionManagerTest.settings;
+import static org.opensearch.sql.spark.execution.session.SessionState.DEAD;
+import static org.opensearch.sql.spark.execution.session.SessionState.NOT_STARTED;
+import static org.opensearch.sql.spark.execution.session.SessionState.RUNNING;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.spark.asyncquery.model.SparkSubmitParameters;
+import org.opensearch.sql.spark.client.EMRServerlessClient;
+import org.opensearch.sql.spark.execution.statestore.StateStore;
+
+@ExtendWith(MockitoExtension.class)
+public class SessionWarmPoolTest {
+  private static final String DS_NAME = "mys3";
+  private static final String INDEX_NAME = ".query_execution_request_mys3";
+  private static final long NOW = 100000L;
+
+  @Mock private StateStore stateStore;
+  @Mock private EMRServerlessClient emrServerlessClient;
+
+  @Test
+  public void claimFromDisabledPool() {
+    assertFalse(warmPool(0).claim(request("arn")).isPresent());
+    verifyNoInteractions(stateStore);
+  }
+
+  @Test
+  public void claimStartedSessionFirst() {
+    SessionModel notStarted = pooledSession(NOT_STARTED, NOW);
+    SessionModel running = pooledSession(RUNNING, NOW);
+    when(stateStore.search(eq(INDEX_NAME), any(), eq(2), any()))
+        .thenReturn(List.of(notStarted, running));
+    when(stateStore.updateState(eq(running), eq(false), any(), eq(INDEX_NAME)))
+        .thenReturn(SessionModel.copyWithPooled(running, false, 1L, 1L));
+
+    Optional<Session> session = warmPool(2).claim(request("arn"));
+
+    assertTrue(session.isPresent());
+    assertEquals(running.getSessionId(), session.get().getSessionId());
+    assertFalse(session.get().getSessionModel().isPooled());
+  }
+
+  @Test
+  public void claimSkipsIdleAndHandedOutSessions() {
+    SessionModel idle = pooledSession(RUNNING, 0L);
+    SessionModel handedOut = pooledSession(RUNNING, NOW);
+    SessionModel available = pooledSession(RUNNING, NOW);
+    when(stateStore.search(eq(INDEX_NAME), any(), eq(3), any()))
+        .thenReturn(List.of(idle, handedOut, available));
+    when(stateStore.updateState(eq(handedOut), eq(false), any(), eq(INDEX_NAME)))
+        .thenThrow(new VersionConflictEngineException(new ShardId(INDEX_NAME, "uuid", 0), "", ""));
+    when(stateStore.updateState(eq(available), eq(false), any(), eq(INDEX_NAME)))
+        .thenReturn(SessionModel.copyWithPooled(available, false, 1L, 1L));
+
+    Optional<Session> session = warmPool(3).claim(request("arn"));
+
+    assertTrue(session.isPresent());
+    assertEquals(available.getSessionId(), session.get().getSessionId());
+    verify(stateStore, never()).updateState(eq(idle), any(), any(), any());
+  }
+
+  @Test
+  public void refillReapsIdleSessionsAndStartsNewOnes() {
+    SessionModel idle = pooledSession(RUNNING, 0L);
+    SessionModel live = pooledSession(RUNNING, NOW);
+    SessionModel reaped = SessionModel.copyWithPooled(idle, false, 1L, 1L);
+    when(stateStore.search(eq(INDEX_NAME), any(), eq(4), any())).thenReturn(List.of(idle, live));
+    when(stateStore.updateState(eq(idle), eq(false), any(), eq(INDEX_NAME))).thenReturn(reaped);
+    when(emrServerlessClient.startJobRun(any())).thenReturn("jobId");
+
+    SessionWarmPool warmPool = warmPool(2);
+    warmPool.register(request("arn"));
+    warmPool.run();
+
+    verify(stateStore).updateState(eq(reaped), eq(DEAD), any(), eq(INDEX_NAME));
+    verify(emrServerlessClient).cancelJobRun("appId", "jobId");
+    verify(emrServerlessClient, times(1)).startJobRun(any());
+    verify(stateStore, times(1)).create(any(), any(), eq(INDEX_NAME));
+  }
+
+  @Test
+  public void claimOnlySessionsStartedWithSameParameters() {
+    CreateSessionRequest request = request("arn");
+    assertEquals(request.poolKey(), request("arn").poolKey());
+    assertNotEquals(request.poolKey(), request("otherArn").poolKey());
+    when(stateStore.search(eq(INDEX_NAME), any(), eq(2), any())).thenReturn(List.of());
+
+    assertFalse(warmPool(2).claim(request).isPresent());
+
+    ArgumentCaptor<QueryBuilder> query = ArgumentCaptor.forClass(QueryBuilder.class);
+    verify(stateStore).search(eq(INDEX_NAME), query.capture(), eq(2), any());
+    assertTrue(
+        query.getValue().toString().contains(request.poolKey()),
+        "pooled sessions are searched by pool key");
+  }
+
+  @Test
+  public void refillStopsAtSessionLimit() {
+    when(stateStore.search(eq(INDEX_NAME), any(), eq(4), any())).thenReturn(List.of());
+    when(emrServerlessClient.startJobRun(any())).thenReturn("jobId");
+
+    SessionWarmPool warmPool = warmPool(2, 99L);
+    warmPool.register(request("arn"));
+    warmPool.run();
+
+    verify(emrServerlessClient, times(1)).startJobRun(any());
+    ArgumentCaptor<SessionModel> created = ArgumentCaptor.forClass(SessionModel.class);
+    verify(stateStore, times(1)).create(created.capture(), any(), eq(INDEX_NAME));
+    assertTrue(created.getValue().isPooled());
+    assertEquals(request("arn").poolKey(), created.getValue().getPoolKey());
+  }
+
+  @Test
+  public void refillOnlyRegisteredDataSources() {
+    SessionWarmPool warmPool = warmPool(2);
+    warmPool.run();
+
+    verify(stateStore, never()).search(any(), any(), anyInt(), any());
+    verifyNoInteractions(emrServerlessClient);
+  }
+
+  private SessionWarmPool warmPool(int size) {
+    return warmPool(size, 0L);
+  }
+
+  private SessionWarmPool warmPool(int size, long activeSessions) {
+    Map<Settings.Key, Object> settings = new HashMap<>();
+    settings.put(Settings.Key.SPARK_EXECUTION_SESSION_WARM_POOL_SIZE, size);
+    settings.put(Settings.Key.SPARK_EXECUTION_SESSION_LIMIT, 100);
+    settings.put(Settings.Key.SESSION_INACTIVITY_TIMEOUT_MILLIS, 10000L);
+    return new SessionWarmPool(
+        stateStore, emrServerlessClient, settings(settings), () -> NOW, () -> activeSessions);
+  }
+
+  private CreateSessionRequest request(String executionRoleArn) {
+    return new CreateSessionRequest(
+        "jobName",
+        "appId",
+        executionRoleArn,
+        SparkSubmitParameters.Builder.builder(),
+        new HashMap<>(),
+        "resultIndex",
+        DS_NAME);
+  }
+
+  private SessionModel pooledSession(SessionState state, long lastUpdateTime) {
+    return SessionModel.builder()
+        .version("1.0")
+        .sessionType(SessionType.INTERACTIVE)
+        .sessionId(SessionId.newSessionId(DS_NAME))
+        .sessionState(state)
+        .datasourceName(DS_NAME)
+        .applicationId("appId")
+        .jobId("jobId")
+        .error(SessionModel.UNKNOWN)
+        .lastUpdateTime(lastUpdateTime)
+        .pooled(true)
+        .poolKey(request("arn").poolKey())
+        .seqNo(0L)
+        .primaryTerm(1L)
+        .build();
+  }
+}
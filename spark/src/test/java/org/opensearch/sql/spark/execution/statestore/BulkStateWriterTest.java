@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.execution.statestore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.client.Client;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.threadpool.ThreadPool;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkStateWriterTest {
+  private static final String INDEX_NAME = ".query_execution_request_mys3";
+  private static final ShardId SHARD_ID = new ShardId(INDEX_NAME, "uuid", 0);
+
+  @Mock private Client client;
+
+  @Mock private ThreadPool threadPool;
+
+  private BulkStateWriter bulkStateWriter;
+
+  @BeforeEach
+  public void setUp() {
+    when(client.threadPool()).thenReturn(threadPool);
+    when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+    bulkStateWriter = new BulkStateWriter(client);
+  }
+
+  @Test
+  public void writeReturnsItemResponse() {
+    when(client.bulk(any())).thenAnswer(invocation -> bulkResponse(invocation.getArgument(0)));
+
+    DocWriteResponse response = bulkStateWriter.write(indexRequest("1"));
+
+    assertEquals("1", response.getId());
+    assertEquals(DocWriteResponse.Result.CREATED, response.getResult());
+  }
+
+  @Test
+  public void writeThrowsItemFailure() {
+    VersionConflictEngineException conflict =
+        new VersionConflictEngineException(SHARD_ID, "1", "conflict");
+    BulkItemResponse failure =
+        new BulkItemResponse(
+            0,
+            DocWriteRequest.OpType.CREATE,
+            new BulkItemResponse.Failure(INDEX_NAME, "1", conflict));
+    ActionFuture<BulkResponse> future = mock(ActionFuture.class);
+    when(future.actionGet()).thenReturn(new BulkResponse(new BulkItemResponse[] {failure}, 1L));
+    when(client.bulk(any())).thenReturn(future);
+
+    assertThrows(
+        VersionConflictEngineException.class, () -> bulkStateWriter.write(indexRequest("1")));
+  }
+
+  @Test
+  public void concurrentWritesAreSentInBulk() throws Exception {
+    CountDownLatch firstBulkSent = new CountDownLatch(1);
+    CountDownLatch writesQueued = new CountDownLatch(1);
+    List<Integer> bulkSizes = new ArrayList<>();
+    List<Thread> bulkSenders = new ArrayList<>();
+    when(client.bulk(any()))
+        .thenAnswer(
+            invocation -> {
+              BulkRequest bulkRequest = invocation.getArgument(0);
+              bulkSizes.add(bulkRequest.numberOfActions());
+              bulkSenders.add(Thread.currentThread());
+              firstBulkSent.countDown();
+              writesQueued.await(10, TimeUnit.SECONDS);
+              return bulkResponse(bulkRequest);
+            });
+
+    ExecutorService executor = Executors.newFixedThreadPool(5);
+    try {
+      List<Future<DocWriteResponse>> responses = new ArrayList<>();
+      responses.add(executor.submit(() -> bulkStateWriter.write(indexRequest("0"))));
+      firstBulkSent.await(10, TimeUnit.SECONDS);
+      for (int i = 1; i < 5; i++) {
+        String id = String.valueOf(i);
+        responses.add(executor.submit(() -> bulkStateWriter.write(indexRequest(id))));
+      }
+      // the other writes are queued while the first bulk is in flight
+      while (bulkStateWriter.queued() < 4) {
+        Thread.sleep(10);
+      }
+      writesQueued.countDown();
+
+      for (int i = 0; i < 5; i++) {
+        assertEquals(String.valueOf(i), responses.get(i).get(10, TimeUnit.SECONDS).getId());
+      }
+      verify(client, times(2)).bulk(any());
+      assertEquals(List.of(1, 4), bulkSizes);
+      // the first writer sends one bulk only, and the queued writes are sent by another writer
+      assertNotEquals(bulkSenders.get(0), bulkSenders.get(1));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private IndexRequest indexRequest(String id) {
+    return new IndexRequest(INDEX_NAME).id(id).source("{}", XContentType.JSON).create(true);
+  }
+
+  private ActionFuture<BulkResponse> bulkResponse(BulkRequest bulkRequest) {
+    List<DocWriteRequest<?>> requests = bulkRequest.requests();
+    BulkItemResponse[] items = new BulkItemResponse[requests.size()];
+    for (int i = 0; i < requests.size(); i++) {
+      items[i] =
+          new BulkItemResponse(
+              i,
+              DocWriteRequest.OpType.CREATE,
+              new IndexResponse(SHARD_ID, requests.get(i).id(), 1L, 1L, 1L, true));
+    }
+    ActionFuture<BulkResponse> future = mock(ActionFuture.class);
+    when(future.actionGet()).thenReturn(new BulkResponse(items, 1L));
+    return future;
+  }
+}
@@ -5,7 +5,10 @@
 
 package org.opensearch.sql.spark.leasemanager;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,4 +41,30 @@ class DefaultLeaseManagerTest {
         new DefaultLeaseManager.ConcurrentRefreshJobRule(settings, stateStore)
             .test(new LeaseRequest(JobType.INTERACTIVE, "mys3")));
   }
+
+  @Test
+  public void concurrentSessionRuleCountsLeases() {
+    when(settings.getSettingValue(Settings.Key.SPARK_EXECUTION_SESSION_LIMIT)).thenReturn(1);
+    DefaultLeaseManager.ConcurrentSessionRule rule =
+        new DefaultLeaseManager.ConcurrentSessionRule(settings, new LeaseLedger(() -> 0L));
+    LeaseRequest request = new LeaseRequest(JobType.INTERACTIVE, "mys3");
+
+    assertTrue(rule.test(request));
+    assertFalse(rule.test(request));
+    rule.release(request);
+    assertTrue(rule.test(request));
+  }
+
+  @Test
+  public void batchQueryDoesNotLeaseRefreshJob() {
+    when(settings.getSettingValue(Settings.Key.SPARK_EXECUTION_REFRESH_JOB_LIMIT)).thenReturn(1);
+    LeaseLedger activeRefreshJobs = new LeaseLedger(() -> 0L);
+    DefaultLeaseManager.ConcurrentRefreshJobRule rule =
+        new DefaultLeaseManager.ConcurrentRefreshJobRule(settings, activeRefreshJobs);
+
+    assertTrue(rule.test(new LeaseRequest(JobType.BATCH, "mys3")));
+    assertEquals(0, activeRefreshJobs.active());
+    assertTrue(rule.test(new LeaseRequest(JobType.STREAMING, "mys3")));
+    assertFalse(rule.test(new LeaseRequest(JobType.BATCH, "mys3")));
+  }
 }
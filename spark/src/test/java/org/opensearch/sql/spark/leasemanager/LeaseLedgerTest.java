@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.spark.leasemanager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LeaseLedgerTest {
+
+  @Mock private Supplier<Long> activeCount;
+
+  @Mock private Clock clock;
+
+  private LeaseLedger leaseLedger;
+
+  @BeforeEach
+  public void setUp() {
+    leaseLedger = new LeaseLedger(activeCount, clock);
+  }
+
+  @Test
+  public void acquireUntilLimit() {
+    when(activeCount.get()).thenReturn(1L);
+
+    assertTrue(leaseLedger.tryAcquire(3));
+    assertTrue(leaseLedger.tryAcquire(3));
+    assertFalse(leaseLedger.tryAcquire(3));
+    assertEquals(3, leaseLedger.active());
+    // rejected by the local count without querying the state store
+    verify(activeCount, times(3)).get();
+  }
+
+  @Test
+  public void rejectIfLimitReachedThroughOtherNodes() {
+    when(activeCount.get()).thenReturn(1L, 3L);
+
+    assertFalse(leaseLedger.tryAcquire(3));
+    assertEquals(3, leaseLedger.active());
+    assertFalse(leaseLedger.isBelow(3));
+
+    when(activeCount.get()).thenReturn(2L);
+    when(clock.millis()).thenReturn(LeaseLedger.RECONCILE_INTERVAL.toMillis());
+    assertTrue(leaseLedger.isBelow(3));
+    assertTrue(leaseLedger.tryAcquire(3));
+    assertFalse(leaseLedger.tryAcquire(3));
+  }
+
+  @Test
+  public void releaseLease() {
+    when(activeCount.get()).thenReturn(0L);
+
+    assertTrue(leaseLedger.tryAcquire(1));
+    assertFalse(leaseLedger.isBelow(1));
+    leaseLedger.release();
+    assertTrue(leaseLedger.isBelow(1));
+    // releasing a forgotten lease is a no-op
+    leaseLedger.release();
+    assertEquals(0, leaseLedger.active());
+  }
+
+  @Test
+  public void reconcileWithActiveCount() {
+    when(activeCount.get()).thenReturn(0L);
+    assertTrue(leaseLedger.tryAcquire(10));
+
+    // the lease is kept until its resource is expected to be in the count
+    when(activeCount.get()).thenReturn(1L);
+    when(clock.millis()).thenReturn(LeaseLedger.RECONCILE_INTERVAL.toMillis());
+    assertTrue(leaseLedger.isBelow(10));
+    assertEquals(2, leaseLedger.active());
+
+    when(clock.millis()).thenReturn(2 * LeaseLedger.RECONCILE_INTERVAL.toMillis());
+    assertTrue(leaseLedger.isBelow(10));
+    assertEquals(1, leaseLedger.active());
+    verify(activeCount, times(6)).get();
+  }
+}
@@ -5,29 +5,40 @@
 
 package org.opensearch.sql.spark.response;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.datasource.model.DataSourceMetadata.DEFAULT_RESULT_INDEX;
 import static org.opensearch.sql.spark.constants.TestConstants.EMR_JOB_ID;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.lucene.search.TotalHits;
+import org.json.JSONObject;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Client;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 
 @ExtendWith(MockitoExtension.class)
 public class AsyncQueryExecutionResponseReaderTest {
@@ -66,6 +77,33 @@ public class AsyncQueryExecutionResponseReaderTest {
         jobExecutionResponseReader.getResultFromOpensearchIndex(EMR_JOB_ID, "foo").isEmpty());
   }
 
+  @Test
+  public void testGetResultPageWithQueryId() {
+    when(client.search(any())).thenReturn(searchResponseActionFuture);
+    when(searchResponseActionFuture.actionGet()).thenReturn(searchResponse);
+    when(searchResponse.status()).thenReturn(RestStatus.OK);
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit}, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0F));
+    Mockito.when(searchHit.getSourceAsMap())
+        .thenReturn(new HashMap<>(Map.of("schema", List.of("{'column_name':'1'}"))));
+    Mockito.when(searchHit.field("result"))
+        .thenReturn(new DocumentField("result", List.of("{'1':2}", "{'1':3}")));
+    JobExecutionResponseReader jobExecutionResponseReader = new JobExecutionResponseReader(client);
+
+    JSONObject result =
+        jobExecutionResponseReader.getResultWithQueryId(
+            "queryId", null, new AsyncQueryResultPage(1, 2));
+
+    assertEquals(2, result.getJSONObject("data").getJSONArray("result").length());
+    ArgumentCaptor<SearchRequest> searchRequest = ArgumentCaptor.forClass(SearchRequest.class);
+    verify(client).search(searchRequest.capture());
+    SearchSourceBuilder source = searchRequest.getValue().source();
+    assertArrayEquals(new String[] {"result"}, source.fetchSource().excludes());
+    assertEquals(Map.of("offset", 1, "size", 2), source.scriptFields().get(0).script().getParams());
+  }
+
   @Test
   public void testInvalidSearchResponse() {
     when(client.search(any())).thenReturn(searchResponseActionFuture);
@@ -33,6 +33,7 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.spark.asyncquery.AsyncQueryExecutorServiceImpl;
 import org.opensearch.sql.spark.asyncquery.exceptions.AsyncQueryNotFoundException;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryExecutionResponse;
+import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResultPage;
 import org.opensearch.sql.spark.transport.model.GetAsyncQueryResultActionRequest;
 import org.opensearch.sql.spark.transport.model.GetAsyncQueryResultActionResponse;
 import org.opensearch.tasks.Task;
@@ -64,7 +65,8 @@ public class TransportGetAsyncQueryResultActionTest {
     GetAsyncQueryResultActionRequest request = new GetAsyncQueryResultActionRequest("jobId");
     AsyncQueryExecutionResponse asyncQueryExecutionResponse =
         new AsyncQueryExecutionResponse("IN_PROGRESS", null, null, null, null);
-    when(jobExecutorService.getAsyncQueryResults("jobId")).thenReturn(asyncQueryExecutionResponse);
+    when(jobExecutorService.getAsyncQueryResults("jobId", AsyncQueryResultPage.ALL))
+        .thenReturn(asyncQueryExecutionResponse);
     action.doExecute(task, request, actionListener);
     verify(actionListener).onResponse(createJobActionResponseArgumentCaptor.capture());
     GetAsyncQueryResultActionResponse getAsyncQueryResultActionResponse =
@@ -91,7 +93,8 @@ public class TransportGetAsyncQueryResultActionTest {
                 tupleValue(ImmutableMap.of("name", "Smith", "age", 30))),
             null,
             null);
-    when(jobExecutorService.getAsyncQueryResults("jobId")).thenReturn(asyncQueryExecutionResponse);
+    when(jobExecutorService.getAsyncQueryResults("jobId", AsyncQueryResultPage.ALL))
+        .thenReturn(asyncQueryExecutionResponse);
     action.doExecute(task, request, actionListener);
     verify(actionListener).onResponse(createJobActionResponseArgumentCaptor.capture());
     GetAsyncQueryResultActionResponse getAsyncQueryResultActionResponse =
@@ -125,14 +128,66 @@ public class TransportGetAsyncQueryResultActionTest {
         getAsyncQueryResultActionResponse.getResult());
   }
 
+  @Test
+  public void testDoExecuteWithResultPage() {
+    GetAsyncQueryResultActionRequest request =
+        new GetAsyncQueryResultActionRequest("jobId", null, 1);
+    ExecutionEngine.Schema schema =
+        new ExecutionEngine.Schema(
+            ImmutableList.of(new ExecutionEngine.Schema.Column("name", "name", STRING)));
+    AsyncQueryResultPage page = new AsyncQueryResultPage(0, 1);
+    AsyncQueryExecutionResponse asyncQueryExecutionResponse =
+        new AsyncQueryExecutionResponse(
+            "SUCCESS",
+            schema,
+            Arrays.asList(tupleValue(ImmutableMap.of("name", "John"))),
+            null,
+            null,
+            page.next().toCursor());
+    when(jobExecutorService.getAsyncQueryResults("jobId", page))
+        .thenReturn(asyncQueryExecutionResponse);
+    action.doExecute(task, request, actionListener);
+    verify(actionListener).onResponse(createJobActionResponseArgumentCaptor.capture());
+    Assertions.assertEquals(
+        "{\n"
+            + "  \"status\": \"SUCCESS\",\n"
+            + "  \"schema\": [\n"
+            + "    {\n"
+            + "      \"name\": \"name\",\n"
+            + "      \"type\": \"string\"\n"
+            + "    }\n"
+            + "  ],\n"
+            + "  \"datarows\": [\n"
+            + "    [\n"
+            + "      \"John\"\n"
+            + "    ]\n"
+            + "  ],\n"
+            + "  \"total\": 1,\n"
+            + "  \"size\": 1,\n"
+            + "  \"cursor\": \"MTox\"\n"
+            + "}",
+        createJobActionResponseArgumentCaptor.getValue().getResult());
+  }
+
+  @Test
+  public void testDoExecuteWithInvalidCursor() {
+    GetAsyncQueryResultActionRequest request =
+        new GetAsyncQueryResultActionRequest("jobId", "invalid", null);
+    action.doExecute(task, request, actionListener);
+    verify(actionListener).onFailure(exceptionArgumentCaptor.capture());
+    Exception exception = exceptionArgumentCaptor.getValue();
+    Assertions.assertTrue(exception instanceof IllegalArgumentException);
+    Assertions.assertEquals("Invalid async query result cursor: invalid", exception.getMessage());
+  }
+
   @Test
   public void testDoExecuteWithException() {
     GetAsyncQueryResultActionRequest request = new GetAsyncQueryResultActionRequest("123");
     doThrow(new AsyncQueryNotFoundException("JobId 123 not found"))
         .when(jobExecutorService)
-        .getAsyncQueryResults("123");
+        .getAsyncQueryResults("123", AsyncQueryResultPage.ALL);
     action.doExecute(task, request, actionListener);
-    verify(jobExecutorService, times(1)).getAsyncQueryResults("123");
+    verify(jobExecutorService, times(1)).getAsyncQueryResults("123", AsyncQueryResultPage.ALL);
     verify(actionListener).onFailure(exceptionArgumentCaptor.capture());
     Exception exception = exceptionArgumentCaptor.getValue();
     Assertions.assertTrue(exception instanceof RuntimeException);
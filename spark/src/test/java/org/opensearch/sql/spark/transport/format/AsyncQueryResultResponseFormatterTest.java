@@ -11,6 +11,7 @@ import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.spark.asyncquery.model.AsyncQueryResult;
 
 public class AsyncQueryResultResponseFormatterTest {
@@ -39,6 +40,23 @@ public class AsyncQueryResultResponseFormatterTest {
         formatter.format(response));
   }
 
+  @Test
+  void formatAsyncQueryResponseWithCursor() {
+    AsyncQueryResult response =
+        new AsyncQueryResult(
+            "success",
+            schema,
+            Arrays.asList(tupleValue(ImmutableMap.of("firstname", "John", "age", 20))),
+            new Cursor("MjoyMA=="),
+            null);
+    AsyncQueryResultResponseFormatter formatter = new AsyncQueryResultResponseFormatter(COMPACT);
+    assertEquals(
+        "{\"status\":\"success\",\"schema\":[{\"name\":\"firstname\",\"type\":\"string\"},"
+            + "{\"name\":\"age\",\"type\":\"integer\"}],\"datarows\":"
+            + "[[\"John\",20]],\"total\":1,\"size\":1,\"cursor\":\"MjoyMA==\"}",
+        formatter.format(response));
+  }
+
   @Test
   void formatAsyncQueryError() {
     AsyncQueryResult response = new AsyncQueryResult("FAILED", null, null, "foo");
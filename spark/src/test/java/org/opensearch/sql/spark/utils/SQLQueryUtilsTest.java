@@ -81,6 +81,34 @@ public class SQLQueryUtilsTest {
     Assertions.assertEquals("alb_logs", fullyQualifiedTableName.getTableName());
   }
 
+  @Test
+  void testDeterministicReadOnlyQueries() {
+    Assertions.assertTrue(
+        SQLQueryUtils.isDeterministicReadOnlyQuery("select * from my_glue.default.http_logs"));
+    Assertions.assertTrue(
+        SQLQueryUtils.isDeterministicReadOnlyQuery(
+            "WITH t AS (SELECT status, count(*) AS c FROM my_glue.default.http_logs GROUP BY"
+                + " status) SELECT * FROM t ORDER BY c DESC LIMIT 10;"));
+    Assertions.assertTrue(
+        SQLQueryUtils.isDeterministicReadOnlyQuery(
+            "select abs(size), upper(clientip) from my_glue.default.http_logs"));
+
+    Assertions.assertFalse(
+        SQLQueryUtils.isDeterministicReadOnlyQuery(
+            "with t as (select 1 as a) insert into my_glue.default.t select * from t"));
+    Assertions.assertFalse(
+        SQLQueryUtils.isDeterministicReadOnlyQuery("DROP TABLE my_glue.default.http_logs"));
+    Assertions.assertFalse(SQLQueryUtils.isDeterministicReadOnlyQuery("select 1; select 2"));
+    Assertions.assertFalse(
+        SQLQueryUtils.isDeterministicReadOnlyQuery("select uuid() from my_glue.default.t"));
+    Assertions.assertFalse(
+        SQLQueryUtils.isDeterministicReadOnlyQuery(
+            "select * from my_glue.default.t where d = current_date"));
+    Assertions.assertFalse(
+        SQLQueryUtils.isDeterministicReadOnlyQuery(
+            "select * from my_glue.default.t TABLESAMPLE (10 PERCENT)"));
+  }
+
   @Test
   void testErrorScenarios() {
     String sqlQuery = "SHOW tables";
@@ -10,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
+import org.opensearch.sql.common.utils.QueryPhaseTimer.Phase;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import org.opensearch.sql.executor.QueryManager;
@@ -81,6 +83,7 @@ public class SQLService {
           explainListener.orElse(null));
     } else {
       // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
+      long parseStart = QueryPhaseTimer.start();
       ParseTree cst = parser.parse(request.getQuery());
       Statement statement =
           cst.accept(
@@ -90,6 +93,7 @@ public class SQLService {
                       .isExplain(isExplainRequest)
                       .fetchSize(request.getFetchSize())
                       .build()));
+      QueryPhaseTimer.record(Phase.PARSE, parseStart);
 
       return queryExecutionFactory.create(statement, queryListener, explainListener);
     }
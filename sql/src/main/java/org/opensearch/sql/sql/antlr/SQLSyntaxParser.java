@@ -5,13 +5,16 @@
 
 package org.opensearch.sql.sql.antlr;
 
+import java.util.List;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.util.Supplier;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.common.antlr.Parser;
-import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
+import org.opensearch.sql.common.antlr.TwoStageParser;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLLexer;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 
@@ -19,6 +22,22 @@ import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 public class SQLSyntaxParser implements Parser {
   private static final Logger LOG = LogManager.getLogger(SQLSyntaxParser.class);
 
+  /** Representative queries parsed to warm up the DFA cache shared by all parser instances. */
+  private static final List<String> WARM_UP_QUERIES =
+      List.of(
+          "SELECT 1",
+          "SELECT name, age FROM accounts WHERE age > 30 AND name LIKE 'J%' LIMIT 10",
+          "SELECT a.name, COUNT(*) AS cnt FROM accounts AS a GROUP BY a.name "
+              + "HAVING COUNT(*) > 1 ORDER BY cnt DESC",
+          "SELECT ABS(balance) + 1, CAST(age AS DOUBLE), CASE WHEN age < 20 THEN 'young' "
+              + "ELSE 'adult' END FROM accounts",
+          "SELECT DATE_FORMAT(birthday, '%Y-%m'), `state` FROM accounts "
+              + "WHERE birthday BETWEEN '2000-01-01' AND '2020-01-01' OR state IN ('CA', 'WA')",
+          "SELECT firstname FROM accounts WHERE MATCH(address, 'street') AND balance IS NOT NULL",
+          "SELECT ROW_NUMBER() OVER (PARTITION BY state ORDER BY age) FROM accounts",
+          "SHOW TABLES LIKE 'acc%'",
+          "DESCRIBE TABLES LIKE 'accounts'");
+
   /**
    * Parse a SQL query by ANTLR parser.
    *
@@ -27,16 +46,29 @@ public class SQLSyntaxParser implements Parser {
    */
   @Override
   public ParseTree parse(String query) {
-    AnonymizerListener anonymizer = new AnonymizerListener();
+    ParseTree parseTree = parseQuery(query);
+    LOG.info("New Engine Request Query: {}", (Supplier<String>) () -> anonymize(parseTree));
+    return parseTree;
+  }
+
+  /**
+   * Warm up ANTLR DFA cache by parsing representative queries, so the first queries after the node
+   * starts are not slowed down by filling the cache.
+   */
+  public void warmUp() {
+    WARM_UP_QUERIES.forEach(this::parseQuery);
+  }
 
+  private ParseTree parseQuery(String query) {
     OpenSearchSQLLexer lexer = new OpenSearchSQLLexer(new CaseInsensitiveCharStream(query));
     OpenSearchSQLParser parser = new OpenSearchSQLParser(new CommonTokenStream(lexer));
-    parser.addErrorListener(new SyntaxAnalysisErrorListener());
-    parser.addParseListener(anonymizer);
-
-    ParseTree parseTree = parser.root();
-    LOG.info("New Engine Request Query: {}", anonymizer.getAnonymizedQueryString());
+    return TwoStageParser.parse(parser, OpenSearchSQLParser::root);
+  }
 
-    return parseTree;
+  /** Anonymize the query only when it is logged, because it walks the entire parse tree. */
+  private String anonymize(ParseTree parseTree) {
+    AnonymizerListener anonymizer = new AnonymizerListener();
+    ParseTreeWalker.DEFAULT.walk(anonymizer, parseTree);
+    return anonymizer.getAnonymizedQueryString();
   }
 }
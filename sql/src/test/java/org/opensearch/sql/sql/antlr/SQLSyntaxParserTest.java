@@ -34,6 +34,11 @@ class SQLSyntaxParserTest {
     assertNotNull(parser.parse("SELECT 123;"));
   }
 
+  @Test
+  public void canWarmUpWithAllQueries() {
+    parser.warmUp();
+  }
+
   @Test
   public void canParseSelectLiterals() {
     assertNotNull(parser.parse("SELECT 123, 'hello'"));
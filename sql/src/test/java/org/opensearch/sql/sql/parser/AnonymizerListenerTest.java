@@ -10,9 +10,11 @@ import static org.mockito.Mockito.mock;
 
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.sql.antlr.AnonymizerListener;
+import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLLexer;
 import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 
@@ -43,6 +45,17 @@ public class AnonymizerListenerTest {
     assertEquals(expectedQuery, anonymizerListener.getAnonymizedQueryString());
   }
 
+  @Test
+  public void walkingParseTreeShouldBeSameAsParseListener() {
+    String query =
+        "SELECT a.b, COUNT(*) FROM accounts WHERE age <= 30 AND name <> 'x' GROUP BY a.b";
+    parse(query);
+
+    AnonymizerListener walked = new AnonymizerListener();
+    ParseTreeWalker.DEFAULT.walk(walked, new SQLSyntaxParser().parse(query));
+    assertEquals(anonymizerListener.getAnonymizedQueryString(), walked.getAnonymizedQueryString());
+  }
+
   @Test
   public void queriesShouldAnonymousNumbers() {
     String query = "SELECT ABS(20), LOG(20.20) FROM accounts";